@@ -171,6 +171,10 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "schedulerProperties": target.setSchedulerProperties(property(camelContext, java.util.Map.class, value)); return true;
         case "sendemptymessagewhenidle":
         case "sendEmptyMessageWhenIdle": target.setSendEmptyMessageWhenIdle(property(camelContext, boolean.class, value)); return true;
+        case "shardcount":
+        case "shardCount": target.setShardCount(property(camelContext, int.class, value)); return true;
+        case "shardindex":
+        case "shardIndex": target.setShardIndex(property(camelContext, int.class, value)); return true;
         case "shuffle": target.setShuffle(property(camelContext, boolean.class, value)); return true;
         case "sortby":
         case "sortBy": target.setSortBy(property(camelContext, java.lang.String.class, value)); return true;
@@ -190,6 +194,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": target.setTimeUnit(property(camelContext, java.util.concurrent.TimeUnit.class, value)); return true;
         case "usefixeddelay":
         case "useFixedDelay": target.setUseFixedDelay(property(camelContext, boolean.class, value)); return true;
+        case "walkerpoolsize":
+        case "walkerPoolSize": target.setWalkerPoolSize(property(camelContext, int.class, value)); return true;
         default: return false;
         }
     }
@@ -347,6 +353,10 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "schedulerProperties": return java.util.Map.class;
         case "sendemptymessagewhenidle":
         case "sendEmptyMessageWhenIdle": return boolean.class;
+        case "shardcount":
+        case "shardCount": return int.class;
+        case "shardindex":
+        case "shardIndex": return int.class;
         case "shuffle": return boolean.class;
         case "sortby":
         case "sortBy": return java.lang.String.class;
@@ -366,6 +376,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": return java.util.concurrent.TimeUnit.class;
         case "usefixeddelay":
         case "useFixedDelay": return boolean.class;
+        case "walkerpoolsize":
+        case "walkerPoolSize": return int.class;
         default: return null;
         }
     }
@@ -524,6 +536,10 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "schedulerProperties": return target.getSchedulerProperties();
         case "sendemptymessagewhenidle":
         case "sendEmptyMessageWhenIdle": return target.isSendEmptyMessageWhenIdle();
+        case "shardcount":
+        case "shardCount": return target.getShardCount();
+        case "shardindex":
+        case "shardIndex": return target.getShardIndex();
         case "shuffle": return target.isShuffle();
         case "sortby":
         case "sortBy": return target.getSortBy();
@@ -543,6 +559,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": return target.getTimeUnit();
         case "usefixeddelay":
         case "useFixedDelay": return target.isUseFixedDelay();
+        case "walkerpoolsize":
+        case "walkerPoolSize": return target.getWalkerPoolSize();
         default: return null;
         }
     }
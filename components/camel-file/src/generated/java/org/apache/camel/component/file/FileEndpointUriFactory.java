@@ -20,7 +20,7 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> PROPERTY_NAMES;
     private static final Set<String> SECRET_PROPERTY_NAMES;
     static {
-        Set<String> props = new HashSet<>(94);
+        Set<String> props = new HashSet<>(97);
         props.add("renameUsingCopy");
         props.add("moveExistingFileStrategy");
         props.add("fileName");
@@ -115,6 +115,9 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("chmodDirectory");
         props.add("bufferSize");
         props.add("filterDirectory");
+        props.add("walkerPoolSize");
+        props.add("shardCount");
+        props.add("shardIndex");
         PROPERTY_NAMES = Collections.unmodifiableSet(props);
         SECRET_PROPERTY_NAMES = Collections.emptySet();
     }
@@ -47,6 +47,17 @@ public class AntPathMatcherGenericFileFilter<T> implements GenericFileFilter<T>
         return filter.acceptPathName(path);
     }
 
+    /**
+     * Accepts the file by its relative path only, which allows to match the file before its {@link GenericFile} is
+     * created.
+     *
+     * @param  path the relative path of the file
+     * @return      <tt>true</tt> if accepted
+     */
+    public boolean acceptPathName(String path) {
+        return filter.acceptPathName(path);
+    }
+
     public String[] getExcludes() {
         return filter.getExcludes();
     }
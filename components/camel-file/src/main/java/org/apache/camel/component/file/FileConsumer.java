@@ -18,15 +18,25 @@ package org.apache.camel.component.file;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.StreamSupport;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
@@ -43,12 +53,15 @@ public class FileConsumer extends GenericFileConsumer<File> {
 
     private static final Logger LOG = LoggerFactory.getLogger(FileConsumer.class);
     private String endpointPath;
+    private String endpointNormalizedSep;
     private Set<String> extendedAttributes;
+    private ExecutorService walkerPool;
 
     public FileConsumer(FileEndpoint endpoint, Processor processor, GenericFileOperations<File> operations,
                         GenericFileProcessStrategy<File> processStrategy) {
         super(endpoint, processor, operations, processStrategy);
         this.endpointPath = endpoint.getConfiguration().getDirectory();
+        this.endpointNormalizedSep = FileUtil.normalizePath(endpointPath) + File.separator;
 
         if (endpoint.getExtendedAttributes() != null) {
             List<String> attributes = Arrays.asList(endpoint.getExtendedAttributes().split(","));
@@ -58,6 +71,47 @@ public class FileConsumer extends GenericFileConsumer<File> {
 
     @Override
     protected boolean pollDirectory(String fileName, List<GenericFile<File>> fileList, int depth) {
+        ExecutorService pool = walkerPool;
+        if (pool != null) {
+            return pollDirectoryInParallel(fileName, fileList, depth, pool);
+        }
+        return doPollDirectory(fileName, fileList, depth, null);
+    }
+
+    /**
+     * Polls the directory and its sub directories, where the sub directories are walked in parallel by the walker pool
+     */
+    protected boolean pollDirectoryInParallel(
+            String fileName, List<GenericFile<File>> fileList, int depth, ExecutorService pool) {
+        List<GenericFile<File>> files = Collections.synchronizedList(new ArrayList<>());
+        DirectoryWalk walk = new DirectoryWalk(files, pool);
+        boolean canPollMore;
+        try {
+            canPollMore = doPollDirectory(fileName, files, depth, walk);
+        } finally {
+            walk.arrive();
+            walk.await();
+            // limit the files as the walkers may have added a few too many
+            if (eagerLimitMaxMessagesPerPoll && maxMessagesPerPoll > 0 && files.size() > maxMessagesPerPoll) {
+                List<GenericFile<File>> excessive = files.subList(maxMessagesPerPoll, files.size());
+                removeExcessiveInProgressFiles(new ArrayList<>(excessive));
+                excessive.clear();
+                walk.limitHit = true;
+            }
+            // add the files in any case so they are removed from the in progress repository on failure
+            fileList.addAll(files);
+        }
+        if (walk.error != null) {
+            throw walk.error;
+        }
+        return canPollMore && !walk.limitHit;
+    }
+
+    /**
+     * Polls the directory for files, and either polls the sub directories as well, or hands them over to the walk if
+     * walking in parallel
+     */
+    protected boolean doPollDirectory(String fileName, List<GenericFile<File>> fileList, int depth, DirectoryWalk walk) {
         LOG.trace("pollDirectory from fileName: {}", fileName);
 
         depth++;
@@ -74,27 +128,46 @@ public class FileConsumer extends GenericFileConsumer<File> {
         if (LOG.isTraceEnabled()) {
             LOG.trace("Polling directory: {}, absolute path: {}", directory.getPath(), directory.getAbsolutePath());
         }
-        File[] dirFiles = directory.listFiles();
-        if (dirFiles == null || dirFiles.length == 0) {
-            // no files in this directory to poll
-            if (LOG.isTraceEnabled()) {
-                LOG.trace("No files found in directory: {}", directory.getPath());
+
+        // the files of the directory are only needed up front when sorting them or matching done files, otherwise
+        // stream them so there is no need to hold all of them in memory
+        if (getEndpoint().isPreSort() || getEndpoint().getDoneFileName() != null) {
+            File[] dirFiles = directory.listFiles();
+            if (dirFiles == null || dirFiles.length == 0) {
+                // no files in this directory to poll
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("No files found in directory: {}", directory.getPath());
+                }
+                return true;
+            } else {
+                // we found some files
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Found {} in directory: {}", dirFiles.length, directory.getPath());
+                }
             }
-            return true;
-        } else {
-            // we found some files
-            if (LOG.isTraceEnabled()) {
-                LOG.trace("Found {} in directory: {}", dirFiles.length, directory.getPath());
+            List<File> files = Arrays.asList(dirFiles);
+            if (getEndpoint().isPreSort()) {
+                files.sort(Comparator.comparing(File::getAbsoluteFile));
             }
+            return pollFiles(fileName, files, files, fileList, depth, walk);
         }
-        List<File> files = Arrays.asList(dirFiles);
-        if (getEndpoint().isPreSort()) {
-            files.sort(Comparator.comparing(File::getAbsoluteFile));
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory.toPath())) {
+            Iterable<File> files = () -> StreamSupport.stream(stream.spliterator(), false).map(Path::toFile).iterator();
+            return pollFiles(fileName, files, Collections.emptyList(), fileList, depth, walk);
+        } catch (IOException | DirectoryIteratorException e) {
+            // no files in this directory to poll
+            LOG.debug("Cannot list files in directory: {} due {}", directory.getPath(), e.getMessage());
+            return true;
         }
+    }
 
+    private boolean pollFiles(
+            String fileName, Iterable<File> dirFiles, List<File> files, List<GenericFile<File>> fileList, int depth,
+            DirectoryWalk walk) {
         for (File file : dirFiles) {
             // check if we can continue polling in files
-            if (!canPollMoreFiles(fileList)) {
+            if (!canPollMoreFiles(fileList) || walk != null && walk.isDone()) {
                 return false;
             }
 
@@ -106,57 +179,37 @@ public class FileConsumer extends GenericFileConsumer<File> {
                         file.isHidden());
             }
 
+            boolean isDirectory = file.isDirectory();
+            if (!isDirectory && (depth < endpoint.minDepth || !isMatchedName(file))) {
+                // skip the file before reading its attributes
+                continue;
+            }
+
             // creates a generic file
             GenericFile<File> gf
                     = asGenericFile(endpointPath, file, getEndpoint().getCharset(), getEndpoint().isProbeContentType());
 
-            if (file.isDirectory()) {
+            if (isDirectory) {
                 if (endpoint.isRecursive() && depth < endpoint.getMaxDepth() && isValidFile(gf, true, files)) {
                     // recursive scan and add the sub files and folders
                     String subDirectory = fileName + File.separator + file.getName();
-                    boolean canPollMore = pollDirectory(subDirectory, fileList, depth);
-                    if (!canPollMore) {
-                        return false;
+                    if (walk != null) {
+                        walk.submit(subDirectory, depth);
+                    } else {
+                        boolean canPollMore = doPollDirectory(subDirectory, fileList, depth, null);
+                        if (!canPollMore) {
+                            return false;
+                        }
                     }
                 }
             } else {
                 // Windows can report false to a file on a share so regard it
                 // always as a file (if its not a directory)
-                if (depth >= endpoint.minDepth && isValidFile(gf, false, files)) {
+                if (isValidFile(gf, false, files)) {
                     LOG.trace("Adding valid file: {}", file);
                     // matched file so add
                     if (extendedAttributes != null) {
-                        Path path = file.toPath();
-                        Map<String, Object> allAttributes = new HashMap<>();
-                        for (String attribute : extendedAttributes) {
-                            try {
-                                String prefix = null;
-                                if (attribute.endsWith(":*")) {
-                                    prefix = attribute.substring(0, attribute.length() - 1);
-                                } else if (attribute.equals("*")) {
-                                    prefix = "basic:";
-                                }
-
-                                if (ObjectHelper.isNotEmpty(prefix)) {
-                                    Map<String, Object> attributes = Files.readAttributes(path, attribute);
-                                    if (attributes != null) {
-                                        for (Map.Entry<String, Object> entry : attributes.entrySet()) {
-                                            allAttributes.put(prefix + entry.getKey(), entry.getValue());
-                                        }
-                                    }
-                                } else if (!attribute.contains(":")) {
-                                    allAttributes.put("basic:" + attribute, Files.getAttribute(path, attribute));
-                                } else {
-                                    allAttributes.put(attribute, Files.getAttribute(path, attribute));
-                                }
-                            } catch (IOException e) {
-                                if (LOG.isDebugEnabled()) {
-                                    LOG.debug("Unable to read attribute {} on file {}", attribute, file, e);
-                                }
-                            }
-                        }
-
-                        gf.setExtendedAttributes(allAttributes);
+                        gf.setExtendedAttributes(readExtendedAttributes(file));
                     }
 
                     fileList.add(gf);
@@ -168,6 +221,59 @@ public class FileConsumer extends GenericFileConsumer<File> {
         return true;
     }
 
+    /**
+     * Quick match of the file by its name, and its shard if sharding is enabled
+     */
+    private boolean isMatchedName(File file) {
+        String relativeFilePath = file.getPath();
+        if (relativeFilePath.startsWith(endpointNormalizedSep)) {
+            relativeFilePath = relativeFilePath.substring(endpointNormalizedSep.length());
+        }
+        if (!isMatchedName(file.getName(), relativeFilePath)) {
+            return false;
+        }
+        int shardCount = getEndpoint().getShardCount();
+        if (shardCount > 1) {
+            // use the same separator on all platforms so the shards are the same on all nodes
+            int hash = relativeFilePath.replace('\\', '/').hashCode();
+            return Math.floorMod(hash, shardCount) == getEndpoint().getShardIndex();
+        }
+        return true;
+    }
+
+    private Map<String, Object> readExtendedAttributes(File file) {
+        Path path = file.toPath();
+        Map<String, Object> allAttributes = new HashMap<>();
+        for (String attribute : extendedAttributes) {
+            try {
+                String prefix = null;
+                if (attribute.endsWith(":*")) {
+                    prefix = attribute.substring(0, attribute.length() - 1);
+                } else if (attribute.equals("*")) {
+                    prefix = "basic:";
+                }
+
+                if (ObjectHelper.isNotEmpty(prefix)) {
+                    Map<String, Object> attributes = Files.readAttributes(path, attribute);
+                    if (attributes != null) {
+                        for (Map.Entry<String, Object> entry : attributes.entrySet()) {
+                            allAttributes.put(prefix + entry.getKey(), entry.getValue());
+                        }
+                    }
+                } else if (!attribute.contains(":")) {
+                    allAttributes.put("basic:" + attribute, Files.getAttribute(path, attribute));
+                } else {
+                    allAttributes.put(attribute, Files.getAttribute(path, attribute));
+                }
+            } catch (IOException e) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Unable to read attribute {} on file {}", attribute, file, e);
+                }
+            }
+        }
+        return allAttributes;
+    }
+
     @Override
     protected boolean isMatched(GenericFile<File> file, String doneFileName, List<File> files) {
         String onlyName = FileUtil.stripPath(doneFileName);
@@ -259,6 +365,124 @@ public class FileConsumer extends GenericFileConsumer<File> {
         return (FileEndpoint) super.getEndpoint();
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        if (getEndpoint().getWalkerPoolSize() > 1 && getEndpoint().isRecursive() && walkerPool == null) {
+            walkerPool = getEndpoint().getCamelContext().getExecutorServiceManager().newFixedThreadPool(this,
+                    "FileConsumerWalker", getEndpoint().getWalkerPoolSize());
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (walkerPool != null) {
+            List<Runnable> pending = getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(walkerPool);
+            walkerPool = null;
+            if (pending != null) {
+                // the walkers which did not start will never run, so they must arrive at their walk now
+                for (Runnable task : pending) {
+                    if (task instanceof Walker) {
+                        ((Walker) task).walk.arrive();
+                    }
+                }
+            }
+        }
+
+        super.doStop();
+    }
+
+    /**
+     * Keeps track of the sub directories being walked in parallel by the walker pool during a poll
+     */
+    protected final class DirectoryWalk {
+
+        private final List<GenericFile<File>> fileList;
+        private final ExecutorService pool;
+        private final AtomicInteger pending = new AtomicInteger(1);
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile boolean limitHit;
+        private volatile RuntimeException error;
+
+        DirectoryWalk(List<GenericFile<File>> fileList, ExecutorService pool) {
+            this.fileList = fileList;
+            this.pool = pool;
+        }
+
+        void submit(String directory, int depth) {
+            pending.incrementAndGet();
+            try {
+                pool.execute(new Walker(this, directory, depth));
+            } catch (RejectedExecutionException e) {
+                arrive();
+                if (isRunAllowed()) {
+                    throw e;
+                }
+                // the consumer is stopping so stop walking
+                limitHit = true;
+            }
+        }
+
+        boolean isDone() {
+            return limitHit || error != null || !isRunAllowed();
+        }
+
+        void arrive() {
+            if (pending.decrementAndGet() == 0) {
+                done.countDown();
+            }
+        }
+
+        void await() {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    if (done.await(1, TimeUnit.SECONDS) || pool.isTerminated()) {
+                        // once the walker pool is terminated no walker can add files, even if some never arrived
+                        break;
+                    }
+                } catch (InterruptedException e) {
+                    // stop walking but wait for the running walkers so all the files they found are accounted for
+                    interrupted = true;
+                    limitHit = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Walks a sub directory as part of a {@link DirectoryWalk}
+     */
+    private final class Walker implements Runnable {
+
+        private final DirectoryWalk walk;
+        private final String directory;
+        private final int depth;
+
+        private Walker(DirectoryWalk walk, String directory, int depth) {
+            this.walk = walk;
+            this.directory = directory;
+            this.depth = depth;
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (!walk.isDone() && !doPollDirectory(directory, walk.fileList, depth, walk)) {
+                    walk.limitHit = true;
+                }
+            } catch (RuntimeException e) {
+                walk.error = e;
+            } finally {
+                walk.arrive();
+            }
+        }
+    }
+
     private boolean fileHasMoved(GenericFile<File> file) {
         // GenericFile's absolute path is always up to date whereas the
         // underlying file is not
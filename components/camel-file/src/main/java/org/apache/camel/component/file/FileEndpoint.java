@@ -75,6 +75,12 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
     private boolean probeContentType;
     @UriParam(label = "consumer,advanced")
     private String extendedAttributes;
+    @UriParam(label = "consumer,advanced")
+    private int walkerPoolSize;
+    @UriParam(label = "consumer,filter")
+    private int shardCount;
+    @UriParam(label = "consumer,filter")
+    private int shardIndex;
     @UriParam(label = "producer,advanced", defaultValue = "true")
     private boolean forceWrites = true;
     @UriParam(label = "producer,advanced")
@@ -143,6 +149,11 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
             }
         }
 
+        if (shardCount > 1 && (shardIndex < 0 || shardIndex >= shardCount)) {
+            throw new IllegalArgumentException(
+                    "ShardIndex must be between 0 and " + (shardCount - 1) + " but was: " + shardIndex);
+        }
+
         // set max messages per poll
         result.setMaxMessagesPerPoll(getMaxMessagesPerPoll());
         result.setEagerLimitMaxMessagesPerPoll(isEagerMaxMessagesPerPoll());
@@ -360,6 +371,46 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         this.extendedAttributes = extendedAttributes;
     }
 
+    public int getWalkerPoolSize() {
+        return walkerPoolSize;
+    }
+
+    /**
+     * The number of threads used for walking the sub directories in parallel, when recursive is enabled. By default the
+     * directories are walked one by one by the thread polling the starting directory. As the files are gathered in no
+     * particular order then use the sorting options if the files should be processed in a particular order. Any custom
+     * filter must be thread-safe.
+     */
+    public void setWalkerPoolSize(int walkerPoolSize) {
+        this.walkerPoolSize = walkerPoolSize;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * The number of shards to split the files into, when several consumers poll the same directory, such as routes on
+     * different nodes. Each consumer only picks up the files of its own shard, given by the shardIndex option, based on
+     * a hash of the relative file path. This avoids the consumers from competing for the same files and their read
+     * locks.
+     */
+    public void setShardCount(int shardCount) {
+        this.shardCount = shardCount;
+    }
+
+    public int getShardIndex() {
+        return shardIndex;
+    }
+
+    /**
+     * The shard of the files to pick up by this consumer, from 0 until shardCount - 1, when the shardCount option is in
+     * use.
+     */
+    public void setShardIndex(int shardIndex) {
+        this.shardIndex = shardIndex;
+    }
+
     /**
      * Chmod value must be between 000 and 777; If there is a leading digit like in 0755 we will ignore it.
      */
@@ -17,7 +17,7 @@
 package org.apache.camel.component.file;
 
 import java.io.File;
-import java.io.FileOutputStream;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -40,6 +40,8 @@ import java.util.Set;
 import org.apache.camel.Exchange;
 import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.WrappedFile;
+import org.apache.camel.converter.stream.FileInputStreamCache;
+import org.apache.camel.converter.stream.OffHeapInputStreamCache;
 import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
@@ -277,10 +279,11 @@ public class FileOperations implements GenericFileOperations<File> {
             }
         }
 
-        // we can write the file by 3 different techniques
+        // we can write the file by 4 different techniques
         // 1. write file to file
         // 2. rename a file from a local work path
-        // 3. write stream to file
+        // 3. write channel to file
+        // 4. write stream to file
         try {
 
             // is there an explicit charset configured we must write the file as
@@ -373,7 +376,7 @@ public class FileOperations implements GenericFileOperations<File> {
                 // buffer the reader
                 in = IOHelper.buffered(in);
                 writeFileByReaderWithCharset(in, file, charset);
-            } else {
+            } else if (!writeFileByChannel(exchange.getIn().getBody(), file, exchange)) {
                 // fallback and use stream based
                 InputStream in = exchange.getIn().getMandatoryBody(InputStream.class);
                 writeFileByStream(in, file);
@@ -431,9 +434,10 @@ public class FileOperations implements GenericFileOperations<File> {
         FileChannel channel
                 = exchange.getProperty(asExclusiveReadLockKey(path, Exchange.FILE_LOCK_CHANNEL_FILE), FileChannel.class);
         if (channel != null) {
-            try (FileChannel out = new FileOutputStream(target).getChannel()) {
+            try (FileChannel out = FileChannel.open(target.toPath(), StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.CREATE)) {
                 LOG.trace("writeFileByFile using FileChannel: {} -> {}", source, target);
-                channel.transferTo(0, channel.size(), out);
+                IOHelper.transferTo(channel, 0, channel.size(), out);
             }
         } else {
             // use regular file copy
@@ -442,6 +446,97 @@ public class FileOperations implements GenericFileOperations<File> {
         }
     }
 
+    /**
+     * Writes the body to the file using channels, so the bytes are transferred directly from the source to the target
+     * file (zero-copy) or written without copying them into an intermediate buffer.
+     *
+     * @return <tt>true</tt> if the body was written, or <tt>false</tt> if the body is not channel capable
+     */
+    private boolean writeFileByChannel(Object body, File target, Exchange exchange) throws IOException {
+        if (body instanceof WrappedFile) {
+            body = ((WrappedFile<?>) body).getFile();
+        }
+        if (body instanceof File && !((File) body).exists()) {
+            return false;
+        }
+        if (body instanceof FileInputStream && ((FileInputStream) body).getChannel().size() == 0) {
+            // not a regular file (such as a pipe) so the stream must be read
+            return false;
+        }
+        if (!(body instanceof File || body instanceof FileInputStreamCache || body instanceof OffHeapInputStreamCache
+                || body instanceof FileInputStream || body instanceof FileChannel || body instanceof ByteBuffer
+                || body instanceof byte[])) {
+            return false;
+        }
+
+        boolean exists = target.exists();
+        boolean append = endpoint.getFileExist() == GenericFileExist.Append;
+        ByteBuffer appendChars = append && exists && endpoint.getAppendChars() != null
+                ? ByteBuffer.wrap(endpoint.getAppendChars().getBytes()) : null;
+
+        try (FileChannel out = prepareOutputFileChannel(target)) {
+            LOG.debug("Using {} to write file: {}", body.getClass().getSimpleName(), target);
+            if (body instanceof ByteBuffer || body instanceof byte[]) {
+                // use a duplicate so the position of the body is not changed
+                ByteBuffer buffer = body instanceof ByteBuffer
+                        ? ((ByteBuffer) body).duplicate() : ByteBuffer.wrap((byte[]) body);
+                if (appendChars != null) {
+                    // gathering write of the body and the append chars
+                    ByteBuffer[] buffers = new ByteBuffer[] { buffer, appendChars };
+                    while (appendChars.hasRemaining()) {
+                        out.write(buffers);
+                    }
+                    return true;
+                }
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+            } else if (body instanceof File) {
+                // in case we are using file locks as read-locks then we need to use the locked file channel
+                File source = (File) body;
+                String key = asExclusiveReadLockKey(source.getAbsolutePath(), Exchange.FILE_LOCK_CHANNEL_FILE);
+                FileChannel channel = exchange.getProperty(key, FileChannel.class);
+                if (channel != null) {
+                    IOHelper.transferTo(channel, 0, channel.size(), out);
+                } else {
+                    try (FileChannel in = FileChannel.open(source.toPath(), StandardOpenOption.READ)) {
+                        IOHelper.transferTo(in, 0, in.size(), out);
+                    }
+                }
+            } else if (body instanceof FileInputStreamCache) {
+                FileInputStreamCache cache = (FileInputStreamCache) body;
+                try {
+                    cache.writeTo(out);
+                } finally {
+                    IOHelper.close(cache, target.getName(), LOG);
+                }
+            } else if (body instanceof OffHeapInputStreamCache) {
+                // gathering write of the off-heap buffers
+                ((OffHeapInputStreamCache) body).writeTo(out);
+            } else if (body instanceof FileInputStream) {
+                // transfer the remainder of the stream
+                FileInputStream in = (FileInputStream) body;
+                try {
+                    FileChannel channel = in.getChannel();
+                    IOHelper.transferTo(channel, channel.position(), channel.size(), out);
+                } finally {
+                    IOHelper.close(in, target.getName(), LOG);
+                }
+            } else {
+                // transfer the remainder of the channel
+                FileChannel channel = (FileChannel) body;
+                IOHelper.transferTo(channel, channel.position(), channel.size(), out);
+            }
+
+            if (appendChars != null) {
+                while (appendChars.hasRemaining()) {
+                    out.write(appendChars);
+                }
+            }
+        }
+        return true;
+    }
+
     private void writeFileByStream(InputStream in, File target) throws IOException {
         boolean exists = target.exists();
         try (SeekableByteChannel out = prepareOutputFileChannel(target)) {
@@ -515,13 +610,12 @@ public class FileOperations implements GenericFileOperations<File> {
      * Creates and prepares the output file channel. Will position itself in correct position if the file is writable
      * eg. it should append or override any existing content.
      */
-    private SeekableByteChannel prepareOutputFileChannel(File target) throws IOException {
+    private FileChannel prepareOutputFileChannel(File target) throws IOException {
         if (endpoint.getFileExist() == GenericFileExist.Append) {
-            SeekableByteChannel out
-                    = Files.newByteChannel(target.toPath(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            FileChannel out = FileChannel.open(target.toPath(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
             return out.position(out.size());
         }
-        return Files.newByteChannel(target.toPath(), StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING,
+        return FileChannel.open(target.toPath(), StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING,
                 StandardOpenOption.CREATE);
     }
 }
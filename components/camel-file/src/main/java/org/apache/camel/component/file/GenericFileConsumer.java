@@ -609,6 +609,62 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         return endpoint.getInProgressRepository().add(absoluteFilePath);
     }
 
+    /**
+     * Strategy to quickly match a file by its name only, before its {@link GenericFile} is created. This only performs
+     * the checks of {@link #isMatched(GenericFile, boolean, List)} which depends on the name of the file, so a file
+     * which is matched by this method must still be matched by {@link #isMatched(GenericFile, boolean, List)}.
+     *
+     * @param  name             the file name without any path
+     * @param  relativeFilePath the path of the file relative to the starting directory
+     * @return                  <tt>false</tt> if the file cannot be matched, <tt>true</tt> if it may be matched
+     */
+    protected boolean isMatchedName(String name, String relativeFilePath) {
+        if (name.startsWith(".") || name.endsWith(FileComponent.DEFAULT_LOCK_FILE_POSTFIX)) {
+            return false;
+        }
+
+        if (endpoint.getAntFilter() instanceof AntPathMatcherGenericFileFilter) {
+            if (!((AntPathMatcherGenericFileFilter<T>) endpoint.getAntFilter()).acceptPathName(relativeFilePath)) {
+                return false;
+            }
+        }
+
+        return isIncluded(name);
+    }
+
+    private boolean isIncluded(String name) {
+        // exclude take precedence over include
+        if (excludePattern != null) {
+            if (excludePattern.matcher(name).matches()) {
+                return false;
+            }
+        }
+        if (excludeExt != null) {
+            String ext = FileUtil.onlyExt(name);
+            for (String exclude : excludeExt) {
+                if (exclude.equalsIgnoreCase(ext)) {
+                    return false;
+                }
+            }
+        }
+        if (includePattern != null) {
+            if (!includePattern.matcher(name).matches()) {
+                return false;
+            }
+        }
+        if (includeExt != null) {
+            String ext = FileUtil.onlyExt(name);
+            boolean any = false;
+            for (String include : includeExt) {
+                any |= include.equalsIgnoreCase(ext);
+            }
+            if (!any) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Strategy to perform file matching based on endpoint configuration.
      * <p/>
@@ -665,34 +721,8 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             return true;
         }
 
-        // exclude take precedence over include
-        if (excludePattern != null) {
-            if (excludePattern.matcher(name).matches()) {
-                return false;
-            }
-        }
-        if (excludeExt != null) {
-            String ext = FileUtil.onlyExt(file.getFileName());
-            for (String exclude : excludeExt) {
-                if (exclude.equalsIgnoreCase(ext)) {
-                    return false;
-                }
-            }
-        }
-        if (includePattern != null) {
-            if (!includePattern.matcher(name).matches()) {
-                return false;
-            }
-        }
-        if (includeExt != null) {
-            String ext = FileUtil.onlyExt(file.getFileName());
-            boolean any = false;
-            for (String include : includeExt) {
-                any |= include.equalsIgnoreCase(ext);
-            }
-            if (!any) {
-                return false;
-            }
+        if (!isIncluded(name)) {
+            return false;
         }
 
         if (endpoint.getFileName() != null) {
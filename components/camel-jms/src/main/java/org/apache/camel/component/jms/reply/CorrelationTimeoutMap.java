@@ -28,13 +28,17 @@ import static org.apache.camel.TimeoutMap.Listener.Type.*;
  * A {@link org.apache.camel.TimeoutMap} which is used to track reply messages which has been timed out, and thus should
  * trigger the waiting {@link org.apache.camel.Exchange} to timeout as well. Zero (or negative) timeout means infinite
  * but is actually encoded as {@link Integer#MAX_VALUE} which is 24 days.
+ * <p/>
+ * The expire times are tracked using a timing wheel, so adding and removing correlation ids stays O(1) regardless of the
+ * number of outstanding replies.
  */
 class CorrelationTimeoutMap extends DefaultTimeoutMap<String, ReplyHandler> {
 
     private final BiConsumer<ReplyHandler, String> evictionTask;
 
     CorrelationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis, ExecutorService executorService) {
-        super(executor, requestMapPollTimeMillis);
+        // use the timing wheel as there can be many outstanding replies
+        super(executor, requestMapPollTimeMillis, true, true);
         // Support synchronous or asynchronous handling of evictions
         evictionTask = executorService == null
                 ? ReplyHandler::onTimeout
@@ -42,6 +42,7 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "autoOffsetReset": getOrCreateConfiguration(target).setAutoOffsetReset(property(camelContext, java.lang.String.class, value)); return true;
         case "autowiredenabled":
         case "autowiredEnabled": target.setAutowiredEnabled(property(camelContext, boolean.class, value)); return true;
+        case "batching": getOrCreateConfiguration(target).setBatching(property(camelContext, boolean.class, value)); return true;
         case "breakonfirsterror":
         case "breakOnFirstError": getOrCreateConfiguration(target).setBreakOnFirstError(property(camelContext, boolean.class, value)); return true;
         case "bridgeerrorhandler":
@@ -82,6 +83,8 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "headerSerializer": getOrCreateConfiguration(target).setHeaderSerializer(property(camelContext, org.apache.camel.component.kafka.serde.KafkaHeaderSerializer.class, value)); return true;
         case "heartbeatintervalms":
         case "heartbeatIntervalMs": getOrCreateConfiguration(target).setHeartbeatIntervalMs(property(camelContext, java.lang.Integer.class, value)); return true;
+        case "inflightfullpolicy":
+        case "inFlightFullPolicy": getOrCreateConfiguration(target).setInFlightFullPolicy(property(camelContext, java.lang.String.class, value)); return true;
         case "interceptorclasses":
         case "interceptorClasses": getOrCreateConfiguration(target).setInterceptorClasses(property(camelContext, java.lang.String.class, value)); return true;
         case "kafkaclientfactory":
@@ -109,8 +112,14 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "lingerMs": getOrCreateConfiguration(target).setLingerMs(property(camelContext, java.lang.Integer.class, value)); return true;
         case "maxblockms":
         case "maxBlockMs": getOrCreateConfiguration(target).setMaxBlockMs(property(camelContext, java.lang.Integer.class, value)); return true;
+        case "maxinflightbytes":
+        case "maxInFlightBytes": getOrCreateConfiguration(target).setMaxInFlightBytes(property(camelContext, long.class, value)); return true;
+        case "maxinflightrecords":
+        case "maxInFlightRecords": getOrCreateConfiguration(target).setMaxInFlightRecords(property(camelContext, int.class, value)); return true;
         case "maxinflightrequest":
         case "maxInFlightRequest": getOrCreateConfiguration(target).setMaxInFlightRequest(property(camelContext, java.lang.Integer.class, value)); return true;
+        case "maxinflightwaiting":
+        case "maxInFlightWaiting": getOrCreateConfiguration(target).setMaxInFlightWaiting(property(camelContext, int.class, value)); return true;
         case "maxpartitionfetchbytes":
         case "maxPartitionFetchBytes": getOrCreateConfiguration(target).setMaxPartitionFetchBytes(property(camelContext, java.lang.Integer.class, value)); return true;
         case "maxpollintervalms":
@@ -131,6 +140,8 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "offsetRepository": getOrCreateConfiguration(target).setOffsetRepository(property(camelContext, org.apache.camel.spi.StateRepository.class, value)); return true;
         case "partitionassignor":
         case "partitionAssignor": getOrCreateConfiguration(target).setPartitionAssignor(property(camelContext, java.lang.String.class, value)); return true;
+        case "partitionconcurrency":
+        case "partitionConcurrency": getOrCreateConfiguration(target).setPartitionConcurrency(property(camelContext, int.class, value)); return true;
         case "partitionkey":
         case "partitionKey": getOrCreateConfiguration(target).setPartitionKey(property(camelContext, java.lang.Integer.class, value)); return true;
         case "partitioner": getOrCreateConfiguration(target).setPartitioner(property(camelContext, java.lang.String.class, value)); return true;
@@ -241,6 +252,7 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "autoOffsetReset": return java.lang.String.class;
         case "autowiredenabled":
         case "autowiredEnabled": return boolean.class;
+        case "batching": return boolean.class;
         case "breakonfirsterror":
         case "breakOnFirstError": return boolean.class;
         case "bridgeerrorhandler":
@@ -281,6 +293,8 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "headerSerializer": return org.apache.camel.component.kafka.serde.KafkaHeaderSerializer.class;
         case "heartbeatintervalms":
         case "heartbeatIntervalMs": return java.lang.Integer.class;
+        case "inflightfullpolicy":
+        case "inFlightFullPolicy": return java.lang.String.class;
         case "interceptorclasses":
         case "interceptorClasses": return java.lang.String.class;
         case "kafkaclientfactory":
@@ -308,8 +322,14 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "lingerMs": return java.lang.Integer.class;
         case "maxblockms":
         case "maxBlockMs": return java.lang.Integer.class;
+        case "maxinflightbytes":
+        case "maxInFlightBytes": return long.class;
+        case "maxinflightrecords":
+        case "maxInFlightRecords": return int.class;
         case "maxinflightrequest":
         case "maxInFlightRequest": return java.lang.Integer.class;
+        case "maxinflightwaiting":
+        case "maxInFlightWaiting": return int.class;
         case "maxpartitionfetchbytes":
         case "maxPartitionFetchBytes": return java.lang.Integer.class;
         case "maxpollintervalms":
@@ -330,6 +350,8 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "offsetRepository": return org.apache.camel.spi.StateRepository.class;
         case "partitionassignor":
         case "partitionAssignor": return java.lang.String.class;
+        case "partitionconcurrency":
+        case "partitionConcurrency": return int.class;
         case "partitionkey":
         case "partitionKey": return java.lang.Integer.class;
         case "partitioner": return java.lang.String.class;
@@ -441,6 +463,7 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "autoOffsetReset": return getOrCreateConfiguration(target).getAutoOffsetReset();
         case "autowiredenabled":
         case "autowiredEnabled": return target.isAutowiredEnabled();
+        case "batching": return getOrCreateConfiguration(target).isBatching();
         case "breakonfirsterror":
         case "breakOnFirstError": return getOrCreateConfiguration(target).isBreakOnFirstError();
         case "bridgeerrorhandler":
@@ -481,6 +504,8 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "headerSerializer": return getOrCreateConfiguration(target).getHeaderSerializer();
         case "heartbeatintervalms":
         case "heartbeatIntervalMs": return getOrCreateConfiguration(target).getHeartbeatIntervalMs();
+        case "inflightfullpolicy":
+        case "inFlightFullPolicy": return getOrCreateConfiguration(target).getInFlightFullPolicy();
         case "interceptorclasses":
         case "interceptorClasses": return getOrCreateConfiguration(target).getInterceptorClasses();
         case "kafkaclientfactory":
@@ -508,8 +533,14 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "lingerMs": return getOrCreateConfiguration(target).getLingerMs();
         case "maxblockms":
         case "maxBlockMs": return getOrCreateConfiguration(target).getMaxBlockMs();
+        case "maxinflightbytes":
+        case "maxInFlightBytes": return getOrCreateConfiguration(target).getMaxInFlightBytes();
+        case "maxinflightrecords":
+        case "maxInFlightRecords": return getOrCreateConfiguration(target).getMaxInFlightRecords();
         case "maxinflightrequest":
         case "maxInFlightRequest": return getOrCreateConfiguration(target).getMaxInFlightRequest();
+        case "maxinflightwaiting":
+        case "maxInFlightWaiting": return getOrCreateConfiguration(target).getMaxInFlightWaiting();
         case "maxpartitionfetchbytes":
         case "maxPartitionFetchBytes": return getOrCreateConfiguration(target).getMaxPartitionFetchBytes();
         case "maxpollintervalms":
@@ -530,6 +561,8 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "offsetRepository": return getOrCreateConfiguration(target).getOffsetRepository();
         case "partitionassignor":
         case "partitionAssignor": return getOrCreateConfiguration(target).getPartitionAssignor();
+        case "partitionconcurrency":
+        case "partitionConcurrency": return getOrCreateConfiguration(target).getPartitionConcurrency();
         case "partitionkey":
         case "partitionKey": return getOrCreateConfiguration(target).getPartitionKey();
         case "partitioner": return getOrCreateConfiguration(target).getPartitioner();
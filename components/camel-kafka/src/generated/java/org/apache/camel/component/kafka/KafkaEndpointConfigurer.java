@@ -33,6 +33,7 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "autoCommitOnStop": target.getConfiguration().setAutoCommitOnStop(property(camelContext, java.lang.String.class, value)); return true;
         case "autooffsetreset":
         case "autoOffsetReset": target.getConfiguration().setAutoOffsetReset(property(camelContext, java.lang.String.class, value)); return true;
+        case "batching": target.getConfiguration().setBatching(property(camelContext, boolean.class, value)); return true;
         case "breakonfirsterror":
         case "breakOnFirstError": target.getConfiguration().setBreakOnFirstError(property(camelContext, boolean.class, value)); return true;
         case "bridgeerrorhandler":
@@ -76,6 +77,8 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "headerSerializer": target.getConfiguration().setHeaderSerializer(property(camelContext, org.apache.camel.component.kafka.serde.KafkaHeaderSerializer.class, value)); return true;
         case "heartbeatintervalms":
         case "heartbeatIntervalMs": target.getConfiguration().setHeartbeatIntervalMs(property(camelContext, java.lang.Integer.class, value)); return true;
+        case "inflightfullpolicy":
+        case "inFlightFullPolicy": target.getConfiguration().setInFlightFullPolicy(property(camelContext, java.lang.String.class, value)); return true;
         case "interceptorclasses":
         case "interceptorClasses": target.getConfiguration().setInterceptorClasses(property(camelContext, java.lang.String.class, value)); return true;
         case "kerberosbeforereloginmintime":
@@ -99,8 +102,14 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "lingerMs": target.getConfiguration().setLingerMs(property(camelContext, java.lang.Integer.class, value)); return true;
         case "maxblockms":
         case "maxBlockMs": target.getConfiguration().setMaxBlockMs(property(camelContext, java.lang.Integer.class, value)); return true;
+        case "maxinflightbytes":
+        case "maxInFlightBytes": target.getConfiguration().setMaxInFlightBytes(property(camelContext, long.class, value)); return true;
+        case "maxinflightrecords":
+        case "maxInFlightRecords": target.getConfiguration().setMaxInFlightRecords(property(camelContext, int.class, value)); return true;
         case "maxinflightrequest":
         case "maxInFlightRequest": target.getConfiguration().setMaxInFlightRequest(property(camelContext, java.lang.Integer.class, value)); return true;
+        case "maxinflightwaiting":
+        case "maxInFlightWaiting": target.getConfiguration().setMaxInFlightWaiting(property(camelContext, int.class, value)); return true;
         case "maxpartitionfetchbytes":
         case "maxPartitionFetchBytes": target.getConfiguration().setMaxPartitionFetchBytes(property(camelContext, java.lang.Integer.class, value)); return true;
         case "maxpollintervalms":
@@ -121,6 +130,8 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "offsetRepository": target.getConfiguration().setOffsetRepository(property(camelContext, org.apache.camel.spi.StateRepository.class, value)); return true;
         case "partitionassignor":
         case "partitionAssignor": target.getConfiguration().setPartitionAssignor(property(camelContext, java.lang.String.class, value)); return true;
+        case "partitionconcurrency":
+        case "partitionConcurrency": target.getConfiguration().setPartitionConcurrency(property(camelContext, int.class, value)); return true;
         case "partitionkey":
         case "partitionKey": target.getConfiguration().setPartitionKey(property(camelContext, java.lang.Integer.class, value)); return true;
         case "partitioner": target.getConfiguration().setPartitioner(property(camelContext, java.lang.String.class, value)); return true;
@@ -227,6 +238,7 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "autoCommitOnStop": return java.lang.String.class;
         case "autooffsetreset":
         case "autoOffsetReset": return java.lang.String.class;
+        case "batching": return boolean.class;
         case "breakonfirsterror":
         case "breakOnFirstError": return boolean.class;
         case "bridgeerrorhandler":
@@ -270,6 +282,8 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "headerSerializer": return org.apache.camel.component.kafka.serde.KafkaHeaderSerializer.class;
         case "heartbeatintervalms":
         case "heartbeatIntervalMs": return java.lang.Integer.class;
+        case "inflightfullpolicy":
+        case "inFlightFullPolicy": return java.lang.String.class;
         case "interceptorclasses":
         case "interceptorClasses": return java.lang.String.class;
         case "kerberosbeforereloginmintime":
@@ -293,8 +307,14 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "lingerMs": return java.lang.Integer.class;
         case "maxblockms":
         case "maxBlockMs": return java.lang.Integer.class;
+        case "maxinflightbytes":
+        case "maxInFlightBytes": return long.class;
+        case "maxinflightrecords":
+        case "maxInFlightRecords": return int.class;
         case "maxinflightrequest":
         case "maxInFlightRequest": return java.lang.Integer.class;
+        case "maxinflightwaiting":
+        case "maxInFlightWaiting": return int.class;
         case "maxpartitionfetchbytes":
         case "maxPartitionFetchBytes": return java.lang.Integer.class;
         case "maxpollintervalms":
@@ -315,6 +335,8 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "offsetRepository": return org.apache.camel.spi.StateRepository.class;
         case "partitionassignor":
         case "partitionAssignor": return java.lang.String.class;
+        case "partitionconcurrency":
+        case "partitionConcurrency": return int.class;
         case "partitionkey":
         case "partitionKey": return java.lang.Integer.class;
         case "partitioner": return java.lang.String.class;
@@ -422,6 +444,7 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "autoCommitOnStop": return target.getConfiguration().getAutoCommitOnStop();
         case "autooffsetreset":
         case "autoOffsetReset": return target.getConfiguration().getAutoOffsetReset();
+        case "batching": return target.getConfiguration().isBatching();
         case "breakonfirsterror":
         case "breakOnFirstError": return target.getConfiguration().isBreakOnFirstError();
         case "bridgeerrorhandler":
@@ -465,6 +488,8 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "headerSerializer": return target.getConfiguration().getHeaderSerializer();
         case "heartbeatintervalms":
         case "heartbeatIntervalMs": return target.getConfiguration().getHeartbeatIntervalMs();
+        case "inflightfullpolicy":
+        case "inFlightFullPolicy": return target.getConfiguration().getInFlightFullPolicy();
         case "interceptorclasses":
         case "interceptorClasses": return target.getConfiguration().getInterceptorClasses();
         case "kerberosbeforereloginmintime":
@@ -488,8 +513,14 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "lingerMs": return target.getConfiguration().getLingerMs();
         case "maxblockms":
         case "maxBlockMs": return target.getConfiguration().getMaxBlockMs();
+        case "maxinflightbytes":
+        case "maxInFlightBytes": return target.getConfiguration().getMaxInFlightBytes();
+        case "maxinflightrecords":
+        case "maxInFlightRecords": return target.getConfiguration().getMaxInFlightRecords();
         case "maxinflightrequest":
         case "maxInFlightRequest": return target.getConfiguration().getMaxInFlightRequest();
+        case "maxinflightwaiting":
+        case "maxInFlightWaiting": return target.getConfiguration().getMaxInFlightWaiting();
         case "maxpartitionfetchbytes":
         case "maxPartitionFetchBytes": return target.getConfiguration().getMaxPartitionFetchBytes();
         case "maxpollintervalms":
@@ -510,6 +541,8 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "offsetRepository": return target.getConfiguration().getOffsetRepository();
         case "partitionassignor":
         case "partitionAssignor": return target.getConfiguration().getPartitionAssignor();
+        case "partitionconcurrency":
+        case "partitionConcurrency": return target.getConfiguration().getPartitionConcurrency();
         case "partitionkey":
         case "partitionKey": return target.getConfiguration().getPartitionKey();
         case "partitioner": return target.getConfiguration().getPartitioner();
@@ -20,7 +20,7 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
     private static final Set<String> PROPERTY_NAMES;
     private static final Set<String> SECRET_PROPERTY_NAMES;
     static {
-        Set<String> props = new HashSet<>(97);
+        Set<String> props = new HashSet<>(103);
         props.add("synchronous");
         props.add("queueBufferingMaxMessages");
         props.add("allowManualCommit");
@@ -28,6 +28,7 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
         props.add("receiveBufferBytes");
         props.add("reconnectBackoffMaxMs");
         props.add("valueDeserializer");
+        props.add("maxInFlightBytes");
         props.add("metricReporters");
         props.add("sslTruststoreType");
         props.add("sendBufferBytes");
@@ -46,6 +47,7 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
         props.add("producerBatchSize");
         props.add("retryBackoffMs");
         props.add("brokers");
+        props.add("partitionConcurrency");
         props.add("metricsSampleWindowMs");
         props.add("sslContextParameters");
         props.add("sslKeyPassword");
@@ -61,7 +63,9 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
         props.add("sslTruststoreLocation");
         props.add("clientId");
         props.add("maxRequestSize");
+        props.add("inFlightFullPolicy");
         props.add("recordMetadata");
+        props.add("batching");
         props.add("sslTrustmanagerAlgorithm");
         props.add("compressionCodec");
         props.add("autoCommitOnStop");
@@ -110,12 +114,14 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
         props.add("schemaRegistryURL");
         props.add("headerDeserializer");
         props.add("maxInFlightRequest");
+        props.add("maxInFlightRecords");
         props.add("exchangePattern");
         props.add("valueSerializer");
         props.add("autoOffsetReset");
         props.add("seekTo");
         props.add("requestTimeoutMs");
         props.add("fetchMaxBytes");
+        props.add("maxInFlightWaiting");
         props.add("checkCrcs");
         props.add("partitionAssignor");
         PROPERTY_NAMES = Collections.unmodifiableSet(props);
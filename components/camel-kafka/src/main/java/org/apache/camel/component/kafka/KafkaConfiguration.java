@@ -139,6 +139,10 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
     @UriParam(label = "consumer")
     private boolean breakOnFirstError;
     @UriParam(label = "consumer")
+    private boolean batching;
+    @UriParam(label = "consumer", defaultValue = "1")
+    private int partitionConcurrency = 1;
+    @UriParam(label = "consumer")
     private StateRepository<String, String> offsetRepository;
 
     // Producer configuration properties
@@ -153,6 +157,14 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
     private Integer workerPoolCoreSize = 10;
     @UriParam(label = "producer", defaultValue = "20")
     private Integer workerPoolMaxSize = 20;
+    @UriParam(label = "producer", defaultValue = "0")
+    private int maxInFlightRecords;
+    @UriParam(label = "producer", defaultValue = "0")
+    private long maxInFlightBytes;
+    @UriParam(label = "producer", defaultValue = "1000")
+    private int maxInFlightWaiting = 1000;
+    @UriParam(label = "producer", defaultValue = "block", enums = "block,reject")
+    private String inFlightFullPolicy = "block";
 
     // Async producer config
     @UriParam(label = "producer", defaultValue = "10000")
@@ -779,6 +791,39 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
         this.breakOnFirstError = breakOnFirstError;
     }
 
+    public boolean isBatching() {
+        return batching;
+    }
+
+    /**
+     * Whether to route the records of a poll as a single exchange, instead of an exchange per record. The message body
+     * is then a <tt>java.util.List</tt> with an exchange per record, which each have the usual Kafka headers. The size
+     * of a batch is bounded by the maxPollRecords option, and the time spent waiting for a batch by the pollTimeoutMs
+     * option. When partitionConcurrency is in use then each partition of a poll is routed as a batch of its own.
+     * <p/>
+     * The offsets of a batch are committed when the batch is completed, and if the batch fails and breakOnFirstError is
+     * enabled then the consumer will seek back to the first record of the batch.
+     */
+    public void setBatching(boolean batching) {
+        this.batching = batching;
+    }
+
+    public int getPartitionConcurrency() {
+        return partitionConcurrency;
+    }
+
+    /**
+     * The number of threads used for processing the records of a poll. When more than 1 then the records of each
+     * partition are processed concurrently with the records of the other partitions, while the records of a partition
+     * are still processed in order. A partition is paused while its records are processed, so a slow partition does not
+     * hold back polling the others. The offsets are committed by the consumer thread once all the records of the
+     * partition have been processed, instead of by auto commit. This option cannot be used together with
+     * allowManualCommit.
+     */
+    public void setPartitionConcurrency(int partitionConcurrency) {
+        this.partitionConcurrency = partitionConcurrency;
+    }
+
     public String getBrokers() {
         return brokers;
     }
@@ -1610,6 +1655,61 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
         this.workerPoolMaxSize = workerPoolMaxSize;
     }
 
+    public int getMaxInFlightRecords() {
+        return maxInFlightRecords;
+    }
+
+    /**
+     * The maximum number of records which the producer has sent asynchronously and which are not yet acknowledged by
+     * Kafka. When the limit is reached then the next record waits until records are acknowledged, without blocking the
+     * thread sending it as long as fewer than maxInFlightWaiting records are waiting, which slows down the route when
+     * Kafka cannot keep up. The default value 0 is no limit.
+     */
+    public void setMaxInFlightRecords(int maxInFlightRecords) {
+        this.maxInFlightRecords = maxInFlightRecords;
+    }
+
+    public long getMaxInFlightBytes() {
+        return maxInFlightBytes;
+    }
+
+    /**
+     * The maximum size in bytes of the records which the producer has sent asynchronously and which are not yet
+     * acknowledged by Kafka. The size of a record is the size of its key and value, when they are a String, counted as
+     * encoded in UTF-8, a byte array, ByteBuffer or Bytes. When the limit is reached then the next record waits until
+     * records are acknowledged, without blocking the thread sending it as long as fewer than maxInFlightWaiting records
+     * are waiting. The default value 0 is no limit.
+     */
+    public void setMaxInFlightBytes(long maxInFlightBytes) {
+        this.maxInFlightBytes = maxInFlightBytes;
+    }
+
+    public int getMaxInFlightWaiting() {
+        return maxInFlightWaiting;
+    }
+
+    /**
+     * The maximum number of records which wait for room when maxInFlightRecords or maxInFlightBytes is reached. When
+     * this many records are waiting then inFlightFullPolicy decides what happens to the next record, which bounds the
+     * memory used by the waiting records when the route does not slow down by itself.
+     */
+    public void setMaxInFlightWaiting(int maxInFlightWaiting) {
+        this.maxInFlightWaiting = maxInFlightWaiting;
+    }
+
+    public String getInFlightFullPolicy() {
+        return inFlightFullPolicy;
+    }
+
+    /**
+     * What to do with the next record when maxInFlightWaiting records are already waiting for room. With block the
+     * thread sending the record is blocked until the record can wait as well, for at most maxBlockMs after which the
+     * exchange fails with a TimeoutException. With reject the exchange fails with a RejectedExecutionException.
+     */
+    public void setInFlightFullPolicy(String inFlightFullPolicy) {
+        this.inFlightFullPolicy = inFlightFullPolicy;
+    }
+
     public boolean isRecordMetadata() {
         return recordMetadata;
     }
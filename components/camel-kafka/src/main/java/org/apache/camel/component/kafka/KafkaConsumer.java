@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -28,12 +29,15 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 import java.util.stream.StreamSupport;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.Processor;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.component.kafka.serde.KafkaHeaderDeserializer;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spi.StateRepository;
@@ -57,8 +61,10 @@ import org.slf4j.LoggerFactory;
 public class KafkaConsumer extends DefaultConsumer {
 
     private static final Logger LOG = LoggerFactory.getLogger(KafkaConsumer.class);
+    private static final long PARTITION_POLL_TIMEOUT_MS = 100;
 
     protected ExecutorService executor;
+    protected ExecutorService partitionExecutor;
     private final KafkaEndpoint endpoint;
     private final Processor processor;
     private final Long pollTimeoutMs;
@@ -103,6 +109,11 @@ public class KafkaConsumer extends DefaultConsumer {
             props.put(ConsumerConfig.GROUP_ID_CONFIG, randomGroupId);
             LOG.debug("Kafka consumer groupId is {} (generated)", randomGroupId);
         }
+        if (endpoint.getConfiguration().getPartitionConcurrency() > 1) {
+            // the offsets are committed once the records of a partition have been processed, as auto commit would
+            // also commit the records still being processed
+            props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        }
         return props;
     }
 
@@ -124,6 +135,14 @@ public class KafkaConsumer extends DefaultConsumer {
             }
         }
 
+        if (endpoint.getConfiguration().getPartitionConcurrency() > 1) {
+            if (endpoint.getConfiguration().isAllowManualCommit()) {
+                throw new IllegalArgumentException(
+                        "The option partitionConcurrency cannot be used together with allowManualCommit");
+            }
+            partitionExecutor = endpoint.createPartitionExecutor();
+        }
+
         executor = endpoint.createExecutor();
 
         String topic = endpoint.getConfiguration().getTopic();
@@ -162,6 +181,11 @@ public class KafkaConsumer extends DefaultConsumer {
         tasks.clear();
         executor = null;
 
+        if (partitionExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(partitionExecutor);
+            partitionExecutor = null;
+        }
+
         if (stopOffsetRepo) {
             StateRepository<String, String> repo = endpoint.getConfiguration().getOffsetRepository();
             LOG.debug("Stopping OffsetRepository: {}", repo);
@@ -179,6 +203,8 @@ public class KafkaConsumer extends DefaultConsumer {
         private final String threadId;
         private final Properties kafkaProps;
         private final Map<String, Long> lastProcessedOffset = new ConcurrentHashMap<>();
+        // the partitions which are paused while their records are processed concurrently
+        private final Map<TopicPartition, PartitionTask> inProgress = new HashMap<>();
 
         KafkaFetchRecords(String topicName, Pattern topicPattern, String id, Properties kafkaProps) {
             this.topicName = topicName;
@@ -307,94 +333,17 @@ public class KafkaConsumer extends DefaultConsumer {
                 while (isRunAllowed() && !reConnect && !isStoppingOrStopped() && !isSuspendingOrSuspended()) {
 
                     // flag to break out processing on the first exception
-                    boolean breakOnErrorHit = false;
-                    LOG.trace("Polling {} from topic: {} with timeout: {}", threadId, topicName, pollTimeoutMs);
-                    ConsumerRecords<Object, Object> allRecords = consumer.poll(pollTimeoutMs);
-
-                    Iterator<TopicPartition> partitionIterator = allRecords.partitions().iterator();
-                    while (partitionIterator.hasNext()) {
-                        TopicPartition partition = partitionIterator.next();
-                        long partitionLastOffset = -1;
-
-                        Iterator<ConsumerRecord<Object, Object>> recordIterator = allRecords.records(partition).iterator();
-                        LOG.debug("Records count {} received for partition {}", allRecords.records(partition).size(),
-                                partition);
-                        if (!breakOnErrorHit && recordIterator.hasNext()) {
-                            ConsumerRecord<Object, Object> record;
-
-                            while (!breakOnErrorHit && recordIterator.hasNext()) {
-                                record = recordIterator.next();
-                                if (LOG.isTraceEnabled()) {
-                                    LOG.trace("Partition = {}, offset = {}, key = {}, value = {}", record.partition(),
-                                            record.offset(), record.key(), record.value());
-                                }
-                                Exchange exchange = endpoint.createKafkaExchange(record);
-
-                                propagateHeaders(record, exchange, endpoint.getConfiguration());
-
-                                // if not auto commit then we have additional
-                                // information on the exchange
-                                if (!isAutoCommitEnabled()) {
-                                    exchange.getIn().setHeader(KafkaConstants.LAST_RECORD_BEFORE_COMMIT,
-                                            !recordIterator.hasNext());
-                                }
-                                if (endpoint.getConfiguration().isAllowManualCommit()) {
-                                    // allow Camel users to access the Kafka
-                                    // consumer API to be able to do for example
-                                    // manual commits
-                                    KafkaManualCommit manual = endpoint.getComponent().getKafkaManualCommitFactory()
-                                            .newInstance(exchange, consumer, topicName, threadId,
-                                                    offsetRepository, partition, record.offset());
-                                    exchange.getIn().setHeader(KafkaConstants.MANUAL_COMMIT, manual);
-                                }
-                                // if commit management is on user side give additional info for the end of poll loop
-                                if (!isAutoCommitEnabled() || endpoint.getConfiguration().isAllowManualCommit()) {
-                                    exchange.getIn().setHeader(KafkaConstants.LAST_POLL_RECORD,
-                                            !recordIterator.hasNext() && !partitionIterator.hasNext());
-                                }
-
-                                try {
-                                    processor.process(exchange);
-                                } catch (Exception e) {
-                                    exchange.setException(e);
-                                }
-
-                                if (exchange.getException() != null) {
-                                    // processing failed due to an unhandled
-                                    // exception, what should we do
-                                    if (endpoint.getConfiguration().isBreakOnFirstError()) {
-                                        // we are failing and we should break
-                                        // out
-                                        LOG.warn(
-                                                "Error during processing {} from topic: {}. Will seek consumer to offset: {} and re-connect and start polling again.",
-                                                exchange,
-                                                topicName, partitionLastOffset, exchange.getException());
-                                        // force commit so we resume on next
-                                        // poll where we failed
-                                        commitOffset(offsetRepository, partition, partitionLastOffset, true);
-                                        // continue to next partition
-                                        breakOnErrorHit = true;
-                                    } else {
-                                        // will handle/log the exception and
-                                        // then continue to next
-                                        getExceptionHandler().handleException("Error during processing", exchange,
-                                                exchange.getException());
-                                    }
-                                } else {
-                                    // record was success so remember its offset
-                                    partitionLastOffset = record.offset();
-                                    // lastOffsetProcessed would be used by
-                                    // Consumer re-balance listener to preserve
-                                    // offset state upon partition revoke
-                                    lastProcessedOffset.put(serializeOffsetKey(partition), partitionLastOffset);
-                                }
-                            }
-
-                            if (!breakOnErrorHit) {
-                                // all records processed from partition so
-                                // commit them
-                                commitOffset(offsetRepository, partition, partitionLastOffset, false);
-                            }
+                    boolean breakOnErrorHit;
+                    if (partitionExecutor != null) {
+                        breakOnErrorHit = pollPartitionsConcurrently(offsetRepository);
+                    } else {
+                        LOG.trace("Polling {} from topic: {} with timeout: {}", threadId, topicName, pollTimeoutMs);
+                        ConsumerRecords<Object, Object> allRecords = consumer.poll(pollTimeoutMs);
+
+                        if (endpoint.getConfiguration().isBatching()) {
+                            breakOnErrorHit = processPollAsBatch(allRecords, offsetRepository);
+                        } else {
+                            breakOnErrorHit = processPartitions(allRecords, offsetRepository);
                         }
                     }
 
@@ -404,6 +353,9 @@ public class KafkaConsumer extends DefaultConsumer {
                     }
                 }
 
+                // let the partitions still being processed finish so their offsets are committed
+                completePartitions(offsetRepository, null, true);
+
                 if (!reConnect) {
                     if (isAutoCommitEnabled()) {
                         if ("async".equals(endpoint.getConfiguration().getAutoCommitOnStop())) {
@@ -439,6 +391,8 @@ public class KafkaConsumer extends DefaultConsumer {
             } catch (Exception e) {
                 getExceptionHandler().handleException("Error consuming " + threadId + " from kafka topic", e);
             } finally {
+                // the partitions are not committed when failing, so they are processed again when re-connected
+                cancelPartitions();
                 LOG.debug("Closing {}", threadId);
                 IOHelper.close(consumer);
             }
@@ -446,6 +400,303 @@ public class KafkaConsumer extends DefaultConsumer {
             return reConnect;
         }
 
+        private boolean processPartitions(
+                ConsumerRecords<Object, Object> allRecords, StateRepository<String, String> offsetRepository) {
+            Iterator<TopicPartition> partitionIterator = allRecords.partitions().iterator();
+            while (partitionIterator.hasNext()) {
+                TopicPartition partition = partitionIterator.next();
+                List<ConsumerRecord<Object, Object>> records = allRecords.records(partition);
+                PartitionResult result
+                        = processPartition(partition, records, !partitionIterator.hasNext(), offsetRepository);
+                // force commit on failure so we resume on next poll where we failed
+                commitOffset(offsetRepository, partition, result.lastOffset, result.breakOnErrorHit);
+                if (result.breakOnErrorHit) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Polls and hands over the records of each partition to a task, which processes them in order while the
+         * partition is paused, so a slow partition does not hold back the others. The offsets are committed and the
+         * partitions resumed by this thread as the kafka consumer is not thread-safe.
+         *
+         * @return <tt>true</tt> if processing a partition failed and the consumer should re-connect
+         */
+        private boolean pollPartitionsConcurrently(StateRepository<String, String> offsetRepository) {
+            if (completePartitions(offsetRepository, null, false)) {
+                return true;
+            }
+
+            // poll more often while partitions are being processed so they are resumed soon after they are done
+            long timeout = inProgress.isEmpty() ? pollTimeoutMs : Math.min(pollTimeoutMs, PARTITION_POLL_TIMEOUT_MS);
+            LOG.trace("Polling {} from topic: {} with timeout: {}", threadId, topicName, timeout);
+            ConsumerRecords<Object, Object> allRecords = consumer.poll(Duration.ofMillis(timeout));
+
+            Iterator<TopicPartition> partitionIterator = allRecords.partitions().iterator();
+            while (partitionIterator.hasNext()) {
+                TopicPartition partition = partitionIterator.next();
+                List<ConsumerRecord<Object, Object>> records = allRecords.records(partition);
+                boolean lastPartition = !partitionIterator.hasNext();
+                Future<PartitionResult> future;
+                if (endpoint.getConfiguration().isBatching()) {
+                    future = partitionExecutor.submit(() -> processPartitionAsBatch(partition, records, offsetRepository));
+                } else {
+                    future = partitionExecutor
+                            .submit(() -> processPartition(partition, records, lastPartition, offsetRepository));
+                }
+                // the next polls do not return records of the partition until these have been processed
+                consumer.pause(Collections.singleton(partition));
+                inProgress.put(partition, new PartitionTask(future, records.get(0).offset()));
+            }
+            return false;
+        }
+
+        /**
+         * Commits the offsets of the partitions which are done processing and resumes them
+         *
+         * @param  partitions the partitions to complete, or <tt>null</tt> for all
+         * @param  wait       whether to wait for the partitions which are still being processed
+         * @return            <tt>true</tt> if processing a partition failed and breakOnFirstError is enabled
+         */
+        private boolean completePartitions(
+                StateRepository<String, String> offsetRepository, Collection<TopicPartition> partitions, boolean wait) {
+            boolean breakOnErrorHit = false;
+            RuntimeException failure = null;
+            Iterator<Map.Entry<TopicPartition, PartitionTask>> it = inProgress.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<TopicPartition, PartitionTask> entry = it.next();
+                TopicPartition partition = entry.getKey();
+                PartitionTask task = entry.getValue();
+                if (partitions != null && !partitions.contains(partition) || !wait && !task.future.isDone()) {
+                    continue;
+                }
+
+                PartitionResult result;
+                try {
+                    result = task.future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    cancelPartitions();
+                    throw new InterruptException(e);
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = RuntimeCamelException.wrapRuntimeException(e.getCause());
+                    }
+                    // resume from the last record which was processed
+                    Long offset = lastProcessedOffset.get(serializeOffsetKey(partition));
+                    result = new PartitionResult(partition, offset != null ? offset : -1, true);
+                }
+                it.remove();
+
+                // auto commit is disabled as it would commit the records still being processed
+                commitOffset(offsetRepository, partition, result.lastOffset, true);
+                if (result.breakOnErrorHit) {
+                    // seek back as the position after the poll is committed when the consumer is closed
+                    long offset = result.lastOffset != -1 ? result.lastOffset + 1 : task.firstOffset;
+                    LOG.debug("{} is seeking partition {} back to offset {} on topic {}", threadId, partition.partition(),
+                            offset, topicName);
+                    consumer.seek(partition, offset);
+                    breakOnErrorHit = true;
+                } else {
+                    consumer.resume(Collections.singleton(partition));
+                }
+            }
+
+            if (failure != null) {
+                // commit the partitions still being processed before failing
+                try {
+                    completePartitions(offsetRepository, partitions, true);
+                } catch (RuntimeException e) {
+                    failure.addSuppressed(e);
+                }
+                throw failure;
+            }
+            return breakOnErrorHit;
+        }
+
+        private void cancelPartitions() {
+            inProgress.values().forEach(task -> task.future.cancel(true));
+            inProgress.clear();
+        }
+
+        private PartitionResult processPartition(
+                TopicPartition partition, List<ConsumerRecord<Object, Object>> records, boolean lastPartition,
+                StateRepository<String, String> offsetRepository) {
+            long partitionLastOffset = -1;
+
+            LOG.debug("Records count {} received for partition {}", records.size(), partition);
+            Iterator<ConsumerRecord<Object, Object>> recordIterator = records.iterator();
+            while (recordIterator.hasNext()) {
+                ConsumerRecord<Object, Object> record = recordIterator.next();
+                boolean lastRecord = !recordIterator.hasNext();
+                Exchange exchange
+                        = createExchange(record, partition, lastRecord, lastRecord && lastPartition, offsetRepository);
+
+                try {
+                    processor.process(exchange);
+                } catch (Exception e) {
+                    exchange.setException(e);
+                }
+
+                if (exchange.getException() != null) {
+                    // processing failed due to an unhandled
+                    // exception, what should we do
+                    if (endpoint.getConfiguration().isBreakOnFirstError()) {
+                        // we are failing and we should break out
+                        LOG.warn(
+                                "Error during processing {} from topic: {}. Will seek consumer to offset: {} and re-connect and start polling again.",
+                                exchange,
+                                topicName, partitionLastOffset, exchange.getException());
+                        return new PartitionResult(partition, partitionLastOffset, true);
+                    } else {
+                        // will handle/log the exception and
+                        // then continue to next
+                        getExceptionHandler().handleException("Error during processing", exchange,
+                                exchange.getException());
+                    }
+                } else {
+                    // record was success so remember its offset
+                    partitionLastOffset = record.offset();
+                    // lastOffsetProcessed would be used by
+                    // Consumer re-balance listener to preserve
+                    // offset state upon partition revoke
+                    lastProcessedOffset.put(serializeOffsetKey(partition), partitionLastOffset);
+                }
+            }
+
+            return new PartitionResult(partition, partitionLastOffset, false);
+        }
+
+        private PartitionResult processPartitionAsBatch(
+                TopicPartition partition, List<ConsumerRecord<Object, Object>> records,
+                StateRepository<String, String> offsetRepository) {
+            LOG.debug("Records count {} received for partition {}", records.size(), partition);
+            List<Exchange> exchanges = new ArrayList<>(records.size());
+            for (int i = 0; i < records.size(); i++) {
+                boolean lastRecord = i == records.size() - 1;
+                exchanges.add(createExchange(records.get(i), partition, lastRecord, lastRecord, offsetRepository));
+            }
+
+            boolean failed = processBatch(exchanges);
+            if (failed) {
+                return new PartitionResult(partition, -1, endpoint.getConfiguration().isBreakOnFirstError());
+            }
+            long partitionLastOffset = records.get(records.size() - 1).offset();
+            lastProcessedOffset.put(serializeOffsetKey(partition), partitionLastOffset);
+            return new PartitionResult(partition, partitionLastOffset, false);
+        }
+
+        private boolean processPollAsBatch(
+                ConsumerRecords<Object, Object> allRecords, StateRepository<String, String> offsetRepository) {
+            if (allRecords.isEmpty()) {
+                return false;
+            }
+            List<Exchange> exchanges = new ArrayList<>(allRecords.count());
+            Iterator<TopicPartition> partitionIterator = allRecords.partitions().iterator();
+            while (partitionIterator.hasNext()) {
+                TopicPartition partition = partitionIterator.next();
+                List<ConsumerRecord<Object, Object>> records = allRecords.records(partition);
+                LOG.debug("Records count {} received for partition {}", records.size(), partition);
+                for (int i = 0; i < records.size(); i++) {
+                    boolean lastRecord = i == records.size() - 1;
+                    exchanges.add(createExchange(records.get(i), partition, lastRecord,
+                            lastRecord && !partitionIterator.hasNext(), offsetRepository));
+                }
+            }
+
+            boolean failed = processBatch(exchanges);
+            if (failed && endpoint.getConfiguration().isBreakOnFirstError()) {
+                // commit nothing so we resume from the start of the batch when re-connected
+                for (TopicPartition partition : allRecords.partitions()) {
+                    seekToStartOfBatch(partition, allRecords.records(partition));
+                }
+                return true;
+            }
+            if (!failed) {
+                for (TopicPartition partition : allRecords.partitions()) {
+                    List<ConsumerRecord<Object, Object>> records = allRecords.records(partition);
+                    long partitionLastOffset = records.get(records.size() - 1).offset();
+                    lastProcessedOffset.put(serializeOffsetKey(partition), partitionLastOffset);
+                    commitOffset(offsetRepository, partition, partitionLastOffset, false);
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Routes the exchanges as a single exchange with the exchanges as message body
+         *
+         * @return <tt>true</tt> if processing failed
+         */
+        private boolean processBatch(List<Exchange> exchanges) {
+            Exchange exchange = endpoint.createExchange();
+            exchange.setProperty(Exchange.BATCH_SIZE, exchanges.size());
+            exchange.getIn().setBody(exchanges);
+
+            try {
+                processor.process(exchange);
+            } catch (Exception e) {
+                exchange.setException(e);
+            }
+
+            if (exchange.getException() != null) {
+                if (endpoint.getConfiguration().isBreakOnFirstError()) {
+                    LOG.warn(
+                            "Error during processing {} from topic: {}. Will re-connect and start polling again from the start of the batch.",
+                            exchange, topicName, exchange.getException());
+                } else {
+                    getExceptionHandler().handleException("Error during processing", exchange, exchange.getException());
+                }
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Seeks back to the first record of the failed batch, as otherwise the position after the poll may be committed
+         * by auto commit or when the consumer is closed before re-connecting
+         */
+        private void seekToStartOfBatch(TopicPartition partition, List<ConsumerRecord<Object, Object>> records) {
+            long offset = records.get(0).offset();
+            LOG.debug("{} is seeking partition {} back to offset {} on topic {}", threadId, partition.partition(), offset,
+                    topicName);
+            consumer.seek(partition, offset);
+        }
+
+        private Exchange createExchange(
+                ConsumerRecord<Object, Object> record, TopicPartition partition, boolean lastRecord,
+                boolean lastPollRecord, StateRepository<String, String> offsetRepository) {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Partition = {}, offset = {}, key = {}, value = {}", record.partition(),
+                        record.offset(), record.key(), record.value());
+            }
+            Exchange exchange = endpoint.createKafkaExchange(record);
+
+            propagateHeaders(record, exchange, endpoint.getConfiguration());
+
+            // if not auto commit then we have additional
+            // information on the exchange
+            if (!isAutoCommitEnabled()) {
+                exchange.getIn().setHeader(KafkaConstants.LAST_RECORD_BEFORE_COMMIT, lastRecord);
+            }
+            if (endpoint.getConfiguration().isAllowManualCommit()) {
+                // allow Camel users to access the Kafka
+                // consumer API to be able to do for example
+                // manual commits
+                KafkaManualCommit manual = endpoint.getComponent().getKafkaManualCommitFactory()
+                        .newInstance(exchange, consumer, topicName, threadId,
+                                offsetRepository, partition, record.offset());
+                exchange.getIn().setHeader(KafkaConstants.MANUAL_COMMIT, manual);
+            }
+            // if commit management is on user side give additional info for the end of poll loop
+            if (!isAutoCommitEnabled() || endpoint.getConfiguration().isAllowManualCommit()) {
+                exchange.getIn().setHeader(KafkaConstants.LAST_POLL_RECORD, lastPollRecord);
+            }
+            return exchange;
+        }
+
         private void commitOffset(
                 StateRepository<String, String> offsetRepository, TopicPartition partition, long partitionLastOffset,
                 boolean forceCommit) {
@@ -474,6 +725,8 @@ public class KafkaConsumer extends DefaultConsumer {
             LOG.debug("onPartitionsRevoked: {} from topic {}", threadId, topicName);
 
             StateRepository<String, String> offsetRepository = endpoint.getConfiguration().getOffsetRepository();
+            // let the revoked partitions still being processed finish first
+            completePartitions(offsetRepository, partitions, true);
             for (TopicPartition partition : partitions) {
                 String offsetKey = serializeOffsetKey(partition);
                 Long offset = lastProcessedOffset.get(offsetKey);
@@ -514,6 +767,34 @@ public class KafkaConsumer extends DefaultConsumer {
         }
     }
 
+    /**
+     * The records of a partition being processed concurrently
+     */
+    private static final class PartitionTask {
+        private final Future<PartitionResult> future;
+        private final long firstOffset;
+
+        PartitionTask(Future<PartitionResult> future, long firstOffset) {
+            this.future = future;
+            this.firstOffset = firstOffset;
+        }
+    }
+
+    /**
+     * The outcome of processing the records of a partition
+     */
+    private static final class PartitionResult {
+        private final TopicPartition partition;
+        private final long lastOffset;
+        private final boolean breakOnErrorHit;
+
+        PartitionResult(TopicPartition partition, long lastOffset, boolean breakOnErrorHit) {
+            this.partition = partition;
+            this.lastOffset = lastOffset;
+            this.breakOnErrorHit = breakOnErrorHit;
+        }
+    }
+
     private void propagateHeaders(
             ConsumerRecord<Object, Object> record, Exchange exchange, KafkaConfiguration kafkaConfiguration) {
         HeaderFilterStrategy headerFilterStrategy = kafkaConfiguration.getHeaderFilterStrategy();
@@ -29,12 +29,20 @@ import java.util.Objects;
 import java.util.Properties;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.component.kafka.serde.KafkaHeaderSerializer;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.support.DefaultAsyncProducer;
@@ -50,6 +58,7 @@ import org.apache.kafka.common.utils.Bytes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+@ManagedResource(description = "Kafka Producer")
 public class KafkaProducer extends DefaultAsyncProducer {
 
     private static final Logger LOG = LoggerFactory.getLogger(KafkaProducer.class);
@@ -60,10 +69,18 @@ public class KafkaProducer extends DefaultAsyncProducer {
     private ExecutorService workerPool;
     private boolean shutdownWorkerPool;
     private volatile boolean closeKafkaProducer;
+    private final KafkaProducerInFlightLimiter inFlightLimiter;
+    private final LongAdder callbackCounter = new LongAdder();
+    private final LongAdder callbackLatency = new LongAdder();
+    private final AtomicLong maxCallbackLatency = new AtomicLong();
 
     public KafkaProducer(KafkaEndpoint endpoint) {
         super(endpoint);
         this.endpoint = endpoint;
+        this.inFlightLimiter = new KafkaProducerInFlightLimiter(
+                endpoint.getConfiguration().getMaxInFlightRecords(), endpoint.getConfiguration().getMaxInFlightBytes(),
+                endpoint.getConfiguration().getMaxInFlightWaiting(),
+                !"reject".equals(endpoint.getConfiguration().getInFlightFullPolicy()));
     }
 
     Properties getProps() {
@@ -100,6 +117,45 @@ public class KafkaProducer extends DefaultAsyncProducer {
         this.workerPool = workerPool;
     }
 
+    @ManagedAttribute(description = "Number of records sent asynchronously which are not yet acknowledged by Kafka")
+    public int getInFlightRecords() {
+        return inFlightLimiter.getRecords();
+    }
+
+    @ManagedAttribute(description = "Size of the records sent asynchronously which are not yet acknowledged by Kafka")
+    public long getInFlightBytes() {
+        return inFlightLimiter.getBytes();
+    }
+
+    @ManagedAttribute(description = "Number of times sending a record had to wait for the records in flight")
+    public long getInFlightWaitCounter() {
+        return inFlightLimiter.getWaits();
+    }
+
+    @ManagedAttribute(description = "Number of records acknowledged by Kafka when sent asynchronously")
+    public long getCallbackCounter() {
+        return callbackCounter.sum();
+    }
+
+    @ManagedAttribute(description = "Mean time in millis from sending a record asynchronously until acknowledged by Kafka")
+    public long getMeanCallbackLatency() {
+        long count = callbackCounter.sum();
+        return count > 0 ? TimeUnit.NANOSECONDS.toMillis(callbackLatency.sum() / count) : 0;
+    }
+
+    @ManagedAttribute(description = "Maximum time in millis from sending a record asynchronously until acknowledged by Kafka")
+    public long getMaxCallbackLatency() {
+        return TimeUnit.NANOSECONDS.toMillis(maxCallbackLatency.get());
+    }
+
+    @ManagedOperation(description = "Reset the statistics")
+    public void resetStatistics() {
+        callbackCounter.reset();
+        callbackLatency.reset();
+        maxCallbackLatency.set(0);
+        inFlightLimiter.resetWaits();
+    }
+
     @Override
     @SuppressWarnings("rawtypes")
     protected void doStart() throws Exception {
@@ -126,10 +182,16 @@ public class KafkaProducer extends DefaultAsyncProducer {
             // we create a thread pool so we should also shut it down
             shutdownWorkerPool = true;
         }
+        inFlightLimiter.start();
     }
 
     @Override
     protected void doStop() throws Exception {
+        // fail the records waiting for room, as the records in flight may not be acknowledged once closed
+        for (Runnable task : inFlightLimiter.stop()) {
+            ((PendingRecords) task).fail(new RejectedExecutionException("The producer is stopping"));
+        }
+
         if (kafkaProducer != null && closeKafkaProducer) {
             LOG.debug("Closing KafkaProducer: {}", kafkaProducer);
             kafkaProducer.close();
@@ -364,20 +426,11 @@ public class KafkaProducer extends DefaultAsyncProducer {
         try {
             Iterator<KeyValueHolder<Object, ProducerRecord>> c = createRecorder(exchange);
             KafkaProducerCallBack cb = new KafkaProducerCallBack(exchange, callback);
-            while (c.hasNext()) {
-                cb.increment();
-                KeyValueHolder<Object, ProducerRecord> exrec = c.next();
-                ProducerRecord rec = exrec.getValue();
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("Sending message to topic: {}, partition: {}, key: {}", rec.topic(), rec.partition(), rec.key());
-                }
-                List<Callback> delegates = new ArrayList<>(Arrays.asList(cb));
-                if (exrec.getKey() != null) {
-                    delegates.add(new KafkaProducerCallBack(exrec.getKey()));
-                }
-                kafkaProducer.send(rec, new DelegatingCallback(delegates.toArray(new Callback[0])));
+            if (!sendRecords(exchange, c, cb)) {
+                // waiting for room in the in-flight window, the remaining records are sent when records are acknowledged
+                return false;
             }
-            return cb.allSent();
+            return cb.allSent(true);
         } catch (Exception ex) {
             exchange.setException(ex);
         }
@@ -385,6 +438,83 @@ public class KafkaProducer extends DefaultAsyncProducer {
         return true;
     }
 
+    /**
+     * Sends the records, as long as there is room in the in-flight window
+     *
+     * @return <tt>true</tt> if all records were sent, <tt>false</tt> if waiting for room for the next record, which is
+     *         then sent together with the remaining records by a {@link PendingRecords} task
+     */
+    @SuppressWarnings("rawtypes")
+    private boolean sendRecords(
+            Exchange exchange, Iterator<KeyValueHolder<Object, ProducerRecord>> c, KafkaProducerCallBack cb) {
+        while (c.hasNext()) {
+            cb.increment();
+            KeyValueHolder<Object, ProducerRecord> exrec = c.next();
+            long size = sizeOf(exrec.getValue().key()) + sizeOf(exrec.getValue().value());
+            // do not block the routing thread when Kafka cannot keep up, but continue when records are acknowledged
+            if (!inFlightLimiter.acquire(size, new PendingRecords(exchange, c, cb, exrec, size), maxBlockMs())) {
+                return false;
+            }
+            sendRecord(exrec, size, cb);
+        }
+        return true;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private void sendRecord(KeyValueHolder<Object, ProducerRecord> exrec, long size, KafkaProducerCallBack cb) {
+        ProducerRecord rec = exrec.getValue();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Sending message to topic: {}, partition: {}, key: {}", rec.topic(), rec.partition(), rec.key());
+        }
+        InFlightCallBack inFlight = new InFlightCallBack(size);
+        List<Callback> delegates = new ArrayList<>(Arrays.asList(inFlight, cb));
+        if (exrec.getKey() != null) {
+            delegates.add(new KafkaProducerCallBack(exrec.getKey()));
+        }
+        try {
+            kafkaProducer.send(rec, new DelegatingCallback(delegates.toArray(new Callback[0])));
+        } catch (RuntimeException e) {
+            // the callback is not called when send fails
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the size of the key or value of a record, after it has been converted to the type of the serializer. A
+     * String is counted as encoded in UTF-8, which is the default encoding of the Kafka StringSerializer, and other
+     * types are not counted.
+     */
+    static long sizeOf(Object object) {
+        if (object instanceof byte[]) {
+            return ((byte[]) object).length;
+        } else if (object instanceof String) {
+            return utf8Length((String) object);
+        } else if (object instanceof ByteBuffer) {
+            return ((ByteBuffer) object).remaining();
+        } else if (object instanceof Bytes) {
+            return ((Bytes) object).get().length;
+        }
+        return 0;
+    }
+
+    /**
+     * Counts the UTF-8 encoded length of the string without encoding it
+     */
+    private static long utf8Length(String s) {
+        long length = s.length();
+        for (int i = 0; i < s.length(); i++) {
+            char ch = s.charAt(i);
+            if (ch >= 0x800 && !Character.isSurrogate(ch)) {
+                length += 2;
+            } else if (ch >= 0x80) {
+                // two bytes, or a surrogate which is half of four bytes
+                length++;
+            }
+        }
+        return length;
+    }
+
     /**
      * Attempts to convert the object to the same type as the value serializer specified
      */
@@ -426,6 +556,102 @@ public class KafkaProducer extends DefaultAsyncProducer {
         }
     }
 
+    private long maxBlockMs() {
+        Integer maxBlockMs = endpoint.getConfiguration().getMaxBlockMs();
+        return maxBlockMs != null ? maxBlockMs : 60000;
+    }
+
+    /**
+     * Runs the task on the worker pool, or on the calling thread when the worker pool is not available as the producer
+     * is stopping, as otherwise the exchange would never complete
+     */
+    private void runOnWorkerPool(Runnable task) {
+        ExecutorService pool = workerPool;
+        if (pool != null) {
+            try {
+                pool.submit(task);
+                return;
+            } catch (RejectedExecutionException e) {
+                LOG.debug("Worker pool rejected the task, running it on the calling thread", e);
+            }
+        }
+        task.run();
+    }
+
+    /**
+     * The records of an exchange which are waiting for room in the in-flight window. Run by the Kafka callback thread
+     * which released the room, so the records are sent from the worker pool instead.
+     */
+    @SuppressWarnings("rawtypes")
+    private final class PendingRecords implements Runnable {
+
+        private final Exchange exchange;
+        private final Iterator<KeyValueHolder<Object, ProducerRecord>> records;
+        private final KafkaProducerCallBack cb;
+        private final KeyValueHolder<Object, ProducerRecord> next;
+        private final long size;
+
+        PendingRecords(Exchange exchange, Iterator<KeyValueHolder<Object, ProducerRecord>> records,
+                       KafkaProducerCallBack cb, KeyValueHolder<Object, ProducerRecord> next, long size) {
+            this.exchange = exchange;
+            this.records = records;
+            this.cb = cb;
+            this.next = next;
+            this.size = size;
+        }
+
+        @Override
+        public void run() {
+            runOnWorkerPool(this::send);
+        }
+
+        void fail(Exception cause) {
+            exchange.setException(cause);
+            cb.done();
+        }
+
+        private void send() {
+            try {
+                // room has already been acquired for the next record
+                sendRecord(next, size, cb);
+                if (!sendRecords(exchange, records, cb)) {
+                    return;
+                }
+                cb.allSent(false);
+                return;
+            } catch (Exception ex) {
+                exchange.setException(ex);
+            }
+            cb.done();
+        }
+    }
+
+    private final class InFlightCallBack implements Callback {
+
+        private final long size;
+        private final long start = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        InFlightCallBack(long size) {
+            this.size = size;
+        }
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                inFlightLimiter.release(size);
+            }
+        }
+
+        @Override
+        public void onCompletion(RecordMetadata metadata, Exception exception) {
+            long latency = System.nanoTime() - start;
+            callbackCounter.increment();
+            callbackLatency.add(latency);
+            maxCallbackLatency.accumulateAndGet(latency, Math::max);
+            release();
+        }
+    }
+
     private final class KafkaProducerCallBack implements Callback {
 
         private final Object body;
@@ -468,18 +694,24 @@ public class KafkaProducer extends DefaultAsyncProducer {
             count.incrementAndGet();
         }
 
-        boolean allSent() {
+        boolean allSent(boolean doneSync) {
             if (count.decrementAndGet() == 0) {
                 LOG.trace("All messages sent, continue routing.");
                 // was able to get all the work done while queuing the requests
                 if (callback != null) {
-                    callback.done(true);
+                    callback.done(doneSync);
                 }
                 return true;
             }
             return false;
         }
 
+        void done() {
+            if (callback != null) {
+                callback.done(false);
+            }
+        }
+
         @Override
         public void onCompletion(RecordMetadata recordMetadata, Exception e) {
             if (e != null) {
@@ -497,7 +729,7 @@ public class KafkaProducer extends DefaultAsyncProducer {
                 // use worker pool to continue routing the exchange
                 // as this thread is from Kafka Callback and should not be used
                 // by Camel routing
-                workerPool.submit(new Runnable() {
+                runOnWorkerPool(new Runnable() {
                     @Override
                     public void run() {
                         LOG.trace("All messages sent, continue routing.");
@@ -0,0 +1,245 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.kafka.common.errors.InterruptException;
+import org.apache.kafka.common.errors.TimeoutException;
+
+/**
+ * Keeps track of the records which have been sent by the {@link KafkaProducer} but not yet acknowledged by Kafka, and
+ * defers sending the next record when the number of records, or their size, would exceed the configured limits.
+ * <p/>
+ * A record which does not fit is queued with a task, which is run by the thread releasing enough room once records are
+ * acknowledged, so the thread sending the record is not blocked. Queued records are given room in the order they were
+ * queued, and a new record is queued as well while other records are waiting, so records are sent in order.
+ * <p/>
+ * The number of queued records is bounded. When the queue is full then the thread sending the next record is either
+ * blocked until the record can be queued, or the record is rejected.
+ * <p/>
+ * A record is always allowed when nothing is in flight, so a record larger than the limit can still be sent.
+ */
+final class KafkaProducerInFlightLimiter {
+
+    private final int maxRecords;
+    private final long maxBytes;
+    private final int maxWaiting;
+    private final boolean blockWhenFull;
+    private final AtomicInteger records = new AtomicInteger();
+    private final AtomicLong bytes = new AtomicLong();
+    private final LongAdder waits = new LongAdder();
+    // guarded by this
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+    private int blocked;
+    private boolean stopped;
+
+    private static final class Waiter {
+        private final long size;
+        private final Runnable task;
+
+        private Waiter(long size, Runnable task) {
+            this.size = size;
+            this.task = task;
+        }
+    }
+
+    /**
+     * @param maxRecords    the maximum number of records in flight, or 0 for no limit
+     * @param maxBytes      the maximum size of the records in flight, or 0 for no limit
+     * @param maxWaiting    the maximum number of records waiting for room
+     * @param blockWhenFull whether to block the thread sending a record when the maximum number of records are waiting,
+     *                      or to reject the record
+     */
+    KafkaProducerInFlightLimiter(int maxRecords, long maxBytes, int maxWaiting, boolean blockWhenFull) {
+        this.maxRecords = maxRecords;
+        this.maxBytes = maxBytes;
+        this.maxWaiting = maxWaiting;
+        this.blockWhenFull = blockWhenFull;
+    }
+
+    /**
+     * Acquires room for a record of the given size, or queues the task to be run once room has been acquired for the
+     * record.
+     *
+     * @param  size                       the size of the record
+     * @param  task                       the task to run once room has been acquired, when the record has to wait
+     * @param  maxBlockMs                 the maximum time to block when the maximum number of records are waiting
+     * @return                            <tt>true</tt> if acquired, <tt>false</tt> if the record has to wait, and the
+     *                                    task is run later
+     * @throws RejectedExecutionException if the maximum number of records are waiting and the record is rejected, or
+     *                                    when stopped
+     * @throws TimeoutException           if blocked for longer than the maximum time
+     * @throws InterruptException         if interrupted while blocked
+     */
+    boolean acquire(long size, Runnable task, long maxBlockMs) {
+        if (maxRecords <= 0 && maxBytes <= 0) {
+            add(size);
+            return true;
+        }
+
+        synchronized (this) {
+            long deadline = 0;
+            while (true) {
+                if (waiters.isEmpty() && hasRoom(size)) {
+                    add(size);
+                    return true;
+                }
+                if (stopped) {
+                    throw new RejectedExecutionException("The producer is stopping");
+                }
+                if (waiters.size() < maxWaiting) {
+                    break;
+                }
+                if (!blockWhenFull) {
+                    throw new RejectedExecutionException(
+                            "The maximum number of " + maxWaiting + " records are waiting for room in flight");
+                }
+                long now = System.currentTimeMillis();
+                if (deadline == 0) {
+                    deadline = now + maxBlockMs;
+                }
+                if (now >= deadline) {
+                    throw new TimeoutException(
+                            "Blocked for " + maxBlockMs + " millis while " + maxWaiting
+                                               + " records are waiting for room in flight");
+                }
+                blocked++;
+                try {
+                    wait(deadline - now);
+                } catch (InterruptedException e) {
+                    throw new InterruptException(e);
+                } finally {
+                    blocked--;
+                }
+            }
+            waits.increment();
+            waiters.add(new Waiter(size, task));
+            return false;
+        }
+    }
+
+    /**
+     * Releases the room of a record of the given size, when the record has been acknowledged or failed, and runs the
+     * tasks of the records which now have room.
+     */
+    void release(long size) {
+        records.decrementAndGet();
+        bytes.addAndGet(-size);
+        if (maxRecords <= 0 && maxBytes <= 0) {
+            return;
+        }
+
+        List<Runnable> tasks = null;
+        synchronized (this) {
+            Waiter waiter;
+            while ((waiter = waiters.peek()) != null && hasRoom(waiter.size)) {
+                waiters.poll();
+                add(waiter.size);
+                if (tasks == null) {
+                    tasks = new ArrayList<>();
+                }
+                tasks.add(waiter.task);
+            }
+            if (blocked > 0) {
+                notifyAll();
+            }
+        }
+        // run the tasks outside the lock
+        if (tasks != null) {
+            tasks.forEach(Runnable::run);
+        }
+    }
+
+    /**
+     * Allows records to wait for room again after being stopped
+     */
+    synchronized void start() {
+        stopped = false;
+    }
+
+    /**
+     * Stops queueing records and wakes up the blocked threads, which then have their record rejected
+     *
+     * @return the tasks of the records which were waiting, and which are not run
+     */
+    List<Runnable> stop() {
+        List<Runnable> tasks = new ArrayList<>();
+        synchronized (this) {
+            stopped = true;
+            Waiter waiter;
+            while ((waiter = waiters.poll()) != null) {
+                tasks.add(waiter.task);
+            }
+            notifyAll();
+        }
+        return tasks;
+    }
+
+    private void add(long size) {
+        records.incrementAndGet();
+        bytes.addAndGet(size);
+    }
+
+    private boolean hasRoom(long size) {
+        int current = records.get();
+        if (current == 0) {
+            return true;
+        }
+        return (maxRecords <= 0 || current < maxRecords) && (maxBytes <= 0 || bytes.get() + size <= maxBytes);
+    }
+
+    /**
+     * Number of records in flight
+     */
+    int getRecords() {
+        return records.get();
+    }
+
+    /**
+     * Size of the records in flight
+     */
+    long getBytes() {
+        return bytes.get();
+    }
+
+    /**
+     * Number of records waiting for room
+     */
+    synchronized int getWaiting() {
+        return waiters.size();
+    }
+
+    /**
+     * Number of times a record had to wait for records in flight to be acknowledged
+     */
+    long getWaits() {
+        return waits.sum();
+    }
+
+    void resetWaits() {
+        waits.reset();
+    }
+
+}
@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.apache.camel.Endpoint;
+import org.apache.camel.EndpointInject;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class KafkaConsumerBatchingTest extends BaseEmbeddedKafkaTest {
+
+    public static final String TOPIC = "batching";
+    public static final String CONCURRENT_TOPIC = "batchingConcurrent";
+    public static final String RETRY_TOPIC = "batchingRetry";
+    public static final String SLOW_TOPIC = "batchingSlow";
+
+    @EndpointInject("kafka:" + TOPIC + "?autoOffsetReset=earliest&batching=true&maxPollRecords=10")
+    private Endpoint from;
+
+    @EndpointInject("kafka:" + CONCURRENT_TOPIC + "?autoOffsetReset=earliest&partitionConcurrency=4")
+    private Endpoint fromConcurrent;
+
+    @EndpointInject("kafka:" + RETRY_TOPIC
+                    + "?autoOffsetReset=earliest&batching=true&breakOnFirstError=true&autoCommitIntervalMs=100")
+    private Endpoint fromRetry;
+
+    @EndpointInject("kafka:" + SLOW_TOPIC + "?autoOffsetReset=earliest&groupId=slow&partitionConcurrency=3")
+    private Endpoint fromSlow;
+
+    @EndpointInject("mock:result")
+    private MockEndpoint to;
+
+    @EndpointInject("mock:records")
+    private MockEndpoint toRecords;
+
+    @EndpointInject("mock:concurrent")
+    private MockEndpoint toConcurrent;
+
+    @EndpointInject("mock:retry")
+    private MockEndpoint toRetry;
+
+    @EndpointInject("mock:slow")
+    private MockEndpoint toSlow;
+
+    private final AtomicBoolean failed = new AtomicBoolean();
+    private final CountDownLatch slowStarted = new CountDownLatch(1);
+    private final CountDownLatch slowReleased = new CountDownLatch(1);
+
+    private org.apache.kafka.clients.producer.KafkaProducer<String, String> producer;
+
+    @BeforeEach
+    public void before() {
+        Properties props = getDefaultProperties();
+        producer = new org.apache.kafka.clients.producer.KafkaProducer<>(props);
+    }
+
+    @AfterEach
+    public void after() {
+        if (producer != null) {
+            producer.close();
+        }
+        // clean all test topics
+        kafkaAdminClient.deleteTopics(Arrays.asList(TOPIC, CONCURRENT_TOPIC, RETRY_TOPIC, SLOW_TOPIC));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(from).to(to)
+                        .split(body())
+                        .process(e -> e.getIn().setBody(e.getIn().getBody(Exchange.class).getIn().getBody()))
+                        .to(toRecords);
+
+                from(fromConcurrent).to(toConcurrent);
+
+                from(fromRetry)
+                        .process(e -> {
+                            // fail the first batch only
+                            if (failed.compareAndSet(false, true)) {
+                                throw new IllegalArgumentException("Forced");
+                            }
+                        })
+                        .split(body())
+                        .process(e -> e.getIn().setBody(e.getIn().getBody(Exchange.class).getIn().getBody()))
+                        .to(toRetry);
+
+                from(fromSlow).routeId("slow").autoStartup(false)
+                        .process(e -> {
+                            // hold back the records of partition 0
+                            if (e.getIn().getHeader(KafkaConstants.PARTITION, Integer.class) == 0) {
+                                slowStarted.countDown();
+                                slowReleased.await(30, TimeUnit.SECONDS);
+                            }
+                        })
+                        .to(toSlow);
+            }
+        };
+    }
+
+    @Test
+    public void kafkaRecordsAreConsumedAsBatches() throws Exception {
+        // the records may be spread over more than one poll
+        to.expectedMinimumMessageCount(1);
+        toRecords.expectedBodiesReceived("m1", "m2", "m3", "m4", "m5");
+
+        for (int k = 1; k <= 5; k++) {
+            producer.send(new ProducerRecord<>(TOPIC, "1", "m" + k));
+        }
+
+        MockEndpoint.assertIsSatisfied(to, toRecords);
+
+        Exchange first = to.getReceivedExchanges().get(0);
+        List<?> batch = first.getIn().getBody(List.class);
+        assertEquals(batch.size(), first.getProperty(Exchange.BATCH_SIZE));
+        assertEquals(TOPIC, ((Exchange) batch.get(0)).getIn().getHeader(KafkaConstants.TOPIC));
+    }
+
+    @Test
+    public void kafkaRecordsOfPartitionAreConsumedInOrder() throws Exception {
+        toConcurrent.expectedBodiesReceived("m1", "m2", "m3", "m4", "m5");
+
+        for (int k = 1; k <= 5; k++) {
+            producer.send(new ProducerRecord<>(CONCURRENT_TOPIC, "1", "m" + k));
+        }
+
+        toConcurrent.assertIsSatisfied();
+    }
+
+    @Test
+    public void kafkaBatchIsConsumedAgainAfterFailure() throws Exception {
+        toRetry.expectedBodiesReceived("m1", "m2", "m3");
+
+        for (int k = 1; k <= 3; k++) {
+            producer.send(new ProducerRecord<>(RETRY_TOPIC, "1", "m" + k));
+        }
+        producer.flush();
+
+        toRetry.assertIsSatisfied();
+        assertTrue(failed.get());
+    }
+
+    @Test
+    public void kafkaSlowPartitionDoesNotHoldBackOtherPartitions() throws Exception {
+        kafkaAdminClient.createTopics(Collections.singletonList(new NewTopic(SLOW_TOPIC, 3, (short) 1))).all().get();
+        context.getRouteController().startRoute("slow");
+
+        producer.send(new ProducerRecord<>(SLOW_TOPIC, 0, "0", "s1")).get();
+        assertTrue(slowStarted.await(30, TimeUnit.SECONDS));
+
+        // the other partitions are polled and processed while partition 0 is still being processed
+        toSlow.expectedMessageCount(6);
+        for (int k = 1; k <= 3; k++) {
+            producer.send(new ProducerRecord<>(SLOW_TOPIC, 1, "1", "a" + k));
+            producer.send(new ProducerRecord<>(SLOW_TOPIC, 2, "2", "b" + k));
+        }
+        producer.flush();
+        toSlow.assertIsSatisfied();
+        assertEquals(Arrays.asList("a1", "a2", "a3"), bodiesOfPartition(1));
+        assertEquals(Arrays.asList("b1", "b2", "b3"), bodiesOfPartition(2));
+
+        toSlow.reset();
+        toSlow.expectedBodiesReceived("s1");
+        slowReleased.countDown();
+        toSlow.assertIsSatisfied();
+
+        // the offsets of all the partitions are committed once processed
+        TopicPartition slowPartition = new TopicPartition(SLOW_TOPIC, 0);
+        long deadline = System.currentTimeMillis() + 10000;
+        Map<TopicPartition, OffsetAndMetadata> offsets;
+        do {
+            Thread.sleep(100);
+            offsets = kafkaAdminClient.listConsumerGroupOffsets("slow").partitionsToOffsetAndMetadata().get();
+        } while ((!offsets.containsKey(slowPartition) || offsets.get(slowPartition).offset() != 1)
+                && System.currentTimeMillis() < deadline);
+        assertEquals(1, offsets.get(slowPartition).offset());
+        assertEquals(3, offsets.get(new TopicPartition(SLOW_TOPIC, 1)).offset());
+        assertEquals(3, offsets.get(new TopicPartition(SLOW_TOPIC, 2)).offset());
+    }
+
+    private List<Object> bodiesOfPartition(int partition) {
+        return toSlow.getReceivedExchanges().stream()
+                .filter(e -> e.getIn().getHeader(KafkaConstants.PARTITION, Integer.class) == partition)
+                .map(e -> e.getIn().getBody())
+                .collect(Collectors.toList());
+    }
+}
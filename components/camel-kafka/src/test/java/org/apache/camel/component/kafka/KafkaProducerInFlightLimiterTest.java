@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class KafkaProducerInFlightLimiterTest {
+
+    private final List<String> sent = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void unlimited() throws Exception {
+        KafkaProducerInFlightLimiter limiter = new KafkaProducerInFlightLimiter(0, 0, 1000, true);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limiter.acquire(10, send("record"), 60000));
+        }
+        assertEquals(100, limiter.getRecords());
+        assertEquals(1000, limiter.getBytes());
+        limiter.release(10);
+        assertEquals(99, limiter.getRecords());
+        assertEquals(990, limiter.getBytes());
+        assertEquals(0, limiter.getWaits());
+        assertTrue(sent.isEmpty());
+    }
+
+    @Test
+    public void maxRecords() throws Exception {
+        KafkaProducerInFlightLimiter limiter = new KafkaProducerInFlightLimiter(2, 0, 1000, true);
+        assertTrue(limiter.acquire(10, send("a"), 60000));
+        assertTrue(limiter.acquire(10, send("b"), 60000));
+        assertFalse(limiter.acquire(10, send("c"), 60000));
+        assertEquals(1, limiter.getWaits());
+        assertEquals(1, limiter.getWaiting());
+        assertTrue(sent.isEmpty());
+
+        // the waiting record is given the room which is released
+        limiter.release(10);
+        assertEquals("[c]", sent.toString());
+        assertEquals(2, limiter.getRecords());
+        assertEquals(0, limiter.getWaiting());
+    }
+
+    @Test
+    public void maxBytes() throws Exception {
+        KafkaProducerInFlightLimiter limiter = new KafkaProducerInFlightLimiter(0, 100, 1000, true);
+        // a record larger than the limit is allowed when nothing is in flight
+        assertTrue(limiter.acquire(150, send("a"), 60000));
+        assertFalse(limiter.acquire(1, send("b"), 60000));
+        limiter.release(150);
+        assertEquals("[b]", sent.toString());
+        limiter.release(1);
+
+        assertTrue(limiter.acquire(60, send("c"), 60000));
+        assertFalse(limiter.acquire(50, send("d"), 60000));
+        // records are sent in order, so a smaller record waits behind a waiting record
+        assertFalse(limiter.acquire(40, send("e"), 60000));
+        limiter.release(60);
+        assertEquals("[b, d, e]", sent.toString());
+        assertEquals(90, limiter.getBytes());
+    }
+
+    @Test
+    public void releaseRunsWaitingInOrder() throws Exception {
+        KafkaProducerInFlightLimiter limiter = new KafkaProducerInFlightLimiter(1, 0, 1000, true);
+        assertTrue(limiter.acquire(10, send("a"), 60000));
+        assertFalse(limiter.acquire(10, send("b"), 60000));
+        assertFalse(limiter.acquire(10, send("c"), 60000));
+
+        limiter.release(10);
+        assertEquals("[b]", sent.toString());
+        limiter.release(10);
+        assertEquals("[b, c]", sent.toString());
+        assertEquals(1, limiter.getRecords());
+        assertEquals(2, limiter.getWaits());
+    }
+
+    @Test
+    public void rejectWhenFull() throws Exception {
+        KafkaProducerInFlightLimiter limiter = new KafkaProducerInFlightLimiter(1, 0, 1, false);
+        assertTrue(limiter.acquire(10, send("a"), 60000));
+        assertFalse(limiter.acquire(10, send("b"), 60000));
+        assertThrows(RejectedExecutionException.class, () -> limiter.acquire(10, send("c"), 60000));
+        assertEquals(1, limiter.getWaiting());
+    }
+
+    @Test
+    public void blockWhenFull() throws Exception {
+        KafkaProducerInFlightLimiter limiter = new KafkaProducerInFlightLimiter(1, 0, 1, true);
+        assertTrue(limiter.acquire(10, send("a"), 60000));
+        assertFalse(limiter.acquire(10, send("b"), 60000));
+
+        // the sender stalls until a waiting record is given room
+        CompletableFuture<Boolean> blocked = CompletableFuture.supplyAsync(() -> limiter.acquire(10, send("c"), 60000));
+        assertThrows(java.util.concurrent.TimeoutException.class, () -> blocked.get(200, TimeUnit.MILLISECONDS));
+
+        limiter.release(10);
+        assertFalse(blocked.get(5, TimeUnit.SECONDS));
+        assertEquals("[b]", sent.toString());
+        limiter.release(10);
+        assertEquals("[b, c]", sent.toString());
+    }
+
+    @Test
+    public void blockTimesOut() throws Exception {
+        KafkaProducerInFlightLimiter limiter = new KafkaProducerInFlightLimiter(1, 0, 1, true);
+        assertTrue(limiter.acquire(10, send("a"), 60000));
+        assertFalse(limiter.acquire(10, send("b"), 60000));
+        assertThrows(TimeoutException.class, () -> limiter.acquire(10, send("c"), 100));
+    }
+
+    @Test
+    public void stopRejectsWaiting() throws Exception {
+        KafkaProducerInFlightLimiter limiter = new KafkaProducerInFlightLimiter(1, 0, 1, true);
+        assertTrue(limiter.acquire(10, send("a"), 60000));
+        Runnable waiting = send("b");
+        assertFalse(limiter.acquire(10, waiting, 60000));
+        CompletableFuture<Boolean> blocked = CompletableFuture.supplyAsync(() -> limiter.acquire(10, send("c"), 60000));
+        assertThrows(java.util.concurrent.TimeoutException.class, () -> blocked.get(200, TimeUnit.MILLISECONDS));
+
+        // the waiting records are handed back and the blocked sender is woken up
+        assertEquals(Collections.singletonList(waiting), limiter.stop());
+        ExecutionException e = assertThrows(ExecutionException.class, () -> blocked.get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof RejectedExecutionException);
+        assertThrows(RejectedExecutionException.class, () -> limiter.acquire(10, send("d"), 60000));
+        limiter.release(10);
+        assertTrue(sent.isEmpty());
+
+        limiter.start();
+        assertTrue(limiter.acquire(10, send("e"), 60000));
+        assertFalse(limiter.acquire(10, send("f"), 60000));
+    }
+
+    private Runnable send(String record) {
+        return () -> sent.add(record);
+    }
+}
@@ -21,8 +21,12 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import org.apache.camel.AggregationStrategy;
@@ -48,11 +52,13 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 
@@ -174,6 +180,120 @@ public class KafkaProducerTest {
         assertRecordMetadataExists();
     }
 
+    @Test
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void processAsyncWaitsForRoomInFlight() throws Exception {
+        endpoint.getConfiguration().setTopic("sometopic");
+        endpoint.getConfiguration().setMaxInFlightRecords(1);
+        KafkaProducer limited = new KafkaProducer(endpoint);
+        org.apache.kafka.clients.producer.KafkaProducer kp = producer.getKafkaProducer();
+        limited.setKafkaProducer(kp);
+        limited.setWorkerPool(Executors.newFixedThreadPool(1));
+        Mockito.when(exchange.getIn()).thenReturn(in);
+        Mockito.when(exchange.getMessage()).thenReturn(out);
+        AsyncCallback waiting = Mockito.mock(AsyncCallback.class);
+
+        assertFalse(limited.process(exchange, callback));
+        // the next exchange waits for the record in flight without blocking the thread
+        assertFalse(limited.process(exchange, waiting));
+        ArgumentCaptor<Callback> callBackCaptor = ArgumentCaptor.forClass(Callback.class);
+        Mockito.verify(kp).send(any(ProducerRecord.class), callBackCaptor.capture());
+        assertEquals(1, limited.getInFlightWaitCounter());
+
+        // acknowledging the record in flight sends the waiting record
+        callBackCaptor.getValue().onCompletion(new RecordMetadata(null, 0, 0, 0, 0L, 0, 0), null);
+        Mockito.verify(callback, Mockito.timeout(5000)).done(eq(false));
+        Mockito.verify(kp, Mockito.timeout(5000).times(2)).send(any(ProducerRecord.class), callBackCaptor.capture());
+        Mockito.verify(waiting, Mockito.never()).done(anyBoolean());
+
+        callBackCaptor.getValue().onCompletion(new RecordMetadata(null, 0, 0, 0, 0L, 0, 0), null);
+        Mockito.verify(waiting, Mockito.timeout(5000)).done(eq(false));
+        assertEquals(0, limited.getInFlightRecords());
+    }
+
+    @Test
+    @SuppressWarnings({ "unchecked" })
+    public void processAsyncStallsWhenTooManyWaiting() throws Exception {
+        endpoint.getConfiguration().setTopic("sometopic");
+        endpoint.getConfiguration().setMaxInFlightRecords(1);
+        endpoint.getConfiguration().setMaxInFlightWaiting(1);
+        KafkaProducer limited = new KafkaProducer(endpoint);
+        org.apache.kafka.clients.producer.KafkaProducer kp = producer.getKafkaProducer();
+        limited.setKafkaProducer(kp);
+        limited.setWorkerPool(Executors.newFixedThreadPool(1));
+        Mockito.when(exchange.getIn()).thenReturn(in);
+        Mockito.when(exchange.getMessage()).thenReturn(out);
+
+        assertFalse(limited.process(exchange, callback));
+        assertFalse(limited.process(exchange, Mockito.mock(AsyncCallback.class)));
+
+        // a producer which keeps sending is blocked once too many records are waiting
+        CompletableFuture<Boolean> stalled
+                = CompletableFuture.supplyAsync(() -> limited.process(exchange, Mockito.mock(AsyncCallback.class)));
+        assertThrows(TimeoutException.class, () -> stalled.get(200, TimeUnit.MILLISECONDS));
+
+        ArgumentCaptor<Callback> callBackCaptor = ArgumentCaptor.forClass(Callback.class);
+        Mockito.verify(kp).send(any(ProducerRecord.class), callBackCaptor.capture());
+        callBackCaptor.getValue().onCompletion(new RecordMetadata(null, 0, 0, 0, 0L, 0, 0), null);
+        assertFalse(stalled.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @SuppressWarnings({ "unchecked" })
+    public void processAsyncWithoutWorkerPool() throws Exception {
+        endpoint.getConfiguration().setTopic("sometopic");
+        endpoint.getConfiguration().setMaxInFlightRecords(1);
+        KafkaProducer limited = new KafkaProducer(endpoint);
+        org.apache.kafka.clients.producer.KafkaProducer kp = producer.getKafkaProducer();
+        limited.setKafkaProducer(kp);
+        Mockito.when(exchange.getIn()).thenReturn(in);
+        Mockito.when(exchange.getMessage()).thenReturn(out);
+        AsyncCallback waiting = Mockito.mock(AsyncCallback.class);
+
+        assertFalse(limited.process(exchange, callback));
+        assertFalse(limited.process(exchange, waiting));
+
+        // the waiting record is sent and the exchanges complete on the callback thread
+        ArgumentCaptor<Callback> callBackCaptor = ArgumentCaptor.forClass(Callback.class);
+        Mockito.verify(kp).send(any(ProducerRecord.class), callBackCaptor.capture());
+        callBackCaptor.getValue().onCompletion(new RecordMetadata(null, 0, 0, 0, 0L, 0, 0), null);
+        Mockito.verify(callback).done(eq(false));
+        Mockito.verify(kp, Mockito.times(2)).send(any(ProducerRecord.class), callBackCaptor.capture());
+        callBackCaptor.getValue().onCompletion(new RecordMetadata(null, 0, 0, 0, 0L, 0, 0), null);
+        Mockito.verify(waiting).done(eq(false));
+    }
+
+    @Test
+    public void stopFailsWaitingRecords() throws Exception {
+        endpoint.getConfiguration().setTopic("sometopic");
+        endpoint.getConfiguration().setMaxInFlightRecords(1);
+        KafkaProducer limited = new KafkaProducer(endpoint);
+        limited.setKafkaProducer(producer.getKafkaProducer());
+        limited.setWorkerPool(Executors.newFixedThreadPool(1));
+        limited.start();
+        Mockito.when(exchange.getIn()).thenReturn(in);
+        Mockito.when(exchange.getMessage()).thenReturn(out);
+        AsyncCallback waiting = Mockito.mock(AsyncCallback.class);
+
+        assertFalse(limited.process(exchange, callback));
+        assertFalse(limited.process(exchange, waiting));
+
+        limited.stop();
+        Mockito.verify(exchange).setException(isA(RejectedExecutionException.class));
+        Mockito.verify(waiting).done(eq(false));
+    }
+
+    @Test
+    public void sizeOf() throws Exception {
+        assertEquals(3, KafkaProducer.sizeOf("abc"));
+        // strings are counted as encoded in UTF-8
+        assertEquals(5, KafkaProducer.sizeOf("caf\u00e9"));
+        assertEquals(3, KafkaProducer.sizeOf("\u20ac"));
+        assertEquals(4, KafkaProducer.sizeOf("\ud83d\ude00"));
+        assertEquals(2, KafkaProducer.sizeOf(new byte[2]));
+        assertEquals(0, KafkaProducer.sizeOf(123));
+    }
+
     @Test
     public void processSendsMessageWithTopicHeaderAndNoTopicInEndPoint() throws Exception {
         endpoint.getConfiguration().setTopic(null);
@@ -20,7 +20,8 @@ public class SedaEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> PROPERTY_NAMES;
     private static final Set<String> SECRET_PROPERTY_NAMES;
     static {
-        Set<String> props = new HashSet<>(19);
+        Set<String> props = new HashSet<>(22);
+        props.add("batchAsList");
         props.add("exchangePattern");
         props.add("pollTimeout");
         props.add("failIfNoConsumers");
@@ -29,6 +30,7 @@ public class SedaEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("blockWhenFull");
         props.add("discardWhenFull");
         props.add("concurrentConsumers");
+        props.add("batchTimeout");
         props.add("timeout");
         props.add("lazyStartProducer");
         props.add("bridgeErrorHandler");
@@ -36,6 +38,7 @@ public class SedaEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("size");
         props.add("discardIfNoConsumers");
         props.add("name");
+        props.add("batchSize");
         props.add("exceptionHandler");
         props.add("purgeWhenStopping");
         props.add("multipleConsumers");
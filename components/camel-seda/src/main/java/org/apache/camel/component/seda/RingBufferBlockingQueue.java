@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.Collection;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.concurrent.BoundedRingQueue;
+
+/**
+ * A bounded lock-free {@link BlockingQueue} backed by a ring buffer, which supports multiple producers and either a
+ * single or multiple consumers.
+ * <p/>
+ * The queue itself is a {@link BoundedRingQueue}, and the blocking operations do not use conditions to signal waiting
+ * threads, but wait using the configured {@link WaitStrategy}.
+ * <p/>
+ * Removing an arbitrary element (such as an exchange which timed out) only marks its slot as removed, and the slot is
+ * skipped and reclaimed when consumers reach it. Until then the slot is included in the size of the queue.
+ */
+public class RingBufferBlockingQueue<E> extends BoundedRingQueue<E> implements BlockingQueue<E> {
+
+    /**
+     * How threads wait when the queue is full (producers) or empty (consumers).
+     */
+    public enum WaitStrategy {
+        /**
+         * Busy spin, which has the lowest latency but keeps the CPU busy while waiting.
+         */
+        SPIN,
+        /**
+         * Yield the thread while waiting, which allows other threads to run.
+         */
+        YIELD,
+        /**
+         * Spin and yield for a short while, then park the thread for an increasing period up to the max park time. This
+         * uses the least CPU while waiting.
+         */
+        PARK
+    }
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long MIN_PARK_NANOS = 1000;
+
+    private final WaitStrategy waitStrategy;
+    private final long maxParkNanos;
+
+    public RingBufferBlockingQueue(int capacity) {
+        this(capacity, false, WaitStrategy.PARK, TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    /**
+     * Creates a new queue.
+     *
+     * @param capacity       the capacity of the queue
+     * @param singleConsumer whether only a single thread polls the queue
+     * @param waitStrategy   the strategy used by the blocking operations to wait
+     * @param maxParkNanos   the max time to park the thread when using {@link WaitStrategy#PARK}
+     */
+    public RingBufferBlockingQueue(int capacity, boolean singleConsumer, WaitStrategy waitStrategy, long maxParkNanos) {
+        super(capacity, singleConsumer);
+        ObjectHelper.notNull(waitStrategy, "waitStrategy");
+        this.waitStrategy = waitStrategy;
+        this.maxParkNanos = Math.max(maxParkNanos, MIN_PARK_NANOS);
+    }
+
+    public WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        int counter = 0;
+        while (!offer(e)) {
+            counter = idle(counter, Long.MAX_VALUE);
+        }
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int counter = 0;
+        while (!offer(e)) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            counter = idle(counter, remaining);
+        }
+        return true;
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        int counter = 0;
+        E answer;
+        while ((answer = poll()) == null) {
+            counter = idle(counter, Long.MAX_VALUE);
+        }
+        return answer;
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int counter = 0;
+        E answer;
+        while ((answer = poll()) == null) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return null;
+            }
+            counter = idle(counter, remaining);
+        }
+        return answer;
+    }
+
+    /**
+     * Waits a while according to the wait strategy
+     *
+     * @param  counter              the number of times we have waited so far
+     * @param  remaining            the remaining time to wait in nanos
+     * @return                      the updated counter
+     * @throws InterruptedException if the thread has been interrupted
+     */
+    private int idle(int counter, long remaining) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        switch (waitStrategy) {
+            case SPIN:
+                break;
+            case YIELD:
+                Thread.yield();
+                break;
+            default:
+                if (counter < SPIN_TRIES) {
+                    // spin
+                } else if (counter < SPIN_TRIES + YIELD_TRIES) {
+                    Thread.yield();
+                } else {
+                    // park with an exponential back-off
+                    int shift = Math.min(counter - SPIN_TRIES - YIELD_TRIES, 20);
+                    long nanos = Math.min(MIN_PARK_NANOS << shift, maxParkNanos);
+                    LockSupport.parkNanos(this, Math.min(nanos, remaining));
+                }
+                break;
+        }
+        return counter + 1;
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        ObjectHelper.notNull(c, "collection");
+        if (c == this) {
+            throw new IllegalArgumentException("Cannot drain to itself");
+        }
+        int n = 0;
+        E e;
+        while (n < maxElements && (e = poll()) != null) {
+            c.add(e);
+            n++;
+        }
+        return n;
+    }
+
+    @Override
+    public String toString() {
+        return "RingBufferBlockingQueue[capacity=" + getCapacity() + ", size=" + size() + ", singleConsumer="
+               + isSingleConsumer() + ", waitStrategy=" + waitStrategy + "]";
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of {@link BlockingQueueFactory} producing lock-free {@link RingBufferBlockingQueue}
+ */
+public class RingBufferBlockingQueueFactory<E> implements BlockingQueueFactory<E> {
+
+    /**
+     * Capacity used when none provided
+     */
+    private int defaultCapacity = SedaConstants.QUEUE_SIZE;
+
+    /**
+     * Whether only a single consumer thread polls the queue
+     */
+    private boolean singleConsumer;
+
+    /**
+     * How to wait when the queue is full or empty
+     */
+    private RingBufferBlockingQueue.WaitStrategy waitStrategy = RingBufferBlockingQueue.WaitStrategy.PARK;
+
+    /**
+     * Max time in nanos to park a waiting thread
+     */
+    private long maxParkNanos = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * @return Default capacity
+     */
+    public int getDefaultCapacity() {
+        return defaultCapacity;
+    }
+
+    /**
+     * @param defaultCapacity Default capacity
+     */
+    public void setDefaultCapacity(int defaultCapacity) {
+        this.defaultCapacity = defaultCapacity;
+    }
+
+    /**
+     * @return Whether only a single consumer thread polls the queue
+     */
+    public boolean isSingleConsumer() {
+        return singleConsumer;
+    }
+
+    /**
+     * @param singleConsumer Whether only a single consumer thread polls the queue, which can only be used when the SEDA
+     *                       endpoint has one consumer with concurrentConsumers=1, and is rejected otherwise
+     */
+    public void setSingleConsumer(boolean singleConsumer) {
+        this.singleConsumer = singleConsumer;
+    }
+
+    /**
+     * @return How to wait when the queue is full or empty
+     */
+    public RingBufferBlockingQueue.WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    /**
+     * @param waitStrategy How to wait when the queue is full or empty
+     */
+    public void setWaitStrategy(RingBufferBlockingQueue.WaitStrategy waitStrategy) {
+        this.waitStrategy = waitStrategy;
+    }
+
+    /**
+     * @return Max time in nanos to park a waiting thread
+     */
+    public long getMaxParkNanos() {
+        return maxParkNanos;
+    }
+
+    /**
+     * @param maxParkNanos Max time in nanos to park a waiting thread, when using the park wait strategy
+     */
+    public void setMaxParkNanos(long maxParkNanos) {
+        this.maxParkNanos = maxParkNanos;
+    }
+
+    @Override
+    public RingBufferBlockingQueue<E> create() {
+        return create(defaultCapacity);
+    }
+
+    @Override
+    public RingBufferBlockingQueue<E> create(int capacity) {
+        return new RingBufferBlockingQueue<>(capacity, singleConsumer, waitStrategy, maxParkNanos);
+    }
+}
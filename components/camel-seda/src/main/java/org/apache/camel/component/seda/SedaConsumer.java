@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.seda;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
@@ -25,6 +26,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.camel.AsyncProcessor;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.ExtendedExchange;
 import org.apache.camel.Processor;
 import org.apache.camel.ShutdownRunningTask;
@@ -34,6 +36,7 @@ import org.apache.camel.spi.Synchronization;
 import org.apache.camel.support.DefaultConsumer;
 import org.apache.camel.support.EmptyAsyncCallback;
 import org.apache.camel.support.ExchangeHelper;
+import org.apache.camel.support.SynchronizationAdapter;
 import org.apache.camel.support.UnitOfWorkHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
@@ -55,10 +58,16 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
     private volatile boolean forceShutdown;
     private ExecutorService executor;
     private final int pollTimeout;
+    private final int batchSize;
+    private final long batchTimeout;
+    private final boolean batchAsList;
 
     public SedaConsumer(SedaEndpoint endpoint, Processor processor) {
         super(endpoint, processor);
         this.pollTimeout = endpoint.getPollTimeout();
+        this.batchSize = endpoint.getBatchSize();
+        this.batchTimeout = endpoint.getBatchTimeout();
+        this.batchAsList = endpoint.isBatchAsList();
     }
 
     @Override
@@ -180,25 +189,10 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
                             exchange);
                 }
                 if (exchange != null) {
-                    try {
-                        // send a new copied exchange with new camel context
-                        Exchange newExchange = prepareExchange(exchange);
-                        // process the exchange
-                        sendToConsumers(newExchange);
-                        // copy the message back
-                        if (newExchange.hasOut()) {
-                            exchange.setOut(newExchange.getOut().copy());
-                        } else {
-                            exchange.setIn(newExchange.getIn());
-                        }
-                        // log exception if an exception occurred and was not handled
-                        if (newExchange.getException() != null) {
-                            exchange.setException(newExchange.getException());
-                            getExceptionHandler().handleException("Error processing exchange", exchange,
-                                    exchange.getException());
-                        }
-                    } catch (Exception e) {
-                        getExceptionHandler().handleException("Error processing exchange", exchange, e);
+                    if (batchSize > 0) {
+                        processBatch(queue, exchange);
+                    } else {
+                        processExchange(exchange);
                     }
                 } else if (shutdownPending && queue.isEmpty()) {
                     LOG.trace("Shutdown is pending, so this consumer thread is breaking out because the task queue is empty.");
@@ -218,6 +212,136 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         }
     }
 
+    /**
+     * Processes the exchange polled from the queue
+     *
+     * @param exchange the exchange
+     */
+    protected void processExchange(Exchange exchange) {
+        // send a new copied exchange with new camel context
+        processExchange(exchange, prepareExchange(exchange));
+    }
+
+    private void processExchange(Exchange exchange, Exchange newExchange) {
+        try {
+            // process the exchange
+            sendToConsumers(newExchange);
+            // copy the message back
+            if (newExchange.hasOut()) {
+                exchange.setOut(newExchange.getOut().copy());
+            } else {
+                exchange.setIn(newExchange.getIn());
+            }
+            // log exception if an exception occurred and was not handled
+            if (newExchange.getException() != null) {
+                exchange.setException(newExchange.getException());
+                getExceptionHandler().handleException("Error processing exchange", exchange,
+                        exchange.getException());
+            }
+        } catch (Exception e) {
+            getExceptionHandler().handleException("Error processing exchange", exchange, e);
+        }
+    }
+
+    /**
+     * Drains up to batchSize exchanges from the queue (waiting at most batchTimeout for the batch to fill up) and
+     * processes them as a batch.
+     *
+     * @param queue the queue
+     * @param first the first exchange of the batch which has already been polled from the queue
+     */
+    protected void processBatch(BlockingQueue<Exchange> queue, Exchange first) {
+        List<Exchange> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        queue.drainTo(batch, batchSize - 1);
+
+        if (batchTimeout > 0 && batch.size() < batchSize) {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchTimeout);
+            try {
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    Exchange exchange = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (exchange == null) {
+                        break;
+                    }
+                    batch.add(exchange);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                // the exchanges have been taken from the queue, so we must process them
+                LOG.debug("Waiting for batch interrupted, are we stopping? {}", isStopping() || isStopped());
+            }
+        }
+
+        int size = batch.size();
+        LOG.trace("Drained {} exchanges from queue {}", size, ObjectHelper.getIdentityHashCode(queue));
+
+        if (batchAsList) {
+            processExchange(createBatchExchange(batch));
+        } else {
+            for (int i = 0; i < size; i++) {
+                Exchange exchange = batch.get(i);
+                Exchange newExchange = prepareExchange(exchange);
+                newExchange.setProperty(ExchangePropertyKey.BATCH_INDEX, i);
+                newExchange.setProperty(ExchangePropertyKey.BATCH_SIZE, size);
+                newExchange.setProperty(ExchangePropertyKey.BATCH_COMPLETE, i == size - 1);
+                // the batch information must not be copied back to a waiting producer, so take over the on completions
+                // and trigger them when the batch information has been removed
+                final List<Synchronization> completions = newExchange.adapt(ExtendedExchange.class).handoverCompletions();
+                newExchange.adapt(ExtendedExchange.class).addOnCompletion(new SynchronizationAdapter() {
+                    @Override
+                    public void onDone(Exchange response) {
+                        response.removeProperty(ExchangePropertyKey.BATCH_INDEX);
+                        response.removeProperty(ExchangePropertyKey.BATCH_SIZE);
+                        response.removeProperty(ExchangePropertyKey.BATCH_COMPLETE);
+                        UnitOfWorkHelper.doneSynchronizations(response, completions, LOG);
+                    }
+                });
+                processExchange(exchange, newExchange);
+            }
+        }
+    }
+
+    /**
+     * Creates a single exchange with the given batch of exchanges as a {@link List} in the message body.
+     * <p/>
+     * The on completions of the exchanges in the batch are triggered on each of the exchanges in the list when the
+     * batch has been routed, so a producer waiting for a reply gets the message of its exchange in the list. If the
+     * batch failed then the exception is set on each of the exchanges in the list.
+     *
+     * @param  batch the exchanges polled from the queue
+     * @return       the exchange to process by this consumer.
+     */
+    protected Exchange createBatchExchange(List<Exchange> batch) {
+        Exchange answer = getEndpoint().createExchange();
+        final List<Exchange> exchanges = new ArrayList<>(batch.size());
+        final List<List<Synchronization>> completions = new ArrayList<>(batch.size());
+        for (Exchange exchange : batch) {
+            Exchange newExchange = prepareExchange(exchange);
+            completions.add(newExchange.adapt(ExtendedExchange.class).handoverCompletions());
+            exchanges.add(newExchange);
+        }
+        answer.getIn().setBody(exchanges);
+        answer.setProperty(ExchangePropertyKey.BATCH_SIZE, exchanges.size());
+        answer.adapt(ExtendedExchange.class).addOnCompletion(new SynchronizationAdapter() {
+            @Override
+            public void onDone(Exchange response) {
+                Exception cause = response.getException();
+                for (int i = 0; i < exchanges.size(); i++) {
+                    Exchange newExchange = exchanges.get(i);
+                    if (cause != null && newExchange.getException() == null) {
+                        newExchange.setException(cause);
+                    }
+                    UnitOfWorkHelper.doneSynchronizations(newExchange, completions.get(i), LOG);
+                }
+            }
+        });
+        return answer;
+    }
+
     /**
      * Strategy to prepare exchange for being processed by this consumer
      *
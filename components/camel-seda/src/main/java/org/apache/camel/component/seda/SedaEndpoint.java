@@ -84,6 +84,12 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
     private boolean purgeWhenStopping;
     @UriParam(label = "consumer,advanced", defaultValue = "1000")
     private int pollTimeout = 1000;
+    @UriParam(label = "consumer,advanced")
+    private int batchSize;
+    @UriParam(label = "consumer,advanced", javaType = "java.time.Duration")
+    private long batchTimeout;
+    @UriParam(label = "consumer,advanced")
+    private boolean batchAsList;
 
     @UriParam(label = "producer", defaultValue = "IfReplyExpected")
     private WaitForTaskToComplete waitForTaskToComplete = WaitForTaskToComplete.IfReplyExpected;
@@ -158,6 +164,12 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
             }
         }
 
+        if (isSingleConsumerQueue() && (getConcurrentConsumers() > 1 || isMultipleConsumers())) {
+            throw new IllegalArgumentException(
+                    "Cannot use a queue for a single consumer with concurrentConsumers " + getConcurrentConsumers()
+                                               + " and multipleConsumers " + isMultipleConsumers() + " on " + this);
+        }
+
         Consumer answer = createNewConsumer(processor);
         configureConsumer(answer);
         return answer;
@@ -169,11 +181,19 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
 
     @Override
     public PollingConsumer createPollingConsumer() throws Exception {
+        if (isSingleConsumerQueue()) {
+            throw new IllegalArgumentException("Cannot use a polling consumer with a queue for a single consumer on " + this);
+        }
         SedaPollingConsumer answer = new SedaPollingConsumer(this);
         configureConsumer(answer);
         return answer;
     }
 
+    private boolean isSingleConsumerQueue() {
+        BlockingQueue<Exchange> queue = getQueue();
+        return queue instanceof RingBufferBlockingQueue && ((RingBufferBlockingQueue<?>) queue).isSingleConsumer();
+    }
+
     public synchronized BlockingQueue<Exchange> getQueue() {
         if (queue == null) {
             // prefer to lookup queue from component, so if this endpoint is re-created or re-started
@@ -440,6 +460,51 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
         this.pollTimeout = pollTimeout;
     }
 
+    @ManagedAttribute
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Enables batch mode where the consumer drains up to the given number of exchanges from the queue at once, instead
+     * of polling the queue for every exchange. This reduces the locking overhead of the queue when there are many
+     * messages. The exchanges are routed one by one, with the batch information stored as exchange properties
+     * (CamelBatchIndex, CamelBatchSize and CamelBatchComplete), unless batchAsList is enabled. Is by default 0 which
+     * means batch mode is disabled.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @ManagedAttribute
+    public long getBatchTimeout() {
+        return batchTimeout;
+    }
+
+    /**
+     * The maximum time to wait for more exchanges to fill up a batch, after the first exchange of the batch has been
+     * received. This bounds the latency added by batch mode. Is by default 0 which means the batch only contains the
+     * exchanges which are already available on the queue.
+     */
+    public void setBatchTimeout(long batchTimeout) {
+        this.batchTimeout = batchTimeout;
+    }
+
+    @ManagedAttribute
+    public boolean isBatchAsList() {
+        return batchAsList;
+    }
+
+    /**
+     * Whether to route a batch as a single exchange, where the message body is a java.util.List with the exchanges of
+     * the batch, instead of routing the exchanges one by one. This option is only in use when batchSize is enabled. The
+     * exchanges in the list are completed when the batch has been routed, so a producer waiting for the task to
+     * complete gets the message of its exchange in the list as reply, and the exception if the batch failed.
+     */
+    public void setBatchAsList(boolean batchAsList) {
+        this.batchAsList = batchAsList;
+    }
+
     @ManagedAttribute
     public boolean isPurgeWhenStopping() {
         return purgeWhenStopping;
@@ -185,7 +185,8 @@ public class TimerConsumer extends DefaultConsumer implements StartupListener, S
     }
 
     protected void sendTimerExchange(long counter) {
-        final Exchange exchange = endpoint.createExchange();
+        // the exchange is used in the callback so it is released when the callback is done
+        final Exchange exchange = createExchange(false);
 
         if (endpoint.isIncludeMetadata()) {
             exchange.setProperty(Exchange.TIMER_COUNTER, counter);
@@ -211,6 +212,7 @@ public class TimerConsumer extends DefaultConsumer implements StartupListener, S
                     if (exchange.getException() != null) {
                         getExceptionHandler().handleException("Error processing exchange", exchange, exchange.getException());
                     }
+                    releaseExchange(exchange, false);
                 }
             });
         } else {
@@ -224,6 +226,7 @@ public class TimerConsumer extends DefaultConsumer implements StartupListener, S
             if (exchange.getException() != null) {
                 getExceptionHandler().handleException("Error processing exchange", exchange, exchange.getException());
             }
+            releaseExchange(exchange, false);
         }
     }
 }
@@ -11,7 +11,7 @@ public class ExchangeConstantProvider {
 
     private static final Map<String, String> MAP;
     static {
-        Map<String, String> map = new HashMap<>(149);
+        Map<String, String> map = new HashMap<>(153);
         map.put("ACCEPT_CONTENT_TYPE", "CamelAcceptContentType");
         map.put("AGGREGATED_COLLECTION_GUARD", "CamelAggregatedCollectionGuard");
         map.put("AGGREGATED_COMPLETED_BY", "CamelAggregatedCompletedBy");
@@ -104,6 +104,7 @@ public class ExchangeConstantProvider {
         map.put("MAXIMUM_CACHE_POOL_SIZE", "CamelMaximumCachePoolSize");
         map.put("MAXIMUM_ENDPOINT_CACHE_SIZE", "CamelMaximumEndpointCacheSize");
         map.put("MAXIMUM_SIMPLE_CACHE_SIZE", "CamelMaximumSimpleCacheSize");
+        map.put("MAXIMUM_TASK_POOL_SIZE", "CamelMaximumTaskPoolSize");
         map.put("MAXIMUM_TRANSFORMER_CACHE_SIZE", "CamelMaximumTransformerCacheSize");
         map.put("MAXIMUM_VALIDATOR_CACHE_SIZE", "CamelMaximumValidatorCacheSize");
         map.put("MESSAGE_HISTORY", "CamelMessageHistory");
@@ -115,6 +116,9 @@ public class ExchangeConstantProvider {
         map.put("ON_COMPLETION", "CamelOnCompletion");
         map.put("OVERRULE_FILE_NAME", "CamelOverruleFileName");
         map.put("PARENT_UNIT_OF_WORK", "CamelParentUnitOfWork");
+        map.put("PRODUCER_POOL_IDLE_TIME", "CamelProducerPoolIdleTime");
+        map.put("PRODUCER_POOL_MAX_SIZE", "CamelProducerPoolMaxSize");
+        map.put("PRODUCER_POOL_MIN_SIZE", "CamelProducerPoolMinSize");
         map.put("RECEIVED_TIMESTAMP", "CamelReceivedTimestamp");
         map.put("RECIPIENT_LIST_ENDPOINT", "CamelRecipientListEndpoint");
         map.put("REDELIVERED", "CamelRedelivered");
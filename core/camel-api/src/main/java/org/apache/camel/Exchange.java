@@ -178,6 +178,7 @@ public interface Exchange {
     String MAXIMUM_CACHE_POOL_SIZE = "CamelMaximumCachePoolSize";
     String MAXIMUM_ENDPOINT_CACHE_SIZE = "CamelMaximumEndpointCacheSize";
     String MAXIMUM_SIMPLE_CACHE_SIZE = "CamelMaximumSimpleCacheSize";
+    String MAXIMUM_TASK_POOL_SIZE = "CamelMaximumTaskPoolSize";
     String MAXIMUM_TRANSFORMER_CACHE_SIZE = "CamelMaximumTransformerCacheSize";
     String MAXIMUM_VALIDATOR_CACHE_SIZE = "CamelMaximumValidatorCacheSize";
     String MESSAGE_HISTORY = "CamelMessageHistory";
@@ -193,6 +194,9 @@ public interface Exchange {
     String OVERRULE_FILE_NAME = "CamelOverruleFileName";
 
     String PARENT_UNIT_OF_WORK = "CamelParentUnitOfWork";
+    String PRODUCER_POOL_IDLE_TIME = "CamelProducerPoolIdleTime";
+    String PRODUCER_POOL_MAX_SIZE = "CamelProducerPoolMaxSize";
+    String PRODUCER_POOL_MIN_SIZE = "CamelProducerPoolMinSize";
     String STREAM_CACHE_UNIT_OF_WORK = "CamelStreamCacheUnitOfWork";
 
     String RECIPIENT_LIST_ENDPOINT = "CamelRecipientListEndpoint";
@@ -283,6 +287,51 @@ public interface Exchange {
      */
     void setPattern(ExchangePattern pattern);
 
+    /**
+     * Returns a property associated with this exchange by the key
+     *
+     * @param  key the exchange key
+     * @return     the value of the given property or <tt>null</tt> if there is no property for the given key
+     */
+    Object getProperty(ExchangePropertyKey key);
+
+    /**
+     * Returns a property associated with this exchange by the key and specifying the type required
+     *
+     * @param  key  the exchange key
+     * @param  type the type of the property
+     * @return      the value of the given property or <tt>null</tt> if there is no property for the given key or
+     *              <tt>null</tt> if it cannot be converted to the given type
+     */
+    <T> T getProperty(ExchangePropertyKey key, Class<T> type);
+
+    /**
+     * Returns a property associated with this exchange by the key and specifying the type required
+     *
+     * @param  key          the exchange key
+     * @param  defaultValue the default value to return if property was absent
+     * @param  type         the type of the property
+     * @return              the value of the given property or <tt>defaultValue</tt> if there is no property for the
+     *                      given key or <tt>null</tt> if it cannot be converted to the given type
+     */
+    <T> T getProperty(ExchangePropertyKey key, Object defaultValue, Class<T> type);
+
+    /**
+     * Sets a property on the exchange using the key
+     *
+     * @param key   the exchange key
+     * @param value to associate with the key
+     */
+    void setProperty(ExchangePropertyKey key, Object value);
+
+    /**
+     * Removes the given property on the exchange
+     *
+     * @param  key the exchange key
+     * @return     the old value of the property
+     */
+    Object removeProperty(ExchangePropertyKey key);
+
     /**
      * Returns a property associated with this exchange by name
      *
@@ -358,9 +407,12 @@ public interface Exchange {
     boolean removeProperties(String pattern, String... excludePatterns);
 
     /**
-     * Returns all of the properties associated with the exchange
+     * Returns all of the properties associated with the exchange.
+     * <p/>
+     * The returned map is a live view that includes both the internal properties (see {@link ExchangePropertyKey}) and
+     * any custom properties, and changes made to the map are reflected on the exchange.
      *
-     * @return all the headers in a Map
+     * @return all the properties in a Map
      */
     Map<String, Object> getProperties();
 
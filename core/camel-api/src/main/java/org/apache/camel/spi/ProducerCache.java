@@ -132,6 +132,41 @@ public interface ProducerCache extends Service {
      */
     EndpointUtilizationStatistics getEndpointUtilizationStatistics();
 
+    /**
+     * Warms up the cache by creating the producer for the given endpoint ahead of use, so the first message sent to the
+     * endpoint does not pay the cost of creating and starting the producer.
+     * <p/>
+     * For non-singleton producers then the minimum pool size of producers is created.
+     *
+     * @param endpoint the endpoint
+     */
+    void warmUp(Endpoint endpoint);
+
+    /**
+     * Number of times a pooled producer was acquired from the cache
+     */
+    long getHits();
+
+    /**
+     * Number of times a producer had to be created when acquired from the cache
+     */
+    long getMisses();
+
+    /**
+     * Mean time in millis to create and start a producer
+     */
+    long getMeanCreationTime();
+
+    /**
+     * Max time in millis to create and start a producer
+     */
+    long getMaxCreationTime();
+
+    /**
+     * Resets the hit, miss and creation time statistics
+     */
+    void resetStatistics();
+
     /**
      * Sends an exchange to an endpoint using a supplied callback supporting the asynchronous routing engine.
      * <p/>
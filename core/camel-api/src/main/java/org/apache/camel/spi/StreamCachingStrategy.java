@@ -17,6 +17,8 @@
 package org.apache.camel.spi;
 
 import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.StaticService;
@@ -62,6 +64,38 @@ public interface StreamCachingStrategy extends StaticService {
          */
         long getCacheSpoolAverageSize();
 
+        /**
+         * Gets the total accumulated number of bytes which has been written to disk for spooled stream caches, which is
+         * less than the cached size when the spool files are compressed.
+         */
+        long getCacheSpoolDiskSize();
+
+        /**
+         * Gets the compression ratio (the cached size divided by the size on disk) of the spooled stream caches.
+         */
+        double getCacheSpoolCompressionRatio();
+
+        /**
+         * Gets the average time in millis spent writing (compressing, encrypting and storing) a spooled stream cache to
+         * disk.
+         */
+        long getCacheSpoolAverageTime();
+
+        /**
+         * Gets the counter for number of off-heap {@link StreamCache} created.
+         */
+        long getCacheOffHeapCounter();
+
+        /**
+         * Gets the total accumulated number of bytes which has been stream cached for off-heap stream caches.
+         */
+        long getCacheOffHeapSize();
+
+        /**
+         * Gets the average number of bytes per cached stream for off-heap stream caches.
+         */
+        long getCacheOffHeapAverageSize();
+
         /**
          * Reset the counters
          */
@@ -154,6 +188,50 @@ public interface StreamCachingStrategy extends StaticService {
 
     SpoolUsedHeapMemoryLimit getSpoolUsedHeapMemoryLimit();
 
+    /**
+     * Threshold in bytes when in-memory stream caches are moved from heap memory to off-heap memory (direct byte
+     * buffers), until they are spooled to disk.
+     * <p/>
+     * This reduces the pressure on the heap for bigger messages, without the cost of spooling to disk. The spool
+     * threshold should then be set higher than this threshold, as the off-heap memory is used between the two
+     * thresholds.
+     * <p/>
+     * The default threshold is <tt>0</tt> which means off-heap stream caching is disabled.
+     */
+    void setOffHeapThreshold(long threshold);
+
+    long getOffHeapThreshold();
+
+    /**
+     * Sets the maximum total of off-heap memory in bytes, which can be used by all the off-heap stream caches. When
+     * this limit is reached, stream caches are spooled to disk instead.
+     * <p/>
+     * The default limit is 64mb.
+     */
+    void setOffHeapMaxMemory(long maxMemory);
+
+    long getOffHeapMaxMemory();
+
+    /**
+     * Gets the off-heap memory in bytes currently in use by the off-heap stream caches.
+     */
+    long getOffHeapUsedMemory();
+
+    /**
+     * Takes a direct {@link ByteBuffer} from the pool of off-heap buffers, to be used by an off-heap stream cache.
+     *
+     * @return the buffer (cleared), or <tt>null</tt> if off-heap stream caching is disabled or the off-heap memory
+     *         limit has been reached
+     */
+    ByteBuffer acquireOffHeapBuffer();
+
+    /**
+     * Returns the buffer to the pool of off-heap buffers, when the off-heap stream cache is no longer in use.
+     *
+     * @param buffer the buffer
+     */
+    void releaseOffHeapBuffer(ByteBuffer buffer);
+
     /**
      * Sets the buffer size to use when allocating in-memory buffers used for in-memory stream caches.
      * <p/>
@@ -172,6 +250,37 @@ public interface StreamCachingStrategy extends StaticService {
 
     String getSpoolCipher();
 
+    /**
+     * Sets whether to compress (using deflate) the data when spooling to disk. When encryption is also in use, then the
+     * data is compressed before encrypted.
+     * <p/>
+     * This reduces the disk space and disk I/O for compressible data such as XML or JSON, at the cost of the CPU used
+     * for compression. By default the data is not compressed.
+     */
+    void setSpoolCompressed(boolean compressed);
+
+    boolean isSpoolCompressed();
+
+    /**
+     * Sets whether to write to the spool files asynchronously (write-behind). The data is then handed over in chunks to
+     * a background thread, which compresses, encrypts and writes the chunks to disk, so the thread creating the stream
+     * cache can continue while spooling completes. The number of chunks pending to be written is bounded, so a fast
+     * producer is slowed down to the speed of the disk.
+     * <p/>
+     * By default the data is written to the spool files synchronously.
+     */
+    void setSpoolWriteBehind(boolean writeBehind);
+
+    boolean isSpoolWriteBehind();
+
+    /**
+     * Sets a custom thread pool to use for writing the spool files when {@link #setSpoolWriteBehind(boolean)} is
+     * enabled. If none is configured, then a thread pool is created when starting.
+     */
+    void setSpoolWriteBehindExecutorService(ExecutorService executorService);
+
+    ExecutorService getSpoolWriteBehindExecutorService();
+
     /**
      * Whether to remove the temporary directory when stopping.
      * <p/>
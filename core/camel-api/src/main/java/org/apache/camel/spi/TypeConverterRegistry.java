@@ -61,6 +61,21 @@ public interface TypeConverterRegistry extends StaticService, CamelContextAware
          */
         long getFailedCounter();
 
+        /**
+         * Number of type conversion attempts which used a cached conversion (from -> to)
+         */
+        long getCacheHitCounter();
+
+        /**
+         * Number of type conversion attempts which had to resolve the conversion (from -> to) as it was not cached
+         */
+        long getCacheMissCounter();
+
+        /**
+         * Number of successful conversions by fallback type converters
+         */
+        long getFallbackCounter();
+
         /**
          * Reset the counters
          */
@@ -101,6 +101,7 @@ import org.apache.camel.spi.EndpointRegistry;
 import org.apache.camel.spi.EndpointStrategy;
 import org.apache.camel.spi.EndpointUriFactory;
 import org.apache.camel.spi.EventNotifier;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.FactoryFinder;
 import org.apache.camel.spi.FactoryFinderResolver;
@@ -263,6 +264,7 @@ public abstract class AbstractCamelContext extends BaseService
     private volatile PropertiesComponent propertiesComponent;
     private volatile CamelContextNameStrategy nameStrategy;
     private volatile ReactiveExecutor reactiveExecutor;
+    private volatile ExchangeFactory exchangeFactory;
     private volatile ManagementNameStrategy managementNameStrategy;
     private volatile Registry registry;
     private volatile TypeConverter typeConverter;
@@ -3627,6 +3629,7 @@ public abstract class AbstractCamelContext extends BaseService
         getInflightRepository();
         getAsyncProcessorAwaitManager();
         getReactiveExecutor();
+        getExchangeFactory();
         getBeanIntrospection();
         getUriFactoryResolver();
         getXMLRoutesDefinitionLoader();
@@ -4617,6 +4620,25 @@ public abstract class AbstractCamelContext extends BaseService
         this.reactiveExecutor = doAddService(reactiveExecutor, false);
     }
 
+    @Override
+    public ExchangeFactory getExchangeFactory() {
+        if (exchangeFactory == null) {
+            synchronized (lock) {
+                if (exchangeFactory == null) {
+                    setExchangeFactory(createExchangeFactory());
+                }
+            }
+        }
+        return exchangeFactory;
+    }
+
+    @Override
+    public void setExchangeFactory(ExchangeFactory exchangeFactory) {
+        // automatic inject camel context
+        exchangeFactory.setCamelContext(this);
+        this.exchangeFactory = doAddService(exchangeFactory);
+    }
+
     @Override
     public DeferServiceFactory getDeferServiceFactory() {
         if (deferServiceFactory == null) {
@@ -4694,6 +4716,8 @@ public abstract class AbstractCamelContext extends BaseService
 
     protected abstract ReactiveExecutor createReactiveExecutor();
 
+    protected abstract ExchangeFactory createExchangeFactory();
+
     protected abstract StreamCachingStrategy createStreamCachingStrategy();
 
     protected abstract TypeConverter createTypeConverter();
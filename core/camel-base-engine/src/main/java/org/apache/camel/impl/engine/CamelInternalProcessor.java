@@ -17,6 +17,7 @@
 package org.apache.camel.impl.engine;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -25,6 +26,7 @@ import java.util.concurrent.RejectedExecutionException;
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.ExtendedExchange;
 import org.apache.camel.MessageHistory;
@@ -58,6 +60,8 @@ import org.apache.camel.support.CamelContextHelper;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.MessageHelper;
 import org.apache.camel.support.OrderedComparator;
+import org.apache.camel.support.PooledExchangeTask;
+import org.apache.camel.support.PooledTaskFactory;
 import org.apache.camel.support.SynchronizationAdapter;
 import org.apache.camel.support.UnitOfWorkHelper;
 import org.apache.camel.support.processor.DelegateAsyncProcessor;
@@ -102,12 +106,14 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
     private final ReactiveExecutor reactiveExecutor;
     private final ShutdownStrategy shutdownStrategy;
     private final List<CamelInternalProcessorAdvice<?>> advices = new ArrayList<>();
+    private final PooledTaskFactory<AsyncAfterTask> taskFactory;
     private byte statefulAdvices;
 
     public CamelInternalProcessor(CamelContext camelContext) {
         this.camelContext = camelContext;
         this.reactiveExecutor = camelContext.adapt(ExtendedCamelContext.class).getReactiveExecutor();
         this.shutdownStrategy = camelContext.getShutdownStrategy();
+        this.taskFactory = createTaskFactory();
     }
 
     public CamelInternalProcessor(CamelContext camelContext, Processor processor) {
@@ -115,6 +121,16 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
         this.camelContext = camelContext;
         this.reactiveExecutor = camelContext.adapt(ExtendedCamelContext.class).getReactiveExecutor();
         this.shutdownStrategy = camelContext.getShutdownStrategy();
+        this.taskFactory = createTaskFactory();
+    }
+
+    private PooledTaskFactory<AsyncAfterTask> createTaskFactory() {
+        return new PooledTaskFactory<AsyncAfterTask>(CamelContextHelper.getMaximumTaskPoolSize(camelContext)) {
+            @Override
+            protected AsyncAfterTask createTask() {
+                return new AsyncAfterTask();
+            }
+        };
     }
 
     @Override
@@ -172,18 +188,29 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
     }
 
     /**
-     * Callback task to process the advices after processing.
+     * Callback task to process the advices after processing, which is reused when tasks are pooled.
      */
-    private final class AsyncAfterTask implements AsyncCallback {
+    private final class AsyncAfterTask implements AsyncCallback, PooledExchangeTask {
 
-        private final Object[] states;
-        private final Exchange exchange;
-        private final AsyncCallback originalCallback;
+        private Object[] states = EMPTY_STATES;
+        private Exchange exchange;
+        private AsyncCallback originalCallback;
 
-        private AsyncAfterTask(Object[] states, Exchange exchange, AsyncCallback originalCallback) {
-            this.states = states;
+        @Override
+        public void prepare(Exchange exchange, AsyncCallback originalCallback) {
             this.exchange = exchange;
             this.originalCallback = originalCallback;
+            // optimise to use object array for states, and only for the number of advices that keep state
+            if (states.length != statefulAdvices) {
+                states = statefulAdvices > 0 ? new Object[statefulAdvices] : EMPTY_STATES;
+            }
+        }
+
+        @Override
+        public void reset() {
+            Arrays.fill(states, null);
+            this.exchange = null;
+            this.originalCallback = null;
         }
 
         @Override
@@ -206,9 +233,11 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
                 // ----------------------------------------------------------
                 // CAMEL END USER - DEBUG ME HERE +++ START +++
                 // ----------------------------------------------------------
-                // callback must be called
-                if (originalCallback != null) {
-                    reactiveExecutor.schedule(originalCallback);
+                // callback must be called (release the task before as its no longer in use)
+                AsyncCallback cb = originalCallback;
+                taskFactory.release(this);
+                if (cb != null) {
+                    reactiveExecutor.schedule(cb);
                 }
                 // ----------------------------------------------------------
                 // CAMEL END USER - DEBUG ME HERE +++ END +++
@@ -253,8 +282,9 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
             return true;
         }
 
-        // optimise to use object array for states, and only for the number of advices that keep state
-        final Object[] states = statefulAdvices > 0 ? new Object[statefulAdvices] : EMPTY_STATES;
+        // internal callback which will execute the advices in reverse order when done
+        final AsyncAfterTask callback = taskFactory.acquire(exchange, originalCallback);
+        final Object[] states = callback.states;
         // optimise for loop using index access to avoid creating iterator object
         for (int i = 0, j = 0; i < advices.size(); i++) {
             CamelInternalProcessorAdvice<?> task = advices.get(i);
@@ -265,14 +295,12 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
                 }
             } catch (Throwable e) {
                 exchange.setException(e);
+                taskFactory.release(callback);
                 originalCallback.done(true);
                 return true;
             }
         }
 
-        // create internal callback which will execute the advices in reverse order when done
-        AsyncCallback callback = new AsyncAfterTask(states, exchange, originalCallback);
-
         if (exchange.isTransacted()) {
             // must be synchronized for transacted exchanges
             if (LOG.isTraceEnabled()) {
@@ -318,7 +346,8 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
             if (beforeAndAfter) {
                 reactiveExecutor.schedule(() -> {
                     // execute any after processor work (in current thread, not in the callback)
-                    uow.afterProcess(processor, exchange, callback, false);
+                    // (use the original callback as the pooled callback may already have been released and reused)
+                    uow.afterProcess(processor, exchange, originalCallback, false);
                 });
             }
 
@@ -746,11 +775,11 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
 
             MessageHistory history = factory.newMessageHistory(targetRouteId, definition, System.currentTimeMillis(), exchange);
             if (history != null) {
-                List<MessageHistory> list = exchange.getProperty(Exchange.MESSAGE_HISTORY, List.class);
+                List<MessageHistory> list = exchange.getProperty(ExchangePropertyKey.MESSAGE_HISTORY, List.class);
                 if (list == null) {
                     // use thread-safe list as message history may be accessed concurrently
                     list = new CopyOnWriteArrayList<>();
-                    exchange.setProperty(Exchange.MESSAGE_HISTORY, list);
+                    exchange.setProperty(ExchangePropertyKey.MESSAGE_HISTORY, list);
                 }
                 list.add(history);
             }
@@ -824,7 +853,7 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
             }
             // cache the body and if we could do that replace it as the new body
             boolean failed = exchange.getException(StreamCacheException.class) != null
-                    || exchange.getProperty(Exchange.EXCEPTION_CAUGHT, StreamCacheException.class) != null;
+                    || exchange.getProperty(ExchangePropertyKey.EXCEPTION_CAUGHT, StreamCacheException.class) != null;
             if (!failed) {
                 try {
                     StreamCache sc = strategy.cache(exchange);
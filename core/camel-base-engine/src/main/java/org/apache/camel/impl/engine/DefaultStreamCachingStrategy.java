@@ -19,16 +19,24 @@ package org.apache.camel.impl.engine;
 import java.io.File;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
+import java.nio.ByteBuffer;
 import java.util.LinkedHashSet;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.FileInputStreamCache;
+import org.apache.camel.converter.stream.OffHeapInputStreamCache;
 import org.apache.camel.spi.StreamCachingStrategy;
 import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.BufferCaster;
 import org.apache.camel.util.FilePathResolver;
 import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.IOHelper;
@@ -42,6 +50,8 @@ import org.slf4j.LoggerFactory;
 public class DefaultStreamCachingStrategy extends ServiceSupport implements CamelContextAware, StreamCachingStrategy {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultStreamCachingStrategy.class);
+    // the size of the pooled off-heap buffers
+    private static final int OFF_HEAP_BUFFER_SIZE = 64 * 1024;
 
     private CamelContext camelContext;
     private boolean enabled;
@@ -51,11 +61,20 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     private int spoolUsedHeapMemoryThreshold;
     private SpoolUsedHeapMemoryLimit spoolUsedHeapMemoryLimit;
     private String spoolCipher;
+    private boolean spoolCompressed;
+    private boolean spoolWriteBehind;
+    private ExecutorService spoolWriteBehindExecutorService;
+    private boolean shutdownSpoolWriteBehindExecutorService;
     private int bufferSize = IOHelper.DEFAULT_BUFFER_SIZE;
     private boolean removeSpoolDirectoryWhenStopping = true;
     private final UtilizationStatistics statistics = new UtilizationStatistics();
     private final Set<SpoolRule> spoolRules = new LinkedHashSet<>();
     private boolean anySpoolRules;
+    private long offHeapThreshold;
+    private long offHeapMaxMemory = 64 * 1024 * 1024;
+    private final Queue<ByteBuffer> offHeapPool = new ConcurrentLinkedQueue<>();
+    private final AtomicLong offHeapAllocated = new AtomicLong();
+    private final AtomicLong offHeapUsed = new AtomicLong();
 
     @Override
     public CamelContext getCamelContext() {
@@ -122,6 +141,60 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         this.spoolThreshold = spoolThreshold;
     }
 
+    @Override
+    public long getOffHeapThreshold() {
+        return offHeapThreshold;
+    }
+
+    @Override
+    public void setOffHeapThreshold(long offHeapThreshold) {
+        this.offHeapThreshold = offHeapThreshold;
+    }
+
+    @Override
+    public long getOffHeapMaxMemory() {
+        return offHeapMaxMemory;
+    }
+
+    @Override
+    public void setOffHeapMaxMemory(long offHeapMaxMemory) {
+        this.offHeapMaxMemory = offHeapMaxMemory;
+    }
+
+    @Override
+    public long getOffHeapUsedMemory() {
+        return offHeapUsed.get();
+    }
+
+    @Override
+    public ByteBuffer acquireOffHeapBuffer() {
+        if (!enabled || offHeapThreshold <= 0) {
+            return null;
+        }
+        ByteBuffer buffer = offHeapPool.poll();
+        if (buffer == null) {
+            // allocate a new buffer if the limit allows it
+            long allocated;
+            do {
+                allocated = offHeapAllocated.get();
+                if (allocated + OFF_HEAP_BUFFER_SIZE > offHeapMaxMemory) {
+                    LOG.trace("Off-heap memory limit {} reached", offHeapMaxMemory);
+                    return null;
+                }
+            } while (!offHeapAllocated.compareAndSet(allocated, allocated + OFF_HEAP_BUFFER_SIZE));
+            buffer = ByteBuffer.allocateDirect(OFF_HEAP_BUFFER_SIZE);
+        }
+        offHeapUsed.addAndGet(buffer.capacity());
+        return buffer;
+    }
+
+    @Override
+    public void releaseOffHeapBuffer(ByteBuffer buffer) {
+        offHeapUsed.addAndGet(-buffer.capacity());
+        BufferCaster.cast(buffer).clear();
+        offHeapPool.offer(buffer);
+    }
+
     @Override
     public String getSpoolCipher() {
         return spoolCipher;
@@ -132,6 +205,36 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         this.spoolCipher = spoolCipher;
     }
 
+    @Override
+    public boolean isSpoolCompressed() {
+        return spoolCompressed;
+    }
+
+    @Override
+    public void setSpoolCompressed(boolean spoolCompressed) {
+        this.spoolCompressed = spoolCompressed;
+    }
+
+    @Override
+    public boolean isSpoolWriteBehind() {
+        return spoolWriteBehind;
+    }
+
+    @Override
+    public void setSpoolWriteBehind(boolean spoolWriteBehind) {
+        this.spoolWriteBehind = spoolWriteBehind;
+    }
+
+    @Override
+    public ExecutorService getSpoolWriteBehindExecutorService() {
+        return spoolWriteBehindExecutorService;
+    }
+
+    @Override
+    public void setSpoolWriteBehindExecutorService(ExecutorService spoolWriteBehindExecutorService) {
+        this.spoolWriteBehindExecutorService = spoolWriteBehindExecutorService;
+    }
+
     @Override
     public int getBufferSize() {
         return bufferSize;
@@ -212,10 +315,15 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             }
             if (statistics.isStatisticsEnabled()) {
                 try {
-                    if (cache.inMemory()) {
+                    if (cache instanceof OffHeapInputStreamCache) {
+                        statistics.updateOffHeap(cache.length());
+                    } else if (cache.inMemory()) {
                         statistics.updateMemory(cache.length());
+                    } else if (cache instanceof FileInputStreamCache) {
+                        FileInputStreamCache fcache = (FileInputStreamCache) cache;
+                        statistics.updateSpool(cache.length(), fcache.getSpoolDiskSize(), fcache.getSpoolTime());
                     } else {
-                        statistics.updateSpool(cache.length());
+                        statistics.updateSpool(cache.length(), cache.length(), 0);
                     }
                 } catch (Exception e) {
                     LOG.debug("Error updating cache statistics. This exception is ignored.", e);
@@ -323,6 +431,17 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             }
         }
 
+        if (offHeapThreshold > 0 && offHeapMaxMemory <= 0) {
+            throw new IllegalArgumentException(
+                    "OffHeapMaxMemory must be configured when using OffHeapThreshold > 0, was: " + offHeapMaxMemory);
+        }
+
+        if (spoolWriteBehind && spoolDirectory != null && spoolWriteBehindExecutorService == null) {
+            spoolWriteBehindExecutorService
+                    = camelContext.getExecutorServiceManager().newDefaultThreadPool(this, "StreamCacheSpoolWriteBehind");
+            shutdownSpoolWriteBehindExecutorService = true;
+        }
+
         LOG.debug("StreamCaching configuration {}", this);
 
         if (spoolDirectory != null) {
@@ -330,10 +449,21 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         } else {
             LOG.info("StreamCaching in use with rules: {}", spoolRules);
         }
+        if (offHeapThreshold > 0) {
+            LOG.info("StreamCaching using off-heap memory > {} bytes body size with max {} bytes off-heap memory",
+                    offHeapThreshold, offHeapMaxMemory);
+        }
     }
 
     @Override
     protected void doStop() throws Exception {
+        if (shutdownSpoolWriteBehindExecutorService && spoolWriteBehindExecutorService != null) {
+            // let pending writes complete
+            camelContext.getExecutorServiceManager().shutdownGraceful(spoolWriteBehindExecutorService);
+            spoolWriteBehindExecutorService = null;
+            shutdownSpoolWriteBehindExecutorService = false;
+        }
+
         if (spoolThreshold > 0 & spoolDirectory != null && isRemoveSpoolDirectoryWhenStopping()) {
             LOG.debug("Removing spool directory: {}", spoolDirectory);
             FileUtil.removeDir(spoolDirectory);
@@ -343,6 +473,12 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             LOG.debug("Stopping StreamCachingStrategy with statistics: {}", statistics);
         }
 
+        // free the pooled off-heap buffers (the buffers in use are freed when released)
+        ByteBuffer buffer;
+        while ((buffer = offHeapPool.poll()) != null) {
+            offHeapAllocated.addAndGet(-buffer.capacity());
+        }
+
         statistics.reset();
     }
 
@@ -351,8 +487,12 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         return "DefaultStreamCachingStrategy["
                + "spoolDirectory=" + spoolDirectory
                + ", spoolCipher=" + spoolCipher
+               + ", spoolCompressed=" + spoolCompressed
+               + ", spoolWriteBehind=" + spoolWriteBehind
                + ", spoolThreshold=" + spoolThreshold
                + ", spoolUsedHeapMemoryThreshold=" + spoolUsedHeapMemoryThreshold
+               + ", offHeapThreshold=" + offHeapThreshold
+               + ", offHeapMaxMemory=" + offHeapMaxMemory
                + ", bufferSize=" + bufferSize
                + ", anySpoolRules=" + anySpoolRules + "]";
     }
@@ -432,6 +572,12 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         private volatile long spoolCounter;
         private volatile long spoolSize;
         private volatile long spoolAverageSize;
+        private volatile long spoolDiskSize;
+        private volatile long spoolTime;
+        private volatile long spoolAverageTime;
+        private volatile long offHeapCounter;
+        private volatile long offHeapSize;
+        private volatile long offHeapAverageSize;
 
         synchronized void updateMemory(long size) {
             memoryCounter++;
@@ -439,10 +585,19 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             memoryAverageSize = memorySize / memoryCounter;
         }
 
-        synchronized void updateSpool(long size) {
+        synchronized void updateSpool(long size, long diskSize, long time) {
             spoolCounter++;
             spoolSize += size;
             spoolAverageSize = spoolSize / spoolCounter;
+            spoolDiskSize += diskSize;
+            spoolTime += time;
+            spoolAverageTime = spoolTime / spoolCounter;
+        }
+
+        synchronized void updateOffHeap(long size) {
+            offHeapCounter++;
+            offHeapSize += size;
+            offHeapAverageSize = offHeapSize / offHeapCounter;
         }
 
         @Override
@@ -475,6 +630,37 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             return spoolAverageSize;
         }
 
+        @Override
+        public long getCacheSpoolDiskSize() {
+            return spoolDiskSize;
+        }
+
+        @Override
+        public double getCacheSpoolCompressionRatio() {
+            long disk = spoolDiskSize;
+            return disk > 0 ? (double) spoolSize / disk : 0;
+        }
+
+        @Override
+        public long getCacheSpoolAverageTime() {
+            return spoolAverageTime;
+        }
+
+        @Override
+        public long getCacheOffHeapCounter() {
+            return offHeapCounter;
+        }
+
+        @Override
+        public long getCacheOffHeapSize() {
+            return offHeapSize;
+        }
+
+        @Override
+        public long getCacheOffHeapAverageSize() {
+            return offHeapAverageSize;
+        }
+
         @Override
         public synchronized void reset() {
             memoryCounter = 0;
@@ -483,6 +669,12 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             spoolCounter = 0;
             spoolSize = 0;
             spoolAverageSize = 0;
+            spoolDiskSize = 0;
+            spoolTime = 0;
+            spoolAverageTime = 0;
+            offHeapCounter = 0;
+            offHeapSize = 0;
+            offHeapAverageSize = 0;
         }
 
         @Override
@@ -498,8 +690,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         @Override
         public String toString() {
             return String.format(
-                    "[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s]",
-                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize);
+                    "[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s,"
+                                 + " spoolDiskSize=%s, spoolAverageTime=%s, offHeapCounter=%s, offHeapSize=%s, offHeapAverageSize=%s]",
+                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize,
+                    spoolDiskSize, spoolAverageTime, offHeapCounter, offHeapSize, offHeapAverageSize);
         }
     }
 
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.Consumer;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.PooledExchange;
+import org.apache.camel.spi.ExchangeFactory;
+import org.apache.camel.support.DefaultEndpoint;
+import org.apache.camel.support.DefaultExchange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pooled {@link ExchangeFactory} that reuses {@link Exchange} instance from a pool.
+ * <p/>
+ * Each consumer has its own pool of exchanges. An exchange created to auto release is released back to the pool when
+ * its {@link org.apache.camel.spi.UnitOfWork} is done, otherwise the consumer must release the exchange when it is no
+ * longer in use. Exchanges that are released when the pool is full are discarded.
+ * <p/>
+ * When leak detection is enabled, then the factory keeps track of the exchanges that are in use, and logs a WARN for
+ * each exchange that has not been released when the factory is stopped, with the stacktrace where the exchange was
+ * created.
+ */
+public final class PooledExchangeFactory extends PrototypeExchangeFactory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PooledExchangeFactory.class);
+
+    private final PooledExchange.OnDoneTask onDone = this::onDone;
+    private BlockingQueue<Exchange> pool;
+    private Map<Exchange, Throwable> inUse;
+
+    public PooledExchangeFactory() {
+    }
+
+    public PooledExchangeFactory(Consumer consumer) {
+        super(consumer);
+    }
+
+    @Override
+    public ExchangeFactory newExchangeFactory(Consumer consumer) {
+        PooledExchangeFactory answer = new PooledExchangeFactory(consumer);
+        answer.setCamelContext(camelContext);
+        answer.setCapacity(capacity);
+        answer.setStatisticsEnabled(statisticsEnabled);
+        answer.setLeakDetectionEnabled(leakDetectionEnabled);
+        return answer;
+    }
+
+    @Override
+    public Exchange create(boolean autoRelease) {
+        Exchange exchange = acquire();
+        if (exchange == null) {
+            exchange = new DefaultExchange(camelContext);
+            if (statisticsEnabled) {
+                created.increment();
+            }
+        }
+        prepare(exchange, autoRelease);
+        return exchange;
+    }
+
+    @Override
+    public Exchange create(Endpoint fromEndpoint, boolean autoRelease) {
+        Exchange exchange = acquire();
+        if (exchange == null) {
+            exchange = fromEndpoint.createExchange();
+            if (statisticsEnabled) {
+                created.increment();
+            }
+        } else {
+            exchange.adapt(PooledExchange.class).setFromEndpoint(fromEndpoint);
+            if (fromEndpoint instanceof DefaultEndpoint) {
+                exchange.setPattern(((DefaultEndpoint) fromEndpoint).getExchangePattern());
+            }
+        }
+        prepare(exchange, autoRelease);
+        return exchange;
+    }
+
+    private Exchange acquire() {
+        Exchange exchange = pool != null ? pool.poll() : null;
+        if (exchange != null && statisticsEnabled) {
+            acquired.increment();
+        }
+        return exchange;
+    }
+
+    private void prepare(Exchange exchange, boolean autoRelease) {
+        PooledExchange pe = exchange.adapt(PooledExchange.class);
+        pe.setAutoRelease(autoRelease);
+        pe.onDone(onDone);
+        if (inUse != null) {
+            inUse.put(exchange, new Throwable("Exchange created by " + this));
+        }
+    }
+
+    @Override
+    public boolean release(Exchange exchange) {
+        // resets the exchange and calls the on done task which offers the exchange to the pool
+        exchange.adapt(PooledExchange.class).done();
+        return true;
+    }
+
+    private void onDone(Exchange exchange) {
+        if (inUse != null) {
+            inUse.remove(exchange);
+        }
+        if (pool != null && pool.offer(exchange)) {
+            if (statisticsEnabled) {
+                released.increment();
+            }
+        } else if (statisticsEnabled) {
+            discarded.increment();
+        }
+    }
+
+    @Override
+    public boolean isPooled() {
+        return true;
+    }
+
+    @Override
+    public int getSize() {
+        return pool != null ? pool.size() : 0;
+    }
+
+    @Override
+    protected void doBuild() throws Exception {
+        // the factory of the camel context is not used by consumers so it has no pool
+        if (consumer != null) {
+            pool = new ArrayBlockingQueue<>(capacity);
+        }
+        if (leakDetectionEnabled) {
+            inUse = new ConcurrentHashMap<>();
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (inUse != null && !inUse.isEmpty()) {
+            for (Map.Entry<Exchange, Throwable> entry : inUse.entrySet()) {
+                leaked.increment();
+                LOG.warn("Leaked exchange {} which has not been released by {}", entry.getKey(), this, entry.getValue());
+            }
+            inUse.clear();
+        }
+        if (pool != null) {
+            pool.clear();
+        }
+    }
+
+}
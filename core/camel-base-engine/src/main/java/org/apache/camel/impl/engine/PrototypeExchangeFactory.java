@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Consumer;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.spi.ExchangeFactory;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.service.ServiceSupport;
+
+/**
+ * {@link ExchangeFactory} that creates a new {@link Exchange} instance.
+ */
+public class PrototypeExchangeFactory extends ServiceSupport implements ExchangeFactory {
+
+    final Consumer consumer;
+    CamelContext camelContext;
+    int capacity = 100;
+    boolean statisticsEnabled;
+    boolean leakDetectionEnabled;
+    final LongAdder created = new LongAdder();
+    final LongAdder acquired = new LongAdder();
+    final LongAdder released = new LongAdder();
+    final LongAdder discarded = new LongAdder();
+    final LongAdder leaked = new LongAdder();
+
+    public PrototypeExchangeFactory() {
+        this.consumer = null;
+    }
+
+    public PrototypeExchangeFactory(Consumer consumer) {
+        this.consumer = consumer;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    public Consumer getConsumer() {
+        return consumer;
+    }
+
+    @Override
+    public ExchangeFactory newExchangeFactory(Consumer consumer) {
+        PrototypeExchangeFactory answer = new PrototypeExchangeFactory(consumer);
+        answer.setCamelContext(camelContext);
+        answer.setCapacity(capacity);
+        answer.setStatisticsEnabled(statisticsEnabled);
+        answer.setLeakDetectionEnabled(leakDetectionEnabled);
+        return answer;
+    }
+
+    @Override
+    public Exchange create(boolean autoRelease) {
+        if (statisticsEnabled) {
+            created.increment();
+        }
+        return new DefaultExchange(camelContext);
+    }
+
+    @Override
+    public Exchange create(Endpoint fromEndpoint, boolean autoRelease) {
+        if (statisticsEnabled) {
+            created.increment();
+        }
+        return fromEndpoint.createExchange();
+    }
+
+    @Override
+    public boolean release(Exchange exchange) {
+        // not pooled so the exchange is just left for the garbage collector
+        if (statisticsEnabled) {
+            discarded.increment();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isPooled() {
+        return false;
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public int getSize() {
+        return 0;
+    }
+
+    @Override
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    @Override
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+    }
+
+    @Override
+    public boolean isLeakDetectionEnabled() {
+        return leakDetectionEnabled;
+    }
+
+    @Override
+    public void setLeakDetectionEnabled(boolean leakDetectionEnabled) {
+        this.leakDetectionEnabled = leakDetectionEnabled;
+    }
+
+    @Override
+    public void resetStatistics() {
+        created.reset();
+        acquired.reset();
+        released.reset();
+        discarded.reset();
+        leaked.reset();
+    }
+
+    @Override
+    public long getCreatedCounter() {
+        return created.sum();
+    }
+
+    @Override
+    public long getAcquiredCounter() {
+        return acquired.sum();
+    }
+
+    @Override
+    public long getReleasedCounter() {
+        return released.sum();
+    }
+
+    @Override
+    public long getDiscardedCounter() {
+        return discarded.sum();
+    }
+
+    @Override
+    public long getLeakedCounter() {
+        return leaked.sum();
+    }
+
+    @Override
+    public String toString() {
+        return consumer != null ? "ExchangeFactory[" + consumer + "]" : "ExchangeFactory";
+    }
+
+}
@@ -41,6 +41,7 @@ import org.apache.camel.spi.ConfigurerResolver;
 import org.apache.camel.spi.DataFormatResolver;
 import org.apache.camel.spi.DeferServiceFactory;
 import org.apache.camel.spi.EndpointRegistry;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.FactoryFinder;
 import org.apache.camel.spi.FactoryFinderResolver;
@@ -504,6 +505,18 @@ public class SimpleCamelContext extends AbstractCamelContext {
         }
     }
 
+    @Override
+    protected ExchangeFactory createExchangeFactory() {
+        BaseServiceResolver<ExchangeFactory> resolver
+                = new BaseServiceResolver<>(ExchangeFactory.FACTORY, ExchangeFactory.class, getBootstrapFactoryFinder());
+        Optional<ExchangeFactory> result = resolver.resolve(getCamelContextReference());
+        if (result.isPresent()) {
+            return result.get();
+        } else {
+            return new PrototypeExchangeFactory();
+        }
+    }
+
     @Override
     protected ValidatorRegistry<ValidatorKey> createValidatorRegistry() {
         return new DefaultValidatorRegistry(getCamelContextReference());
@@ -0,0 +1,445 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.StaticService;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ReactiveExecutor} which can hand off tasks to a dedicated thread pool, whose threads steal tasks from the
+ * other workers.
+ * <p/>
+ * Like the {@link DefaultReactiveExecutor}, the tasks are queued and run by a worker in the thread which scheduled
+ * them. When a worker is continuing exchanges asynchronously, such as on the I/O thread of an asynchronous producer,
+ * and its queue has reached the hand off threshold, then new tasks are handed off to the dedicated thread pool. When a
+ * thread of the pool has run its task, it steals tasks from the queues of the other workers which are continuing
+ * exchanges asynchronously, until there are no more tasks to steal. It takes at most the max steal batch tasks at a
+ * time, and leaves at least one task to the owner of the queue.
+ * <p/>
+ * The tasks of a consumer starting an exchange, and the tasks which are scheduled to run synchronously (such as for
+ * transacted exchanges), are never handed off or stolen, as they rely on being run in order by the same thread.
+ */
+@ManagedResource(description = "Managed ReactiveExecutor")
+public class WorkStealingReactiveExecutor extends ServiceSupport implements ReactiveExecutor, StaticService, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkStealingReactiveExecutor.class);
+
+    private final ThreadLocal<Worker> workers = ThreadLocal.withInitial(new Supplier<Worker>() {
+        @Override
+        public Worker get() {
+            int number = createdWorkers.incrementAndGet();
+            return new Worker(number, WorkStealingReactiveExecutor.this);
+        }
+    });
+    // the workers which are running and may have tasks to steal
+    private final Set<Worker> activeWorkers = ConcurrentHashMap.newKeySet();
+
+    private CamelContext camelContext;
+    private int poolSize;
+    private int handOffThreshold = 16;
+    private int maxStealBatch = 8;
+    private volatile ExecutorService executorService;
+
+    // use for statistics so we have insights at runtime
+    private final AtomicInteger createdWorkers = new AtomicInteger();
+    private final AtomicInteger runningWorkers = new AtomicInteger();
+    private final AtomicInteger pendingTasks = new AtomicInteger();
+    private final LongAdder queuedTasks = new LongAdder();
+    private final LongAdder executedTasks = new LongAdder();
+    private final LongAdder stolenTasks = new LongAdder();
+    private final LongAdder handedOffTasks = new LongAdder();
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @ManagedAttribute(description = "Number of threads in the pool the tasks are handed off to")
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * Number of threads in the pool the tasks are handed off to. Is by default the number of available processors.
+     */
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    @ManagedAttribute(description = "Number of queued tasks of a worker before new tasks are handed off")
+    public int getHandOffThreshold() {
+        return handOffThreshold;
+    }
+
+    /**
+     * Number of queued tasks of a worker continuing exchanges asynchronously before new tasks are handed off to the
+     * thread pool. Use 0 or a negative value to never hand off tasks (and therefore never steal tasks). Is by default
+     * 16.
+     */
+    public void setHandOffThreshold(int handOffThreshold) {
+        this.handOffThreshold = handOffThreshold;
+    }
+
+    @ManagedAttribute(description = "Max number of tasks stolen from a worker at a time")
+    public int getMaxStealBatch() {
+        return maxStealBatch;
+    }
+
+    /**
+     * Max number of tasks stolen from a worker at a time. Is by default 8.
+     */
+    public void setMaxStealBatch(int maxStealBatch) {
+        this.maxStealBatch = maxStealBatch;
+    }
+
+    @Override
+    public void schedule(Runnable runnable) {
+        workers.get().schedule(runnable, false, false, false);
+    }
+
+    @Override
+    public void scheduleMain(Runnable runnable) {
+        workers.get().schedule(runnable, true, true, false);
+    }
+
+    @Override
+    public void scheduleSync(Runnable runnable) {
+        workers.get().schedule(runnable, false, true, true);
+    }
+
+    @Override
+    public boolean executeFromQueue() {
+        return workers.get().executeFromQueue();
+    }
+
+    @ManagedAttribute(description = "Number of created workers")
+    public int getCreatedWorkers() {
+        return createdWorkers.get();
+    }
+
+    @ManagedAttribute(description = "Number of running workers")
+    public int getRunningWorkers() {
+        return runningWorkers.get();
+    }
+
+    @ManagedAttribute(description = "Number of pending tasks")
+    public int getPendingTasks() {
+        return pendingTasks.get();
+    }
+
+    @ManagedAttribute(description = "Total number of queued tasks")
+    public long getQueuedTasks() {
+        return queuedTasks.sum();
+    }
+
+    @ManagedAttribute(description = "Total number of executed tasks")
+    public long getExecutedTasks() {
+        return executedTasks.sum();
+    }
+
+    @ManagedAttribute(description = "Total number of tasks stolen from other workers")
+    public long getStolenTasks() {
+        return stolenTasks.sum();
+    }
+
+    @ManagedAttribute(description = "Total number of tasks handed off to the thread pool")
+    public long getHandedOffTasks() {
+        return handedOffTasks.sum();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (handOffThreshold > 0 && camelContext != null) {
+            int size = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+            ThreadPoolProfile profile = new ThreadPoolProfile("ReactiveExecutor");
+            profile.setPoolSize(size);
+            profile.setMaxPoolSize(size);
+            profile.setMaxQueueSize(size * maxStealBatch);
+            // the task is queued by the worker when the pool is busy
+            profile.setRejectedPolicy(ThreadPoolRejectedPolicy.Abort);
+            executorService = camelContext.getExecutorServiceManager().newThreadPool(this, "ReactiveExecutor", profile);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(
+                    "Stopping WorkStealingReactiveExecutor [createdWorkers: {}, runningWorkers: {}, pendingTasks: {}, queuedTasks: {}, executedTasks: {}, stolenTasks: {}, handedOffTasks: {}]",
+                    getCreatedWorkers(), getRunningWorkers(), getPendingTasks(), getQueuedTasks(), getExecutedTasks(),
+                    getStolenTasks(), getHandedOffTasks());
+        }
+        ExecutorService service = executorService;
+        executorService = null;
+        if (service != null && !service.isShutdown() && camelContext != null) {
+            camelContext.getExecutorServiceManager().shutdown(service);
+        }
+    }
+
+    /**
+     * Hands off the task to the thread pool
+     *
+     * @return <tt>true</tt> if handed off, <tt>false</tt> if the thread pool is busy
+     */
+    private boolean handOff(Runnable runnable) {
+        ExecutorService service = executorService;
+        if (service == null) {
+            return false;
+        }
+        try {
+            service.execute(() -> runHandedOff(runnable));
+            handedOffTasks.increment();
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private void runHandedOff(Runnable runnable) {
+        Worker worker = workers.get();
+        worker.pooled = true;
+        worker.schedule(runnable, false, false, false);
+        // now help the other workers
+        while (isRunAllowed() && worker.steal()) {
+            worker.run();
+        }
+    }
+
+    private static final class TaskQueue {
+
+        private final Deque<Runnable> tasks;
+        private final AtomicInteger size;
+
+        TaskQueue(boolean stealable) {
+            // only a concurrent deque can be stolen from
+            this.tasks = stealable ? new ConcurrentLinkedDeque<>() : new ArrayDeque<>();
+            this.size = stealable ? new AtomicInteger() : null;
+        }
+
+        boolean isStealable() {
+            return size != null;
+        }
+
+        boolean isEmpty() {
+            return tasks.isEmpty();
+        }
+
+        int size() {
+            return size != null ? size.get() : tasks.size();
+        }
+
+        void add(Runnable runnable, boolean first) {
+            if (first) {
+                tasks.addFirst(runnable);
+            } else {
+                tasks.addLast(runnable);
+            }
+            if (size != null) {
+                size.incrementAndGet();
+            }
+        }
+
+        Runnable poll() {
+            Runnable answer = tasks.pollFirst();
+            if (answer != null && size != null) {
+                size.decrementAndGet();
+            }
+            return answer;
+        }
+
+        Runnable steal() {
+            Runnable answer = tasks.pollLast();
+            if (answer != null) {
+                size.decrementAndGet();
+            }
+            return answer;
+        }
+    }
+
+    private static class Worker {
+
+        private final int number;
+        private final WorkStealingReactiveExecutor executor;
+        private volatile TaskQueue queue = new TaskQueue(true);
+        private Deque<TaskQueue> back;
+        private volatile boolean running;
+        private int syncDepth;
+        private boolean async;
+        private boolean pooled;
+
+        public Worker(int number, WorkStealingReactiveExecutor executor) {
+            this.number = number;
+            this.executor = executor;
+        }
+
+        void schedule(Runnable runnable, boolean first, boolean main, boolean sync) {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Schedule [first={}, main={}, sync={}]: {}", first, main, sync, runnable);
+            }
+            if (!running) {
+                // a task which is not the start of an exchange (main), scheduled by a thread which is not running
+                // tasks, is continuing an exchange asynchronously, such as on the I/O thread of an asynchronous producer
+                async = !main && !sync;
+            }
+            if (!sync && syncDepth == 0 && queue.isEmpty() && queue.isStealable() != async) {
+                // only the tasks continuing exchanges asynchronously can be handed off and stolen, as the consumers
+                // starting exchanges rely on the tasks to be run in order
+                queue = new TaskQueue(async);
+            }
+            if (main) {
+                if (!queue.isEmpty()) {
+                    if (back == null) {
+                        back = new ArrayDeque<>();
+                    }
+                    back.push(queue);
+                    queue = new TaskQueue(async && !sync && syncDepth == 0);
+                } else if (sync && queue.isStealable()) {
+                    queue = new TaskQueue(false);
+                }
+            } else if (running && async && !pooled && syncDepth == 0 && executor.handOffThreshold > 0
+                    && queue.size() >= executor.handOffThreshold && executor.handOff(runnable)) {
+                return;
+            }
+            queue.add(runnable, first);
+            executor.pendingTasks.incrementAndGet();
+            executor.queuedTasks.increment();
+            if (!running || sync) {
+                if (sync) {
+                    syncDepth++;
+                }
+                try {
+                    run();
+                } finally {
+                    if (sync) {
+                        syncDepth--;
+                    }
+                }
+            } else {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Queuing reactive work: {}", runnable);
+                }
+            }
+        }
+
+        void run() {
+            boolean nested = running;
+            running = true;
+            executor.runningWorkers.incrementAndGet();
+            if (!nested && async && !pooled && executor.executorService != null) {
+                executor.activeWorkers.add(this);
+            }
+            try {
+                for (;;) {
+                    final Runnable polled = queue.poll();
+                    if (polled == null) {
+                        if (back != null && !back.isEmpty()) {
+                            queue = back.pollFirst();
+                            continue;
+                        } else {
+                            break;
+                        }
+                    }
+                    executor.pendingTasks.decrementAndGet();
+                    runTask(polled);
+                }
+            } finally {
+                if (!nested) {
+                    running = false;
+                    executor.activeWorkers.remove(this);
+                }
+                executor.runningWorkers.decrementAndGet();
+            }
+        }
+
+        boolean steal() {
+            boolean answer = false;
+            for (Worker victim : executor.activeWorkers) {
+                TaskQueue victimQueue = victim.queue;
+                if (victim == this || !victimQueue.isStealable()) {
+                    continue;
+                }
+                // leave at least one task to the owner of the queue
+                int count = Math.min(victimQueue.size() / 2, executor.maxStealBatch);
+                for (int i = 0; i < count; i++) {
+                    Runnable stolen = victimQueue.steal();
+                    if (stolen == null) {
+                        break;
+                    }
+                    if (LOG.isTraceEnabled()) {
+                        LOG.trace("Worker #{} stole from worker #{}: {}", number, victim.number, stolen);
+                    }
+                    executor.stolenTasks.increment();
+                    queue.add(stolen, false);
+                    answer = true;
+                }
+                if (answer) {
+                    break;
+                }
+            }
+            return answer;
+        }
+
+        boolean executeFromQueue() {
+            final Runnable polled = queue != null ? queue.poll() : null;
+            if (polled == null) {
+                return false;
+            }
+            executor.pendingTasks.decrementAndGet();
+            runTask(polled);
+            return true;
+        }
+
+        private void runTask(Runnable task) {
+            try {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Worker #{} running: {}", number, task);
+                }
+                executor.executedTasks.increment();
+                task.run();
+            } catch (Throwable t) {
+                LOG.warn("Error executing reactive work due to {}. This exception is ignored.", t.getMessage(), t);
+            }
+        }
+
+    }
+
+}
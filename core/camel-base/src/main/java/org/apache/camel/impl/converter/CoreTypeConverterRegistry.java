@@ -49,6 +49,9 @@ import org.slf4j.LoggerFactory;
 
 public class CoreTypeConverterRegistry extends ServiceSupport implements TypeConverter, TypeConverterRegistry {
 
+    // marker for a converter that converted to null
+    private static final Object NULL_VALUE = new Object();
+
     protected static final TypeConverter MISS_CONVERTER = new TypeConverterSupport() {
         @Override
         public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
@@ -66,6 +69,8 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
     protected final List<FallbackTypeConverter> fallbackConverters = new CopyOnWriteArrayList<>();
     // special enum converter for optional performance
     protected final TypeConverter enumTypeConverter = new EnumTypeConverter();
+    // cache of the resolved conversions (from -> to)
+    private final TypeConverterCache conversionCache = new TypeConverterCache();
 
     protected final Statistics statistics = new UtilizationStatistics();
     protected final LongAdder noopCounter = new LongAdder();
@@ -73,6 +78,9 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
     protected final LongAdder missCounter = new LongAdder();
     protected final LongAdder hitCounter = new LongAdder();
     protected final LongAdder failedCounter = new LongAdder();
+    protected final LongAdder cacheHitCounter = new LongAdder();
+    protected final LongAdder cacheMissCounter = new LongAdder();
+    protected final LongAdder fallbackCounter = new LongAdder();
 
     protected TypeConverterExists typeConverterExists = TypeConverterExists.Override;
     protected LoggingLevel typeConverterExistsLoggingLevel = LoggingLevel.WARN;
@@ -448,28 +456,42 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             attemptCounter.increment();
         }
 
+        // use the cached conversion if the types have been converted before
+        final Class<?> fromType = value.getClass();
+        // conversions resolved while the cache is cleared are not cached as they may be stale
+        final int generation = conversionCache.getGeneration();
+        TypeConverterCache.Entry cached = conversionCache.get(type, fromType);
+        if (cached != null) {
+            if (statisticsEnabled) {
+                cacheHitCounter.increment();
+            }
+            Object rc = doConvertTo(cached, generation, type, exchange, value, tryConvert);
+            if (rc != null) {
+                return rc == NULL_VALUE ? null : rc;
+            }
+            // the cached conversion could not convert this value so resolve the conversion again
+        } else if (statisticsEnabled) {
+            cacheMissCounter.increment();
+        }
+
         // attempt bulk first which is the fastest
         for (BulkTypeConverters bulk : bulkTypeConverters) {
             if (trace) {
-                LOG.trace("Using bulk converter: {} to convert [{}=>{}]", bulk.getClass().getSimpleName(), value.getClass(),
+                LOG.trace("Using bulk converter: {} to convert [{}=>{}]", bulk.getClass().getSimpleName(), fromType,
                         type);
             }
-            Object rc;
-            if (tryConvert) {
-                rc = bulk.convertTo(value.getClass(), type, exchange, value);
-            } else {
-                rc = bulk.convertTo(value.getClass(), type, exchange, value);
-            }
+            Object rc = bulk.convertTo(fromType, type, exchange, value);
             if (rc != null) {
+                conversionCache.put(generation, type, fromType, TypeConverterCache.BULK, bulk);
                 return rc;
             }
         }
 
         // try to find a suitable type converter
-        TypeConverter converter = getOrFindTypeConverter(type, value.getClass());
+        TypeConverter converter = getOrFindTypeConverter(type, fromType);
         if (converter != null) {
             if (trace) {
-                LOG.trace("Using converter: {} to convert [{}=>{}]", converter, value.getClass(), type);
+                LOG.trace("Using converter: {} to convert [{}=>{}]", converter, fromType, type);
             }
             Object rc;
             if (tryConvert) {
@@ -477,7 +499,12 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             } else {
                 rc = converter.convertTo(type, exchange, value);
             }
-            if (rc != null) {
+            if (rc == TypeConverter.MISS_VALUE) {
+                // a miss that was remembered by the type mappings
+                conversionCache.put(generation, type, fromType, TypeConverterCache.MISS, null);
+                return rc;
+            } else if (rc != null) {
+                conversionCache.put(generation, type, fromType, TypeConverterCache.CONVERTER, converter);
                 return rc;
             } else if (converter.allowNull()) {
                 return null;
@@ -488,11 +515,10 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         if (type.isPrimitive()) {
             Class<?> primitiveType = ObjectHelper.convertPrimitiveTypeToWrapperType(type);
             if (primitiveType != type) {
-                Class<?> fromType = value.getClass();
                 TypeConverter tc = getOrFindTypeConverter(primitiveType, fromType);
                 if (tc != null) {
                     // add the type as a known type converter as we can convert from primitive to object converter
-                    addTypeConverter(type, fromType, tc);
+                    doAddTypeConverter(type, fromType, tc);
                     Object rc;
                     if (tryConvert) {
                         rc = tc.tryConvertTo(primitiveType, exchange, value);
@@ -502,6 +528,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
                     if (rc == null && tc.allowNull()) {
                         return null;
                     } else if (rc != null) {
+                        conversionCache.put(generation, type, fromType, TypeConverterCache.CONVERTER, tc);
                         return rc;
                     }
                 }
@@ -509,54 +536,140 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         }
 
         // fallback converters
-        for (FallbackTypeConverter fallback : fallbackConverters) {
-            TypeConverter tc = fallback.getFallbackTypeConverter();
-            Object rc;
-            if (tryConvert) {
-                rc = tc.tryConvertTo(type, exchange, value);
-            } else {
-                rc = tc.convertTo(type, exchange, value);
-            }
-            if (rc == null && tc.allowNull()) {
-                return null;
-            }
+        Object rc = doConvertToFallbacks(generation, type, exchange, value, tryConvert);
+        if (rc != null) {
+            return rc == NULL_VALUE ? null : rc;
+        }
 
-            if (rc == TypeConverter.MISS_VALUE) {
-                // it cannot be converted so give up
+        if (!tryConvert) {
+            // Could not find suitable conversion, so remember it
+            // do not register misses for try conversions
+            typeMappings.put(type, fromType, MISS_CONVERTER);
+            conversionCache.put(generation, type, fromType, TypeConverterCache.MISS, null);
+        }
+
+        // Could not find suitable conversion, so return Void to indicate not found
+        return TypeConverter.MISS_VALUE;
+    }
+
+    /**
+     * Converts the value using the cached conversion.
+     *
+     * @return the converted value, {@link #NULL_VALUE} if converted to <tt>null</tt>, {@link TypeConverter#MISS_VALUE}
+     *         if the value cannot be converted, or <tt>null</tt> if the cached conversion could not convert the value.
+     */
+    private Object doConvertTo(
+            final TypeConverterCache.Entry cached, final int generation, final Class<?> type, final Exchange exchange,
+            final Object value, final boolean tryConvert)
+            throws Exception {
+        switch (cached.getKind()) {
+            case TypeConverterCache.BULK:
+                return ((BulkTypeConverters) cached.getConverter()).convertTo(value.getClass(), type, exchange, value);
+            case TypeConverterCache.CONVERTER:
+                TypeConverter converter = (TypeConverter) cached.getConverter();
+                Object rc;
+                if (tryConvert) {
+                    rc = converter.tryConvertTo(type, exchange, value);
+                } else {
+                    rc = converter.convertTo(type, exchange, value);
+                }
+                if (rc == null && converter.allowNull()) {
+                    return NULL_VALUE;
+                }
+                return rc;
+            case TypeConverterCache.FALLBACK:
+                // bulk converters may convert some values of the type, so they are not skipped
+                for (BulkTypeConverters bulk : bulkTypeConverters) {
+                    rc = bulk.convertTo(value.getClass(), type, exchange, value);
+                    if (rc != null) {
+                        return rc;
+                    }
+                }
+                return doConvertToFallbacks(generation, type, exchange, value, tryConvert);
+            case TypeConverterCache.MISS:
+                // bulk converters may convert some values of the type, so they are not skipped
+                for (BulkTypeConverters bulk : bulkTypeConverters) {
+                    rc = bulk.convertTo(value.getClass(), type, exchange, value);
+                    if (rc != null) {
+                        return rc;
+                    }
+                }
                 return TypeConverter.MISS_VALUE;
-            }
+            default:
+                return null;
+        }
+    }
 
-            if (rc != null) {
+    /**
+     * Converts the value using the first fallback converter which can convert it. The fallback converters are tried in
+     * order for every value, as a fallback converter may only be able to convert some values of a type.
+     *
+     * @return the converted value, {@link #NULL_VALUE} if converted to <tt>null</tt>, {@link TypeConverter#MISS_VALUE}
+     *         if the value cannot be converted, or <tt>null</tt> if no fallback converter could convert the value.
+     */
+    private Object doConvertToFallbacks(
+            final int generation, final Class<?> type, final Exchange exchange, final Object value,
+            final boolean tryConvert) {
+        final Class<?> fromType = value.getClass();
+        for (FallbackTypeConverter fallback : fallbackConverters) {
+            Object rc = doConvertTo(fallback, type, exchange, value, tryConvert);
+            if (rc == NULL_VALUE || rc == TypeConverter.MISS_VALUE) {
+                // it cannot be converted so give up
+                return rc;
+            } else if (rc != null) {
                 // if fallback can promote then let it be promoted to a first class type converter
                 if (fallback.isCanPromote()) {
                     // add it as a known type converter since we found a fallback that could do it
                     if (LOG.isDebugEnabled()) {
                         LOG.debug(
                                 "Promoting fallback type converter as a known type converter to convert from: {} to: {} for the fallback converter: {}",
-                                type.getCanonicalName(), value.getClass().getCanonicalName(),
+                                type.getCanonicalName(), fromType.getCanonicalName(),
                                 fallback.getFallbackTypeConverter());
                     }
-                    addTypeConverter(type, value.getClass(), fallback.getFallbackTypeConverter());
+                    doAddTypeConverter(type, fromType, fallback.getFallbackTypeConverter());
+                    conversionCache.put(generation, type, fromType, TypeConverterCache.CONVERTER,
+                            fallback.getFallbackTypeConverter());
+                } else {
+                    // only cache that the types are converted by the fallback converters, as which of them can
+                    // convert may depend on the value
+                    conversionCache.put(generation, type, fromType, TypeConverterCache.FALLBACK, null);
                 }
 
                 if (LOG.isTraceEnabled()) {
                     LOG.trace("Fallback type converter {} converted type from: {} to: {}",
-                            fallback.getFallbackTypeConverter(), type.getCanonicalName(), value.getClass().getCanonicalName());
+                            fallback.getFallbackTypeConverter(), type.getCanonicalName(), fromType.getCanonicalName());
                 }
 
                 // return converted value
                 return rc;
             }
         }
+        return null;
+    }
 
-        if (!tryConvert) {
-            // Could not find suitable conversion, so remember it
-            // do not register misses for try conversions
-            typeMappings.put(type, value.getClass(), MISS_CONVERTER);
+    /**
+     * Converts the value using the fallback converter.
+     *
+     * @return the converted value, {@link #NULL_VALUE} if converted to <tt>null</tt>, {@link TypeConverter#MISS_VALUE}
+     *         if the value cannot be converted, or <tt>null</tt> if the fallback converter could not convert the value.
+     */
+    private Object doConvertTo(
+            final FallbackTypeConverter fallback, final Class<?> type, final Exchange exchange, final Object value,
+            final boolean tryConvert) {
+        TypeConverter tc = fallback.getFallbackTypeConverter();
+        Object rc;
+        if (tryConvert) {
+            rc = tc.tryConvertTo(type, exchange, value);
+        } else {
+            rc = tc.convertTo(type, exchange, value);
         }
-
-        // Could not find suitable conversion, so return Void to indicate not found
-        return TypeConverter.MISS_VALUE;
+        if (rc == null && tc.allowNull()) {
+            return NULL_VALUE;
+        }
+        if (rc != null && rc != TypeConverter.MISS_VALUE && statistics.isStatisticsEnabled()) {
+            fallbackCounter.increment();
+        }
+        return rc;
     }
 
     public TypeConverter getTypeConverter(Class<?> toType, Class<?> fromType) {
@@ -574,11 +687,19 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
                 this.bulkTypeConverters.add(bulkTypeConverters);
             }
             sumBulkTypeConverters += bulkTypeConverters.size();
+            conversionCache.clear();
         }
     }
 
     public void addTypeConverter(Class<?> toType, Class<?> fromType, TypeConverter typeConverter) {
         LOG.trace("Adding type converter: {}", typeConverter);
+        if (doAddTypeConverter(toType, fromType, typeConverter)) {
+            // the type converter may be used for other conversions than those cached
+            conversionCache.clear();
+        }
+    }
+
+    private boolean doAddTypeConverter(Class<?> toType, Class<?> fromType, TypeConverter typeConverter) {
         TypeConverter converter = typeMappings.get(toType, fromType);
         // only override it if its different
         // as race conditions can lead to many threads trying to promote the same fallback converter
@@ -605,13 +726,17 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
 
             if (add) {
                 typeMappings.put(toType, fromType, typeConverter);
+                return true;
             }
         }
+        return false;
     }
 
     public boolean removeTypeConverter(Class<?> toType, Class<?> fromType) {
         LOG.trace("Removing type converter from: {} to: {}", fromType, toType);
-        return typeMappings.remove(toType, fromType);
+        boolean answer = typeMappings.remove(toType, fromType);
+        conversionCache.clear();
+        return answer;
     }
 
     @Override
@@ -625,6 +750,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         // add in top of fallback as the toString() fallback will nearly always be able to convert
         // the last one which is add to the FallbackTypeConverter will be called at the first place
         fallbackConverters.add(0, new FallbackTypeConverter(typeConverter, canPromote));
+        conversionCache.clear();
     }
 
     public TypeConverter lookup(Class<?> toType, Class<?> fromType) {
@@ -759,11 +885,12 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
                     misses.incrementAndGet();
                 }
             });
-            info += String.format(" mappings[total=%s, misses=%s]", size(), misses);
+            info += String.format(" mappings[total=%s, misses=%s, cached=%s]", size(), misses, conversionCache.size());
             LOG.info(info);
         }
 
         typeMappings.clear();
+        conversionCache.clear();
         statistics.reset();
     }
 
@@ -799,6 +926,21 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             return failedCounter.longValue();
         }
 
+        @Override
+        public long getCacheHitCounter() {
+            return cacheHitCounter.longValue();
+        }
+
+        @Override
+        public long getCacheMissCounter() {
+            return cacheMissCounter.longValue();
+        }
+
+        @Override
+        public long getFallbackCounter() {
+            return fallbackCounter.longValue();
+        }
+
         @Override
         public void reset() {
             noopCounter.reset();
@@ -806,6 +948,9 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             hitCounter.reset();
             missCounter.reset();
             failedCounter.reset();
+            cacheHitCounter.reset();
+            cacheMissCounter.reset();
+            fallbackCounter.reset();
         }
 
         @Override
@@ -820,8 +965,11 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
 
         @Override
         public String toString() {
-            return String.format("TypeConverterRegistry utilization[noop=%s, attempts=%s, hits=%s, misses=%s, failures=%s]",
-                    getNoopCounter(), getAttemptCounter(), getHitCounter(), getMissCounter(), getFailedCounter());
+            return String.format(
+                    "TypeConverterRegistry utilization[noop=%s, attempts=%s, hits=%s, misses=%s, failures=%s, cacheHits=%s,"
+                                 + " cacheMisses=%s, fallbacks=%s]",
+                    getNoopCounter(), getAttemptCounter(), getHitCounter(), getMissCounter(), getFailedCounter(),
+                    getCacheHitCounter(), getCacheMissCounter(), getFallbackCounter());
         }
     }
 
@@ -0,0 +1,260 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.converter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A cache of how to convert between a pair of types (from -> to), as resolved by the {@link CoreTypeConverterRegistry}.
+ * <p/>
+ * For each pair the cache holds the bulk type converter or type converter which converted the last value, that the pair
+ * is only converted by the fallback type converters, or that no conversion was possible (a miss). This allows the
+ * registry to skip the lookups which are done before finding the type converter to use, which is in particular
+ * expensive for pairs that can only be converted by a fallback type converter, or cannot be converted at all. Which
+ * fallback type converter is used is not cached, as it may depend on the value.
+ * <p/>
+ * The types are compared by identity, and reading from the cache is lock-free. Pairs of primitive, wrapper and
+ * {@link String} types are kept in a dense index, and all other pairs in an open addressing hash table. The cache is
+ * bounded, and is cleared when it is full, or when type converters are added or removed from the registry. A conversion
+ * which was resolved before the cache was cleared is not cached, see {@link #getGeneration()}.
+ */
+final class TypeConverterCache {
+
+    static final int BULK = 1;
+    static final int CONVERTER = 2;
+    static final int FALLBACK = 3;
+    static final int MISS = 4;
+
+    private static final Class<?>[] PRIMITIVE_TYPES = {
+            boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class,
+            Boolean.class, Byte.class, Character.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+            String.class };
+
+    private static final ClassValue<Integer> PRIMITIVE_INDEX = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            for (int i = 0; i < PRIMITIVE_TYPES.length; i++) {
+                if (PRIMITIVE_TYPES[i] == type) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    };
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int MAX_CAPACITY = 1 << 14;
+
+    private volatile AtomicReferenceArray<Entry> primitives = newPrimitives();
+    private volatile Entry[] table = new Entry[INITIAL_CAPACITY];
+    private volatile boolean empty = true;
+    private final AtomicInteger generation = new AtomicInteger();
+    private int size;
+
+    /**
+     * A cached conversion between a pair of types
+     */
+    static final class Entry {
+        private final Class<?> toType;
+        private final Class<?> fromType;
+        private final int kind;
+        private final Object converter;
+
+        Entry(Class<?> toType, Class<?> fromType, int kind, Object converter) {
+            this.toType = toType;
+            this.fromType = fromType;
+            this.kind = kind;
+            this.converter = converter;
+        }
+
+        /**
+         * The kind of conversion ({@link #BULK}, {@link #CONVERTER}, {@link #FALLBACK} or {@link #MISS})
+         */
+        int getKind() {
+            return kind;
+        }
+
+        /**
+         * The converter to use, which depends on the kind of conversion (<tt>null</tt> for {@link #FALLBACK} and
+         * {@link #MISS})
+         */
+        Object getConverter() {
+            return converter;
+        }
+    }
+
+    /**
+     * Gets the cached conversion between the types
+     *
+     * @return the conversion, or <tt>null</tt> if not cached
+     */
+    Entry get(Class<?> toType, Class<?> fromType) {
+        int index = primitiveIndex(toType, fromType);
+        if (index >= 0) {
+            return primitives.get(index);
+        }
+        Entry[] table = this.table;
+        int mask = table.length - 1;
+        for (int i = hash(toType, fromType) & mask;; i = (i + 1) & mask) {
+            Entry entry = table[i];
+            if (entry == null) {
+                return null;
+            }
+            if (entry.toType == toType && entry.fromType == fromType) {
+                return entry;
+            }
+        }
+    }
+
+    /**
+     * The generation of the cache, which changes every time the cache is cleared. It must be read before resolving a
+     * conversion to cache, as the conversion may be stale if the cache is cleared meanwhile.
+     */
+    int getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Caches the conversion between the types, unless the cache has been cleared since the given generation
+     */
+    void put(int generation, Class<?> toType, Class<?> fromType, int kind, Object converter) {
+        if (generation != this.generation.get()) {
+            return;
+        }
+        Entry entry = new Entry(toType, fromType, kind, converter);
+        // mark as used before adding the entry, so clearing the cache cannot miss it
+        empty = false;
+        int index = primitiveIndex(toType, fromType);
+        if (index >= 0) {
+            AtomicReferenceArray<Entry> primitives = this.primitives;
+            primitives.set(index, entry);
+            if (generation != this.generation.get()) {
+                // cleared while adding the entry, so remove it again unless replaced meanwhile
+                primitives.compareAndSet(index, entry, null);
+            }
+            return;
+        }
+        synchronized (this) {
+            if (generation != this.generation.get()) {
+                return;
+            }
+            Entry[] table = this.table;
+            if ((size + 1) * 4 > table.length * 3) {
+                // keep the load factor below 0.75, and start over when the cache is full
+                if (table.length < MAX_CAPACITY) {
+                    table = resize(table);
+                } else {
+                    table = new Entry[INITIAL_CAPACITY];
+                    size = 0;
+                }
+            }
+            if (insert(table, entry)) {
+                size++;
+            }
+            // publish the entry, as well as a new table
+            this.table = table;
+        }
+    }
+
+    /**
+     * Clears the cache
+     */
+    void clear() {
+        // conversions being resolved must not be cached, even if nothing has been cached yet
+        generation.incrementAndGet();
+        if (empty) {
+            // type converters are added one by one when loaded so avoid clearing over and over again
+            return;
+        }
+        empty = true;
+        primitives = newPrimitives();
+        synchronized (this) {
+            table = new Entry[INITIAL_CAPACITY];
+            size = 0;
+        }
+    }
+
+    /**
+     * Number of cached conversions
+     */
+    int size() {
+        AtomicReferenceArray<Entry> primitives = this.primitives;
+        int answer = 0;
+        for (int i = 0; i < primitives.length(); i++) {
+            if (primitives.get(i) != null) {
+                answer++;
+            }
+        }
+        synchronized (this) {
+            return answer + size;
+        }
+    }
+
+    private static AtomicReferenceArray<Entry> newPrimitives() {
+        return new AtomicReferenceArray<>(PRIMITIVE_TYPES.length * PRIMITIVE_TYPES.length);
+    }
+
+    private static Entry[] resize(Entry[] table) {
+        Entry[] answer = new Entry[table.length * 2];
+        for (Entry entry : table) {
+            if (entry != null) {
+                insert(answer, entry);
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Inserts or replaces the entry
+     *
+     * @return <tt>true</tt> if inserted, <tt>false</tt> if replaced
+     */
+    private static boolean insert(Entry[] table, Entry entry) {
+        int mask = table.length - 1;
+        for (int i = hash(entry.toType, entry.fromType) & mask;; i = (i + 1) & mask) {
+            Entry existing = table[i];
+            if (existing == null) {
+                table[i] = entry;
+                return true;
+            }
+            if (existing.toType == entry.toType && existing.fromType == entry.fromType) {
+                table[i] = entry;
+                return false;
+            }
+        }
+    }
+
+    private static int primitiveIndex(Class<?> toType, Class<?> fromType) {
+        int to = PRIMITIVE_INDEX.get(toType);
+        if (to < 0) {
+            return -1;
+        }
+        int from = PRIMITIVE_INDEX.get(fromType);
+        if (from < 0) {
+            return -1;
+        }
+        return to * PRIMITIVE_TYPES.length + from;
+    }
+
+    private static int hash(Class<?> toType, Class<?> fromType) {
+        // classes use identity hash codes, so spread the bits as the low bits are used for the index
+        int h = System.identityHashCode(toType) * 31 + System.identityHashCode(fromType);
+        return h ^ (h >>> 16);
+    }
+
+}
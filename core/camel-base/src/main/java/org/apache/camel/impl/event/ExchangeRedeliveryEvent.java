@@ -17,6 +17,7 @@
 package org.apache.camel.impl.event;
 
 import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.spi.CamelEvent;
 
 public class ExchangeRedeliveryEvent extends AbstractExchangeEvent implements CamelEvent.ExchangeRedeliveryEvent {
@@ -36,7 +37,7 @@ public class ExchangeRedeliveryEvent extends AbstractExchangeEvent implements Ca
 
     @Override
     public String toString() {
-        Exception cause = getExchange().getProperty(Exchange.EXCEPTION_CAUGHT, Exception.class);
+        Exception cause = getExchange().getProperty(ExchangePropertyKey.EXCEPTION_CAUGHT, Exception.class);
         if (cause != null) {
             return getExchange().getExchangeId() + " exchange redelivery: " + getExchange() + " attempt " + attempt + " cause "
                    + cause;
@@ -85,6 +85,7 @@ import org.apache.camel.spi.DeferServiceFactory;
 import org.apache.camel.spi.EndpointRegistry;
 import org.apache.camel.spi.EndpointStrategy;
 import org.apache.camel.spi.EndpointUriFactory;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.FactoryFinder;
 import org.apache.camel.spi.FactoryFinderResolver;
@@ -167,6 +168,7 @@ public class LightweightRuntimeCamelContext implements ExtendedCamelContext, Cat
     private final BeanIntrospection beanIntrospection;
     private final HeadersMapFactory headersMapFactory;
     private final ReactiveExecutor reactiveExecutor;
+    private final ExchangeFactory exchangeFactory;
     private final AsyncProcessorAwaitManager asyncProcessorAwaitManager;
     private final ExecutorServiceManager executorServiceManager;
     private final ShutdownStrategy shutdownStrategy;
@@ -211,6 +213,7 @@ public class LightweightRuntimeCamelContext implements ExtendedCamelContext, Cat
         beanIntrospection = context.adapt(ExtendedCamelContext.class).getBeanIntrospection();
         headersMapFactory = context.adapt(ExtendedCamelContext.class).getHeadersMapFactory();
         reactiveExecutor = context.adapt(ExtendedCamelContext.class).getReactiveExecutor();
+        exchangeFactory = context.adapt(ExtendedCamelContext.class).getExchangeFactory();
         asyncProcessorAwaitManager = context.adapt(ExtendedCamelContext.class).getAsyncProcessorAwaitManager();
         executorServiceManager = context.getExecutorServiceManager();
         shutdownStrategy = context.getShutdownStrategy();
@@ -1552,6 +1555,16 @@ public class LightweightRuntimeCamelContext implements ExtendedCamelContext, Cat
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public ExchangeFactory getExchangeFactory() {
+        return exchangeFactory;
+    }
+
+    @Override
+    public void setExchangeFactory(ExchangeFactory exchangeFactory) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public ReactiveExecutor getReactiveExecutor() {
         return reactiveExecutor;
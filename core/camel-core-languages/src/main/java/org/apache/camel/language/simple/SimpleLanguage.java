@@ -46,6 +46,7 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
     private static final SimpleLanguage SIMPLE = new SimpleLanguage();
 
     boolean allowEscape = true;
+    private boolean optimizePredicates;
 
     // use caches to avoid re-parsing the same expressions over and over again
     private Map<String, Expression> cacheExpression;
@@ -57,6 +58,25 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
     public SimpleLanguage() {
     }
 
+    public boolean isOptimizePredicates() {
+        return optimizePredicates;
+    }
+
+    /**
+     * Whether to build the predicates from Camel's predicates, where the operators evaluate to booleans, instead of
+     * from the interpreted operator expressions. Operators with a constant right hand side, such as <tt>regex</tt>,
+     * <tt>in</tt> and <tt>range</tt>, then have it parsed once instead of on every evaluation. The parts of a predicate
+     * which cannot be optimized are interpreted as usual.
+     * <p/>
+     * Only predicates are optimized, expressions are evaluated the same way whether or not this option is enabled. No
+     * source code or bytecode is generated, use the csimple language for that.
+     * <p/>
+     * This option is default <tt>false</tt>.
+     */
+    public void setOptimizePredicates(boolean optimizePredicates) {
+        this.optimizePredicates = optimizePredicates;
+    }
+
     @Override
     public void init() {
         // setup cache which requires CamelContext to be set first
@@ -132,7 +152,8 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
             }
 
             SimplePredicateParser parser
-                    = new SimplePredicateParser(getCamelContext(), expression, allowEscape, cacheExpression);
+                    = new SimplePredicateParser(
+                            getCamelContext(), expression, allowEscape, cacheExpression, optimizePredicates);
             answer = parser.parsePredicate();
 
             if (cachePredicate != null && answer != null) {
@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.language.simple.ast.BinaryExpression;
+import org.apache.camel.language.simple.ast.BooleanExpression;
+import org.apache.camel.language.simple.ast.DoubleQuoteStart;
+import org.apache.camel.language.simple.ast.LiteralNode;
+import org.apache.camel.language.simple.ast.LogicalExpression;
+import org.apache.camel.language.simple.ast.NullExpression;
+import org.apache.camel.language.simple.ast.NumericExpression;
+import org.apache.camel.language.simple.ast.SimpleNode;
+import org.apache.camel.language.simple.ast.SingleQuoteStart;
+import org.apache.camel.language.simple.types.BinaryOperatorType;
+import org.apache.camel.language.simple.types.LogicalOperatorType;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.ExpressionToPredicateAdapter;
+import org.apache.camel.support.ObjectHelper;
+import org.apache.camel.support.builder.ExpressionBuilder;
+import org.apache.camel.support.builder.PredicateBuilder;
+import org.apache.camel.support.builder.ValueBuilder;
+
+/**
+ * Builds the AST of a simple predicate as a tree of Camel's {@link Predicate}s, instead of the interpreted operator
+ * expressions. This does not generate any code.
+ * <p/>
+ * When interpreted, the operators evaluate to a boolean which is converted to the result type, and back to a boolean by
+ * the enclosing operator, and operators such as <tt>regex</tt>, <tt>in</tt> and <tt>range</tt> parse their right hand
+ * side on every evaluation. The optimized predicates evaluate to booleans only, and operators with a constant right
+ * hand side (a literal, number, boolean or null) have it parsed once when the predicate is created.
+ * <p/>
+ * Nodes which cannot be optimized, such as operators with a function on the right hand side which must be parsed on
+ * every evaluation, fall back to be interpreted.
+ */
+final class SimplePredicateOptimizer {
+
+    private static final Pattern RANGE_PATTERN = Pattern.compile("^(\\d+)(\\.\\.)(\\d+)$");
+
+    private final CamelContext camelContext;
+    private final String expression;
+    private Exchange constantExchange;
+
+    SimplePredicateOptimizer(CamelContext camelContext, String expression) {
+        this.camelContext = camelContext;
+        this.expression = expression;
+    }
+
+    /**
+     * Creates the predicate of the node, falling back to interpret the parts of the node which cannot be optimized.
+     */
+    Predicate optimize(SimpleNode node) {
+        Predicate answer = null;
+        if (node instanceof LogicalExpression) {
+            answer = optimizeLogical((LogicalExpression) node);
+        } else if (node instanceof BinaryExpression) {
+            answer = optimizeBinary((BinaryExpression) node);
+        }
+        if (answer == null) {
+            Expression exp = node.createExpression(camelContext, expression);
+            answer = exp != null ? ExpressionToPredicateAdapter.toPredicate(exp) : null;
+        }
+        return answer;
+    }
+
+    private Predicate optimizeLogical(LogicalExpression node) {
+        Predicate left = optimize(node.getLeft());
+        Predicate right = optimize(node.getRight());
+        if (left == null || right == null) {
+            return null;
+        }
+        return node.getOperator() == LogicalOperatorType.AND
+                ? PredicateBuilder.and(left, right) : PredicateBuilder.or(left, right);
+    }
+
+    private Predicate optimizeBinary(BinaryExpression node) {
+        if (node.getLeft() == null || node.getRight() == null) {
+            // let the interpreted expression report the invalid syntax
+            return null;
+        }
+        BinaryOperatorType operator = node.getOperator();
+        Expression left = node.getLeft().createExpression(camelContext, expression);
+        Expression right = node.getRight().createExpression(camelContext, expression);
+
+        switch (operator) {
+            case EQ:
+                return PredicateBuilder.isEqualTo(left, right);
+            case EQ_IGNORE:
+                return PredicateBuilder.isEqualToIgnoreCase(left, right);
+            case NOT_EQ:
+                return PredicateBuilder.isNotEqualTo(left, right);
+            case NOT_EQ_IGNORE:
+                return PredicateBuilder.not(PredicateBuilder.isEqualToIgnoreCase(left, right));
+            case GT:
+                return PredicateBuilder.isGreaterThan(left, right);
+            case GTE:
+                return PredicateBuilder.isGreaterThanOrEqualTo(left, right);
+            case LT:
+                return PredicateBuilder.isLessThan(left, right);
+            case LTE:
+                return PredicateBuilder.isLessThanOrEqualTo(left, right);
+            case CONTAINS:
+                return PredicateBuilder.contains(left, right);
+            case NOT_CONTAINS:
+                return PredicateBuilder.not(PredicateBuilder.contains(left, right));
+            case CONTAINS_IGNORECASE:
+                return PredicateBuilder.containsIgnoreCase(left, right);
+            case NOT_CONTAINS_IGNORECASE:
+                return PredicateBuilder.not(PredicateBuilder.containsIgnoreCase(left, right));
+            case STARTS_WITH:
+                return PredicateBuilder.startsWith(left, right);
+            case ENDS_WITH:
+                return PredicateBuilder.endsWith(left, right);
+            case REGEX:
+            case NOT_REGEX:
+                return negate(optimizeRegex(node, left, right), operator == BinaryOperatorType.NOT_REGEX);
+            case IN:
+            case NOT_IN:
+                return negate(optimizeIn(node, left, right), operator == BinaryOperatorType.NOT_IN);
+            case RANGE:
+            case NOT_RANGE:
+                return negate(optimizeRange(node, left, right), operator == BinaryOperatorType.NOT_RANGE);
+            case IS:
+            case NOT_IS:
+                return negate(optimizeIs(node, left, right), operator == BinaryOperatorType.NOT_IS);
+            default:
+                return null;
+        }
+    }
+
+    private Predicate optimizeRegex(BinaryExpression node, Expression left, Expression right) {
+        String regex = constant(node.getRight(), right, String.class);
+        if (regex == null) {
+            return null;
+        }
+        try {
+            return PredicateBuilder.regex(left, Pattern.compile(regex));
+        } catch (PatternSyntaxException e) {
+            // let the interpreted expression report the invalid pattern
+            return null;
+        }
+    }
+
+    private Predicate optimizeIn(BinaryExpression node, Expression left, Expression right) {
+        Object value = constant(node.getRight(), right, Object.class);
+        if (value == null) {
+            return null;
+        }
+        List<Object> values = new ArrayList<>();
+        Iterator<?> it = ObjectHelper.createIterator(value);
+        while (it.hasNext()) {
+            values.add(it.next());
+        }
+        return new ValueBuilder(left).in(values.toArray());
+    }
+
+    private Predicate optimizeRange(BinaryExpression node, Expression left, Expression right) {
+        String range = constant(node.getRight(), right, String.class);
+        Matcher matcher = range != null ? RANGE_PATTERN.matcher(range) : null;
+        if (matcher == null || !matcher.matches()) {
+            // let the interpreted expression report the invalid syntax
+            return null;
+        }
+        Expression from = ExpressionBuilder.constantExpression(matcher.group(1));
+        Expression to = ExpressionBuilder.constantExpression(matcher.group(3));
+        return PredicateBuilder.and(
+                PredicateBuilder.isGreaterThanOrEqualTo(left, from), PredicateBuilder.isLessThanOrEqualTo(left, to));
+    }
+
+    private Predicate optimizeIs(BinaryExpression node, Expression left, Expression right) {
+        String name = constant(node.getRight(), right, String.class);
+        if (name == null || "null".equals(name)) {
+            // let the interpreted expression report the invalid syntax
+            return null;
+        }
+        Class<?> type = camelContext.getClassResolver().resolveClass(name);
+        return type != null ? PredicateBuilder.isInstanceOf(left, type) : null;
+    }
+
+    private static Predicate negate(Predicate predicate, boolean not) {
+        if (predicate == null) {
+            return null;
+        }
+        return not ? PredicateBuilder.not(predicate) : predicate;
+    }
+
+    /**
+     * Evaluates the node if it is a constant.
+     *
+     * @return the value, or <tt>null</tt> if the node is not a constant
+     */
+    private <T> T constant(SimpleNode node, Expression exp, Class<T> type) {
+        if (camelContext == null || !isConstant(node)) {
+            return null;
+        }
+        if (constantExchange == null) {
+            // constants do not use the exchange, but may need it for type conversion
+            constantExchange = new DefaultExchange(camelContext);
+        }
+        return exp.evaluate(constantExchange, type);
+    }
+
+    private static boolean isConstant(SimpleNode node) {
+        if (node instanceof LiteralNode || node instanceof NumericExpression || node instanceof BooleanExpression
+                || node instanceof NullExpression) {
+            return true;
+        }
+        List<SimpleNode> children = null;
+        if (node instanceof SingleQuoteStart) {
+            children = ((SingleQuoteStart) node).getBlock().getChildren();
+        } else if (node instanceof DoubleQuoteStart) {
+            children = ((DoubleQuoteStart) node).getBlock().getChildren();
+        }
+        if (children == null) {
+            return false;
+        }
+        for (SimpleNode child : children) {
+            if (!isConstant(child)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -63,11 +63,18 @@ public class SimplePredicateParser extends BaseSimpleParser {
 
     // use caches to avoid re-parsing the same expressions over and over again
     private Map<String, Expression> cacheExpression;
+    private final boolean optimize;
 
     public SimplePredicateParser(CamelContext camelContext, String expression, boolean allowEscape,
                                  Map<String, Expression> cacheExpression) {
+        this(camelContext, expression, allowEscape, cacheExpression, false);
+    }
+
+    public SimplePredicateParser(CamelContext camelContext, String expression, boolean allowEscape,
+                                 Map<String, Expression> cacheExpression, boolean optimize) {
         super(camelContext, expression, allowEscape);
         this.cacheExpression = cacheExpression;
+        this.optimize = optimize;
     }
 
     public Predicate parsePredicate() {
@@ -539,6 +546,16 @@ public class SimplePredicateParser extends BaseSimpleParser {
      */
     private List<Predicate> createPredicates() {
         List<Predicate> answer = new ArrayList<>();
+        if (optimize) {
+            SimplePredicateOptimizer optimizer = new SimplePredicateOptimizer(camelContext, expression);
+            for (SimpleNode node : nodes) {
+                Predicate predicate = optimizer.optimize(node);
+                if (predicate != null) {
+                    answer.add(predicate);
+                }
+            }
+            return answer;
+        }
         for (SimpleNode node : nodes) {
             Expression exp = node.createExpression(camelContext, expression);
             if (exp != null) {
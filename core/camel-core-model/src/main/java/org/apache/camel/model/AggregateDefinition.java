@@ -81,6 +81,9 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
     @Metadata(javaType = "java.lang.Boolean")
     private String optimisticLocking;
     @XmlAttribute
+    @Metadata(javaType = "java.lang.Integer")
+    private String lockStripes;
+    @XmlAttribute
     private String executorServiceRef;
     @XmlAttribute
     private String timeoutCheckerExecutorServiceRef;
@@ -428,6 +431,14 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         this.optimisticLocking = optimisticLocking;
     }
 
+    public String getLockStripes() {
+        return lockStripes;
+    }
+
+    public void setLockStripes(String lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
     public String getParallelProcessing() {
         return parallelProcessing;
     }
@@ -1002,6 +1013,22 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         return this;
     }
 
+    /**
+     * Turns on lock striping, where the aggregator uses a number of locks (stripes) chosen by the hash of the
+     * correlation key, instead of a single lock. This allows different correlation groups to be aggregated in parallel,
+     * while exchanges for the same correlation key are still aggregated one at a time.
+     * <p/>
+     * This requires the aggregationRepository to be thread safe for different correlation keys, which the default
+     * in-memory repository is. Lock striping cannot be used together with optimisticLocking,
+     * completionFromBatchConsumer or completionOnNewCorrelationGroup.
+     *
+     * @param lockStripes the number of lock stripes, will be rounded up to a power of two
+     */
+    public AggregateDefinition lockStripes(int lockStripes) {
+        setLockStripes(Integer.toString(lockStripes));
+        return this;
+    }
+
     /**
      * Allows to configure retry settings when using optimistic locking.
      */
@@ -79,6 +79,9 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
     @XmlAttribute
     @Metadata(javaType = "java.lang.Boolean")
     private String stopOnAggregateException;
+    @XmlAttribute
+    @Metadata(javaType = "java.lang.Integer")
+    private String maxInflight;
 
     public SplitDefinition() {
     }
@@ -521,6 +524,33 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         return this;
     }
 
+    /**
+     * Sets the maximum number of sub messages which can be processed in parallel and not yet aggregated. When this
+     * limit is reached, the Splitter waits for the next sub message in order to be aggregated before sending more. This
+     * bounds the memory used when splitting big messages, and the sub messages are aggregated in the same order as they
+     * were split, also when streaming. This option only applies when parallel processing is enabled.
+     *
+     * @param  maxInflight the maximum number of sub messages in flight
+     * @return             the builder
+     */
+    public SplitDefinition maxInflight(int maxInflight) {
+        return maxInflight(Integer.toString(maxInflight));
+    }
+
+    /**
+     * Sets the maximum number of sub messages which can be processed in parallel and not yet aggregated. When this
+     * limit is reached, the Splitter waits for the next sub message in order to be aggregated before sending more. This
+     * bounds the memory used when splitting big messages, and the sub messages are aggregated in the same order as they
+     * were split, also when streaming. This option only applies when parallel processing is enabled.
+     *
+     * @param  maxInflight the maximum number of sub messages in flight
+     * @return             the builder
+     */
+    public SplitDefinition maxInflight(String maxInflight) {
+        setMaxInflight(maxInflight);
+        return this;
+    }
+
     // Properties
     // -------------------------------------------------------------------------
 
@@ -683,4 +713,12 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.shareUnitOfWork = shareUnitOfWork;
     }
 
+    public String getMaxInflight() {
+        return maxInflight;
+    }
+
+    public void setMaxInflight(String maxInflight) {
+        this.maxInflight = maxInflight;
+    }
+
 }
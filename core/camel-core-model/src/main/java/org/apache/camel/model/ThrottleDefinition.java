@@ -58,6 +58,9 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     @XmlAttribute
     @Metadata(javaType = "java.lang.Boolean")
     private String rejectExecution;
+    @XmlAttribute
+    @Metadata(defaultValue = "DelayQueue", enums = "DelayQueue,TokenBucket")
+    private String mode;
 
     public ThrottleDefinition() {
     }
@@ -224,6 +227,21 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         return this;
     }
 
+    /**
+     * Sets how the throttler keeps track of the requests.
+     * <p/>
+     * The default mode <tt>DelayQueue</tt> keeps a permit per request in a delay queue. The <tt>TokenBucket</tt> mode
+     * uses a lock-free token bucket (generic cell rate algorithm) per correlation key, which does not allocate per
+     * request and scales better with many correlation keys and high request rates.
+     *
+     * @param  mode the mode, either DelayQueue or TokenBucket
+     * @return      the builder
+     */
+    public ThrottleDefinition mode(String mode) {
+        setMode(mode);
+        return this;
+    }
+
     /**
      * To use a custom thread pool (ScheduledExecutorService) by the throttler.
      *
@@ -312,6 +330,14 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         this.rejectExecution = rejectExecution;
     }
 
+    public String getMode() {
+        return mode;
+    }
+
+    public void setMode(String mode) {
+        this.mode = mode;
+    }
+
     /**
      * The expression used to calculate the correlation key to use for throttle grouping. The Exchange which has the
      * same correlation key is throttled together.
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.StatefulService;
+import org.apache.camel.spi.NormalizedEndpointUri;
+import org.apache.camel.support.service.ServiceHelper;
+
+/**
+ * A bounded cache of the endpoints resolved from the uris computed by {@link SendDynamicProcessor} and
+ * {@link RecipientList}, keyed by the uri as computed from the expression.
+ * <p/>
+ * The expression of a dynamic uri (such as <tt>kafka:${header.topic}?brokers=myhost</tt>) is already compiled into its
+ * static parts and the functions to evaluate per message, but the computed uri would then have to be normalized and
+ * looked up in the endpoint registry on every message. This cache lets sending to an uri that has been sent to before
+ * skip the normalization.
+ * <p/>
+ * The endpoint is still looked up in the endpoint registry with its normalized uri, which is cheap, so the endpoint
+ * stays recently used in the registry, and is not kept in use after the registry has evicted or removed it. Only
+ * singleton endpoints are cached, and uris with property placeholders are not cached, as the placeholders may resolve
+ * differently over time. Endpoints which have been stopped are resolved again.
+ */
+final class DynamicEndpointCache {
+
+    private final ConcurrentMap<String, Entry> endpoints = new ConcurrentHashMap<>();
+    private final ExtendedCamelContext camelContext;
+    private final int maximumSize;
+
+    private static final class Entry {
+        private final NormalizedEndpointUri key;
+        private final Endpoint endpoint;
+
+        private Entry(NormalizedEndpointUri key, Endpoint endpoint) {
+            this.key = key;
+            this.endpoint = endpoint;
+        }
+    }
+
+    DynamicEndpointCache(CamelContext camelContext, int maximumSize) {
+        this.camelContext = camelContext.adapt(ExtendedCamelContext.class);
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Gets the endpoint previously resolved from the given uri
+     *
+     * @param  uri the uri as computed from the expression
+     * @return     the endpoint, or <tt>null</tt> if not in the cache
+     */
+    Endpoint get(String uri) {
+        Entry entry = endpoints.get(uri);
+        if (entry == null) {
+            return null;
+        }
+        // lookup the endpoint in the registry as well, so it is not evicted from the registry while still in use
+        Endpoint endpoint = entry.endpoint;
+        if (camelContext.hasEndpoint(entry.key) != endpoint
+                || endpoint instanceof StatefulService && !ServiceHelper.isStarted(endpoint)) {
+            endpoints.remove(uri, entry);
+            return null;
+        }
+        return endpoint;
+    }
+
+    /**
+     * Adds the endpoint resolved from the given uri
+     *
+     * @param uri      the uri as computed from the expression
+     * @param key      the normalized uri the endpoint was resolved with
+     * @param endpoint the resolved endpoint
+     */
+    void put(String uri, NormalizedEndpointUri key, Endpoint endpoint) {
+        if (uri.contains("{{") || !endpoint.isSingleton()) {
+            return;
+        }
+        if (endpoints.size() >= maximumSize && !endpoints.containsKey(uri)) {
+            // make room by evicting any of the cached endpoints, the endpoint itself is still in the endpoint registry
+            Iterator<String> it = endpoints.keySet().iterator();
+            if (it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+        endpoints.put(uri, new Entry(key, endpoint));
+    }
+
+    int size() {
+        return endpoints.size();
+    }
+
+    void clear() {
+        endpoints.clear();
+    }
+
+}
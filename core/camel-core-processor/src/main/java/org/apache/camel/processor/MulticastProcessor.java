@@ -42,6 +42,7 @@ import org.apache.camel.CamelContextAware;
 import org.apache.camel.CamelExchangeException;
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.ExtendedExchange;
 import org.apache.camel.Navigate;
@@ -169,6 +170,8 @@ public class MulticastProcessor extends AsyncProcessorSupport
     private final long timeout;
     private final ConcurrentMap<ErrorHandlerKey, Processor> errorHandlers = new ConcurrentHashMap<>();
     private final boolean shareUnitOfWork;
+    private int maxInflight;
+    private final AtomicInteger windowOccupancy = new AtomicInteger();
 
     public MulticastProcessor(CamelContext camelContext, Route route, Collection<Processor> processors) {
         this(camelContext, route, processors, null);
@@ -328,6 +331,9 @@ public class MulticastProcessor extends AsyncProcessorSupport
         final AtomicInteger nbAggregated = new AtomicInteger();
         final AtomicBoolean allSent = new AtomicBoolean();
         final AtomicBoolean done = new AtomicBoolean();
+        // number of exchanges sent but not yet aggregated, when the in-flight window is in use
+        final AtomicInteger inflight = new AtomicInteger();
+        final int window;
 
         MulticastTask(Exchange original, Iterable<ProcessorExchangePair> pairs, AsyncCallback callback) {
             this.original = original;
@@ -335,7 +341,11 @@ public class MulticastProcessor extends AsyncProcessorSupport
             this.callback = callback;
             this.iterator = pairs.iterator();
             this.lock = new ReentrantLock();
-            this.completion = new AsyncCompletionService<>(MulticastProcessor.this::schedule, !isStreaming(), lock);
+            this.window = isParallelProcessing() && maxInflight > 0 ? maxInflight : 0;
+            // with a window there are never more than window exchanges pending aggregation,
+            // so they can be aggregated in order using a fixed ring buffer
+            this.completion = new AsyncCompletionService<>(
+                    MulticastProcessor.this::schedule, !isStreaming(), lock, window);
             this.result = new AtomicReference<>();
             if (timeout > 0) {
                 schedule(aggregateExecutorService, this::timeout, timeout, TimeUnit.MILLISECONDS);
@@ -356,6 +366,8 @@ public class MulticastProcessor extends AsyncProcessorSupport
                         doAggregate(result, exchange, original);
                         if (nbAggregated.incrementAndGet() >= nbExchangeSent.get() && allSent.get()) {
                             doDone(result.get(), true);
+                        } else {
+                            releaseWindow();
                         }
                     }
                 } catch (Throwable e) {
@@ -396,8 +408,40 @@ public class MulticastProcessor extends AsyncProcessorSupport
             }
         }
 
+        /**
+         * Takes a slot in the in-flight window for an exchange about to be sent.
+         *
+         * @return <tt>true</tt> if the window is now full and no more exchanges should be sent until a slot is released
+         */
+        protected boolean acquireWindow() {
+            if (window > 0) {
+                windowOccupancy.incrementAndGet();
+                return inflight.incrementAndGet() >= window;
+            }
+            return false;
+        }
+
+        /**
+         * Releases the slot of an aggregated exchange, and resumes sending if the window was full.
+         */
+        protected void releaseWindow() {
+            if (window > 0) {
+                int count = inflight.getAndDecrement();
+                if (count > 0) {
+                    windowOccupancy.decrementAndGet();
+                }
+                if (count == window && !allSent.get()) {
+                    schedule(this);
+                }
+            }
+        }
+
         protected void doDone(Exchange exchange, boolean forceExhaust) {
             if (done.compareAndSet(false, true)) {
+                if (window > 0) {
+                    // release the slots of the exchanges which will not be aggregated
+                    windowOccupancy.addAndGet(-Math.max(0, inflight.getAndSet(0)));
+                }
                 MulticastProcessor.this.doDone(original, exchange, pairs, callback, false, forceExhaust);
             }
         }
@@ -440,16 +484,18 @@ public class MulticastProcessor extends AsyncProcessorSupport
                 int index = nbExchangeSent.getAndIncrement();
                 updateNewExchange(exchange, index, pairs, hasNext);
 
-                // Schedule the processing of the next pair
-                if (hasNext) {
-                    if (isParallelProcessing()) {
-                        schedule(this);
-                    }
-                } else {
+                // Schedule the processing of the next pair, unless the in-flight window is full
+                // in which case it is scheduled again when an exchange has been aggregated
+                if (!hasNext) {
                     allSent.set(true);
                 }
+                boolean windowFull = acquireWindow();
+                if (hasNext && isParallelProcessing() && !windowFull) {
+                    schedule(this);
+                }
 
-                completion.submit(exchangeResult -> {
+                // use the index as id as the next pair may be submitted before this one
+                completion.submit(index, exchangeResult -> {
                     // compute time taken if sending to another endpoint
                     StopWatch watch = beforeSend(pair);
 
@@ -764,16 +810,16 @@ public class MulticastProcessor extends AsyncProcessorSupport
     }
 
     protected void updateNewExchange(Exchange exchange, int index, Iterable<ProcessorExchangePair> allPairs, boolean hasNext) {
-        exchange.setProperty(Exchange.MULTICAST_INDEX, index);
+        exchange.setProperty(ExchangePropertyKey.MULTICAST_INDEX, index);
         if (hasNext) {
-            exchange.setProperty(Exchange.MULTICAST_COMPLETE, Boolean.FALSE);
+            exchange.setProperty(ExchangePropertyKey.MULTICAST_COMPLETE, Boolean.FALSE);
         } else {
-            exchange.setProperty(Exchange.MULTICAST_COMPLETE, Boolean.TRUE);
+            exchange.setProperty(ExchangePropertyKey.MULTICAST_COMPLETE, Boolean.TRUE);
         }
     }
 
     protected Integer getExchangeIndex(Exchange exchange) {
-        return exchange.getProperty(Exchange.MULTICAST_INDEX, Integer.class);
+        return exchange.getProperty(ExchangePropertyKey.MULTICAST_INDEX, Integer.class);
     }
 
     protected Iterable<ProcessorExchangePair> createProcessorExchangePairs(Exchange exchange) throws Exception {
@@ -807,8 +853,8 @@ public class MulticastProcessor extends AsyncProcessorSupport
             // work of the parent route or grand parent route or grand grand parent route ...(in case of nesting).
             // Set therefore the unit of work of the  parent route as stream cache unit of work,
             // if it is not already set.
-            if (copy.getProperty(Exchange.STREAM_CACHE_UNIT_OF_WORK) == null) {
-                copy.setProperty(Exchange.STREAM_CACHE_UNIT_OF_WORK, exchange.getUnitOfWork());
+            if (copy.getProperty(ExchangePropertyKey.STREAM_CACHE_UNIT_OF_WORK) == null) {
+                copy.setProperty(ExchangePropertyKey.STREAM_CACHE_UNIT_OF_WORK, exchange.getUnitOfWork());
             }
             // if we share unit of work, we need to prepare the child exchange
             if (isShareUnitOfWork()) {
@@ -869,7 +915,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
         if (route != this.route && this.route != null) {
             throw new UnsupportedOperationException("Is this really correct ?");
         }
-        boolean tryBlock = exchange.getProperty(Exchange.TRY_ROUTE_BLOCK, false, boolean.class);
+        boolean tryBlock = exchange.getProperty(ExchangePropertyKey.TRY_ROUTE_BLOCK, false, boolean.class);
 
         // do not wrap in error handler if we are inside a try block
         if (!tryBlock && route != null) {
@@ -895,7 +941,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
                 // and wrap in unit of work processor so the copy exchange also can run under UoW
                 answer = createUnitOfWorkProcessor(route, processor, exchange);
 
-                boolean child = exchange.getProperty(Exchange.PARENT_UNIT_OF_WORK, UnitOfWork.class) != null;
+                boolean child = exchange.getProperty(ExchangePropertyKey.PARENT_UNIT_OF_WORK, UnitOfWork.class) != null;
 
                 // must start the error handler
                 ServiceHelper.startService(answer);
@@ -935,7 +981,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
      */
     protected Processor createUnitOfWorkProcessor(Route route, Processor processor, Exchange exchange) {
         // and wrap it in a unit of work so the UoW is on the top, so the entire route will be in the same UoW
-        UnitOfWork parent = exchange.getProperty(Exchange.PARENT_UNIT_OF_WORK, UnitOfWork.class);
+        UnitOfWork parent = exchange.getProperty(ExchangePropertyKey.PARENT_UNIT_OF_WORK, UnitOfWork.class);
         if (parent != null) {
             return internalProcessorFactory.addChildUnitOfWorkProcessorAdvice(camelContext, processor, route, parent);
         } else {
@@ -953,7 +999,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
      * @param parentExchange the parent exchange
      */
     protected void prepareSharedUnitOfWork(Exchange childExchange, Exchange parentExchange) {
-        childExchange.setProperty(Exchange.PARENT_UNIT_OF_WORK, parentExchange.getUnitOfWork());
+        childExchange.setProperty(ExchangePropertyKey.PARENT_UNIT_OF_WORK, parentExchange.getUnitOfWork());
     }
 
     @Override
@@ -1010,7 +1056,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
     protected static void setToEndpoint(Exchange exchange, Processor processor) {
         if (processor instanceof Producer) {
             Producer producer = (Producer) processor;
-            exchange.setProperty(Exchange.TO_ENDPOINT, producer.getEndpoint().getEndpointUri());
+            exchange.setProperty(ExchangePropertyKey.TO_ENDPOINT, producer.getEndpoint().getEndpointUri());
         }
     }
 
@@ -1019,7 +1065,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
 
         // prefer to use per Exchange aggregation strategy over a global strategy
         if (exchange != null) {
-            Map<?, ?> property = exchange.getProperty(Exchange.AGGREGATION_STRATEGY, Map.class);
+            Map<?, ?> property = exchange.getProperty(ExchangePropertyKey.AGGREGATION_STRATEGY, Map.class);
             Map<Object, AggregationStrategy> map = CastUtils.cast(property);
             if (map != null) {
                 answer = map.get(this);
@@ -1039,7 +1085,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
      * @param aggregationStrategy the strategy
      */
     protected void setAggregationStrategyOnExchange(Exchange exchange, AggregationStrategy aggregationStrategy) {
-        Map<?, ?> property = exchange.getProperty(Exchange.AGGREGATION_STRATEGY, Map.class);
+        Map<?, ?> property = exchange.getProperty(ExchangePropertyKey.AGGREGATION_STRATEGY, Map.class);
         Map<Object, AggregationStrategy> map = CastUtils.cast(property);
         if (map == null) {
             map = new ConcurrentHashMap<>();
@@ -1051,7 +1097,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
         // store the strategy using this processor as the key
         // (so we can store multiple strategies on the same exchange)
         map.put(this, aggregationStrategy);
-        exchange.setProperty(Exchange.AGGREGATION_STRATEGY, map);
+        exchange.setProperty(ExchangePropertyKey.AGGREGATION_STRATEGY, map);
     }
 
     /**
@@ -1060,7 +1106,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
      * @param exchange the current exchange
      */
     protected void removeAggregationStrategyFromExchange(Exchange exchange) {
-        Map<?, ?> property = exchange.getProperty(Exchange.AGGREGATION_STRATEGY, Map.class);
+        Map<?, ?> property = exchange.getProperty(ExchangePropertyKey.AGGREGATION_STRATEGY, Map.class);
         Map<Object, AggregationStrategy> map = CastUtils.cast(property);
         if (map == null) {
             return;
@@ -1127,6 +1173,29 @@ public class MulticastProcessor extends AsyncProcessorSupport
         return shareUnitOfWork;
     }
 
+    /**
+     * The maximum number of exchanges sent in parallel and not yet aggregated, or 0 if not bounded
+     */
+    public int getMaxInflight() {
+        return maxInflight;
+    }
+
+    /**
+     * Sets the maximum number of exchanges sent in parallel and not yet aggregated. When this limit is reached, no more
+     * exchanges are sent until the next exchange in order has been aggregated. This only applies when using parallel
+     * processing, and ensures the exchanges are aggregated in order with a bounded memory usage even when streaming.
+     */
+    public void setMaxInflight(int maxInflight) {
+        this.maxInflight = maxInflight;
+    }
+
+    /**
+     * The current number of exchanges sent and not yet aggregated, when using a max in-flight window
+     */
+    public int getWindowOccupancy() {
+        return windowOccupancy.get();
+    }
+
     public ExecutorService getAggregateExecutorService() {
         return aggregateExecutorService;
     }
@@ -23,6 +23,7 @@ import org.apache.camel.AsyncCallback;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePattern;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.ExtendedExchange;
 import org.apache.camel.Message;
 import org.apache.camel.Ordered;
@@ -156,7 +157,7 @@ public class OnCompletionProcessor extends AsyncProcessorSupport implements Trac
         // but keep the caused exception stored as a property (Exchange.EXCEPTION_CAUGHT) on the exchange
         boolean stop = ee.isRouteStop();
         ee.setRouteStop(false);
-        Object failureHandled = ee.removeProperty(Exchange.FAILURE_HANDLED);
+        Object failureHandled = ee.removeProperty(ExchangePropertyKey.FAILURE_HANDLED);
         Boolean errorhandlerHandled = ee.getErrorHandlerHandled();
         ee.setErrorHandlerHandled(null);
         boolean rollbackOnly = ee.isRollbackOnly();
@@ -180,7 +181,7 @@ public class OnCompletionProcessor extends AsyncProcessorSupport implements Trac
             // restore the options
             ee.setRouteStop(stop);
             if (failureHandled != null) {
-                ee.setProperty(Exchange.FAILURE_HANDLED, failureHandled);
+                ee.setProperty(ExchangePropertyKey.FAILURE_HANDLED, failureHandled);
             }
             if (errorhandlerHandled != null) {
                 ee.setErrorHandlerHandled(errorhandlerHandled);
@@ -228,7 +229,7 @@ public class OnCompletionProcessor extends AsyncProcessorSupport implements Trac
         }
 
         // add a header flag to indicate its a on completion exchange
-        answer.setProperty(Exchange.ON_COMPLETION, Boolean.TRUE);
+        answer.setProperty(ExchangePropertyKey.ON_COMPLETION, Boolean.TRUE);
 
         return answer;
     }
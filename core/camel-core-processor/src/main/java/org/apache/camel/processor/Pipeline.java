@@ -19,7 +19,6 @@ package org.apache.camel.processor;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.apache.camel.AsyncCallback;
@@ -35,7 +34,10 @@ import org.apache.camel.spi.ReactiveExecutor;
 import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.support.AsyncProcessorConverterHelper;
 import org.apache.camel.support.AsyncProcessorSupport;
+import org.apache.camel.support.CamelContextHelper;
 import org.apache.camel.support.ExchangeHelper;
+import org.apache.camel.support.PooledExchangeTask;
+import org.apache.camel.support.PooledTaskFactory;
 import org.apache.camel.support.service.ServiceHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -57,22 +59,40 @@ public class Pipeline extends AsyncProcessorSupport implements Navigate<Processo
     private String id;
     private String routeId;
 
-    private final class PipelineTask implements Runnable {
+    private final PooledTaskFactory<PipelineTask> taskFactory;
 
-        private final Exchange exchange;
-        private final AsyncCallback callback;
-        private final AtomicInteger index;
+    /**
+     * Task which has the state used during routing, which is reused for the next exchange when tasks are pooled.
+     */
+    private final class PipelineTask implements Runnable, AsyncCallback, PooledExchangeTask {
 
-        PipelineTask(Exchange exchange, AsyncCallback callback, AtomicInteger index) {
+        private Exchange exchange;
+        private AsyncCallback callback;
+        private int index;
+
+        @Override
+        public void prepare(Exchange exchange, AsyncCallback callback) {
             this.exchange = exchange;
             this.callback = callback;
-            this.index = index;
+        }
+
+        @Override
+        public void reset() {
+            this.exchange = null;
+            this.callback = null;
+            this.index = 0;
+        }
+
+        @Override
+        public void done(boolean doneSync) {
+            // continue with the next step (the task is the callback to avoid creating a callback per step)
+            reactiveExecutor.schedule(this);
         }
 
         @Override
         public void run() {
             boolean stop = exchange.isRouteStop();
-            int num = index.get();
+            int num = index;
             boolean more = num < size;
             boolean first = num == 0;
 
@@ -85,9 +105,9 @@ public class Pipeline extends AsyncProcessorSupport implements Navigate<Processo
                 }
 
                 // get the next processor
-                AsyncProcessor processor = processors.get(index.getAndIncrement());
+                AsyncProcessor processor = processors.get(index++);
 
-                processor.process(exchange, doneSync -> reactiveExecutor.schedule(this));
+                processor.process(exchange, this);
             } else {
                 ExchangeHelper.copyResults(exchange, exchange);
 
@@ -98,7 +118,10 @@ public class Pipeline extends AsyncProcessorSupport implements Navigate<Processo
                     LOG.trace("Processing complete for exchangeId: {} >>> {}", exchange.getExchangeId(), exchange);
                 }
 
-                reactiveExecutor.schedule(callback);
+                // the task is no longer in use so release it before continuing
+                AsyncCallback cb = callback;
+                taskFactory.release(this);
+                reactiveExecutor.schedule(cb);
             }
         }
     }
@@ -108,6 +131,12 @@ public class Pipeline extends AsyncProcessorSupport implements Navigate<Processo
         this.reactiveExecutor = camelContext.adapt(ExtendedCamelContext.class).getReactiveExecutor();
         this.processors = processors.stream().map(AsyncProcessorConverterHelper::convert).collect(Collectors.toList());
         this.size = processors.size();
+        this.taskFactory = new PooledTaskFactory<PipelineTask>(CamelContextHelper.getMaximumTaskPoolSize(camelContext)) {
+            @Override
+            protected PipelineTask createTask() {
+                return new PipelineTask();
+            }
+        };
     }
 
     public static Processor newInstance(CamelContext camelContext, List<Processor> processors) {
@@ -139,7 +168,7 @@ public class Pipeline extends AsyncProcessorSupport implements Navigate<Processo
     @Override
     public boolean process(Exchange exchange, AsyncCallback callback) {
         // create task which has state used during routing
-        PipelineTask task = new PipelineTask(exchange, callback, new AtomicInteger());
+        PipelineTask task = taskFactory.acquire(exchange, callback);
 
         if (exchange.isTransacted()) {
             reactiveExecutor.scheduleSync(task);
@@ -159,6 +188,13 @@ public class Pipeline extends AsyncProcessorSupport implements Navigate<Processo
         ServiceHelper.stopService(processors);
     }
 
+    /**
+     * The factory for the tasks used during routing.
+     */
+    public PooledTaskFactory<?> getTaskFactory() {
+        return taskFactory;
+    }
+
     @Override
     public String toString() {
         return id;
@@ -24,6 +24,7 @@ import org.apache.camel.AggregationStrategy;
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.Expression;
 import org.apache.camel.Processor;
 import org.apache.camel.processor.aggregate.UseLatestAggregationStrategy;
@@ -34,6 +35,7 @@ import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.ProducerCache;
 import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.support.AsyncProcessorSupport;
+import org.apache.camel.support.CamelContextHelper;
 import org.apache.camel.support.ObjectHelper;
 import org.apache.camel.support.cache.DefaultProducerCache;
 import org.apache.camel.support.cache.EmptyProducerCache;
@@ -68,6 +70,7 @@ public class RecipientList extends AsyncProcessorSupport implements IdAware, Rou
     private boolean streaming;
     private long timeout;
     private int cacheSize;
+    private DynamicEndpointCache endpointCache;
     private Processor onPrepare;
     private boolean shareUnitOfWork;
     private ExecutorService executorService;
@@ -176,7 +179,7 @@ public class RecipientList extends AsyncProcessorSupport implements IdAware, Rou
         }
 
         // use the evaluate expression result if exists
-        Object recipientList = exchange.removeProperty(Exchange.EVALUATE_EXPRESSION_RESULT);
+        Object recipientList = exchange.removeProperty(ExchangePropertyKey.EVALUATE_EXPRESSION_RESULT);
         if (recipientList == null && expression != null) {
             // fallback and evaluate the expression
             recipientList = expression.evaluate(exchange, Object.class);
@@ -206,6 +209,7 @@ public class RecipientList extends AsyncProcessorSupport implements IdAware, Rou
         rlp.setAggregateExecutorService(aggregateExecutorService);
         rlp.setIgnoreInvalidEndpoints(isIgnoreInvalidEndpoints());
         rlp.setCacheSize(getCacheSize());
+        rlp.setEndpointCache(endpointCache);
         rlp.setId(getId());
         rlp.setRouteId(getRouteId());
 
@@ -245,6 +249,10 @@ public class RecipientList extends AsyncProcessorSupport implements IdAware, Rou
                 LOG.debug("RecipientList {} using ProducerCache with cacheSize={}", this, cacheSize);
             }
         }
+        if (endpointCache == null && cacheSize >= 0) {
+            int size = cacheSize > 0 ? cacheSize : CamelContextHelper.getMaximumEndpointCacheSize(camelContext);
+            endpointCache = new DynamicEndpointCache(camelContext, size);
+        }
         if (timeout > 0) {
             // use a cached thread pool so we each on-the-fly task has a dedicated thread to process completions as they come in
             aggregateExecutorService
@@ -255,6 +263,9 @@ public class RecipientList extends AsyncProcessorSupport implements IdAware, Rou
 
     @Override
     protected void doStop() throws Exception {
+        if (endpointCache != null) {
+            endpointCache.clear();
+        }
         ServiceHelper.stopService(producerCache, aggregationStrategy);
     }
 
@@ -27,6 +27,7 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePattern;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.NoTypeConversionAvailableException;
 import org.apache.camel.Processor;
@@ -60,6 +61,7 @@ public class RecipientListProcessor extends MulticastProcessor {
     private boolean ignoreInvalidEndpoints;
     private ProducerCache producerCache;
     private int cacheSize;
+    private DynamicEndpointCache endpointCache;
 
     /**
      * Class that represent each step in the recipient list to do
@@ -115,7 +117,7 @@ public class RecipientListProcessor extends MulticastProcessor {
         public void begin() {
             // we have already acquired and prepare the producer
             LOG.trace("RecipientProcessorExchangePair #{} begin: {}", index, exchange);
-            exchange.setProperty(Exchange.RECIPIENT_LIST_ENDPOINT, endpoint.getEndpointUri());
+            exchange.setProperty(ExchangePropertyKey.RECIPIENT_LIST_ENDPOINT, endpoint.getEndpointUri());
             // ensure stream caching is reset
             MessageHelper.resetStreamCache(exchange.getIn());
             // if the MEP on the endpoint is different then
@@ -183,6 +185,10 @@ public class RecipientListProcessor extends MulticastProcessor {
         this.cacheSize = cacheSize;
     }
 
+    void setEndpointCache(DynamicEndpointCache endpointCache) {
+        this.endpointCache = endpointCache;
+    }
+
     public boolean isIgnoreInvalidEndpoints() {
         return ignoreInvalidEndpoints;
     }
@@ -206,16 +212,28 @@ public class RecipientListProcessor extends MulticastProcessor {
             Producer producer;
             ExchangePattern pattern;
             try {
-                recipient = prepareRecipient(exchange, recipient);
-                Endpoint existing = getExistingEndpoint(exchange, recipient);
-                if (existing == null) {
-                    endpoint = resolveEndpoint(exchange, recipient, prototype);
-                } else {
-                    endpoint = existing;
-                    // we have an existing endpoint then its not a prototype scope
+                // the uri may have been resolved before
+                String key = endpointCache != null && recipient instanceof String ? (String) recipient : null;
+                Endpoint cached = key != null ? endpointCache.get(key) : null;
+                if (cached != null) {
+                    endpoint = cached;
                     prototype = false;
+                } else {
+                    recipient = prepareRecipient(exchange, recipient);
+                    Endpoint existing = getExistingEndpoint(exchange, recipient);
+                    if (existing == null) {
+                        endpoint = resolveEndpoint(exchange, recipient, prototype);
+                    } else {
+                        endpoint = existing;
+                        // we have an existing endpoint then its not a prototype scope
+                        prototype = false;
+                    }
+                    if (key != null && !prototype && recipient instanceof NormalizedEndpointUri) {
+                        endpointCache.put(key, (NormalizedEndpointUri) recipient, endpoint);
+                    }
                 }
-                pattern = resolveExchangePattern(recipient);
+                // the recipient is not prepared when the endpoint is cached, so use the uri of the endpoint
+                pattern = resolveExchangePattern(cached != null ? cached.getEndpointUri() : recipient);
                 producer = producerCache.acquireProducer(endpoint);
             } catch (Exception e) {
                 if (isIgnoreInvalidEndpoints()) {
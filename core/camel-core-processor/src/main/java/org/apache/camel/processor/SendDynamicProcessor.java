@@ -23,6 +23,7 @@ import org.apache.camel.Component;
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePattern;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.Expression;
 import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.NoTypeConversionAvailableException;
@@ -35,6 +36,7 @@ import org.apache.camel.spi.ProducerCache;
 import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.spi.SendDynamicAware;
 import org.apache.camel.support.AsyncProcessorSupport;
+import org.apache.camel.support.CamelContextHelper;
 import org.apache.camel.support.EndpointHelper;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.cache.DefaultProducerCache;
@@ -60,6 +62,7 @@ public class SendDynamicProcessor extends AsyncProcessorSupport implements IdAwa
     protected final Expression expression;
     protected ExchangePattern pattern;
     protected ProducerCache producerCache;
+    private DynamicEndpointCache endpointCache;
     protected String id;
     protected String routeId;
     protected boolean ignoreInvalidEndpoint;
@@ -142,22 +145,33 @@ public class SendDynamicProcessor extends AsyncProcessorSupport implements IdAwa
                 }
             }
             Object targetRecipient = staticUri != null ? staticUri : recipient;
-            targetRecipient = prepareRecipient(exchange, targetRecipient);
-            if (targetRecipient == null) {
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("Send dynamic evaluated as null so cannot send to any endpoint");
-                }
-                // no endpoint to send to, so ignore
-                callback.done(true);
-                return true;
-            }
-            Endpoint existing = getExistingEndpoint(exchange, targetRecipient);
-            if (existing == null) {
-                endpoint = resolveEndpoint(exchange, targetRecipient, prototype);
-            } else {
-                endpoint = existing;
-                // we have an existing endpoint then its not a prototype scope
+            // the uri may have been resolved before
+            String key = endpointCache != null && targetRecipient instanceof String ? (String) targetRecipient : null;
+            Endpoint cached = key != null ? endpointCache.get(key) : null;
+            if (cached != null) {
+                endpoint = cached;
                 prototype = false;
+            } else {
+                targetRecipient = prepareRecipient(exchange, targetRecipient);
+                if (targetRecipient == null) {
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Send dynamic evaluated as null so cannot send to any endpoint");
+                    }
+                    // no endpoint to send to, so ignore
+                    callback.done(true);
+                    return true;
+                }
+                Endpoint existing = getExistingEndpoint(exchange, targetRecipient);
+                if (existing == null) {
+                    endpoint = resolveEndpoint(exchange, targetRecipient, prototype);
+                } else {
+                    endpoint = existing;
+                    // we have an existing endpoint then its not a prototype scope
+                    prototype = false;
+                }
+                if (key != null && !prototype && targetRecipient instanceof NormalizedEndpointUri) {
+                    endpointCache.put(key, (NormalizedEndpointUri) targetRecipient, endpoint);
+                }
             }
             destinationExchangePattern = EndpointHelper.resolveExchangePatternFromUrl(endpoint.getEndpointUri());
         } catch (Throwable e) {
@@ -300,7 +314,7 @@ public class SendDynamicProcessor extends AsyncProcessorSupport implements IdAwa
             exchange.setPattern(pattern);
         }
         // set property which endpoint we send to
-        exchange.setProperty(Exchange.TO_ENDPOINT, endpoint.getEndpointUri());
+        exchange.setProperty(ExchangePropertyKey.TO_ENDPOINT, endpoint.getEndpointUri());
         return exchange;
     }
 
@@ -367,12 +381,19 @@ public class SendDynamicProcessor extends AsyncProcessorSupport implements IdAwa
                 LOG.debug("DynamicSendTo {} using ProducerCache with cacheSize={}", this, cacheSize);
             }
         }
+        if (endpointCache == null && cacheSize >= 0) {
+            int size = cacheSize > 0 ? cacheSize : CamelContextHelper.getMaximumEndpointCacheSize(camelContext);
+            endpointCache = new DynamicEndpointCache(camelContext, size);
+        }
 
         ServiceHelper.startService(dynamicAware, producerCache);
     }
 
     @Override
     protected void doStop() throws Exception {
+        if (endpointCache != null) {
+            endpointCache.clear();
+        }
         ServiceHelper.stopService(producerCache, dynamicAware);
     }
 
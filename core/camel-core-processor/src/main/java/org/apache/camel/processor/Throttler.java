@@ -24,6 +24,7 @@ import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.camel.AsyncCallback;
@@ -55,6 +56,13 @@ import org.slf4j.LoggerFactory;
  * those permits). Callers trying to acquire a permit from the DelayQueue will block if necessary. The end result is a
  * rolling window of time. Where from the callers point of view in the last timePeriodMillis no more than
  * maxRequestsPerPeriod have been allowed to be acquired.
+ *
+ * When token bucket mode is enabled, then the throttling is instead implemented with the generic cell rate algorithm
+ * (GCRA), which is a token bucket which refills continuously. Each correlation key only keeps the time (in nanos) at
+ * which the bucket is full again, which is updated with a single compare-and-set per exchange, so there is no lock and
+ * no object created per exchange. An exchange that exceeds the rate reserves the next slot and is then delayed until
+ * its slot, either by blocking the caller, or when asyncDelayed is enabled, by scheduling the continuation of the
+ * routing without blocking any thread.
  */
 public class Throttler extends AsyncProcessorSupport implements Traceable, IdAware, RouteIdAware {
 
@@ -84,7 +92,10 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
     private boolean asyncDelayed;
     private boolean callerRunsWhenRejected = true;
     private Expression correlationExpression;
+    private boolean tokenBucket;
     private Map<String, ThrottlingState> states = new ConcurrentHashMap<>();
+    private Map<String, TokenBucketState> tokenBuckets = new ConcurrentHashMap<>();
+    private volatile ScheduledFuture<?> tokenBucketCleanFuture;
 
     public Throttler(final CamelContext camelContext, final Expression maxRequestsPerPeriodExpression,
                      final long timePeriodMillis,
@@ -108,6 +119,10 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
 
     @Override
     public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        if (tokenBucket) {
+            return processTokenBucket(exchange, callback);
+        }
+
         long queuedStart = 0;
         if (LOG.isTraceEnabled()) {
             queuedStart = exchange.getProperty(PROPERTY_EXCHANGE_QUEUED_TIMESTAMP, 0L, Long.class);
@@ -213,6 +228,87 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
         }
     }
 
+    /**
+     * Processes the exchange in token bucket mode, where an exchange which exceeds the rate reserves the next free slot
+     * and is delayed until then.
+     */
+    protected boolean processTokenBucket(final Exchange exchange, final AsyncCallback callback) {
+        try {
+            if (!isRunAllowed()) {
+                throw new RejectedExecutionException("Run is not allowed");
+            }
+
+            String key = DEFAULT_KEY;
+            if (correlationExpression != null) {
+                key = correlationExpression.evaluate(exchange, String.class);
+            }
+            TokenBucketState bucket = tokenBuckets.get(key);
+            if (bucket == null) {
+                bucket = tokenBuckets.computeIfAbsent(key, k -> new TokenBucketState());
+            }
+            bucket.calculateAndSetMaxRequestsPerPeriod(exchange);
+
+            long delay = bucket.acquire(!isRejectExecution());
+            if (delay < 0) {
+                throw new ThrottlerRejectedExecutionException(
+                        "Exceeded the max throttle rate of " + bucket.getThrottleRate() + " within " + timePeriodMillis
+                                                              + "ms");
+            }
+            if (delay == 0) {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("No throttling applied to exchangeId: {}", exchange.getExchangeId());
+                }
+                callback.done(true);
+                return true;
+            }
+
+            if (isAsyncDelayed() && !exchange.isTransacted()) {
+                // continue routing when the reserved slot is due, without blocking any thread while waiting
+                try {
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug(
+                                "Throttle rate exceeded but AsyncDelayed enabled, so continuing routing in {}ns, exchangeId: {}",
+                                delay, exchange.getExchangeId());
+                    }
+                    asyncExecutor.schedule(() -> callback.done(false), delay, TimeUnit.NANOSECONDS);
+                    return false;
+                } catch (RejectedExecutionException e) {
+                    if (!isCallerRunsWhenRejected()) {
+                        throw e;
+                    }
+                    LOG.debug("AsyncExecutor is full, rejected exchange will be delayed in the current thread, exchangeId: {}",
+                            exchange.getExchangeId());
+                }
+            }
+
+            // block until the reserved slot is due
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Throttled for {}ns, exchangeId: {}", delay, exchange.getExchangeId());
+            }
+            TimeUnit.NANOSECONDS.sleep(delay);
+            callback.done(true);
+            return true;
+
+        } catch (final InterruptedException e) {
+            // determine if we can still run, or the camel context is forcing a shutdown
+            boolean forceShutdown = exchange.getContext().getShutdownStrategy().forceShutdown(this);
+            if (forceShutdown) {
+                String msg = "Run not allowed as ShutdownStrategy is forcing shutting down, will reject executing exchange: "
+                             + exchange;
+                LOG.debug(msg);
+                exchange.setException(new RejectedExecutionException(msg, e));
+            } else {
+                exchange.setException(e);
+            }
+            callback.done(true);
+            return true;
+        } catch (final Throwable t) {
+            exchange.setException(t);
+            callback.done(true);
+            return true;
+        }
+    }
+
     /**
      * Delegate blocking on the DelayQueue to an asyncExecutor. Except if the executor rejects the submission and
      * isCallerRunsWhenRejected() is enabled, then this method will delegate back to process(), but not before changing
@@ -246,10 +342,25 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
         if (isAsyncDelayed()) {
             ObjectHelper.notNull(asyncExecutor, "executorService", this);
         }
+        if (tokenBucket && correlationExpression != null && asyncExecutor != null) {
+            // a single task removes the buckets of the idle correlation keys, instead of a task per exchange
+            tokenBucketCleanFuture = asyncExecutor.scheduleWithFixedDelay(this::cleanTokenBuckets, cleanPeriodMillis,
+                    cleanPeriodMillis, TimeUnit.MILLISECONDS);
+        }
     }
 
     @Override
     protected void doStop() throws Exception {
+        ScheduledFuture<?> future = tokenBucketCleanFuture;
+        if (future != null) {
+            future.cancel(false);
+            tokenBucketCleanFuture = null;
+        }
+    }
+
+    private void cleanTokenBuckets() {
+        long now = System.nanoTime();
+        tokenBuckets.values().removeIf(bucket -> bucket.isIdle(now));
     }
 
     @Override
@@ -258,6 +369,7 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
             camelContext.getExecutorServiceManager().shutdownNow(asyncExecutor);
         }
         states.clear();
+        tokenBuckets.clear();
         super.doShutdown();
     }
 
@@ -372,6 +484,86 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
         }
     }
 
+    /**
+     * State of the token bucket of a correlation key, using the generic cell rate algorithm (GCRA).
+     * <p/>
+     * The bucket refills continuously with one token per emission interval (the time period divided by the throttle
+     * rate), and holds up to throttle rate tokens. Instead of counting the tokens, only the theoretical arrival time
+     * (TAT) is kept, which is the time when the bucket is full again. An exchange is allowed when the TAT is less than
+     * one time period ahead of now, and then moves the TAT one emission interval ahead.
+     */
+    private final class TokenBucketState {
+        private final AtomicLong theoreticalArrivalTime = new AtomicLong(Long.MIN_VALUE);
+        private volatile int throttleRate;
+
+        int getThrottleRate() {
+            return throttleRate;
+        }
+
+        /**
+         * Evaluates the maxRequestsPerPeriodExpression and adjusts the throttle rate up or down.
+         */
+        void calculateAndSetMaxRequestsPerPeriod(final Exchange exchange) {
+            Integer newThrottle = maxRequestsPerPeriodExpression.evaluate(exchange, Integer.class);
+
+            if (newThrottle != null && newThrottle < 0) {
+                throw new IllegalStateException("The maximumRequestsPerPeriod must be a positive number, was: " + newThrottle);
+            }
+
+            if (newThrottle == null && throttleRate == 0) {
+                throw new RuntimeExchangeException(
+                        "The maxRequestsPerPeriodExpression was evaluated as null: " + maxRequestsPerPeriodExpression,
+                        exchange);
+            }
+
+            if (newThrottle != null && newThrottle != throttleRate) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Throttle rate changed from {} to {}, triggered by ExchangeId: {}", throttleRate, newThrottle,
+                            exchange.getExchangeId());
+                }
+                throttleRate = newThrottle;
+            }
+        }
+
+        /**
+         * Acquires a token from the bucket.
+         *
+         * @param  reserve whether to reserve the next slot when the rate is exceeded
+         * @return         0 if allowed now, the delay in nanos until the reserved slot is due, or -1 if the rate is
+         *                 exceeded and the slot was not reserved
+         */
+        long acquire(boolean reserve) {
+            int rate = throttleRate;
+            if (rate == 0) {
+                // a rate of 0 does not allow any exchange
+                return -1;
+            }
+            long period = TimeUnit.MILLISECONDS.toNanos(timePeriodMillis);
+            long interval = Math.max(period / rate, 1);
+            while (true) {
+                long now = System.nanoTime();
+                long tat = theoreticalArrivalTime.get();
+                // the bucket is full when the TAT is in the past
+                long newTat = (tat == Long.MIN_VALUE || tat - now < 0 ? now : tat) + interval;
+                long delay = newTat - period - now;
+                if (delay > 0 && !reserve) {
+                    return -1;
+                }
+                if (theoreticalArrivalTime.compareAndSet(tat, newTat)) {
+                    return Math.max(delay, 0);
+                }
+            }
+        }
+
+        /**
+         * Whether the bucket has been full for at least the clean period, so it can be removed.
+         */
+        boolean isIdle(long now) {
+            long tat = theoreticalArrivalTime.get();
+            return tat == Long.MIN_VALUE || now - tat > TimeUnit.MILLISECONDS.toNanos(cleanPeriodMillis);
+        }
+    }
+
     /**
      * Permit that implements the Delayed interface needed by DelayQueue.
      */
@@ -413,6 +605,17 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
         this.asyncDelayed = asyncDelayed;
     }
 
+    public boolean isTokenBucket() {
+        return tokenBucket;
+    }
+
+    /**
+     * Whether to use token bucket mode (generic cell rate algorithm) instead of a DelayQueue of permits.
+     */
+    public void setTokenBucket(boolean tokenBucket) {
+        this.tokenBucket = tokenBucket;
+    }
+
     public boolean isCallerRunsWhenRejected() {
         return callerRunsWhenRejected;
     }
@@ -457,6 +660,9 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
      * than the max per period within the group will return
      */
     public int getCurrentMaximumRequestsPerPeriod() {
+        if (tokenBucket) {
+            return tokenBuckets.values().stream().mapToInt(TokenBucketState::getThrottleRate).max().orElse(0);
+        }
         return states.values().stream().mapToInt(ThrottlingState::getThrottleRate).max().orElse(0);
     }
 
@@ -32,6 +32,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.apache.camel.AggregationStrategy;
 import org.apache.camel.AsyncCallback;
@@ -41,6 +42,7 @@ import org.apache.camel.CamelContextAware;
 import org.apache.camel.CamelExchangeException;
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.Expression;
 import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.ExtendedExchange;
@@ -102,6 +104,11 @@ public class AggregateProcessor extends AsyncProcessorSupport
     private static final Logger LOG = LoggerFactory.getLogger(AggregateProcessor.class);
 
     private volatile Lock lock;
+    // lock held while aggregating, which is the read lock when using lock striping
+    private volatile Lock aggregateLock;
+    // per correlation key locks when using lock striping
+    private volatile Lock[] stripes;
+    private final AtomicBoolean pendingForceCompletionOfAllGroups = new AtomicBoolean();
     private final AtomicBoolean aggregateRepositoryWarned = new AtomicBoolean();
     private final CamelContext camelContext;
     private final ReactiveExecutor reactiveExecutor;
@@ -229,6 +236,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
     private Integer closeCorrelationKeyOnCompletion;
     private boolean parallelProcessing;
     private boolean optimisticLocking;
+    private int lockStripes;
 
     // different ways to have completion triggered
     private boolean eagerCheckCompletion;
@@ -401,13 +409,22 @@ public class AggregateProcessor extends AsyncProcessorSupport
         removeFlagCompleteAllGroupsInclusive(copy);
 
         List<Exchange> aggregated = null;
-        lock.lock();
+        Lock stripe = getStripeLock(key);
+        aggregateLock.lock();
+        stripe.lock();
         try {
             aggregated = doAggregation(key, copy);
         } catch (CamelExchangeException e) {
             exchange.setException(e);
         } finally {
-            lock.unlock();
+            stripe.unlock();
+            aggregateLock.unlock();
+        }
+
+        // force completion of all groups requested while aggregating with lock striping,
+        // which must be done after we have released the locks
+        if (pendingForceCompletionOfAllGroups.compareAndSet(true, false)) {
+            forceCompletionOfAllGroups();
         }
 
         // we are completed so do that work outside the lock
@@ -426,18 +443,29 @@ public class AggregateProcessor extends AsyncProcessorSupport
         return sync;
     }
 
+    private Lock getStripeLock(String key) {
+        Lock[] locks = stripes;
+        if (locks == null) {
+            return NoLock.INSTANCE;
+        }
+        // spread the hash code so keys with similar hash codes end up in different stripes
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        return locks[h & (locks.length - 1)];
+    }
+
     private Object removeFlagCompleteCurrentGroup(Exchange exchange) {
         //before everywhere : return exchange.getIn().removeHeader(Exchange.AGGREGATION_COMPLETE_CURRENT_GROUP);
-        return exchange.removeProperty(Exchange.AGGREGATION_COMPLETE_CURRENT_GROUP);
+        return exchange.removeProperty(ExchangePropertyKey.AGGREGATION_COMPLETE_CURRENT_GROUP);
     }
 
     private Boolean isCompleteCurrentGroup(Exchange exchange) {
-        return exchange.getProperty(Exchange.AGGREGATION_COMPLETE_CURRENT_GROUP, false, boolean.class);
+        return exchange.getProperty(ExchangePropertyKey.AGGREGATION_COMPLETE_CURRENT_GROUP, false, boolean.class);
     }
 
     private Object removeFlagCompleteAllGroups(Exchange exchange) {
         Object removedHeader = exchange.getIn().removeHeader(Exchange.AGGREGATION_COMPLETE_ALL_GROUPS);
-        Object removedProp = exchange.removeProperty(Exchange.AGGREGATION_COMPLETE_ALL_GROUPS);
+        Object removedProp = exchange.removeProperty(ExchangePropertyKey.AGGREGATION_COMPLETE_ALL_GROUPS);
         return removedHeader == null ? removedProp : removedHeader;
     }
 
@@ -446,7 +474,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
         if (!retVal) {
             // according to doc it is a property but it is sometimes read as header
             // some test don't fail because they use the header expression which contains a fallback to properties
-            retVal = exchange.getProperty(Exchange.AGGREGATION_COMPLETE_ALL_GROUPS, false, boolean.class);
+            retVal = exchange.getProperty(ExchangePropertyKey.AGGREGATION_COMPLETE_ALL_GROUPS, false, boolean.class);
         }
         return retVal;
     }
@@ -462,7 +490,8 @@ public class AggregateProcessor extends AsyncProcessorSupport
     /**
      * Aggregates the exchange with the given correlation key
      * <p/>
-     * This method <b>must</b> be run synchronized as we cannot aggregate the same correlation key in parallel.
+     * This method <b>must</b> be run synchronized as we cannot aggregate the same correlation key in parallel. When
+     * using lock striping then different correlation keys can be aggregated in parallel.
      * <p/>
      * The returned {@link Exchange} should be send downstream using the
      * {@link #onSubmitCompletion(String, org.apache.camel.Exchange)} method which sends out the aggregated and
@@ -491,7 +520,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
             if (optimisticLocking && aggregationRepository instanceof MemoryAggregationRepository) {
                 oldExchange = originalExchange.copy();
             }
-            size = oldExchange.getProperty(Exchange.AGGREGATED_SIZE, 0, Integer.class);
+            size = oldExchange.getProperty(ExchangePropertyKey.AGGREGATED_SIZE, 0, Integer.class);
             size++;
         }
 
@@ -502,28 +531,28 @@ public class AggregateProcessor extends AsyncProcessorSupport
         if (preCompletion) {
             try {
                 // put the current aggregated size on the exchange so its avail during completion check
-                newExchange.setProperty(Exchange.AGGREGATED_SIZE, size);
+                newExchange.setProperty(ExchangePropertyKey.AGGREGATED_SIZE, size);
                 complete = isPreCompleted(key, oldExchange, newExchange);
                 // make sure to track timeouts if not complete
                 if (complete == null) {
                     trackTimeout(key, newExchange);
                 }
                 // remove it afterwards
-                newExchange.removeProperty(Exchange.AGGREGATED_SIZE);
+                newExchange.removeProperty(ExchangePropertyKey.AGGREGATED_SIZE);
             } catch (Throwable e) {
                 // must catch any exception from aggregation
                 throw new CamelExchangeException("Error occurred during preComplete", newExchange, e);
             }
         } else if (isEagerCheckCompletion()) {
             // put the current aggregated size on the exchange so its avail during completion check
-            newExchange.setProperty(Exchange.AGGREGATED_SIZE, size);
+            newExchange.setProperty(ExchangePropertyKey.AGGREGATED_SIZE, size);
             complete = isCompleted(key, newExchange);
             // make sure to track timeouts if not complete
             if (complete == null) {
                 trackTimeout(key, newExchange);
             }
             // remove it afterwards
-            newExchange.removeProperty(Exchange.AGGREGATED_SIZE);
+            newExchange.removeProperty(ExchangePropertyKey.AGGREGATED_SIZE);
         }
 
         if (preCompletion && complete != null) {
@@ -570,7 +599,12 @@ public class AggregateProcessor extends AsyncProcessorSupport
         // check for the special exchange property to force completion of all groups
         if (isCompleteAllGroups(answer)) {
             removeFlagCompleteAllGroups(answer);
-            forceCompletionOfAllGroups();
+            if (stripes != null) {
+                // we cannot acquire the shared lock while aggregating with lock striping, so defer this
+                pendingForceCompletionOfAllGroups.set(true);
+            } else {
+                forceCompletionOfAllGroups();
+            }
         } else if (isCompletionOnNewCorrelationGroup() && originalExchange == null) {
             // its a new group so force complete of all existing groups
             forceCompletionOfAllGroups();
@@ -587,7 +621,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
         }
 
         // update the aggregated size
-        answer.setProperty(Exchange.AGGREGATED_SIZE, size);
+        answer.setProperty(ExchangePropertyKey.AGGREGATED_SIZE, size);
 
         // maybe we should check completion after the aggregation
         if (!preCompletion && !isEagerCheckCompletion()) {
@@ -624,7 +658,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 }
 
                 if (batchAnswer != null) {
-                    batchAnswer.setProperty(Exchange.AGGREGATED_COMPLETED_BY, complete);
+                    batchAnswer.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, complete);
                     onCompletion(batchKey, originalExchange, batchAnswer, false, aggregateFailed);
                     list.add(batchAnswer);
                 }
@@ -634,7 +668,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
             answer = null;
         } else if (answer != null) {
             // we are complete for this exchange
-            answer.setProperty(Exchange.AGGREGATED_COMPLETED_BY, complete);
+            answer.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, complete);
             answer = onCompletion(key, originalExchange, answer, false, aggregateFailed);
         }
 
@@ -689,7 +723,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
         if (isCompletionFromBatchConsumer()) {
             batchConsumerCorrelationKeys.add(key);
             batchConsumerCounter.incrementAndGet();
-            int size = exchange.getProperty(Exchange.BATCH_SIZE, 0, Integer.class);
+            int size = exchange.getProperty(ExchangePropertyKey.BATCH_SIZE, 0, Integer.class);
             if (size > 0 && batchConsumerCounter.intValue() >= size) {
                 // batch consumer is complete then reset the counter
                 batchConsumerCounter.set(0);
@@ -715,14 +749,14 @@ public class AggregateProcessor extends AsyncProcessorSupport
             if (value != null && value > 0) {
                 // mark as already checked size as expression takes precedence over static configured
                 sizeChecked = true;
-                int size = exchange.getProperty(Exchange.AGGREGATED_SIZE, 1, Integer.class);
+                int size = exchange.getProperty(ExchangePropertyKey.AGGREGATED_SIZE, 1, Integer.class);
                 if (size >= value) {
                     return COMPLETED_BY_SIZE;
                 }
             }
         }
         if (!sizeChecked && getCompletionSize() > 0) {
-            int size = exchange.getProperty(Exchange.AGGREGATED_SIZE, 1, Integer.class);
+            int size = exchange.getProperty(ExchangePropertyKey.AGGREGATED_SIZE, 1, Integer.class);
             if (size >= getCompletionSize()) {
                 return COMPLETED_BY_SIZE;
             }
@@ -766,9 +800,9 @@ public class AggregateProcessor extends AsyncProcessorSupport
             boolean aggregateFailed) {
         // store the correlation key as property before we remove so the repository has that information
         if (original != null) {
-            original.setProperty(Exchange.AGGREGATED_CORRELATION_KEY, key);
+            original.setProperty(ExchangePropertyKey.AGGREGATED_CORRELATION_KEY, key);
         }
-        aggregated.setProperty(Exchange.AGGREGATED_CORRELATION_KEY, key);
+        aggregated.setProperty(ExchangePropertyKey.AGGREGATED_CORRELATION_KEY, key);
 
         // only remove if we have previous added (as we could potentially complete with only 1 exchange)
         // (if we have previous added then we have that as the original exchange)
@@ -837,7 +871,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
         if (getStatistics().isStatisticsEnabled()) {
             totalCompleted.incrementAndGet();
 
-            String completedBy = exchange.getProperty(Exchange.AGGREGATED_COMPLETED_BY, String.class);
+            String completedBy = exchange.getProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, String.class);
             switch (completedBy) {
                 case COMPLETED_BY_INTERVAL:
                     completedByInterval.incrementAndGet();
@@ -905,7 +939,8 @@ public class AggregateProcessor extends AsyncProcessorSupport
         for (String key : keys) {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             // grab the timeout value
-            long timeout = exchange.hasProperties() ? exchange.getProperty(Exchange.AGGREGATED_TIMEOUT, 0L, long.class) : 0L;
+            long timeout = exchange.hasProperties()
+                    ? exchange.getProperty(ExchangePropertyKey.AGGREGATED_TIMEOUT, 0L, long.class) : 0L;
             if (timeout > 0) {
                 if (LOG.isTraceEnabled()) {
                     LOG.trace("Restoring CompletionTimeout for exchangeId: {} with timeout: {} millis.",
@@ -929,7 +964,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
      */
     private void addExchangeToTimeoutMap(String key, Exchange exchange, long timeout) {
         // store the timeout value on the exchange as well, in case we need it later
-        exchange.setProperty(Exchange.AGGREGATED_TIMEOUT, timeout);
+        exchange.setProperty(ExchangePropertyKey.AGGREGATED_TIMEOUT, timeout);
         timeoutMap.put(key, exchange.getExchangeId(), timeout);
     }
 
@@ -1085,6 +1120,18 @@ public class AggregateProcessor extends AsyncProcessorSupport
         this.optimisticLocking = optimisticLocking;
     }
 
+    public int getLockStripes() {
+        return lockStripes;
+    }
+
+    /**
+     * Sets the number of locks to use for lock striping, which allows to aggregate different correlation keys in
+     * parallel. The number is rounded up to a power of two. Use 0 (default) to use a single lock.
+     */
+    public void setLockStripes(int lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
     public AggregationRepository getAggregationRepository() {
         return aggregationRepository;
     }
@@ -1228,8 +1275,10 @@ public class AggregateProcessor extends AsyncProcessorSupport
     private final class AggregationTimeoutMap extends DefaultTimeoutMap<String, String> {
 
         private AggregationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
-            // do NOT use locking on the timeout map as this aggregator has its own shared lock we will use instead
-            super(executor, requestMapPollTimeMillis, optimisticLocking);
+            // do NOT use locking on the timeout map as this aggregator has its own shared lock we will use instead,
+            // unless using lock striping where aggregating on different stripes may update the timeout map concurrently.
+            // And use the timing wheel so tracking many correlation groups does not scan them all on every check
+            super(executor, requestMapPollTimeMillis, optimisticLocking || lockStripes > 0, true);
             addListener(this::onEviction);
         }
 
@@ -1266,7 +1315,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 evictionStolen = true;
             } else {
                 // indicate it was completed by timeout
-                answer.setProperty(Exchange.AGGREGATED_COMPLETED_BY, COMPLETED_BY_TIMEOUT);
+                answer.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_TIMEOUT);
                 try {
                     answer = onCompletion(key, answer, answer, true, false);
                     if (answer != null) {
@@ -1316,7 +1365,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                         } else {
                             LOG.trace("Completion interval triggered for correlation key: {}", key);
                             // indicate it was completed by interval
-                            exchange.setProperty(Exchange.AGGREGATED_COMPLETED_BY, COMPLETED_BY_INTERVAL);
+                            exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_INTERVAL);
                             try {
                                 Exchange answer = onCompletion(key, exchange, exchange, false, false);
                                 if (answer != null) {
@@ -1385,7 +1434,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                         Exchange exchange = recoverable.recover(camelContext, exchangeId);
                         if (exchange != null) {
                             // get the correlation key
-                            String key = exchange.getProperty(Exchange.AGGREGATED_CORRELATION_KEY, String.class);
+                            String key = exchange.getProperty(ExchangePropertyKey.AGGREGATED_CORRELATION_KEY, String.class);
                             // and mark it as redelivered
                             exchange.getIn().setHeader(Exchange.REDELIVERED, Boolean.TRUE);
 
@@ -1501,6 +1550,22 @@ public class AggregateProcessor extends AsyncProcessorSupport
             LOG.info("Optimistic locking is enabled");
         }
 
+        if (lockStripes > 0) {
+            if (optimisticLocking) {
+                throw new IllegalArgumentException("Cannot use both optimisticLocking and lockStripes");
+            }
+            if (isCompletionFromBatchConsumer()) {
+                throw new IllegalArgumentException("Cannot use both completionFromBatchConsumer and lockStripes");
+            }
+            if (isCompletionOnNewCorrelationGroup()) {
+                throw new IllegalArgumentException("Cannot use both completionOnNewCorrelationGroup and lockStripes");
+            }
+            if (closedCorrelationKeys != null && !(closedCorrelationKeys instanceof ConcurrentHashMap)) {
+                // the LRU cache is not thread safe
+                closedCorrelationKeys = Collections.synchronizedMap(closedCorrelationKeys);
+            }
+        }
+
         ServiceHelper.startService(aggregationStrategy, processor, aggregationRepository);
 
         // should we use recover checker
@@ -1584,8 +1649,28 @@ public class AggregateProcessor extends AsyncProcessorSupport
                         .newSingleThreadScheduledExecutor(this, AGGREGATE_OPTIMISTIC_LOCKING_EXECUTOR));
                 shutdownOptimisticLockingExecutorService = true;
             }
+            aggregateLock = lock;
+            stripes = null;
+        } else if (lockStripes > 0) {
+            // aggregating holds the read lock and the lock for the stripe of the correlation key,
+            // and the background tasks hold the write lock to have exclusive access to all the groups
+            ReentrantReadWriteLock rwLock = new ReentrantReadWriteLock();
+            int size = 1;
+            while (size < lockStripes) {
+                size <<= 1;
+            }
+            Lock[] locks = new Lock[size];
+            for (int i = 0; i < size; i++) {
+                locks[i] = new ReentrantLock();
+            }
+            stripes = locks;
+            lock = rwLock.writeLock();
+            aggregateLock = rwLock.readLock();
+            LOG.info("Lock striping is enabled with {} stripes", size);
         } else {
             lock = new ReentrantLock();
+            aggregateLock = lock;
+            stripes = null;
         }
     }
 
@@ -1703,7 +1788,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 total = 1;
                 LOG.trace("Force completion triggered for correlation key: {}", key);
                 // indicate it was completed by a force completion request
-                exchange.setProperty(Exchange.AGGREGATED_COMPLETED_BY, COMPLETED_BY_FORCE);
+                exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_FORCE);
                 Exchange answer = onCompletion(key, exchange, exchange, false, false);
                 if (answer != null) {
                     onSubmitCompletion(key, answer);
@@ -1746,7 +1831,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                     if (exchange != null) {
                         LOG.trace("Force completion triggered for correlation key: {}", key);
                         // indicate it was completed by a force completion request
-                        exchange.setProperty(Exchange.AGGREGATED_COMPLETED_BY, COMPLETED_BY_FORCE);
+                        exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_FORCE);
                         Exchange answer = onCompletion(key, exchange, exchange, false, false);
                         if (answer != null) {
                             onSubmitCompletion(key, answer);
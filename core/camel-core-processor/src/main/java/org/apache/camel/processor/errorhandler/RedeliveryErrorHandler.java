@@ -29,6 +29,7 @@ import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.ExtendedExchange;
 import org.apache.camel.LoggingLevel;
@@ -51,6 +52,8 @@ import org.apache.camel.support.CamelContextHelper;
 import org.apache.camel.support.EventHelper;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.MessageHelper;
+import org.apache.camel.support.PooledExchangeTask;
+import org.apache.camel.support.PooledTaskFactory;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.StopWatch;
@@ -94,6 +97,7 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
     protected final boolean useOriginalBodyPolicy;
     protected boolean redeliveryEnabled;
     protected boolean simpleTask;
+    protected final PooledTaskFactory<SimpleTask> simpleTaskFactory;
     protected final ExchangeFormatter exchangeFormatter;
     protected final boolean customExchangeFormatter;
     protected final Processor onPrepareProcessor;
@@ -127,6 +131,12 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
         this.executorService = executorService;
         this.onPrepareProcessor = onPrepareProcessor;
         this.onExceptionProcessor = onExceptionProcessor;
+        this.simpleTaskFactory = new PooledTaskFactory<SimpleTask>(CamelContextHelper.getMaximumTaskPoolSize(camelContext)) {
+            @Override
+            protected SimpleTask createTask() {
+                return new SimpleTask();
+            }
+        };
 
         if (ObjectHelper.isNotEmpty(redeliveryPolicy.getExchangeFormatterRef())) {
             ExchangeFormatter formatter = camelContext.getRegistry()
@@ -171,7 +181,7 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
         // Create the redelivery task object for this exchange (optimize to only create task can do redelivery or not)
         Runnable task;
         if (simpleTask) {
-            task = new SimpleTask(exchange, callback);
+            task = simpleTaskFactory.acquire(exchange, callback);
         } else {
             task = new RedeliveryTask(exchange, callback);
         }
@@ -191,6 +201,13 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
         return callback.getFuture();
     }
 
+    /**
+     * The factory for the tasks used when the error handler does not support redelivery.
+     */
+    public PooledTaskFactory<?> getSimpleTaskFactory() {
+        return simpleTaskFactory;
+    }
+
     @Override
     public void changeOutput(Processor output) {
         this.output = output;
@@ -343,17 +360,43 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
     }
 
     /**
-     * Simple task to perform calling the processor with no redelivery support
+     * Simple task to perform calling the processor with no redelivery support, which is reused when tasks are pooled.
      */
-    protected class SimpleTask implements Runnable {
-        private final ExtendedExchange exchange;
-        private final AsyncCallback callback;
+    protected class SimpleTask implements Runnable, PooledExchangeTask {
+        private ExtendedExchange exchange;
+        private AsyncCallback callback;
+        // the callback for the processor which is reused with the task
+        private final AsyncCallback outputCallback = doneSync -> {
+            // only continue with callback if we are done
+            if (isDone(exchange)) {
+                AsyncCallback cb = callback;
+                simpleTaskFactory.release(this);
+                reactiveExecutor.schedule(cb);
+            } else {
+                // error occurred so loop back around and call ourselves
+                reactiveExecutor.schedule(this);
+            }
+        };
+
+        public SimpleTask() {
+        }
 
         public SimpleTask(Exchange exchange, AsyncCallback callback) {
+            prepare(exchange, callback);
+        }
+
+        @Override
+        public void prepare(Exchange exchange, AsyncCallback callback) {
             this.exchange = (ExtendedExchange) exchange;
             this.callback = callback;
         }
 
+        @Override
+        public void reset() {
+            this.exchange = null;
+            this.callback = null;
+        }
+
         @Override
         public String toString() {
             return "SimpleTask";
@@ -378,7 +421,10 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
                 if (exchange.getException() == null) {
                     exchange.setException(new RejectedExecutionException());
                 }
-                callback.done(false);
+                // the task is no longer in use so release it before continuing
+                AsyncCallback cb = callback;
+                simpleTaskFactory.release(this);
+                cb.done(false);
                 return;
             }
 
@@ -389,18 +435,12 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
                 prepareExchangeAfterFailure(exchange);
 
                 // we do not support redelivery so continue callback
-                reactiveExecutor.schedule(callback);
+                AsyncCallback cb = callback;
+                simpleTaskFactory.release(this);
+                reactiveExecutor.schedule(cb);
             } else {
                 // Simple delivery
-                outputAsync.process(exchange, doneSync -> {
-                    // only continue with callback if we are done
-                    if (isDone(exchange)) {
-                        reactiveExecutor.schedule(callback);
-                    } else {
-                        // error occurred so loop back around and call ourselves
-                        reactiveExecutor.schedule(this);
-                    }
-                });
+                outputAsync.process(exchange, outputCallback);
             }
         }
 
@@ -408,7 +448,7 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
             Exception e = exchange.getException();
             // e is never null
 
-            Throwable previous = exchange.getProperty(Exchange.EXCEPTION_CAUGHT, Throwable.class);
+            Throwable previous = exchange.getProperty(ExchangePropertyKey.EXCEPTION_CAUGHT, Throwable.class);
             if (previous != null && previous != e) {
                 // a 2nd exception was thrown while handling a previous exception
                 // so we need to add the previous as suppressed by the new exception
@@ -426,7 +466,7 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
             }
 
             // store the original caused exception in a property, so we can restore it later
-            exchange.setProperty(Exchange.EXCEPTION_CAUGHT, e);
+            exchange.setProperty(ExchangePropertyKey.EXCEPTION_CAUGHT, e);
         }
 
         /**
@@ -466,9 +506,10 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
                 LOG.trace("This exchange has already been marked for handling: {}", handled);
                 if (!handled) {
                     // exception not handled, put exception back in the exchange
-                    exchange.setException(exchange.getProperty(Exchange.EXCEPTION_CAUGHT, Exception.class));
+                    exchange.setException(exchange.getProperty(ExchangePropertyKey.EXCEPTION_CAUGHT, Exception.class));
                     // and put failure endpoint back as well
-                    exchange.setProperty(Exchange.FAILURE_ENDPOINT, exchange.getProperty(Exchange.TO_ENDPOINT));
+                    exchange.setProperty(ExchangePropertyKey.FAILURE_ENDPOINT,
+                            exchange.getProperty(ExchangePropertyKey.TO_ENDPOINT));
                 }
                 return;
             }
@@ -483,13 +524,13 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
             LOG.trace("This exchange is not handled or continued so its marked as failed: {}", ee);
             // exception not handled, put exception back in the exchange
             ee.setErrorHandlerHandled(false);
-            ee.setException(exchange.getProperty(Exchange.EXCEPTION_CAUGHT, Exception.class));
+            ee.setException(exchange.getProperty(ExchangePropertyKey.EXCEPTION_CAUGHT, Exception.class));
             // and put failure endpoint back as well
-            ee.setProperty(Exchange.FAILURE_ENDPOINT, ee.getProperty(Exchange.TO_ENDPOINT));
+            ee.setProperty(ExchangePropertyKey.FAILURE_ENDPOINT, ee.getProperty(ExchangePropertyKey.TO_ENDPOINT));
             // and store the route id so we know in which route we failed
             Route rc = ExchangeHelper.getRoute(ee);
             if (rc != null) {
-                ee.setProperty(Exchange.FAILURE_ROUTE_ID, rc.getRouteId());
+                ee.setProperty(ExchangePropertyKey.FAILURE_ROUTE_ID, rc.getRouteId());
             }
 
             // create log message
@@ -506,13 +547,13 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
             }
 
             if (e == null) {
-                e = exchange.getProperty(Exchange.EXCEPTION_CAUGHT, Exception.class);
+                e = exchange.getProperty(ExchangePropertyKey.EXCEPTION_CAUGHT, Exception.class);
             }
 
             if (exchange.isRollbackOnly() || exchange.isRollbackOnlyLast()) {
                 String msg = "Rollback " + ExchangeHelper.logIds(exchange);
                 Throwable cause = exchange.getException() != null
-                        ? exchange.getException() : exchange.getProperty(Exchange.EXCEPTION_CAUGHT, Throwable.class);
+                        ? exchange.getException() : exchange.getProperty(ExchangePropertyKey.EXCEPTION_CAUGHT, Throwable.class);
                 if (cause != null) {
                     msg = msg + " due: " + cause.getMessage();
                 }
@@ -808,7 +849,7 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
             exchange.getIn().removeHeader(Exchange.REDELIVERED);
             exchange.getIn().removeHeader(Exchange.REDELIVERY_COUNTER);
             exchange.getIn().removeHeader(Exchange.REDELIVERY_MAX_COUNTER);
-            exchange.removeProperty(Exchange.FAILURE_HANDLED);
+            exchange.removeProperty(ExchangePropertyKey.FAILURE_HANDLED);
             // keep the Exchange.EXCEPTION_CAUGHT as property so end user knows the caused exception
 
             // create log message
@@ -865,7 +906,7 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
             Exception e = exchange.getException();
             // e is never null
 
-            Throwable previous = exchange.getProperty(Exchange.EXCEPTION_CAUGHT, Throwable.class);
+            Throwable previous = exchange.getProperty(ExchangePropertyKey.EXCEPTION_CAUGHT, Throwable.class);
             if (previous != null && previous != e) {
                 // a 2nd exception was thrown while handling a previous exception
                 // so we need to add the previous as suppressed by the new exception
@@ -883,7 +924,7 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
             }
 
             // store the original caused exception in a property, so we can restore it later
-            exchange.setProperty(Exchange.EXCEPTION_CAUGHT, e);
+            exchange.setProperty(ExchangePropertyKey.EXCEPTION_CAUGHT, e);
 
             // find the error handler to use (if any)
             ExceptionPolicy exceptionPolicy = getExceptionPolicy(exchange, e);
@@ -1010,7 +1051,7 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
 
                 // and remove traces of rollback only and uow exhausted markers
                 exchange.setRollbackOnly(false);
-                exchange.removeProperty(Exchange.UNIT_OF_WORK_EXHAUSTED);
+                exchange.removeProperty(ExchangePropertyKey.UNIT_OF_WORK_EXHAUSTED);
 
                 handled = true;
             } else {
@@ -1060,11 +1101,12 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
                 LOG.trace("Failure processor {} is processing Exchange: {}", processor, exchange);
 
                 // store the last to endpoint as the failure endpoint
-                exchange.setProperty(Exchange.FAILURE_ENDPOINT, exchange.getProperty(Exchange.TO_ENDPOINT));
+                exchange.setProperty(ExchangePropertyKey.FAILURE_ENDPOINT,
+                        exchange.getProperty(ExchangePropertyKey.TO_ENDPOINT));
                 // and store the route id so we know in which route we failed
                 Route rc = ExchangeHelper.getRoute(exchange);
                 if (rc != null) {
-                    exchange.setProperty(Exchange.FAILURE_ROUTE_ID, rc.getRouteId());
+                    exchange.setProperty(ExchangePropertyKey.FAILURE_ROUTE_ID, rc.getRouteId());
                 }
 
                 // fire event as we had a failure processor to handle it, which there is a event for
@@ -1143,9 +1185,10 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
                 LOG.trace("This exchange has already been marked for handling: {}", handled);
                 if (!handled) {
                     // exception not handled, put exception back in the exchange
-                    exchange.setException(exchange.getProperty(Exchange.EXCEPTION_CAUGHT, Exception.class));
+                    exchange.setException(exchange.getProperty(ExchangePropertyKey.EXCEPTION_CAUGHT, Exception.class));
                     // and put failure endpoint back as well
-                    exchange.setProperty(Exchange.FAILURE_ENDPOINT, exchange.getProperty(Exchange.TO_ENDPOINT));
+                    exchange.setProperty(ExchangePropertyKey.FAILURE_ENDPOINT,
+                            exchange.getProperty(ExchangePropertyKey.TO_ENDPOINT));
                 }
                 return;
             }
@@ -1200,13 +1243,13 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
             LOG.trace("This exchange is not handled or continued so its marked as failed: {}", ee);
             // exception not handled, put exception back in the exchange
             ee.setErrorHandlerHandled(false);
-            ee.setException(exchange.getProperty(Exchange.EXCEPTION_CAUGHT, Exception.class));
+            ee.setException(exchange.getProperty(ExchangePropertyKey.EXCEPTION_CAUGHT, Exception.class));
             // and put failure endpoint back as well
-            ee.setProperty(Exchange.FAILURE_ENDPOINT, ee.getProperty(Exchange.TO_ENDPOINT));
+            ee.setProperty(ExchangePropertyKey.FAILURE_ENDPOINT, ee.getProperty(ExchangePropertyKey.TO_ENDPOINT));
             // and store the route id so we know in which route we failed
             String routeId = ExchangeHelper.getAtRouteId(ee);
             if (routeId != null) {
-                ee.setProperty(Exchange.FAILURE_ROUTE_ID, routeId);
+                ee.setProperty(ExchangePropertyKey.FAILURE_ROUTE_ID, routeId);
             }
         }
 
@@ -1272,7 +1315,7 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
                 logStackTrace = currentRedeliveryPolicy.isLogStackTrace();
             }
             if (e == null) {
-                e = exchange.getProperty(Exchange.EXCEPTION_CAUGHT, Exception.class);
+                e = exchange.getProperty(ExchangePropertyKey.EXCEPTION_CAUGHT, Exception.class);
             }
 
             if (newException) {
@@ -1298,7 +1341,7 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
             } else if (exchange.isRollbackOnly() || exchange.isRollbackOnlyLast()) {
                 String msg = "Rollback " + ExchangeHelper.logIds(exchange);
                 Throwable cause = exchange.getException() != null
-                        ? exchange.getException() : exchange.getProperty(Exchange.EXCEPTION_CAUGHT, Throwable.class);
+                        ? exchange.getException() : exchange.getProperty(ExchangePropertyKey.EXCEPTION_CAUGHT, Throwable.class);
                 if (cause != null) {
                     msg = msg + " due: " + cause.getMessage();
                 }
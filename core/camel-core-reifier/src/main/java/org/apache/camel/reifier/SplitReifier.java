@@ -72,6 +72,9 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
                     threadPool, shutdownThreadPool, isStreaming, isStopOnException, timeout, definition.getOnPrepare(),
                     isShareUnitOfWork, isParallelAggregate, isStopOnAggregateException);
         }
+        if (definition.getMaxInflight() != null) {
+            answer.setMaxInflight(parseInt(definition.getMaxInflight()));
+        }
 
         return answer;
     }
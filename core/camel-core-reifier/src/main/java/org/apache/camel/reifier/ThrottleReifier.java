@@ -59,6 +59,12 @@ public class ThrottleReifier extends ExpressionReifier<ThrottleDefinition> {
         // should be true by default
         answer.setCallerRunsWhenRejected(parseBoolean(definition.getCallerRunsWhenRejected(), true));
 
+        String mode = parseString(definition.getMode());
+        if (mode != null && !"DelayQueue".equals(mode) && !"TokenBucket".equals(mode)) {
+            throw new IllegalArgumentException("Unknown throttle mode: " + mode + " (should be DelayQueue or TokenBucket)");
+        }
+        answer.setTokenBucket("TokenBucket".equals(mode));
+
         return answer;
     }
 
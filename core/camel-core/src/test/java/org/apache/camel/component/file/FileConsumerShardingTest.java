@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.FailedToStartRouteException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit test that file consumers can split the files between them using shards
+ */
+public class FileConsumerShardingTest extends ContextTestSupport {
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        deleteDirectory("target/data/sharding");
+        super.setUp();
+    }
+
+    @Test
+    public void testSharding() throws Exception {
+        List<String> bodies = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            bodies.add("Hello " + i);
+        }
+
+        // each file must be picked up by only one of the consumers
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceivedInAnyOrder(bodies);
+        mock.setAssertPeriod(200);
+
+        for (int i = 0; i < 20; i++) {
+            template.sendBodyAndHeader("file:target/data/sharding", "Hello " + i, Exchange.FILE_NAME,
+                    "sub" + (i % 2) + "/hello" + i + ".txt");
+        }
+
+        context.getRouteController().startRoute("shard0");
+        context.getRouteController().startRoute("shard1");
+
+        assertMockEndpointsSatisfied();
+
+        int shard0 = getMockEndpoint("mock:shard0").getReceivedCounter();
+        int shard1 = getMockEndpoint("mock:shard1").getReceivedCounter();
+        assertTrue(shard0 > 0, "Shard 0 should pick up files");
+        assertTrue(shard1 > 0, "Shard 1 should pick up files");
+        assertEquals(20, shard0 + shard1);
+    }
+
+    @Test
+    public void testInvalidShardIndex() throws Exception {
+        Exception e = assertThrows(FailedToStartRouteException.class, () -> context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("file:target/data/sharding?shardCount=2&shardIndex=2").to("mock:invalid");
+            }
+        }));
+        assertIsInstanceOf(IllegalArgumentException.class, e.getCause());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("file:target/data/sharding?initialDelay=0&delay=10&recursive=true&noop=true"
+                     + "&shardCount=2&shardIndex=0")
+                             .routeId("shard0").noAutoStartup()
+                             .convertBodyTo(String.class).to("mock:shard0", "mock:result");
+
+                from("file:target/data/sharding?initialDelay=0&delay=10&recursive=true&noop=true"
+                     + "&shardCount=2&shardIndex=1")
+                             .routeId("shard1").noAutoStartup()
+                             .convertBodyTo(String.class).to("mock:shard1", "mock:result");
+            }
+        };
+    }
+
+}
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Consumer;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.ServiceStatus;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.PollingConsumerPollStrategy;
+import org.apache.camel.spi.Registry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit test that file consumer can walk the sub directories in parallel
+ */
+public class FileConsumerWalkerPoolTest extends ContextTestSupport {
+
+    private final CountDownLatch walking = new CountDownLatch(1);
+    private final CountDownLatch polled = new CountDownLatch(1);
+
+    @Override
+    protected Registry createRegistry() throws Exception {
+        Registry jndi = super.createRegistry();
+        jndi.bind("slowFilter", new SlowFilter());
+        jndi.bind("pollStrategy", new PollStrategy());
+        return jndi;
+    }
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        deleteDirectory("target/data/walker");
+        super.setUp();
+    }
+
+    @Test
+    public void testWalkerPool() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceivedInAnyOrder("a", "b", "a2", "b2", "a3", "b3", "c3");
+
+        template.sendBodyAndHeader("file:target/data/walker", "a", Exchange.FILE_NAME, "a.txt");
+        template.sendBodyAndHeader("file:target/data/walker", "b", Exchange.FILE_NAME, "b.txt");
+        template.sendBodyAndHeader("file:target/data/walker/foo", "a2", Exchange.FILE_NAME, "a2.txt");
+        template.sendBodyAndHeader("file:target/data/walker/bar", "b2", Exchange.FILE_NAME, "b2.txt");
+        template.sendBodyAndHeader("file:target/data/walker/bar", "skip", Exchange.FILE_NAME, "skip.xml");
+        template.sendBodyAndHeader("file:target/data/walker/foo/bar", "a3", Exchange.FILE_NAME, "a3.txt");
+        template.sendBodyAndHeader("file:target/data/walker/bar/foo", "b3", Exchange.FILE_NAME, "b3.txt");
+        template.sendBodyAndHeader("file:target/data/walker/bar/baz", "c3", Exchange.FILE_NAME, "c3.txt");
+
+        context.getRouteController().startRoute("walker");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testWalkerPoolMaxMessagesPerPoll() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:max");
+        mock.expectedMessageCount(4);
+        mock.setAssertPeriod(200);
+
+        for (int i = 0; i < 5; i++) {
+            for (int j = 0; j < 5; j++) {
+                template.sendBodyAndHeader("file:target/data/walker/max/dir" + i, "Hello " + i + j, Exchange.FILE_NAME,
+                        "hello" + j + ".txt");
+            }
+        }
+
+        context.getRouteController().startRoute("max");
+
+        // only one poll so only the first 4 files are picked up
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testStopDuringWalk() throws Exception {
+        for (int i = 0; i < 50; i++) {
+            template.sendBodyAndHeader("file:target/data/walker/stop/dir" + i, "Hello " + i, Exchange.FILE_NAME,
+                    "hello.txt");
+        }
+
+        context.getRouteController().startRoute("stop");
+        assertTrue(walking.await(10, TimeUnit.SECONDS), "Should be walking");
+
+        // the walk takes longer than the shutdown timeout, so the route is forced to stop while most of the sub
+        // directories are still waiting for a walker
+        context.getRouteController().stopRoute("stop", 1, TimeUnit.SECONDS);
+        assertEquals(ServiceStatus.Stopped, context.getRouteController().getRouteStatus("stop"));
+
+        // the poll must not hang waiting for the walkers which never ran
+        assertTrue(polled.await(10, TimeUnit.SECONDS), "Poll should complete");
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("file:target/data/walker?initialDelay=0&delay=10&recursive=true&walkerPoolSize=4&include=.*txt")
+                        .routeId("walker").noAutoStartup()
+                        .convertBodyTo(String.class).to("mock:result");
+
+                from("file:target/data/walker/max?initialDelay=0&delay=60000&recursive=true&walkerPoolSize=4"
+                     + "&maxMessagesPerPoll=4&noop=true")
+                             .routeId("max").noAutoStartup()
+                             .convertBodyTo(String.class).to("mock:max");
+
+                from("file:target/data/walker/stop?initialDelay=0&delay=60000&recursive=true&walkerPoolSize=2"
+                     + "&filter=#slowFilter&pollStrategy=#pollStrategy&noop=true")
+                             .routeId("stop").noAutoStartup()
+                             .to("mock:stop");
+            }
+        };
+    }
+
+    private final class SlowFilter implements GenericFileFilter<Object> {
+
+        @Override
+        public boolean accept(GenericFile<Object> file) {
+            if (Thread.currentThread().getName().contains("FileConsumerWalker")) {
+                walking.countDown();
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return true;
+        }
+    }
+
+    private final class PollStrategy implements PollingConsumerPollStrategy {
+
+        @Override
+        public boolean begin(Consumer consumer, Endpoint endpoint) {
+            return true;
+        }
+
+        @Override
+        public void commit(Consumer consumer, Endpoint endpoint, int polledMessages) {
+            polled.countDown();
+        }
+
+        @Override
+        public boolean rollback(Consumer consumer, Endpoint endpoint, int retryCounter, Exception cause) {
+            polled.countDown();
+            return false;
+        }
+    }
+
+}
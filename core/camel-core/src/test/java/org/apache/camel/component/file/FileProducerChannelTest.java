@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.CachedOutputStream;
+import org.apache.camel.converter.stream.FileInputStreamCache;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit test for writing channel capable bodies to file
+ */
+public class FileProducerChannelTest extends ContextTestSupport {
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        deleteDirectory("target/data/channel");
+        super.setUp();
+    }
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        // spool all streams to disk
+        context.setStreamCaching(true);
+        context.getStreamCachingStrategy().setSpoolDirectory("target/data/channel/cachedir");
+        context.getStreamCachingStrategy().setSpoolThreshold(1);
+        return context;
+    }
+
+    @Test
+    public void testByteBuffer() throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(32);
+        buffer.put("Hello World".getBytes(StandardCharsets.UTF_8));
+        buffer.flip();
+
+        template.sendBodyAndHeader("file://target/data/channel", buffer, Exchange.FILE_NAME, "hello.txt");
+
+        assertFileContent("target/data/channel/hello.txt", "Hello World");
+        // the body is not consumed
+        assertEquals(11, buffer.remaining());
+    }
+
+    @Test
+    public void testAppendBytesWithAppendChars() throws Exception {
+        template.sendBodyAndHeader("file://target/data/channel", "Hello\n", Exchange.FILE_NAME, "hello.txt");
+        template.sendBodyAndHeader("file://target/data/channel?fileExist=Append&appendChars=\\n",
+                "World".getBytes(StandardCharsets.UTF_8), Exchange.FILE_NAME, "hello.txt");
+        template.sendBodyAndHeader("file://target/data/channel?fileExist=Append&appendChars=\\n",
+                ByteBuffer.wrap("How are you?".getBytes(StandardCharsets.UTF_8)), Exchange.FILE_NAME, "hello.txt");
+
+        assertFileContent("target/data/channel/hello.txt", "Hello\nWorld\nHow are you?\n");
+    }
+
+    @Test
+    public void testFileInputStream() throws Exception {
+        template.sendBodyAndHeader("file://target/data/channel", "Hello World", Exchange.FILE_NAME, "source.txt");
+
+        try (FileInputStream fis = new FileInputStream("target/data/channel/source.txt")) {
+            // only the remainder of the stream is written
+            assertEquals(6, fis.skip(6));
+            template.sendBodyAndHeader("file://target/data/channel", fis, Exchange.FILE_NAME, "hello.txt");
+        }
+
+        assertFileContent("target/data/channel/hello.txt", "World");
+    }
+
+    @Test
+    public void testSpooledStreamCache() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write("Hello World".getBytes(StandardCharsets.UTF_8));
+        StreamCache cache = cos.newStreamCache();
+        assertTrue(cache instanceof FileInputStreamCache, "Should be spooled to disk");
+
+        exchange.getIn().setBody(cache);
+        exchange.getIn().setHeader(Exchange.FILE_NAME, "hello.txt");
+        template.send("file://target/data/channel", exchange);
+
+        assertFileContent("target/data/channel/hello.txt", "Hello World");
+    }
+
+    private void assertFileContent(String name, String expected) throws Exception {
+        File file = new File(name);
+        assertTrue(file.exists(), "File should exist: " + file);
+        assertEquals(expected, context.getTypeConverter().convertTo(String.class, file));
+    }
+
+}
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RingBufferBlockingQueueTest {
+
+    @Test
+    public void testOfferPoll() throws Exception {
+        RingBufferBlockingQueue<String> queue = new RingBufferBlockingQueue<>(3);
+        assertTrue(queue.isEmpty());
+        assertEquals(3, queue.remainingCapacity());
+
+        assertTrue(queue.offer("A"));
+        assertTrue(queue.offer("B"));
+        assertTrue(queue.offer("C"));
+        assertFalse(queue.offer("D"), "Queue should be full");
+        assertEquals(3, queue.size());
+        assertEquals(0, queue.remainingCapacity());
+        assertEquals("A", queue.peek());
+
+        assertEquals("A", queue.poll());
+        assertTrue(queue.offer("D"));
+        assertEquals("B", queue.poll());
+        assertEquals("C", queue.poll());
+        assertEquals("D", queue.poll());
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testTimeout() throws Exception {
+        RingBufferBlockingQueue<String> queue = new RingBufferBlockingQueue<>(1);
+        assertNull(queue.poll(50, TimeUnit.MILLISECONDS));
+        assertTrue(queue.offer("A", 50, TimeUnit.MILLISECONDS));
+        assertFalse(queue.offer("B", 50, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testRemove() throws Exception {
+        RingBufferBlockingQueue<String> queue = new RingBufferBlockingQueue<>(10);
+        queue.offer("A");
+        queue.offer("B");
+        queue.offer("C");
+
+        assertTrue(queue.remove("B"));
+        assertFalse(queue.remove("B"));
+        assertFalse(queue.contains("B"));
+
+        List<String> list = new ArrayList<>();
+        assertEquals(2, queue.drainTo(list));
+        assertEquals("[A, C]", list.toString());
+        assertTrue(queue.isEmpty());
+
+        queue.offer("D");
+        queue.clear();
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testClearSingleConsumer() throws Exception {
+        final RingBufferBlockingQueue<Integer> queue
+                = new RingBufferBlockingQueue<>(64, true, RingBufferBlockingQueue.WaitStrategy.YIELD, 1000);
+        final int count = 20000;
+        final Set<Integer> received = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        executor.submit(() -> {
+            for (int i = 0; i < count; i++) {
+                queue.offer(i, 1, TimeUnit.SECONDS);
+            }
+            return null;
+        });
+        executor.submit(() -> {
+            Integer value;
+            while ((value = queue.poll(100, TimeUnit.MILLISECONDS)) != null) {
+                assertTrue(received.add(value), "Received duplicate " + value);
+            }
+            return null;
+        });
+        // clear from another thread than the consumer
+        for (int i = 0; i < 1000; i++) {
+            queue.clear();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS), "Should not hang");
+
+        assertTrue(received.size() <= count);
+        assertTrue(queue.isEmpty());
+        // the queue is still usable
+        assertTrue(queue.offer(-1));
+        assertEquals(-1, queue.poll());
+    }
+
+    @Test
+    public void testInvalidCapacity() throws Exception {
+        assertThrows(IllegalArgumentException.class, () -> new RingBufferBlockingQueue<>(0));
+    }
+
+    @Test
+    public void testMultipleProducersAndConsumers() throws Exception {
+        doTestConcurrent(new RingBufferBlockingQueue<>(64), 4, 4);
+    }
+
+    @Test
+    public void testMultipleProducersSingleConsumer() throws Exception {
+        doTestConcurrent(
+                new RingBufferBlockingQueue<>(64, true, RingBufferBlockingQueue.WaitStrategy.YIELD, 1000), 4, 1);
+    }
+
+    private void doTestConcurrent(RingBufferBlockingQueue<Integer> queue, int producers, int consumers) throws Exception {
+        final int count = 10000;
+        final Set<Integer> received = ConcurrentHashMap.newKeySet();
+        final CountDownLatch latch = new CountDownLatch(producers * count);
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers + consumers);
+        for (int i = 0; i < consumers; i++) {
+            executor.submit(() -> {
+                while (latch.getCount() > 0) {
+                    Integer value = queue.poll(10, TimeUnit.MILLISECONDS);
+                    if (value != null) {
+                        assertTrue(received.add(value), "Received duplicate " + value);
+                        latch.countDown();
+                    }
+                }
+                return null;
+            });
+        }
+        for (int i = 0; i < producers; i++) {
+            final int offset = i * count;
+            executor.submit(() -> {
+                for (int j = 0; j < count; j++) {
+                    queue.put(offset + j);
+                }
+                return null;
+            });
+        }
+
+        assertTrue(latch.await(30, TimeUnit.SECONDS), "Should receive all elements");
+        executor.shutdownNow();
+        assertEquals(producers * count, received.size());
+        assertTrue(queue.isEmpty());
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.List;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class SedaBatchConsumerTest extends ContextTestSupport {
+
+    @Test
+    public void testBatch() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("A", "B", "C", "D", "E", "F", "G");
+        mock.message(0).exchangeProperty(Exchange.BATCH_INDEX).isEqualTo(0);
+        mock.message(0).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(5);
+        mock.message(0).exchangeProperty(Exchange.BATCH_COMPLETE).isEqualTo(false);
+        mock.message(4).exchangeProperty(Exchange.BATCH_INDEX).isEqualTo(4);
+        mock.message(4).exchangeProperty(Exchange.BATCH_COMPLETE).isEqualTo(true);
+        mock.message(5).exchangeProperty(Exchange.BATCH_INDEX).isEqualTo(0);
+        mock.message(5).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(2);
+        mock.message(6).exchangeProperty(Exchange.BATCH_COMPLETE).isEqualTo(true);
+
+        // fill the queue before the consumer starts
+        for (String body : new String[] { "A", "B", "C", "D", "E", "F", "G" }) {
+            template.sendBody("seda:foo", body);
+        }
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testBatchAsList() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:list");
+        mock.expectedMessageCount(2);
+
+        for (String body : new String[] { "A", "B", "C", "D", "E", "F", "G" }) {
+            template.sendBody("seda:bar", body);
+        }
+        context.getRouteController().startRoute("bar");
+
+        assertMockEndpointsSatisfied();
+
+        List<?> first = mock.getReceivedExchanges().get(0).getMessage().getBody(List.class);
+        assertEquals(5, first.size());
+        assertEquals("A", ((Exchange) first.get(0)).getMessage().getBody());
+        assertEquals("E", ((Exchange) first.get(4)).getMessage().getBody());
+        List<?> second = mock.getReceivedExchanges().get(1).getMessage().getBody(List.class);
+        assertEquals(2, second.size());
+        assertEquals("G", ((Exchange) second.get(1)).getMessage().getBody());
+    }
+
+    @Test
+    public void testBatchTimeout() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:timeout");
+        mock.expectedMessageCount(1);
+        mock.message(0).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(3);
+
+        // the consumer waits for more exchanges to fill up the batch
+        template.sendBody("seda:baz", "A");
+        template.sendBody("seda:baz", "B");
+        template.sendBody("seda:baz", "C");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testBatchInOut() throws Exception {
+        context.getRouteController().startRoute("foo");
+
+        Exchange out = template.request("seda:foo", e -> e.getIn().setBody("Hello World"));
+        assertEquals("Bye World", out.getMessage().getBody());
+        // the batch information is not copied back to the producer
+        assertNull(out.getProperty(Exchange.BATCH_INDEX));
+        assertNull(out.getProperty(Exchange.BATCH_SIZE));
+        assertNull(out.getProperty(Exchange.BATCH_COMPLETE));
+    }
+
+    @Test
+    public void testBatchAsListInOut() throws Exception {
+        Object out = template.requestBody("seda:list", "Hello World");
+        assertEquals("HELLO WORLD", out);
+    }
+
+    @Test
+    public void testBatchAsListInOutFailure() throws Exception {
+        try {
+            template.requestBody("seda:list", "Kaboom");
+            fail("Should have thrown an exception");
+        } catch (CamelExecutionException e) {
+            assertIsInstanceOf(IllegalArgumentException.class, e.getCause());
+            assertEquals("Forced", e.getCause().getMessage());
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:foo?batchSize=5").routeId("foo").noAutoStartup()
+                        .to("mock:result")
+                        .transform(body().regexReplaceAll("Hello", "Bye"));
+
+                from("seda:bar?batchSize=5&batchAsList=true").routeId("bar").noAutoStartup()
+                        .to("mock:list");
+
+                from("seda:baz?batchSize=10&batchTimeout=2000&batchAsList=true")
+                        .to("mock:timeout");
+
+                from("seda:list?batchSize=5&batchAsList=true")
+                        .process(e -> {
+                            for (Object element : e.getMessage().getBody(List.class)) {
+                                Exchange exchange = (Exchange) element;
+                                String body = exchange.getMessage().getBody(String.class);
+                                if ("Kaboom".equals(body)) {
+                                    throw new IllegalArgumentException("Forced");
+                                }
+                                exchange.getMessage().setBody(body.toUpperCase());
+                            }
+                        });
+            }
+        };
+    }
+}
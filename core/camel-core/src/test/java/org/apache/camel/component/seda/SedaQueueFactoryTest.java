@@ -26,17 +26,24 @@ import org.apache.camel.Exchange;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  *
  */
 public class SedaQueueFactoryTest extends ContextTestSupport {
     private final ArrayBlockingQueueFactory<Exchange> arrayQueueFactory = new ArrayBlockingQueueFactory<>();
+    private final RingBufferBlockingQueueFactory<Exchange> ringBufferQueueFactory = new RingBufferBlockingQueueFactory<>();
+    private final RingBufferBlockingQueueFactory<Exchange> singleConsumerQueueFactory = new RingBufferBlockingQueueFactory<>();
 
     @Override
     protected CamelContext createCamelContext() throws Exception {
         CamelContext context = super.createCamelContext();
         context.getRegistry().bind("arrayQueueFactory", arrayQueueFactory);
+        context.getRegistry().bind("ringBufferQueueFactory", ringBufferQueueFactory);
+        singleConsumerQueueFactory.setSingleConsumer(true);
+        context.getRegistry().bind("singleConsumerQueueFactory", singleConsumerQueueFactory);
         return context;
     }
 
@@ -66,4 +73,34 @@ public class SedaQueueFactoryTest extends ContextTestSupport {
         BlockingQueue<Exchange> queue = endpoint.getQueue();
         assertIsInstanceOf(LinkedBlockingQueue.class, queue);
     }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testRingBufferBlockingQueueFactory() throws Exception {
+        SedaEndpoint endpoint = resolveMandatoryEndpoint("seda:ringBufferQueue?queueFactory=#ringBufferQueueFactory&size=100",
+                SedaEndpoint.class);
+
+        BlockingQueue<Exchange> queue = endpoint.getQueue();
+        RingBufferBlockingQueue<Exchange> blockingQueue = assertIsInstanceOf(RingBufferBlockingQueue.class, queue);
+        assertEquals(100, blockingQueue.remainingCapacity(), "remainingCapacity - custom");
+    }
+
+    @Test
+    public void testRingBufferBlockingQueueFactorySingleConsumer() throws Exception {
+        SedaEndpoint endpoint = resolveMandatoryEndpoint("seda:single?queueFactory=#singleConsumerQueueFactory",
+                SedaEndpoint.class);
+        assertNotNull(endpoint.createConsumer(exchange -> {
+        }));
+
+        SedaEndpoint concurrent = resolveMandatoryEndpoint(
+                "seda:singleConcurrent?queueFactory=#singleConsumerQueueFactory&concurrentConsumers=2", SedaEndpoint.class);
+        assertThrows(IllegalArgumentException.class, () -> concurrent.createConsumer(exchange -> {
+        }));
+
+        SedaEndpoint multiple = resolveMandatoryEndpoint(
+                "seda:singleMultiple?queueFactory=#singleConsumerQueueFactory&multipleConsumers=true", SedaEndpoint.class);
+        assertThrows(IllegalArgumentException.class, () -> multiple.createConsumer(exchange -> {
+        }));
+        assertThrows(IllegalArgumentException.class, () -> endpoint.createPollingConsumer());
+    }
 }
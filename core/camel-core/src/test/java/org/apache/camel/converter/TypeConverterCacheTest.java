@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.spi.TypeConverterRegistry;
+import org.apache.camel.support.TypeConverterSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class TypeConverterCacheTest extends ContextTestSupport {
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testCacheHit() throws Exception {
+        TypeConverterRegistry.Statistics stats = statistics();
+
+        assertEquals(Integer.valueOf(123), context.getTypeConverter().convertTo(Integer.class, "123"));
+        assertEquals(0, stats.getCacheHitCounter());
+        assertEquals(1, stats.getCacheMissCounter());
+
+        assertEquals(Integer.valueOf(456), context.getTypeConverter().convertTo(Integer.class, "456"));
+        assertEquals(Double.valueOf(1.5), context.getTypeConverter().convertTo(Double.class, "1.5"));
+        assertEquals(Double.valueOf(2.5), context.getTypeConverter().convertTo(Double.class, "2.5"));
+        assertEquals(2, stats.getCacheHitCounter());
+        assertEquals(2, stats.getCacheMissCounter());
+        assertEquals(4, stats.getHitCounter());
+    }
+
+    @Test
+    public void testFallbackCached() throws Exception {
+        TypeConverterRegistry.Statistics stats = statistics();
+
+        assertEquals("Cheese: Gouda", context.getTypeConverter().convertTo(String.class, new MyCheese("Gouda")));
+        assertEquals("Cheese: Brie", context.getTypeConverter().convertTo(String.class, new MyCheese("Brie")));
+        assertEquals(1, stats.getCacheHitCounter());
+        assertEquals(1, stats.getCacheMissCounter());
+        assertEquals(2, stats.getFallbackCounter());
+    }
+
+    @Test
+    public void testFallbackDependsOnValue() throws Exception {
+        // a fallback converter before the toString fallback, which can only convert some of the cheeses
+        context.getTypeConverterRegistry().addFallbackTypeConverter(new TypeConverterSupport() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+                if (type == String.class && value instanceof MyCheese && "Brie".equals(((MyCheese) value).name)) {
+                    return (T) "Special: Brie";
+                }
+                return null;
+            }
+        }, false);
+
+        assertEquals("Cheese: Gouda", context.getTypeConverter().convertTo(String.class, new MyCheese("Gouda")));
+        assertEquals("Special: Brie", context.getTypeConverter().convertTo(String.class, new MyCheese("Brie")));
+        assertEquals("Cheese: Edam", context.getTypeConverter().convertTo(String.class, new MyCheese("Edam")));
+    }
+
+    @Test
+    public void testMissCached() throws Exception {
+        TypeConverterRegistry.Statistics stats = statistics();
+
+        assertNull(context.getTypeConverter().convertTo(MyCheese.class, 123L));
+        assertNull(context.getTypeConverter().convertTo(MyCheese.class, 456L));
+        assertEquals(1, stats.getCacheHitCounter());
+        assertEquals(1, stats.getCacheMissCounter());
+        assertEquals(2, stats.getMissCounter());
+    }
+
+    @Test
+    public void testAddTypeConverterClearsCache() throws Exception {
+        assertEquals("Cheese: Gouda", context.getTypeConverter().convertTo(String.class, new MyCheese("Gouda")));
+        assertNull(context.getTypeConverter().convertTo(MyCheese.class, 123L));
+
+        TypeConverter converter = new TypeConverterSupport() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+                if (value instanceof MyCheese) {
+                    return (T) ("Converted: " + ((MyCheese) value).name);
+                }
+                return (T) new MyCheese("Number " + value);
+            }
+        };
+        context.getTypeConverterRegistry().addTypeConverter(String.class, MyCheese.class, converter);
+        context.getTypeConverterRegistry().addTypeConverter(MyCheese.class, Long.class, converter);
+
+        assertEquals("Converted: Gouda", context.getTypeConverter().convertTo(String.class, new MyCheese("Gouda")));
+        assertEquals("Number 123", context.getTypeConverter().convertTo(MyCheese.class, 123L).name);
+    }
+
+    private TypeConverterRegistry.Statistics statistics() {
+        TypeConverterRegistry.Statistics stats = context.getTypeConverterRegistry().getStatistics();
+        stats.setStatisticsEnabled(true);
+        stats.reset();
+        return stats;
+    }
+
+    private static final class MyCheese {
+        private final String name;
+
+        private MyCheese(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return "Cheese: " + name;
+        }
+    }
+}
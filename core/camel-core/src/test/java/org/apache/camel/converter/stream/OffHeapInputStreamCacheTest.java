@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.impl.engine.DefaultUnitOfWork;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.IOHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OffHeapInputStreamCacheTest extends ContextTestSupport {
+
+    private Exchange exchange;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setStreamCaching(true);
+        context.getStreamCachingStrategy().setSpoolDirectory("target/data/offheap/cachedir");
+        context.getStreamCachingStrategy().setOffHeapThreshold(1024);
+        context.getStreamCachingStrategy().setSpoolThreshold(512 * 1024);
+        context.getStreamCachingStrategy().setOffHeapMaxMemory(512 * 1024);
+        return context;
+    }
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        deleteDirectory("target/data/offheap");
+        super.setUp();
+        context.start();
+
+        exchange = new DefaultExchange(context);
+        UnitOfWork uow = new DefaultUnitOfWork(exchange);
+        exchange.adapt(ExtendedExchange.class).setUnitOfWork(uow);
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    private static byte[] data(int size) {
+        byte[] data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (byte) i;
+        }
+        return data;
+    }
+
+    private static byte[] read(InputStream is) throws Exception {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        IOHelper.copy(is, bos);
+        return bos.toByteArray();
+    }
+
+    @Test
+    public void testSmallStreamOnHeap() throws Exception {
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(data(512));
+
+        StreamCache cache = cos.newStreamCache();
+        assertTrue(cache instanceof InputStreamCache);
+        assertEquals(0, context.getStreamCachingStrategy().getOffHeapUsedMemory());
+    }
+
+    @Test
+    public void testStreamOffHeap() throws Exception {
+        StreamCachingStrategy strategy = context.getStreamCachingStrategy();
+        byte[] data = data(200 * 1024);
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        // write in small chunks to move from the heap to off-heap while writing
+        for (int i = 0; i < data.length; i += 1000) {
+            cos.write(data, i, Math.min(1000, data.length - i));
+        }
+
+        StreamCache cache = cos.newStreamCache();
+        assertTrue(cache instanceof OffHeapInputStreamCache);
+        assertEquals(data.length, cache.length());
+        assertTrue(strategy.getOffHeapUsedMemory() >= data.length);
+        assertEquals(0, new File("target/data/offheap/cachedir").list().length, "Should not spool to disk");
+
+        // re-readable
+        assertArrayEquals(data, read((InputStream) cache));
+        cache.reset();
+        assertArrayEquals(data, read((InputStream) cache));
+
+        // copies share the buffers
+        cache.reset();
+        StreamCache copy = cache.copy(exchange);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        copy.writeTo(bos);
+        assertArrayEquals(data, bos.toByteArray());
+
+        // the buffers are returned to the pool when the exchange is done
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, strategy.getOffHeapUsedMemory());
+    }
+
+    @Test
+    public void testWriteToFile() throws Exception {
+        byte[] data = data(100 * 1024);
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(data);
+        StreamCache cache = cos.newStreamCache();
+        assertTrue(cache instanceof OffHeapInputStreamCache);
+
+        // skip some bytes, and write the remainder using the file channel
+        InputStream is = (InputStream) cache;
+        assertEquals(70000, is.skip(70000));
+        File file = new File("target/data/offheap/out.dat");
+        try (FileOutputStream fos = new FileOutputStream(file)) {
+            cache.writeTo(fos);
+        }
+        assertArrayEquals(Arrays.copyOfRange(data, 70000, data.length), Files.readAllBytes(file.toPath()));
+        // writing the stream consumes it
+        assertEquals(-1, is.read());
+        assertEquals(0, is.available());
+
+        exchange.getUnitOfWork().done(exchange);
+    }
+
+    @Test
+    public void testWriteToConsumesStream() throws Exception {
+        byte[] data = data(100 * 1024);
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(data);
+        StreamCache cache = cos.newStreamCache();
+        assertTrue(cache instanceof OffHeapInputStreamCache);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        cache.writeTo(bos);
+        assertArrayEquals(data, bos.toByteArray());
+        assertEquals(-1, ((InputStream) cache).read());
+
+        cache.reset();
+        assertArrayEquals(data, read((InputStream) cache));
+
+        exchange.getUnitOfWork().done(exchange);
+    }
+
+    @Test
+    public void testReadAfterRelease() throws Exception {
+        byte[] data = data(100 * 1024);
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(data);
+        OffHeapInputStreamCache cache = assertIsInstanceOf(OffHeapInputStreamCache.class, cos.newStreamCache());
+        assertFalse(cache.isReleased());
+
+        // the buffers are returned to the pool when the exchange is done, and may be used by other messages
+        exchange.getUnitOfWork().done(exchange);
+        assertTrue(cache.isReleased());
+
+        assertThrows(IOException.class, () -> cache.read());
+        assertThrows(IOException.class, () -> cache.read(new byte[10], 0, 10));
+        assertThrows(IOException.class, () -> cache.writeTo(new ByteArrayOutputStream()));
+        assertThrows(IOException.class, () -> cache.copy(exchange));
+        assertThrows(IllegalStateException.class, () -> cache.reset());
+    }
+
+    @Test
+    public void testSpoolWhenOffHeapMemoryLimitReached() throws Exception {
+        StreamCachingStrategy strategy = context.getStreamCachingStrategy();
+        byte[] data = data(400 * 1024);
+
+        CachedOutputStream cos1 = new CachedOutputStream(exchange);
+        cos1.write(data);
+        StreamCache cache1 = cos1.newStreamCache();
+        assertTrue(cache1 instanceof OffHeapInputStreamCache);
+
+        // not enough off-heap memory left so spool to disk
+        CachedOutputStream cos2 = new CachedOutputStream(exchange);
+        for (int i = 0; i < data.length; i += 4096) {
+            cos2.write(data, i, 4096);
+        }
+        StreamCache cache2 = cos2.newStreamCache();
+        assertTrue(cache2 instanceof FileInputStreamCache);
+        assertArrayEquals(data, read((InputStream) cache2));
+        assertTrue(strategy.getOffHeapUsedMemory() <= strategy.getOffHeapMaxMemory());
+
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, strategy.getOffHeapUsedMemory());
+    }
+}
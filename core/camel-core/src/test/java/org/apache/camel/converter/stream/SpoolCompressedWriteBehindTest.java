@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.impl.engine.DefaultUnitOfWork;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.IOHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SpoolCompressedWriteBehindTest extends ContextTestSupport {
+
+    private Exchange exchange;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setStreamCaching(true);
+        context.getStreamCachingStrategy().setSpoolDirectory("target/data/spoolcompressed/cachedir");
+        context.getStreamCachingStrategy().setSpoolThreshold(1024);
+        context.getStreamCachingStrategy().setSpoolCompressed(true);
+        context.getStreamCachingStrategy().setSpoolWriteBehind(true);
+        context.getStreamCachingStrategy().setSpoolCipher("RC4");
+        context.getStreamCachingStrategy().getStatistics().setStatisticsEnabled(true);
+        return context;
+    }
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        deleteDirectory("target/data/spoolcompressed");
+        super.setUp();
+        context.start();
+
+        exchange = new DefaultExchange(context);
+        UnitOfWork uow = new DefaultUnitOfWork(exchange);
+        exchange.adapt(ExtendedExchange.class).setUnitOfWork(uow);
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    private static byte[] data(int lines) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            sb.append("<order id=\"").append(i).append("\"><item>Camel in Action</item><amount>1</amount></order>\n");
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] read(InputStream is) throws Exception {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        IOHelper.copy(is, bos);
+        return bos.toByteArray();
+    }
+
+    @Test
+    public void testSpoolCompressed() throws Exception {
+        byte[] data = data(10000);
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        // write in small chunks to hand over many chunks to the write-behind
+        for (int i = 0; i < data.length; i += 1000) {
+            cos.write(data, i, Math.min(1000, data.length - i));
+        }
+
+        StreamCache cache = cos.newStreamCache();
+        assertTrue(cache instanceof FileInputStreamCache);
+        assertEquals(data.length, cache.length());
+
+        FileInputStreamCache fcache = (FileInputStreamCache) cache;
+        assertTrue(fcache.getSpoolDiskSize() < data.length / 4, "Should be compressed, was: " + fcache.getSpoolDiskSize());
+        File[] files = new File("target/data/spoolcompressed/cachedir").listFiles();
+        assertEquals(1, files.length);
+        assertEquals(fcache.getSpoolDiskSize(), files[0].length());
+
+        // re-readable
+        assertArrayEquals(data, read((InputStream) cache));
+        cache.reset();
+        assertArrayEquals(data, read((InputStream) cache));
+
+        // copies can be written to a stream
+        StreamCache copy = cache.copy(exchange);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        copy.writeTo(bos);
+        assertArrayEquals(data, bos.toByteArray());
+
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, new File("target/data/spoolcompressed/cachedir").list().length, "Should delete the temp file");
+    }
+
+    @Test
+    public void testSpoolCompressedStatistics() throws Exception {
+        byte[] data = data(10000);
+        exchange.getIn().setBody(new BufferedInputStream(new ByteArrayInputStream(data)));
+
+        StreamCachingStrategy strategy = context.getStreamCachingStrategy();
+        StreamCache cache = strategy.cache(exchange);
+        assertNotNull(cache);
+        assertArrayEquals(data, read((InputStream) cache));
+
+        StreamCachingStrategy.Statistics statistics = strategy.getStatistics();
+        assertEquals(1, statistics.getCacheSpoolCounter());
+        assertEquals(data.length, statistics.getCacheSpoolSize());
+        assertTrue(statistics.getCacheSpoolDiskSize() > 0);
+        assertTrue(statistics.getCacheSpoolDiskSize() < statistics.getCacheSpoolSize());
+        assertTrue(statistics.getCacheSpoolCompressionRatio() > 4, "Was: " + statistics.getCacheSpoolCompressionRatio());
+        assertTrue(statistics.getCacheSpoolAverageTime() >= 0);
+
+        exchange.getUnitOfWork().done(exchange);
+    }
+}
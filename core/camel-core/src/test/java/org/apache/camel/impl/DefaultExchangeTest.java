@@ -18,9 +18,12 @@ package org.apache.camel.impl;
 
 import java.io.IOException;
 import java.net.ConnectException;
+import java.util.Iterator;
+import java.util.Map;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.ExchangeTestSupport;
 import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.Message;
@@ -223,6 +226,78 @@ public class DefaultExchangeTest extends ExchangeTestSupport {
         assertEquals("Africa", exchange.getProperty("zone", String.class));
     }
 
+    @Test
+    public void testInternalProperty() throws Exception {
+        exchange.removeProperty("foobar");
+        assertFalse(exchange.hasProperties());
+
+        exchange.setProperty(ExchangePropertyKey.SPLIT_INDEX, 3);
+        assertTrue(exchange.hasProperties());
+        assertEquals(3, exchange.getProperty(ExchangePropertyKey.SPLIT_INDEX));
+        assertEquals(3, exchange.getProperty(Exchange.SPLIT_INDEX));
+        assertEquals("3", exchange.getProperty(ExchangePropertyKey.SPLIT_INDEX, String.class));
+        assertEquals(3, exchange.getProperties().get(Exchange.SPLIT_INDEX));
+
+        exchange.setProperty(Exchange.SPLIT_SIZE, 5);
+        assertEquals(5, exchange.getProperty(ExchangePropertyKey.SPLIT_SIZE));
+        assertEquals(2, exchange.getProperties().size());
+
+        assertEquals(3, exchange.removeProperty(Exchange.SPLIT_INDEX));
+        assertNull(exchange.getProperty(ExchangePropertyKey.SPLIT_INDEX));
+        assertEquals(5, exchange.removeProperty(ExchangePropertyKey.SPLIT_SIZE));
+        assertFalse(exchange.hasProperties());
+    }
+
+    @Test
+    public void testPropertiesView() throws Exception {
+        exchange.removeProperty("foobar");
+        assertFalse(exchange.hasProperties());
+
+        exchange.setProperty(ExchangePropertyKey.TO_ENDPOINT, "mock://result");
+        exchange.setProperty("fruit", "apple");
+
+        Map<String, Object> properties = exchange.getProperties();
+        assertEquals(2, properties.size());
+        assertEquals("mock://result", properties.get(Exchange.TO_ENDPOINT));
+        assertEquals("apple", properties.get("fruit"));
+
+        properties.put(Exchange.FAILURE_ENDPOINT, "mock://failure");
+        properties.put("zone", "Africa");
+        assertEquals("mock://failure", exchange.getProperty(ExchangePropertyKey.FAILURE_ENDPOINT));
+        assertEquals("Africa", exchange.getProperty("zone"));
+        assertEquals(4, properties.entrySet().size());
+
+        Iterator<Map.Entry<String, Object>> it = properties.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Object> entry = it.next();
+            if (entry.getKey().equals(Exchange.TO_ENDPOINT) || entry.getKey().equals("fruit")) {
+                it.remove();
+            }
+        }
+        assertNull(exchange.getProperty(ExchangePropertyKey.TO_ENDPOINT));
+        assertNull(exchange.getProperty("fruit"));
+        assertEquals(2, properties.size());
+
+        properties.clear();
+        assertFalse(exchange.hasProperties());
+    }
+
+    @Test
+    public void testCopyInternalProperties() throws Exception {
+        exchange.setProperty(ExchangePropertyKey.SPLIT_INDEX, 1);
+        exchange.setProperty("fruit", "apple");
+
+        Exchange copy = exchange.copy();
+        assertEquals(1, copy.getProperty(ExchangePropertyKey.SPLIT_INDEX));
+        assertEquals("apple", copy.getProperty("fruit"));
+
+        // changes on the copy must not affect the original
+        copy.setProperty(ExchangePropertyKey.SPLIT_INDEX, 2);
+        copy.setProperty("fruit", "banana");
+        assertEquals(1, exchange.getProperty(ExchangePropertyKey.SPLIT_INDEX));
+        assertEquals("apple", exchange.getProperty("fruit"));
+    }
+
     @Test
     public void testInType() throws Exception {
         exchange.setIn(new MyMessage(context));
@@ -42,6 +42,7 @@ import org.junit.jupiter.api.Test;
 import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class DefaultProducerCacheTest extends ContextTestSupport {
 
@@ -208,6 +209,128 @@ public class DefaultProducerCacheTest extends ContextTestSupport {
         await().atMost(3, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(3, stopCounter.get()));
     }
 
+    @Test
+    public void testHitsAndMisses() throws Exception {
+        DefaultProducerCache cache = new DefaultProducerCache(this, context, 5);
+        cache.start();
+
+        Endpoint e = newEndpoint(false, 1);
+        e.setCamelContext(context);
+
+        AsyncProducer p1 = cache.acquireProducer(e);
+        cache.releaseProducer(e, p1);
+        p1 = cache.acquireProducer(e);
+        AsyncProducer p2 = cache.acquireProducer(e);
+        cache.releaseProducer(e, p2);
+        cache.releaseProducer(e, p1);
+
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(2, producerCounter.get());
+        assertTrue(cache.getMaxCreationTime() >= cache.getMeanCreationTime());
+
+        cache.resetStatistics();
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+
+        cache.stop();
+    }
+
+    @Test
+    public void testPoolMaxSize() throws Exception {
+        DefaultProducerCache cache = new DefaultProducerCache(this, context, 10);
+        cache.setPoolMaxSize(2);
+        cache.start();
+
+        Endpoint e = newEndpoint(false, 1);
+        e.setCamelContext(context);
+
+        AsyncProducer p1 = cache.acquireProducer(e);
+        AsyncProducer p2 = cache.acquireProducer(e);
+        AsyncProducer p3 = cache.acquireProducer(e);
+        cache.releaseProducer(e, p1);
+        cache.releaseProducer(e, p2);
+        cache.releaseProducer(e, p3);
+
+        // there is only room for 2 idle producers for the endpoint
+        assertEquals(2, cache.size());
+        assertEquals(1, stopCounter.get());
+
+        cache.stop();
+    }
+
+    @Test
+    public void testWarmUp() throws Exception {
+        DefaultProducerCache cache = new DefaultProducerCache(this, context, 10);
+        cache.setPoolMinSize(3);
+        cache.start();
+
+        Endpoint e = newEndpoint(false, 1);
+        e.setCamelContext(context);
+        cache.warmUp(e);
+
+        assertEquals(3, cache.size());
+        assertEquals(3, producerCounter.get());
+        assertEquals(0, cache.getMisses());
+
+        AsyncProducer p = cache.acquireProducer(e);
+        cache.releaseProducer(e, p);
+        assertEquals(1, cache.getHits());
+        assertEquals(3, producerCounter.get());
+
+        cache.stop();
+    }
+
+    @Test
+    public void testWarmUpKnownEndpointsWhenRestarted() throws Exception {
+        DefaultProducerCache cache = new DefaultProducerCache(this, context, 10);
+        cache.setPoolMinSize(2);
+        cache.start();
+
+        Endpoint e = newEndpoint(false, 1);
+        context.addEndpoint("my://1", e);
+        AsyncProducer p = cache.acquireProducer(e);
+        cache.releaseProducer(e, p);
+        assertEquals(1, cache.size());
+
+        cache.stop();
+        assertEquals(0, cache.size());
+
+        // should warm up the endpoint which was used before
+        cache.start();
+        assertEquals(2, cache.size());
+
+        cache.stop();
+    }
+
+    @Test
+    public void testIdleEviction() throws Exception {
+        DefaultProducerCache cache = new DefaultProducerCache(this, context, 10);
+        cache.setPoolMinSize(1);
+        cache.setPoolIdleTime(50);
+        cache.start();
+
+        Endpoint e = newEndpoint(false, 1);
+        e.setCamelContext(context);
+
+        AsyncProducer p1 = cache.acquireProducer(e);
+        AsyncProducer p2 = cache.acquireProducer(e);
+        AsyncProducer p3 = cache.acquireProducer(e);
+        cache.releaseProducer(e, p1);
+        cache.releaseProducer(e, p2);
+        cache.releaseProducer(e, p3);
+        assertEquals(3, cache.size());
+
+        // the idle producers are stopped until the min size is reached
+        await().atMost(3, TimeUnit.SECONDS).untilAsserted(() -> {
+            cache.cleanUp();
+            assertEquals(1, cache.size());
+        });
+        assertEquals(2, stopCounter.get());
+
+        cache.stop();
+    }
+
     private class MyProducerCache extends DefaultProducerCache {
 
         private MyServicePool myServicePool;
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.converter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class TypeConverterCacheGenerationTest {
+
+    private final TypeConverterCache cache = new TypeConverterCache();
+
+    @Test
+    public void testPut() throws Exception {
+        cache.put(cache.getGeneration(), Integer.class, String.class, TypeConverterCache.MISS, null);
+        cache.put(cache.getGeneration(), Country.class, String.class, TypeConverterCache.FALLBACK, null);
+
+        assertNotNull(cache.get(Integer.class, String.class));
+        assertEquals(TypeConverterCache.FALLBACK, cache.get(Country.class, String.class).getKind());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testStalePutAfterClear() throws Exception {
+        // the conversions are resolved before the cache is cleared (e.g. when a type converter is added)
+        int generation = cache.getGeneration();
+        cache.clear();
+        cache.put(generation, Integer.class, String.class, TypeConverterCache.MISS, null);
+        cache.put(generation, Country.class, String.class, TypeConverterCache.MISS, null);
+
+        assertNull(cache.get(Integer.class, String.class));
+        assertNull(cache.get(Country.class, String.class));
+        assertEquals(0, cache.size());
+
+        // and resolved again after the cache was cleared
+        cache.put(cache.getGeneration(), Integer.class, String.class, TypeConverterCache.MISS, null);
+        cache.put(cache.getGeneration(), Country.class, String.class, TypeConverterCache.MISS, null);
+
+        assertNotNull(cache.get(Integer.class, String.class));
+        assertNotNull(cache.get(Country.class, String.class));
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.ExchangeFactory;
+import org.apache.camel.support.DefaultConsumer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PooledExchangeFactoryTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        PooledExchangeFactory factory = new PooledExchangeFactory();
+        factory.setStatisticsEnabled(true);
+        factory.setLeakDetectionEnabled(true);
+        factory.setCapacity(10);
+        context.adapt(ExtendedCamelContext.class).setExchangeFactory(factory);
+        return context;
+    }
+
+    @Test
+    public void testPooledTimer() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(10);
+        getMockEndpoint("mock:result").message(0).body().isEqualTo("Hello 1");
+        getMockEndpoint("mock:result").message(9).body().isEqualTo("Hello 10");
+
+        context.getRouteController().startRoute("timer");
+
+        assertMockEndpointsSatisfied();
+        context.getRouteController().stopRoute("timer");
+
+        ExchangeFactory factory = getExchangeFactory("timer");
+        assertTrue(factory.isPooled());
+        assertEquals(10, factory.getCapacity());
+        // the same exchange is reused as the timer is synchronous
+        assertEquals(1, factory.getCreatedCounter());
+        assertEquals(9, factory.getAcquiredCounter());
+        assertEquals(factory.getCreatedCounter() + factory.getAcquiredCounter(), factory.getReleasedCounter());
+        assertEquals(0, factory.getDiscardedCounter());
+        assertEquals(0, factory.getLeakedCounter());
+    }
+
+    @Test
+    public void testReset() throws Exception {
+        DefaultConsumer consumer = (DefaultConsumer) context.getRoute("idle").getConsumer();
+
+        Exchange exchange = consumer.createExchange(false);
+        String id = exchange.getExchangeId();
+        exchange.setProperty("foo", "bar");
+        exchange.getIn().setHeader("beer", "Carlsberg");
+        exchange.getIn().setBody("Hello World");
+        exchange.getMessage().setBody("Bye World");
+        exchange.setException(new IllegalArgumentException("Forced"));
+        exchange.setRouteStop(true);
+        consumer.releaseExchange(exchange, false);
+
+        Exchange reused = consumer.createExchange(false);
+        assertSame(exchange, reused);
+        assertNotEquals(id, reused.getExchangeId());
+        assertNull(reused.getProperty("foo"));
+        assertNull(reused.getIn().getHeader("beer"));
+        assertNull(reused.getIn().getBody());
+        assertNull(reused.getException());
+        assertFalse(reused.isRouteStop());
+        assertSame(consumer.getEndpoint(), reused.getFromEndpoint());
+        consumer.releaseExchange(reused, false);
+    }
+
+    @Test
+    public void testLeakDetection() throws Exception {
+        DefaultConsumer consumer = (DefaultConsumer) context.getRoute("idle").getConsumer();
+
+        // an exchange which is never released
+        consumer.createExchange(false);
+
+        context.getRouteController().stopRoute("idle");
+        assertEquals(1, consumer.getExchangeFactory().getLeakedCounter());
+    }
+
+    @Test
+    public void testAutoRelease() throws Exception {
+        getMockEndpoint("mock:idle").expectedBodiesReceived("Hello World");
+
+        DefaultConsumer consumer = (DefaultConsumer) context.getRoute("idle").getConsumer();
+        ExchangeFactory factory = consumer.getExchangeFactory();
+        factory.resetStatistics();
+
+        Exchange exchange = consumer.createExchange(true);
+        exchange.getIn().setBody("World");
+        consumer.getProcessor().process(exchange);
+
+        // the exchange is released when its unit of work is done
+        assertMockEndpointsSatisfied();
+        assertEquals(1, factory.getReleasedCounter());
+        assertNull(exchange.getIn().getBody());
+    }
+
+    private ExchangeFactory getExchangeFactory(String routeId) {
+        return ((DefaultConsumer) context.getRoute(routeId).getConsumer()).getExchangeFactory();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("timer:foo?period=1&repeatCount=10").routeId("timer").noAutoStartup()
+                        .transform(simple("Hello ${exchangeProperty.CamelTimerCounter}"))
+                        .to("mock:result");
+
+                // a timer which does not fire during testing so its consumer can be used to create exchanges
+                from("timer:bar?delay=1h").routeId("idle")
+                        .transform(simple("Hello ${body}"))
+                        .to("mock:idle");
+            }
+        };
+    }
+}
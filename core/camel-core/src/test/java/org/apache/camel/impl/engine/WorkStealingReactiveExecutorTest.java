@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.support.AsyncProcessorSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WorkStealingReactiveExecutorTest extends ContextTestSupport {
+
+    private final ScheduledExecutorService io = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "io"));
+    private final Queue<AsyncCallback> callbacks = new ConcurrentLinkedQueue<>();
+    private final Set<String> threads = ConcurrentHashMap.newKeySet();
+    private final WorkStealingReactiveExecutor reactiveExecutor = new WorkStealingReactiveExecutor();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        reactiveExecutor.setPoolSize(2);
+        reactiveExecutor.setHandOffThreshold(1);
+        context.adapt(ExtendedCamelContext.class).setReactiveExecutor(reactiveExecutor);
+        return context;
+    }
+
+    @Override
+    @AfterEach
+    public void tearDown() throws Exception {
+        super.tearDown();
+        io.shutdownNow();
+    }
+
+    @Test
+    public void testHandOff() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(100);
+
+        // complete the pending exchanges in batches on the io thread like an asynchronous producer
+        io.scheduleWithFixedDelay(() -> reactiveExecutor.schedule(() -> {
+            AsyncCallback callback;
+            while ((callback = callbacks.poll()) != null) {
+                callback.done(false);
+            }
+        }), 10, 10, TimeUnit.MILLISECONDS);
+
+        for (int i = 0; i < 100; i++) {
+            template.asyncSendBody("direct:start", "Hello " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        // the exchanges were continued on the io thread which handed off the tasks
+        assertTrue(reactiveExecutor.getHandedOffTasks() > 0);
+        assertTrue(threads.stream().anyMatch(t -> t.contains("ReactiveExecutor")), "Should use the pool: " + threads);
+        assertTrue(reactiveExecutor.getExecutedTasks() >= reactiveExecutor.getHandedOffTasks());
+        assertEquals(0, reactiveExecutor.getPendingTasks());
+    }
+
+    @Test
+    public void testSteal() throws Exception {
+        CountDownLatch latch = new CountDownLatch(50);
+        io.submit(() -> reactiveExecutor.schedule(() -> {
+            // schedule slow tasks so the io thread has queued tasks which can be stolen
+            for (int i = 0; i < 50; i++) {
+                reactiveExecutor.schedule(() -> {
+                    threads.add(Thread.currentThread().getName());
+                    try {
+                        Thread.sleep(5);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    latch.countDown();
+                });
+            }
+        }));
+
+        assertTrue(latch.await(20, TimeUnit.SECONDS));
+        assertTrue(reactiveExecutor.getHandedOffTasks() > 0);
+        assertTrue(reactiveExecutor.getStolenTasks() > 0);
+        assertEquals(51, reactiveExecutor.getExecutedTasks());
+        assertTrue(threads.contains("io"));
+    }
+
+    @Test
+    public void testSync() throws Exception {
+        getMockEndpoint("mock:sync").expectedMessageCount(1);
+
+        template.send("direct:sync", e -> {
+            e.adapt(ExtendedExchange.class).setTransacted(true);
+            e.getMessage().setBody("Hello World");
+        });
+
+        assertMockEndpointsSatisfied();
+
+        // synchronous tasks are never handed off
+        assertEquals(0, reactiveExecutor.getHandedOffTasks());
+        assertEquals(0, reactiveExecutor.getStolenTasks());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .process(new AsyncProcessorSupport() {
+                            @Override
+                            public boolean process(Exchange exchange, AsyncCallback callback) {
+                                callbacks.add(callback);
+                                return false;
+                            }
+                        })
+                        .process(e -> threads.add(Thread.currentThread().getName()))
+                        .transform(body().prepend("Bye "))
+                        .to("mock:result");
+
+                from("direct:sync")
+                        .split(body().tokenize(" "))
+                        .to("mock:split")
+                        .end()
+                        .to("mock:sync");
+            }
+        };
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import org.apache.camel.ExchangeTestSupport;
+import org.apache.camel.Predicate;
+import org.apache.camel.language.simple.types.SimpleIllegalSyntaxException;
+import org.apache.camel.support.ExpressionToPredicateAdapter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the predicates created by {@link SimplePredicateOptimizer} directly, and that they match the same as when the
+ * predicate is interpreted.
+ */
+public class SimplePredicateOptimizerTest extends ExchangeTestSupport {
+
+    @Test
+    public void testNull() throws Exception {
+        assertOptimized("${header.missing} == null", true);
+        assertOptimized("${header.missing} != null", false);
+        assertOptimized("${header.missing} == 'foo'", false);
+        assertOptimized("${header.missing} regex '[a-z]+'", false);
+        assertOptimized("${header.missing} in 'a,b'", false);
+        assertOptimized("${header.missing} is 'java.lang.String'", false);
+
+        exchange.getIn().setHeader("foo", "bar");
+        assertOptimized("${header.foo} == null", false);
+        assertOptimized("${header.foo} != null", true);
+    }
+
+    @Test
+    public void testNumericCoercion() throws Exception {
+        exchange.getIn().setHeader("num", "123");
+        assertOptimized("${header.num} == 123", true);
+        assertOptimized("${header.num} > 100", true);
+        assertOptimized("${header.num} < 100", false);
+        assertOptimized("${header.num} >= 123", true);
+
+        exchange.getIn().setHeader("num", 123);
+        assertOptimized("${header.num} == '123'", true);
+        assertOptimized("${header.num} <= 123", true);
+        assertOptimized("${header.num} != 124", true);
+
+        exchange.getIn().setHeader("num", 123L);
+        assertOptimized("${header.num} > 100", true);
+        assertOptimized("${header.num} == 123", true);
+
+        exchange.getIn().setHeader("num", 1.5d);
+        assertOptimized("${header.num} < 2", true);
+        assertOptimized("${header.num} == 1.5", true);
+    }
+
+    @Test
+    public void testRegex() throws Exception {
+        exchange.getIn().setHeader("text", "Hello World");
+        assertOptimized("${header.text} regex '^Hello.*'", true);
+        assertOptimized("${header.text} regex \"^Hello.*\"", true);
+        assertOptimized("${header.text} regex '[a-z]+'", false);
+        assertOptimized("${header.text} !regex '[a-z]+'", true);
+
+        // the pattern is compiled once and reused for every exchange
+        Predicate predicate = optimize("${header.text} regex '^Hello.*'");
+        assertTrue(predicate.matches(exchange));
+        exchange.getIn().setHeader("text", "Bye World");
+        assertFalse(predicate.matches(exchange));
+        exchange.getIn().setHeader("text", 123);
+        assertFalse(predicate.matches(exchange));
+    }
+
+    @Test
+    public void testRange() throws Exception {
+        exchange.getIn().setHeader("num", "150");
+        assertOptimized("${header.num} range '100..200'", true);
+        assertOptimized("${header.num} !range '100..200'", false);
+
+        exchange.getIn().setHeader("num", 100);
+        assertOptimized("${header.num} range '100..200'", true);
+
+        exchange.getIn().setHeader("num", 200L);
+        assertOptimized("${header.num} range '100..200'", true);
+
+        exchange.getIn().setHeader("num", 250);
+        assertOptimized("${header.num} range '100..200'", false);
+        assertOptimized("${header.num} !range '100..200'", true);
+    }
+
+    @Test
+    public void testIn() throws Exception {
+        exchange.getIn().setHeader("num", 2);
+        assertOptimized("${header.num} in '1,2,3'", true);
+        assertOptimized("${header.num} !in '1,2,3'", false);
+        assertOptimized("${header.num} in '4,5'", false);
+
+        exchange.getIn().setHeader("num", "3");
+        assertOptimized("${header.num} in '1,2,3'", true);
+
+        exchange.getIn().setHeader("text", "gold");
+        assertOptimized("${header.text} in 'silver,gold'", true);
+        assertOptimized("${header.text} in 'silver,bronze'", false);
+    }
+
+    @Test
+    public void testIs() throws Exception {
+        exchange.getIn().setHeader("num", 123);
+        assertOptimized("${header.num} is 'java.lang.Integer'", true);
+        assertOptimized("${header.num} is 'java.lang.String'", false);
+        assertOptimized("${header.num} !is 'java.lang.String'", true);
+    }
+
+    @Test
+    public void testLogical() throws Exception {
+        exchange.getIn().setHeader("num", 150);
+        exchange.getIn().setHeader("text", "gold");
+        assertOptimized("${header.num} range '100..200' && ${header.text} in 'silver,gold'", true);
+        assertOptimized("${header.num} > 200 && ${header.text} == 'gold'", false);
+        assertOptimized("${header.num} > 200 || ${header.text} == 'gold'", true);
+    }
+
+    @Test
+    public void testFallbackToInterpreted() throws Exception {
+        exchange.getIn().setHeader("text", "Hello World");
+        exchange.getIn().setHeader("pattern", "^Hello.*");
+
+        // the right hand side is a function so it must be evaluated every time
+        Predicate predicate = parse("${header.text} regex ${header.pattern}", true);
+        assertTrue(predicate instanceof ExpressionToPredicateAdapter, "Should be interpreted");
+        assertTrue(predicate.matches(exchange));
+        exchange.getIn().setHeader("pattern", "^Bye.*");
+        assertFalse(predicate.matches(exchange));
+
+        // invalid syntax is reported the same way as when interpreted
+        Predicate invalid = parse("${header.text} range '100..abc'", true);
+        assertTrue(invalid instanceof ExpressionToPredicateAdapter, "Should be interpreted");
+        assertThrows(SimpleIllegalSyntaxException.class, () -> invalid.matches(exchange));
+    }
+
+    private Predicate optimize(String expression) {
+        Predicate predicate = parse(expression, true);
+        assertFalse(predicate instanceof ExpressionToPredicateAdapter, "Should be optimized: " + expression);
+        return predicate;
+    }
+
+    private Predicate parse(String expression, boolean optimize) {
+        return new SimplePredicateParser(context, expression, true, null, optimize).parsePredicate();
+    }
+
+    private void assertOptimized(String expression, boolean expected) {
+        assertEquals(expected, parse(expression, false).matches(exchange), "Interpreted: " + expression);
+        assertEquals(expected, optimize(expression).matches(exchange), "Optimized: " + expression);
+    }
+
+}
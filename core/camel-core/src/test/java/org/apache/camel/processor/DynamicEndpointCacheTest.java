@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Map;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Endpoint;
+import org.apache.camel.ExchangePattern;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.NormalizedEndpointUri;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class DynamicEndpointCacheTest extends ContextTestSupport {
+
+    @Test
+    public void testCache() throws Exception {
+        DynamicEndpointCache cache = new DynamicEndpointCache(context, 2);
+
+        Endpoint foo = context.getEndpoint("mock:foo");
+        Endpoint bar = context.getEndpoint("mock:bar");
+        Endpoint baz = context.getEndpoint("mock:baz");
+        put(cache, "mock:foo", foo);
+        put(cache, "mock:bar", bar);
+        assertSame(foo, cache.get("mock:foo"));
+        assertSame(bar, cache.get("mock:bar"));
+
+        // the cache is bounded
+        put(cache, "mock:baz", baz);
+        assertEquals(2, cache.size());
+        assertSame(baz, cache.get("mock:baz"));
+
+        // property placeholders are not cached
+        cache.put("mock:{{cheese}}", normalize("mock:foo"), foo);
+        assertNull(cache.get("mock:{{cheese}}"));
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNull(cache.get("mock:baz"));
+    }
+
+    @Test
+    public void testStoppedEndpointNotReturned() throws Exception {
+        DynamicEndpointCache cache = new DynamicEndpointCache(context, 10);
+
+        Endpoint foo = context.getEndpoint("mock:foo");
+        put(cache, "mock:foo", foo);
+        assertSame(foo, cache.get("mock:foo"));
+
+        context.removeEndpoint(foo);
+        assertNull(cache.get("mock:foo"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testEvictedFromRegistryNotReturned() throws Exception {
+        DynamicEndpointCache cache = new DynamicEndpointCache(context, 10);
+
+        Endpoint foo = context.getEndpoint("mock:foo");
+        put(cache, "mock:foo", foo);
+        assertSame(foo, cache.get("mock:foo"));
+
+        // the registry does not stop the endpoint when it is evicted
+        Object key = context.getEndpointRegistry().entrySet().stream()
+                .filter(e -> e.getValue() == foo).map(Map.Entry::getKey).findFirst().get();
+        context.getEndpointRegistry().remove(key);
+        assertNull(cache.get("mock:foo"));
+        assertEquals(0, cache.size());
+
+        // a new endpoint is resolved, which the cache must not hide
+        Endpoint foo2 = context.getEndpoint("mock:foo");
+        put(cache, "mock:foo", foo2);
+        assertSame(foo2, cache.get("mock:foo"));
+    }
+
+    @Test
+    public void testToDynamic() throws Exception {
+        getMockEndpoint("mock:foo").expectedBodiesReceived("Hello Camel", "Bye Camel");
+        getMockEndpoint("mock:bar").expectedBodiesReceived("Hello World");
+
+        template.sendBodyAndHeader("direct:start", "Hello Camel", "foo", "foo");
+        template.sendBodyAndHeader("direct:start", "Hello World", "foo", "bar");
+        template.sendBodyAndHeader("direct:start", "Bye Camel", "foo", "foo");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testToDynamicNoCache() throws Exception {
+        getMockEndpoint("mock:foo").expectedBodiesReceived("Hello Camel", "Bye Camel");
+
+        template.sendBodyAndHeader("direct:nocache", "Hello Camel", "foo", "foo");
+        template.sendBodyAndHeader("direct:nocache", "Bye Camel", "foo", "foo");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testRecipientList() throws Exception {
+        getMockEndpoint("mock:foo").expectedBodiesReceived("Hello Camel", "Bye Camel");
+        getMockEndpoint("mock:bar").expectedBodiesReceived("Bye Camel");
+
+        template.sendBodyAndHeader("direct:recipients", "Hello Camel", "recipients", "mock:foo");
+        template.sendBodyAndHeader("direct:recipients", "Bye Camel", "recipients", "mock:foo, mock:bar");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testRecipientListExchangePattern() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:foo?exchangePattern=InOut");
+        mock.expectedMessageCount(2);
+        mock.allMessages().exchangePattern().isEqualTo(ExchangePattern.InOut);
+
+        // the uri has spaces around it, which must not matter when the endpoint is cached
+        String uri = " mock:foo?exchangePattern=InOut ";
+        template.sendBodyAndHeader("direct:recipients", "Hello Camel", "recipients", uri);
+        template.sendBodyAndHeader("direct:recipients", "Bye Camel", "recipients", uri);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    private NormalizedEndpointUri normalize(String uri) {
+        return context.adapt(ExtendedCamelContext.class).normalizeUri(uri);
+    }
+
+    private void put(DynamicEndpointCache cache, String uri, Endpoint endpoint) {
+        cache.put(uri, normalize(uri), endpoint);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").toD("mock:${header.foo}");
+
+                from("direct:nocache").toD("mock:${header.foo}", -1);
+
+                from("direct:recipients").recipientList(header("recipients"));
+            }
+        };
+    }
+}
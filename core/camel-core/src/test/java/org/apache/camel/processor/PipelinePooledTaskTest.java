@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Channel;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Navigate;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.processor.errorhandler.RedeliveryErrorHandler;
+import org.apache.camel.support.PooledExchangeTask;
+import org.apache.camel.support.PooledTaskFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PipelinePooledTaskTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getGlobalOptions().put(Exchange.MAXIMUM_TASK_POOL_SIZE, "10");
+        return context;
+    }
+
+    @Test
+    public void testPooledTasks() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(100);
+        getMockEndpoint("mock:result").message(99).body().isEqualTo("Hello 99 A B C");
+
+        for (int i = 0; i < 100; i++) {
+            template.sendBody("direct:start", "Hello " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        PooledTaskFactory<?> factory = findPipeline("start").getTaskFactory();
+        assertTrue(factory.isPooled());
+        assertEquals(10, factory.getCapacity());
+        // the task is reused for the next message
+        assertEquals(1, factory.getCreatedCounter());
+        assertEquals(1, factory.getSize());
+        assertEquals(0, factory.getDiscardedCounter());
+    }
+
+    @Test
+    public void testPooledErrorHandlerTasks() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(100);
+
+        for (int i = 0; i < 100; i++) {
+            template.sendBody("direct:start", "Hello " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        List<RedeliveryErrorHandler> errorHandlers = new ArrayList<>();
+        findProcessors(context.getRoute("start").getProcessor(), RedeliveryErrorHandler.class, errorHandlers);
+        // an error handler per step
+        assertEquals(4, errorHandlers.size());
+        for (RedeliveryErrorHandler errorHandler : errorHandlers) {
+            PooledTaskFactory<?> factory = errorHandler.getSimpleTaskFactory();
+            assertTrue(factory.isPooled());
+            assertEquals(1, factory.getCreatedCounter());
+            assertEquals(1, factory.getSize());
+        }
+    }
+
+    @Test
+    public void testPooledTasksAsync() throws Exception {
+        getMockEndpoint("mock:async").expectedMessageCount(20);
+
+        for (int i = 0; i < 20; i++) {
+            template.sendBody("seda:async", "Hello " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        PooledTaskFactory<?> factory = findPipeline("async").getTaskFactory();
+        // the exchanges are routed at the same time but all tasks are released when done
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(
+                () -> assertEquals(factory.getCreatedCounter(), factory.getSize() + factory.getDiscardedCounter()));
+        assertTrue(factory.getSize() <= 10);
+    }
+
+    @Test
+    public void testPooledTasksStop() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(0);
+
+        Exchange out = template.request("direct:stop", e -> e.getMessage().setBody("Hello"));
+        assertFalse(out.isFailed());
+
+        assertMockEndpointsSatisfied();
+
+        PooledTaskFactory<?> factory = findPipeline("stop").getTaskFactory();
+        assertEquals(1, factory.getCreatedCounter());
+        assertEquals(1, factory.getSize());
+    }
+
+    @Test
+    public void testPooledTaskFactoryConcurrent() throws Exception {
+        final PooledTaskFactory<CountingTask> factory = new PooledTaskFactory<CountingTask>(16) {
+            @Override
+            protected CountingTask createTask() {
+                return new CountingTask();
+            }
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < 10000; j++) {
+                    CountingTask task = factory.acquire(null, null);
+                    // a task must never be in use by two threads at the same time
+                    assertEquals(1, task.inUse.incrementAndGet());
+                    assertEquals(0, task.inUse.decrementAndGet());
+                    factory.release(task);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(factory.getCreatedCounter(), factory.getSize() + factory.getDiscardedCounter());
+        assertTrue(factory.getSize() <= 16);
+        assertTrue(factory.getCreatedCounter() < 8 * 10000);
+    }
+
+    private static final class CountingTask implements PooledExchangeTask {
+
+        private final AtomicInteger inUse = new AtomicInteger();
+
+        @Override
+        public void prepare(Exchange exchange, AsyncCallback callback) {
+        }
+
+        @Override
+        public void reset() {
+        }
+    }
+
+    private Pipeline findPipeline(String routeId) {
+        List<Pipeline> answer = new ArrayList<>();
+        findProcessors(context.getRoute(routeId).getProcessor(), Pipeline.class, answer);
+        assertEquals(1, answer.size());
+        return answer.get(0);
+    }
+
+    private static <T> void findProcessors(Processor processor, Class<T> type, List<T> answer) {
+        if (type.isInstance(processor)) {
+            answer.add(type.cast(processor));
+        }
+        if (processor instanceof Channel) {
+            findProcessors(((Channel) processor).getErrorHandler(), type, answer);
+        }
+        if (processor instanceof Navigate) {
+            List<?> children = ((Navigate<?>) processor).next();
+            if (children != null) {
+                for (Object child : children) {
+                    findProcessors((Processor) child, type, answer);
+                }
+            }
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").routeId("start")
+                        .transform(body().append(" A"))
+                        .transform(body().append(" B"))
+                        .transform(body().append(" C"))
+                        .to("mock:result");
+
+                from("seda:async?concurrentConsumers=5").routeId("async")
+                        .delay(5).asyncDelayed()
+                        .transform(body().append(" A"))
+                        .to("mock:async");
+
+                from("direct:stop").routeId("stop")
+                        .transform(body().append(" A"))
+                        .stop()
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.io.ByteArrayInputStream;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Splits binary content (files and streams) with the tokenizer, which is split at the byte level.
+ */
+public class SplitTokenizerFileGroupTest extends ContextTestSupport {
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        deleteDirectory("target/data/splittokenizer");
+        super.setUp();
+    }
+
+    @Test
+    public void testSplitFile() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:line");
+        mock.expectedBodiesReceived("Claus", "Jämes", "", "Willem");
+
+        template.sendBodyAndHeader("file://target/data/splittokenizer/line", "Claus\nJämes\n\nWillem\n", Exchange.FILE_NAME,
+                "names.txt");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testSplitFileGroupSkipFirst() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:group");
+        mock.expectedBodiesReceived("Claus\r\nJämes", "Willem");
+
+        template.sendBodyAndHeader("file://target/data/splittokenizer/group", "name\r\nClaus\r\nJämes\r\nWillem\r\n",
+                Exchange.FILE_NAME, "names.csv");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testSplitStreamGroup() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:stream");
+        mock.expectedBodiesReceived("Claus,Jämes", "Willem");
+
+        template.sendBody("direct:stream", new ByteArrayInputStream("Claus,Jämes,Willem".getBytes("UTF-8")));
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("file://target/data/splittokenizer/line?charset=UTF-8")
+                        .split().tokenize("\n").streaming()
+                        .to("mock:line");
+
+                from("file://target/data/splittokenizer/group?charset=UTF-8")
+                        .split().tokenize("\r\n", 2, true).streaming()
+                        .to("mock:group");
+
+                from("direct:stream")
+                        .setProperty(Exchange.CHARSET_NAME, constant("UTF-8"))
+                        .split().tokenize(",", 2).streaming()
+                        .to("mock:stream");
+            }
+        };
+    }
+}
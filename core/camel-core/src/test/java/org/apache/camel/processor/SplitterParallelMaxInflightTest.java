@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.processor.aggregate.StringAggregationStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SplitterParallelMaxInflightTest extends ContextTestSupport {
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicInteger maxSeen = new AtomicInteger();
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        inflight.set(0);
+        maxSeen.set(0);
+    }
+
+    @Test
+    public void testMaxInflight() throws Exception {
+        String out = template.requestBody("direct:start", body(200), String.class);
+
+        assertEquals(body(200), out);
+        assertTrue(maxSeen.get() <= 4, "Should not have more than 4 in flight, was: " + maxSeen.get());
+    }
+
+    @Test
+    public void testMaxInflightStreaming() throws Exception {
+        String out = template.requestBody("direct:streaming", body(200), String.class);
+
+        // aggregated in order even when streaming
+        assertEquals(body(200), out);
+        assertTrue(maxSeen.get() <= 4, "Should not have more than 4 in flight, was: " + maxSeen.get());
+    }
+
+    @Test
+    public void testMaxInflightSingle() throws Exception {
+        String out = template.requestBody("direct:single", body(20), String.class);
+
+        assertEquals(body(20), out);
+        assertEquals(1, maxSeen.get());
+    }
+
+    private static String body(int size) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(i);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .split(body().tokenize(","), new StringAggregationStrategy().delimiter(","))
+                            .parallelProcessing().maxInflight(4)
+                            .to("direct:work")
+                        .end();
+
+                from("direct:streaming")
+                        .split(body().tokenize(","), new StringAggregationStrategy().delimiter(","))
+                            .parallelProcessing().streaming().maxInflight(4)
+                            .to("direct:work")
+                        .end();
+
+                from("direct:single")
+                        .split(body().tokenize(","), new StringAggregationStrategy().delimiter(","))
+                            .parallelProcessing().streaming().maxInflight(1)
+                            .to("direct:work")
+                        .end();
+
+                // the sub message is counted as in flight until it is done, which is before it is aggregated
+                from("direct:work")
+                        .process(e -> maxSeen.accumulateAndGet(inflight.incrementAndGet(), Math::max))
+                        .process(e -> Thread.sleep(ThreadLocalRandom.current().nextInt(3)))
+                        .process(e -> inflight.decrementAndGet());
+            }
+        };
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThrottlerTokenBucketTest extends ContextTestSupport {
+
+    @Test
+    public void testThrottle() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(6);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 6; i++) {
+            template.sendBody("direct:start", "Hello " + i);
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertMockEndpointsSatisfied();
+        // a burst of 3 messages, and then a message every 100 millis
+        assertTrue(elapsed >= 250, "Should take at least 250ms, was: " + elapsed);
+    }
+
+    @Test
+    public void testThrottleAsyncDelayed() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:async");
+        mock.expectedMessageCount(6);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 6; i++) {
+            template.sendBody("seda:async", "Hello " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsed >= 250, "Should take at least 250ms, was: " + elapsed);
+    }
+
+    @Test
+    public void testRejectExecution() throws Exception {
+        getMockEndpoint("mock:reject").expectedBodiesReceived("A", "B");
+        getMockEndpoint("mock:rejected").expectedBodiesReceived("C");
+
+        template.sendBody("direct:reject", "A");
+        template.sendBody("direct:reject", "B");
+        template.sendBody("direct:reject", "C");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testCorrelationKeys() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:grouped");
+        mock.expectedMessageCount(4);
+
+        long start = System.nanoTime();
+        // each key has its own bucket, so none of the messages are throttled
+        for (int i = 0; i < 4; i++) {
+            template.sendBodyAndHeader("direct:grouped", "Hello " + i, "key", "" + i);
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertMockEndpointsSatisfied();
+        assertTrue(elapsed < 1000, "Should not be throttled, was: " + elapsed);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                onException(ThrottlerRejectedExecutionException.class).handled(true).to("mock:rejected");
+
+                from("direct:start")
+                        .throttle(3).timePeriodMillis(300).mode("TokenBucket")
+                        .to("mock:result");
+
+                from("seda:async")
+                        .throttle(3).timePeriodMillis(300).asyncDelayed().mode("TokenBucket")
+                        .to("mock:async");
+
+                from("direct:reject")
+                        .throttle(2).timePeriodMillis(10000).rejectExecution(true).mode("TokenBucket")
+                        .to("mock:reject");
+
+                from("direct:grouped")
+                        .throttle(constant(1), header("key")).timePeriodMillis(10000).mode("TokenBucket")
+                        .to("mock:grouped");
+            }
+        };
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.BodyInAggregatingStrategy;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AggregateLockStripesTest extends ContextTestSupport {
+
+    private final int keys = 50;
+    private final int size = 20;
+
+    @Test
+    public void testAggregateLockStripes() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(keys);
+
+        ExecutorService service = Executors.newFixedThreadPool(10);
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < keys * size; i++) {
+            final int id = i % keys;
+            final int count = i;
+            tasks.add(() -> {
+                template.sendBodyAndHeader("direct:start", "" + count, "id", id);
+                return null;
+            });
+        }
+        service.invokeAll(tasks);
+
+        assertMockEndpointsSatisfied();
+        service.shutdownNow();
+
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            String body = exchange.getIn().getBody(String.class);
+            int id = exchange.getProperty(Exchange.AGGREGATED_CORRELATION_KEY, Integer.class);
+            String[] parts = body.split("\\+");
+            assertEquals(size, parts.length);
+            for (String part : parts) {
+                assertEquals(id, Integer.parseInt(part) % keys, "Should only aggregate same correlation key: " + body);
+            }
+        }
+    }
+
+    @Test
+    public void testAggregateLockStripesCompleteAllGroups() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:all");
+        mock.expectedBodiesReceivedInAnyOrder("A", "B", "C", "END");
+
+        template.sendBodyAndHeader("direct:all", "A", "id", 1);
+        template.sendBodyAndHeader("direct:all", "B", "id", 2);
+        template.sendBodyAndHeader("direct:all", "C", "id", 3);
+        // the aggregation strategy triggers completion of all groups while holding the stripe lock
+        template.sendBodyAndHeader("direct:all", "END", "id", 4);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testLockStripesNotAllowedWithOptimisticLocking() throws Exception {
+        Exception e = assertThrows(Exception.class, () -> context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:foo").aggregate(header("id"), new BodyInAggregatingStrategy()).completionSize(2)
+                        .lockStripes(16).optimisticLocking().to("mock:foo");
+            }
+        }));
+        IllegalArgumentException iae = assertIsInstanceOf(IllegalArgumentException.class, e.getCause().getCause());
+        assertEquals("Cannot use both optimisticLocking and lockStripes", iae.getMessage());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .aggregate(header("id"), new BodyInAggregatingStrategy()).completionSize(size).lockStripes(16)
+                        .to("mock:result");
+
+                from("direct:all")
+                        .aggregate(header("id"), (oldExchange, newExchange) -> {
+                            if ("END".equals(newExchange.getIn().getBody())) {
+                                newExchange.setProperty(Exchange.AGGREGATION_COMPLETE_ALL_GROUPS, true);
+                            }
+                            return newExchange;
+                        }).completionTimeout(60000).lockStripes(4)
+                        .to("mock:all");
+            }
+        };
+    }
+}
@@ -200,4 +200,154 @@ public class DefaultTimeoutMapTest {
         map.stop();
     }
 
+    @Test
+    public void testTimingWheelPurge() throws Exception {
+        DefaultTimeoutMap<String, Integer> map = new DefaultTimeoutMap<>(executor, 100, true, true);
+        assertTrue(map.isTimingWheel());
+        map.start();
+
+        map.put("A", 123, 50);
+        assertEquals(1, map.size());
+
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(0, map.size()));
+
+        map.stop();
+    }
+
+    @Test
+    public void testTimingWheelExpiredInCorrectOrder() throws Exception {
+        final List<String> keys = new ArrayList<>();
+        ManualClockTimeoutMap map = new ManualClockTimeoutMap(10);
+        map.addListener((type, key, value) -> {
+            if (type == TimeoutMap.Listener.Type.Evict) {
+                keys.add(key);
+            }
+        });
+
+        map.put("A", 1, 50);
+        map.put("B", 2, 30);
+        map.put("C", 3, 45);
+        map.put("D", 4, 20);
+        // is not expired
+        map.put("E", 5, 800);
+
+        map.advance(40);
+        assertEquals(2, keys.size());
+
+        map.advance(40);
+        assertEquals(4, keys.size());
+        assertEquals("D", keys.get(0));
+        assertEquals("B", keys.get(1));
+        assertEquals("C", keys.get(2));
+        assertEquals("A", keys.get(3));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testTimingWheelRemoveAndReplace() throws Exception {
+        final List<String> keys = new ArrayList<>();
+        ManualClockTimeoutMap map = new ManualClockTimeoutMap(10);
+        map.addListener((type, key, value) -> {
+            if (type == TimeoutMap.Listener.Type.Evict) {
+                keys.add(key + "=" + value);
+            }
+        });
+
+        map.put("A", 1, 50);
+        map.put("B", 2, 50);
+        // replace with a longer timeout
+        map.put("A", 3, 500);
+        assertEquals(Integer.valueOf(2), map.remove("B"));
+        assertNull(map.remove("B"));
+        // already present so not added
+        assertEquals(Integer.valueOf(3), map.putIfAbsent("A", 4, 10));
+
+        map.advance(100);
+        assertTrue(keys.isEmpty());
+        assertEquals(1, map.size());
+
+        map.advance(500);
+        assertEquals(1, keys.size());
+        assertEquals("A=3", keys.get(0));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void testTimingWheelGetRefreshesExpireTime() throws Exception {
+        ManualClockTimeoutMap map = new ManualClockTimeoutMap(10);
+
+        map.put("A", 1, 100);
+        map.advance(80);
+        assertEquals(Integer.valueOf(1), map.get("A"));
+        map.advance(80);
+        assertEquals(1, map.size());
+        map.advance(80);
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void testTimingWheelLaterRounds() throws Exception {
+        ManualClockTimeoutMap map = new ManualClockTimeoutMap(10);
+
+        // expires after several rounds of the wheel
+        long timeout = 3 * TimeoutWheel.DEFAULT_WHEEL_SIZE * 10 + 5;
+        map.put("A", 1, timeout);
+        map.put("B", 2, 5);
+
+        for (int i = 0; i < 3 * TimeoutWheel.DEFAULT_WHEEL_SIZE; i++) {
+            map.advance(10);
+            assertEquals(1, map.size());
+        }
+        map.advance(20);
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void testTimingWheelNotValidForEviction() throws Exception {
+        ManualClockTimeoutMap map = new ManualClockTimeoutMap(10);
+        map.put("A", 1, 20);
+
+        map.evictable = false;
+        map.advance(50);
+        assertEquals(1, map.size());
+
+        // retried on the next purge
+        map.evictable = true;
+        map.advance(10);
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void testTimingWheelInvalidSize() throws Exception {
+        assertThrows(IllegalArgumentException.class, () -> new TimeoutWheel<String, String>(100, 10));
+    }
+
+    /**
+     * Timeout map using the timing wheel with a manual clock, which is purged when the clock is advanced
+     */
+    private final class ManualClockTimeoutMap extends DefaultTimeoutMap<String, Integer> {
+
+        private long now = 1000000;
+        private boolean evictable = true;
+
+        private ManualClockTimeoutMap(long tickMillis) {
+            super(executor, tickMillis, true, true);
+        }
+
+        void advance(long millis) {
+            now += millis;
+            purge();
+        }
+
+        @Override
+        protected long currentTime() {
+            return now;
+        }
+
+        @Override
+        protected boolean isValidForEviction(TimeoutMapEntry<String, Integer> entry) {
+            return evictable;
+        }
+    }
+
 }
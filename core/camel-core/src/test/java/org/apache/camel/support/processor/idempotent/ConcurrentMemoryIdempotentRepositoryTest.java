@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentMemoryIdempotentRepositoryTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 64, 128 })
+    public void testAddContainsRemove(int keyHashBits) throws Exception {
+        ConcurrentMemoryIdempotentRepository repository = new ConcurrentMemoryIdempotentRepository();
+        repository.setKeyHashBits(keyHashBits);
+        repository.start();
+
+        assertTrue(repository.add("a"));
+        assertFalse(repository.add("a"));
+        assertTrue(repository.add("b"));
+        assertTrue(repository.contains("a"));
+        assertFalse(repository.contains("c"));
+        assertEquals(2, repository.getCacheSize());
+
+        assertTrue(repository.remove("a"));
+        assertFalse(repository.remove("a"));
+        assertFalse(repository.contains("a"));
+        assertTrue(repository.contains("b"));
+        assertTrue(repository.add("a"));
+
+        repository.clear();
+        assertEquals(0, repository.getCacheSize());
+        assertFalse(repository.contains("b"));
+
+        repository.stop();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 64, 128 })
+    public void testMaximumSize(int keyHashBits) throws Exception {
+        ConcurrentMemoryIdempotentRepository repository = new ConcurrentMemoryIdempotentRepository();
+        repository.setMaximumSize(1000);
+        repository.setKeyHashBits(keyHashBits);
+        repository.start();
+
+        for (int i = 0; i < 10000; i++) {
+            repository.add("key" + i);
+            // keep using the first keys
+            for (int j = 0; j < 10; j++) {
+                repository.contains("key" + j);
+            }
+        }
+
+        assertTrue(repository.getCacheSize() <= 1000, "Should be bounded but was: " + repository.getCacheSize());
+        for (int j = 0; j < 10; j++) {
+            assertTrue(repository.contains("key" + j), "Used key should not be evicted: key" + j);
+        }
+        // the newest key is kept
+        assertTrue(repository.contains("key9999"));
+
+        repository.stop();
+    }
+
+    @Test
+    public void testExpireAfter() throws Exception {
+        ConcurrentMemoryIdempotentRepository repository = new ConcurrentMemoryIdempotentRepository();
+        repository.setExpireAfter(100);
+        repository.start();
+
+        assertTrue(repository.add("a"));
+        assertFalse(repository.add("a"));
+        Thread.sleep(200);
+
+        assertFalse(repository.contains("a"));
+        assertTrue(repository.add("a"));
+        assertFalse(repository.add("a"));
+
+        repository.stop();
+    }
+
+    @Test
+    public void testInvalidKeyHashBits() {
+        ConcurrentMemoryIdempotentRepository repository = new ConcurrentMemoryIdempotentRepository();
+        assertThrows(IllegalArgumentException.class, () -> repository.setKeyHashBits(32));
+    }
+
+    @Test
+    public void testConcurrentAdd() throws Exception {
+        ConcurrentMemoryIdempotentRepository repository = new ConcurrentMemoryIdempotentRepository(100000);
+        repository.setKeyHashBits(64);
+        repository.start();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            // all threads add the same keys, so each key must only be added once
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    int added = 0;
+                    for (int i = 0; i < 10000; i++) {
+                        if (repository.add("key" + i)) {
+                            added++;
+                        }
+                    }
+                    return added;
+                }));
+            }
+            int added = 0;
+            for (Future<Integer> future : futures) {
+                added += future.get(30, TimeUnit.SECONDS);
+            }
+            assertEquals(10000, added);
+            assertEquals(10000, repository.getCacheSize());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        repository.stop();
+    }
+
+}
@@ -0,0 +1,329 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.collection.IsIterableContainingInOrder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.TestSupport.createDirectory;
+import static org.apache.camel.TestSupport.deleteDirectory;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileIdempotentRepositoryCompactionTest {
+
+    private final File fileStore = new File("target/data/compactstore/data.dat");
+    private FileIdempotentRepository repository;
+
+    @BeforeEach
+    public void setup() {
+        deleteDirectory("target/data/compactstore");
+        createDirectory("target/data/compactstore");
+
+        repository = new FileIdempotentRepository();
+        repository.setFileStore(fileStore);
+        repository.setCacheSize(2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        repository.stop();
+    }
+
+    @Test
+    public void testRemoveAppendsTombstone() throws Exception {
+        repository.start();
+        repository.add("a");
+        repository.add("b");
+        repository.add("c");
+
+        assertTrue(repository.remove("b"));
+        assertEquals(1, repository.getTombstones());
+        // not in the 1st level cache so the file store is checked
+        assertFalse(repository.contains("b"));
+        assertTrue(repository.contains("a"));
+
+        // can be added again
+        assertTrue(repository.add("b"));
+        assertTrue(repository.contains("b"));
+
+        repository.compact();
+        assertEquals(0, repository.getTombstones());
+        assertStore("a", "c", "b");
+    }
+
+    @Test
+    public void testCompactThreshold() throws Exception {
+        repository.setCompactThreshold(3);
+        repository.start();
+        for (int i = 0; i < 10; i++) {
+            repository.add("key" + i);
+        }
+        repository.remove("key1");
+        repository.remove("key3");
+        assertEquals(2, repository.getTombstones());
+
+        // hits the threshold and is compacted in the same thread as there is no camel context
+        repository.remove("key5");
+        assertEquals(0, repository.getTombstones());
+        assertStore("key0", "key2", "key4", "key6", "key7", "key8", "key9");
+    }
+
+    @Test
+    public void testStopCompacts() throws Exception {
+        repository.start();
+        repository.add("a");
+        repository.add("b");
+        repository.remove("a");
+        repository.stop();
+
+        assertStore("b");
+    }
+
+    @Test
+    public void testLoadWithTombstones() throws Exception {
+        Files.write(fileStore.toPath(), "a\nb\n\u0000a\nc\n".getBytes(), StandardOpenOption.CREATE);
+
+        repository.start();
+        assertFalse(repository.contains("a"));
+        assertTrue(repository.contains("b"));
+        assertTrue(repository.contains("c"));
+        assertEquals(1, repository.getTombstones());
+    }
+
+    @Test
+    public void testRecoverUnterminatedEntry() throws Exception {
+        Files.write(fileStore.toPath(), "a\nb".getBytes(), StandardOpenOption.CREATE);
+
+        repository.start();
+        assertTrue(repository.contains("a"));
+        assertTrue(repository.contains("b"));
+        assertTrue(repository.add("c"));
+
+        assertStore("a", "b", "c");
+    }
+
+    @Test
+    public void testDeleteIncompleteCompaction() throws Exception {
+        File tmp = new File(fileStore.getPath() + ".tmp");
+        Files.write(fileStore.toPath(), "a\n".getBytes(), StandardOpenOption.CREATE);
+        Files.write(tmp.toPath(), "garbage".getBytes(), StandardOpenOption.CREATE);
+
+        repository.start();
+        assertFalse(tmp.exists());
+        assertTrue(repository.contains("a"));
+    }
+
+    @Test
+    public void testConcurrentAddAndRemove() throws Exception {
+        repository.setSync(true);
+        repository.setCompactThreshold(50);
+        repository.start();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 100; i++) {
+                        String key = "key-" + thread + "-" + i;
+                        assertTrue(repository.add(key));
+                        assertFalse(repository.add(key));
+                        if (i % 2 == 0) {
+                            repository.remove(key);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int t = 0; t < 8; t++) {
+            for (int i = 0; i < 100; i++) {
+                assertEquals(i % 2 != 0, repository.contains("key-" + t + "-" + i));
+            }
+        }
+
+        repository.stop();
+        try (Stream<String> lines = Files.lines(fileStore.toPath())) {
+            assertEquals(400, lines.count());
+        }
+    }
+
+    @Test
+    public void testBloomFilter() {
+        BloomFilter filter = new BloomFilter(1000);
+        for (int i = 0; i < 1000; i++) {
+            filter.put("key" + i);
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(filter.mightContain("key" + i));
+            if (filter.mightContain("other" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 50, "Too many false positives: " + falsePositives);
+    }
+
+    @Test
+    public void testBloomFilterGrows() throws Exception {
+        repository.setBloomFilterSize(100);
+        repository.start();
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(repository.add("key" + i));
+        }
+
+        // compacted to resize the bloom filter as more keys were added than it was sized for
+        BloomFilter filter = repository.getBloomFilter();
+        assertTrue(filter.getExpectedKeys() >= 1000, "Bloom filter not resized: " + filter.getExpectedKeys());
+        assertFalse(filter.isFull());
+
+        int falsePositives = 0;
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(repository.contains("key" + i));
+            assertFalse(repository.contains("other" + i));
+            if (filter.mightContain("other" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 50, "Too many false positives: " + falsePositives);
+
+        repository.stop();
+        try (Stream<String> lines = Files.lines(fileStore.toPath())) {
+            assertEquals(1000, lines.count());
+        }
+    }
+
+    @Test
+    public void testBloomFilterFull() {
+        BloomFilter filter = new BloomFilter(100);
+        for (int i = 0; i < 80; i++) {
+            filter.put("key" + i);
+            // keys added again are not counted
+            filter.put("key" + i);
+        }
+        assertFalse(filter.isFull());
+        for (int i = 80; i < 200; i++) {
+            filter.put("key" + i);
+        }
+        assertTrue(filter.isFull());
+    }
+
+    @Test
+    public void testBloomFilterHash() {
+        // the same String.hashCode() but different keys
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        assertNotEquals(BloomFilter.hash("Aa"), BloomFilter.hash("BB"));
+        assertNotEquals(BloomFilter.hash("\u0100"), BloomFilter.hash("\u0001\u0000"));
+    }
+
+    @Test
+    public void testKeyIndex() {
+        KeyIndex index = new KeyIndex();
+        Random random = new Random(42);
+        long[] hashes = new long[10000];
+        for (int i = 0; i < hashes.length; i++) {
+            // many hashes in the same stripe and slot
+            hashes[i] = i % 2 == 0 ? random.nextLong() : (long) i << 32;
+            index.put(hashes[i], i);
+        }
+        assertEquals(hashes.length, index.size());
+        for (int i = 0; i < hashes.length; i += 3) {
+            index.remove(hashes[i]);
+        }
+        for (int i = 0; i < hashes.length; i++) {
+            assertEquals(i % 3 == 0 ? -1 : i, index.get(hashes[i]));
+        }
+        assertEquals(-1, index.get(0));
+        index.put(0, 5);
+        assertEquals(5, index.get(0));
+    }
+
+    @Test
+    public void testKeyIndexCollision() {
+        KeyIndex index = new KeyIndex();
+        index.put(7, 10);
+        index.put(7, 20);
+        assertEquals(KeyIndex.COLLISION, index.get(7));
+        // kept as the other key may still be in use
+        index.remove(7);
+        assertEquals(KeyIndex.COLLISION, index.get(7));
+    }
+
+    @Test
+    public void testIndex() throws Exception {
+        Files.write(fileStore.toPath(), "a\nb\n\u0000a\nc\n".getBytes(), StandardOpenOption.CREATE);
+        repository.setCompactThreshold(0);
+        repository.start();
+        assertEquals(2, repository.getIndex().size());
+        for (int i = 0; i < 100; i++) {
+            repository.add("key" + i);
+        }
+        for (int i = 0; i < 100; i += 2) {
+            repository.remove("key" + i);
+        }
+        assertEquals(52, repository.getIndex().size());
+        assertIndexed();
+
+        repository.compact();
+        assertEquals(52, repository.getIndex().size());
+        assertIndexed();
+    }
+
+    private void assertIndexed() {
+        // the cache only holds 2 keys so the file store is checked
+        assertFalse(repository.contains("a"));
+        assertTrue(repository.contains("b"));
+        assertTrue(repository.contains("c"));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 != 0, repository.contains("key" + i));
+        }
+    }
+
+    private void assertStore(String... keys) throws Exception {
+        List<String> entries;
+        try (Stream<String> lines = Files.lines(fileStore.toPath())) {
+            entries = lines.collect(Collectors.toList());
+        }
+        MatcherAssert.assertThat(entries, IsIterableContainingInOrder.contains(keys));
+    }
+
+}
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThreadPerTaskExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ThreadPerTaskExecutor executor;
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testMaxTasks() throws Exception {
+        executor = new ThreadPerTaskExecutor(
+                2, new CamelThreadFactory("#name#-#counter#", "task", true),
+                ThreadPoolRejectedPolicy.Abort.asRejectedExecutionHandler());
+
+        CountDownLatch started = new CountDownLatch(2);
+        for (int i = 0; i < 2; i++) {
+            executor.execute(() -> {
+                started.countDown();
+                awaitRelease();
+            });
+        }
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertEquals(2, executor.getActiveCount());
+        assertEquals(2, executor.getPoolSize());
+        assertEquals(2, executor.getMaximumPoolSize());
+
+        // the pool size cannot be tuned, such as from JMX
+        executor.setMaximumPoolSize(10);
+        executor.setCorePoolSize(5);
+        assertEquals(2, executor.getMaximumPoolSize());
+
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {
+        }));
+
+        release.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertTrue(executor.isTerminated());
+        assertEquals(2, executor.getTaskCount());
+        assertEquals(2, executor.getCompletedTaskCount());
+        assertEquals(2, executor.getLargestPoolSize());
+        assertEquals(0, executor.getActiveCount());
+    }
+
+    @Test
+    public void testCallerRuns() throws Exception {
+        executor = new ThreadPerTaskExecutor(
+                1, new CamelThreadFactory("#name#-#counter#", "task", true),
+                ThreadPoolRejectedPolicy.CallerRuns.asRejectedExecutionHandler());
+
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            awaitRelease();
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        executor.execute(() -> thread.set(Thread.currentThread()));
+        assertSame(Thread.currentThread(), thread.get());
+    }
+
+    @Test
+    public void testDiscardOldest() throws Exception {
+        executor = new ThreadPerTaskExecutor(
+                1, new CamelThreadFactory("#name#-#counter#", "task", true),
+                ThreadPoolRejectedPolicy.DiscardOldest.asRejectedExecutionHandler());
+
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            awaitRelease();
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // there is no queue so the new task is discarded
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        executor.execute(() -> thread.set(Thread.currentThread()));
+        assertEquals(1, executor.getTaskCount());
+        assertEquals(null, thread.get());
+    }
+
+    @Test
+    public void testUnbounded() throws Exception {
+        executor = new ThreadPerTaskExecutor(0, new CamelThreadFactory("#name#-#counter#", "task", true), null);
+
+        CountDownLatch started = new CountDownLatch(50);
+        for (int i = 0; i < 50; i++) {
+            executor.execute(() -> {
+                started.countDown();
+                awaitRelease();
+            });
+        }
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertEquals(50, executor.getActiveCount());
+        assertEquals(Integer.MAX_VALUE, executor.getMaximumPoolSize());
+    }
+
+    @Test
+    public void testShutdownNow() throws Exception {
+        executor = new ThreadPerTaskExecutor(10, new CamelThreadFactory("#name#-#counter#", "task", true), null);
+
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            awaitRelease();
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertFalse(executor.isTerminated());
+
+        executor.shutdownNow();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {
+        }));
+    }
+
+    @Test
+    public void testVirtualThreads() throws Exception {
+        if (!VirtualThreadFactory.isSupported()) {
+            assertThrows(UnsupportedOperationException.class, () -> new VirtualThreadFactory(null, "task"));
+            return;
+        }
+        executor = new ThreadPerTaskExecutor(10, new VirtualThreadFactory("#name#-#counter#", "task"), null);
+
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        executor.submit(() -> thread.set(Thread.currentThread())).get(5, TimeUnit.SECONDS);
+        assertTrue(thread.get().getName().startsWith("task-"));
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -984,6 +984,74 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("move", move);
             return this;
         }
+        /**
+         * The number of shards to split the files into, when several consumers
+         * poll the same directory, such as routes on different nodes. Each
+         * consumer only picks up the files of its own shard, given by the
+         * shardIndex option, based on a hash of the relative file path. This
+         * avoids the consumers from competing for the same files and their read
+         * locks.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: filter
+         * 
+         * @param shardCount the value to set
+         * @return the dsl builder
+         */
+        default FileEndpointConsumerBuilder shardCount(int shardCount) {
+            doSetProperty("shardCount", shardCount);
+            return this;
+        }
+        /**
+         * The number of shards to split the files into, when several consumers
+         * poll the same directory, such as routes on different nodes. Each
+         * consumer only picks up the files of its own shard, given by the
+         * shardIndex option, based on a hash of the relative file path. This
+         * avoids the consumers from competing for the same files and their read
+         * locks.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: filter
+         * 
+         * @param shardCount the value to set
+         * @return the dsl builder
+         */
+        default FileEndpointConsumerBuilder shardCount(String shardCount) {
+            doSetProperty("shardCount", shardCount);
+            return this;
+        }
+        /**
+         * The shard of the files to pick up by this consumer, from 0 until
+         * shardCount - 1, when the shardCount option is in use.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: filter
+         * 
+         * @param shardIndex the value to set
+         * @return the dsl builder
+         */
+        default FileEndpointConsumerBuilder shardIndex(int shardIndex) {
+            doSetProperty("shardIndex", shardIndex);
+            return this;
+        }
+        /**
+         * The shard of the files to pick up by this consumer, from 0 until
+         * shardCount - 1, when the shardCount option is in use.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: filter
+         * 
+         * @param shardIndex the value to set
+         * @return the dsl builder
+         */
+        default FileEndpointConsumerBuilder shardIndex(String shardIndex) {
+            doSetProperty("shardIndex", shardIndex);
+            return this;
+        }
         /**
          * Pluggable read-lock as a
          * org.apache.camel.component.file.GenericFileExclusiveReadLockStrategy
@@ -2631,6 +2699,46 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("startingDirectoryMustHaveAccess", startingDirectoryMustHaveAccess);
             return this;
         }
+        /**
+         * The number of threads used for walking the sub directories in
+         * parallel, when recursive is enabled. By default the directories are
+         * walked one by one by the thread polling the starting directory. As
+         * the files are gathered in no particular order then use the sorting
+         * options if the files should be processed in a particular order. Any
+         * custom filter must be thread-safe.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param walkerPoolSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder walkerPoolSize(
+                int walkerPoolSize) {
+            doSetProperty("walkerPoolSize", walkerPoolSize);
+            return this;
+        }
+        /**
+         * The number of threads used for walking the sub directories in
+         * parallel, when recursive is enabled. By default the directories are
+         * walked one by one by the thread polling the starting directory. As
+         * the files are gathered in no particular order then use the sorting
+         * options if the files should be processed in a particular order. Any
+         * custom filter must be thread-safe.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param walkerPoolSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder walkerPoolSize(
+                String walkerPoolSize) {
+            doSetProperty("walkerPoolSize", walkerPoolSize);
+            return this;
+        }
         /**
          * Automatically create missing directories in the file's pathname. For
          * the file consumer, that means creating the starting directory. For
@@ -388,6 +388,55 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("autoOffsetReset", autoOffsetReset);
             return this;
         }
+        /**
+         * Whether to route the records of a poll as a single exchange, instead
+         * of an exchange per record. The message body is then a java.util.List
+         * with an exchange per record, which each have the usual Kafka headers.
+         * The size of a batch is bounded by the maxPollRecords option, and the
+         * time spent waiting for a batch by the pollTimeoutMs option. When
+         * partitionConcurrency is in use then each partition of a poll is
+         * routed as a batch of its own. The offsets of a batch are committed
+         * when the batch is completed, and if the batch fails and
+         * breakOnFirstError is enabled then the consumer will seek back to the
+         * first record of the batch.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param batching the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder batching(boolean batching) {
+            doSetProperty("batching", batching);
+            return this;
+        }
+        /**
+         * Whether to route the records of a poll as a single exchange, instead
+         * of an exchange per record. The message body is then a java.util.List
+         * with an exchange per record, which each have the usual Kafka headers.
+         * The size of a batch is bounded by the maxPollRecords option, and the
+         * time spent waiting for a batch by the pollTimeoutMs option. When
+         * partitionConcurrency is in use then each partition of a poll is
+         * routed as a batch of its own. The offsets of a batch are committed
+         * when the batch is completed, and if the batch fails and
+         * breakOnFirstError is enabled then the consumer will seek back to the
+         * first record of the batch.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param batching the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder batching(String batching) {
+            doSetProperty("batching", batching);
+            return this;
+        }
         /**
          * This options controls what happens when a consumer is processing an
          * exchange and it fails. If the option is false then the consumer
@@ -1023,6 +1072,54 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("partitionAssignor", partitionAssignor);
             return this;
         }
+        /**
+         * The number of threads used for processing the records of a poll. When
+         * more than 1 then the records of each partition are processed
+         * concurrently with the records of the other partitions, while the
+         * records of a partition are still processed in order. A partition is
+         * paused while its records are processed, so a slow partition does not
+         * hold back polling the others. The offsets are committed by the
+         * consumer thread once all the records of the partition have been
+         * processed, instead of by auto commit. This option cannot be used
+         * together with allowManualCommit.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: consumer
+         * 
+         * @param partitionConcurrency the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder partitionConcurrency(
+                int partitionConcurrency) {
+            doSetProperty("partitionConcurrency", partitionConcurrency);
+            return this;
+        }
+        /**
+         * The number of threads used for processing the records of a poll. When
+         * more than 1 then the records of each partition are processed
+         * concurrently with the records of the other partitions, while the
+         * records of a partition are still processed in order. A partition is
+         * paused while its records are processed, so a slow partition does not
+         * hold back polling the others. The offsets are committed by the
+         * consumer thread once all the records of the partition have been
+         * processed, instead of by auto commit. This option cannot be used
+         * together with allowManualCommit.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: consumer
+         * 
+         * @param partitionConcurrency the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder partitionConcurrency(
+                String partitionConcurrency) {
+            doSetProperty("partitionConcurrency", partitionConcurrency);
+            return this;
+        }
         /**
          * The timeout used when polling the KafkaConsumer.
          * 
@@ -2135,6 +2232,26 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("headerSerializer", headerSerializer);
             return this;
         }
+        /**
+         * What to do with the next record when maxInFlightWaiting records are
+         * already waiting for room. With block the thread sending the record is
+         * blocked until the record can wait as well, for at most maxBlockMs
+         * after which the exchange fails with a TimeoutException. With reject
+         * the exchange fails with a RejectedExecutionException.
+         * 
+         * The option is a: &lt;code&gt;java.lang.String&lt;/code&gt; type.
+         * 
+         * Default: block
+         * Group: producer
+         * 
+         * @param inFlightFullPolicy the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointProducerBuilder inFlightFullPolicy(
+                String inFlightFullPolicy) {
+            doSetProperty("inFlightFullPolicy", inFlightFullPolicy);
+            return this;
+        }
         /**
          * The record key (or null if no key is specified). If this option has
          * been configured then it take precedence over header
@@ -2324,6 +2441,94 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("maxBlockMs", maxBlockMs);
             return this;
         }
+        /**
+         * The maximum size in bytes of the records which the producer has sent
+         * asynchronously and which are not yet acknowledged by Kafka. The size
+         * of a record is the size of its key and value, when they are a String,
+         * counted as encoded in UTF-8, a byte array, ByteBuffer or Bytes. When
+         * the limit is reached then the next record waits until records are
+         * acknowledged, without blocking the thread sending it as long as fewer
+         * than maxInFlightWaiting records are waiting. The default value 0 is
+         * no limit.
+         * 
+         * The option is a: &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Default: 0
+         * Group: producer
+         * 
+         * @param maxInFlightBytes the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointProducerBuilder maxInFlightBytes(
+                long maxInFlightBytes) {
+            doSetProperty("maxInFlightBytes", maxInFlightBytes);
+            return this;
+        }
+        /**
+         * The maximum size in bytes of the records which the producer has sent
+         * asynchronously and which are not yet acknowledged by Kafka. The size
+         * of a record is the size of its key and value, when they are a String,
+         * counted as encoded in UTF-8, a byte array, ByteBuffer or Bytes. When
+         * the limit is reached then the next record waits until records are
+         * acknowledged, without blocking the thread sending it as long as fewer
+         * than maxInFlightWaiting records are waiting. The default value 0 is
+         * no limit.
+         * 
+         * The option will be converted to a &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Default: 0
+         * Group: producer
+         * 
+         * @param maxInFlightBytes the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointProducerBuilder maxInFlightBytes(
+                String maxInFlightBytes) {
+            doSetProperty("maxInFlightBytes", maxInFlightBytes);
+            return this;
+        }
+        /**
+         * The maximum number of records which the producer has sent
+         * asynchronously and which are not yet acknowledged by Kafka. When the
+         * limit is reached then the next record waits until records are
+         * acknowledged, without blocking the thread sending it as long as fewer
+         * than maxInFlightWaiting records are waiting, which slows down the
+         * route when Kafka cannot keep up. The default value 0 is no limit.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 0
+         * Group: producer
+         * 
+         * @param maxInFlightRecords the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointProducerBuilder maxInFlightRecords(
+                int maxInFlightRecords) {
+            doSetProperty("maxInFlightRecords", maxInFlightRecords);
+            return this;
+        }
+        /**
+         * The maximum number of records which the producer has sent
+         * asynchronously and which are not yet acknowledged by Kafka. When the
+         * limit is reached then the next record waits until records are
+         * acknowledged, without blocking the thread sending it as long as fewer
+         * than maxInFlightWaiting records are waiting, which slows down the
+         * route when Kafka cannot keep up. The default value 0 is no limit.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 0
+         * Group: producer
+         * 
+         * @param maxInFlightRecords the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointProducerBuilder maxInFlightRecords(
+                String maxInFlightRecords) {
+            doSetProperty("maxInFlightRecords", maxInFlightRecords);
+            return this;
+        }
         /**
          * The maximum number of unacknowledged requests the client will send on
          * a single connection before blocking. Note that if this setting is set
@@ -2363,6 +2568,46 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("maxInFlightRequest", maxInFlightRequest);
             return this;
         }
+        /**
+         * The maximum number of records which wait for room when
+         * maxInFlightRecords or maxInFlightBytes is reached. When this many
+         * records are waiting then inFlightFullPolicy decides what happens to
+         * the next record, which bounds the memory used by the waiting records
+         * when the route does not slow down by itself.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1000
+         * Group: producer
+         * 
+         * @param maxInFlightWaiting the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointProducerBuilder maxInFlightWaiting(
+                int maxInFlightWaiting) {
+            doSetProperty("maxInFlightWaiting", maxInFlightWaiting);
+            return this;
+        }
+        /**
+         * The maximum number of records which wait for room when
+         * maxInFlightRecords or maxInFlightBytes is reached. When this many
+         * records are waiting then inFlightFullPolicy decides what happens to
+         * the next record, which bounds the memory used by the waiting records
+         * when the route does not slow down by itself.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1000
+         * Group: producer
+         * 
+         * @param maxInFlightWaiting the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointProducerBuilder maxInFlightWaiting(
+                String maxInFlightWaiting) {
+            doSetProperty("maxInFlightWaiting", maxInFlightWaiting);
+            return this;
+        }
         /**
          * The maximum size of a request. This is also effectively a cap on the
          * maximum record size. Note that the server has its own cap on record
@@ -165,6 +165,127 @@ public interface SedaEndpointBuilderFactory {
         default SedaEndpointConsumerBuilder basic() {
             return (SedaEndpointConsumerBuilder) this;
         }
+        /**
+         * Whether to route a batch as a single exchange, where the message body
+         * is a java.util.List with the exchanges of the batch, instead of
+         * routing the exchanges one by one. This option is only in use when
+         * batchSize is enabled. The exchanges in the list are completed when
+         * the batch has been routed, so a producer waiting for the task to
+         * complete gets the message of its exchange in the list as reply, and
+         * the exception if the batch failed.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param batchAsList the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchAsList(
+                boolean batchAsList) {
+            doSetProperty("batchAsList", batchAsList);
+            return this;
+        }
+        /**
+         * Whether to route a batch as a single exchange, where the message body
+         * is a java.util.List with the exchanges of the batch, instead of
+         * routing the exchanges one by one. This option is only in use when
+         * batchSize is enabled. The exchanges in the list are completed when
+         * the batch has been routed, so a producer waiting for the task to
+         * complete gets the message of its exchange in the list as reply, and
+         * the exception if the batch failed.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param batchAsList the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchAsList(
+                String batchAsList) {
+            doSetProperty("batchAsList", batchAsList);
+            return this;
+        }
+        /**
+         * Enables batch mode where the consumer drains up to the given number
+         * of exchanges from the queue at once, instead of polling the queue for
+         * every exchange. This reduces the locking overhead of the queue when
+         * there are many messages. The exchanges are routed one by one, with
+         * the batch information stored as exchange properties (CamelBatchIndex,
+         * CamelBatchSize and CamelBatchComplete), unless batchAsList is
+         * enabled. Is by default 0 which means batch mode is disabled.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchSize(int batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
+        /**
+         * Enables batch mode where the consumer drains up to the given number
+         * of exchanges from the queue at once, instead of polling the queue for
+         * every exchange. This reduces the locking overhead of the queue when
+         * there are many messages. The exchanges are routed one by one, with
+         * the batch information stored as exchange properties (CamelBatchIndex,
+         * CamelBatchSize and CamelBatchComplete), unless batchAsList is
+         * enabled. Is by default 0 which means batch mode is disabled.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchSize(String batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
+        /**
+         * The maximum time to wait for more exchanges to fill up a batch, after
+         * the first exchange of the batch has been received. This bounds the
+         * latency added by batch mode. Is by default 0 which means the batch
+         * only contains the exchanges which are already available on the queue.
+         * 
+         * The option is a: &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param batchTimeout the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchTimeout(
+                long batchTimeout) {
+            doSetProperty("batchTimeout", batchTimeout);
+            return this;
+        }
+        /**
+         * The maximum time to wait for more exchanges to fill up a batch, after
+         * the first exchange of the batch has been received. This bounds the
+         * latency added by batch mode. Is by default 0 which means the batch
+         * only contains the exchanges which are already available on the queue.
+         * 
+         * The option will be converted to a &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param batchTimeout the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchTimeout(
+                String batchTimeout) {
+            doSetProperty("batchTimeout", batchTimeout);
+            return this;
+        }
         /**
          * To let the consumer use a custom ExceptionHandler. Notice if the
          * option bridgeErrorHandler is enabled then this option is not in use.
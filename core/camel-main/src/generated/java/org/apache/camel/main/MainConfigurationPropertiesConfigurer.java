@@ -65,6 +65,14 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "EndpointLazyStartProducer": target.setEndpointLazyStartProducer(property(camelContext, boolean.class, value)); return true;
         case "endpointruntimestatisticsenabled":
         case "EndpointRuntimeStatisticsEnabled": target.setEndpointRuntimeStatisticsEnabled(property(camelContext, boolean.class, value)); return true;
+        case "exchangefactory":
+        case "ExchangeFactory": target.setExchangeFactory(property(camelContext, java.lang.String.class, value)); return true;
+        case "exchangefactorycapacity":
+        case "ExchangeFactoryCapacity": target.setExchangeFactoryCapacity(property(camelContext, int.class, value)); return true;
+        case "exchangefactoryleakdetectionenabled":
+        case "ExchangeFactoryLeakDetectionEnabled": target.setExchangeFactoryLeakDetectionEnabled(property(camelContext, boolean.class, value)); return true;
+        case "exchangefactorystatisticsenabled":
+        case "ExchangeFactoryStatisticsEnabled": target.setExchangeFactoryStatisticsEnabled(property(camelContext, boolean.class, value)); return true;
         case "fileconfigurations":
         case "FileConfigurations": target.setFileConfigurations(property(camelContext, java.lang.String.class, value)); return true;
         case "inflightrepositorybrowseenabled":
@@ -99,6 +107,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "PackageScanRouteBuilders": target.setPackageScanRouteBuilders(property(camelContext, java.lang.String.class, value)); return true;
         case "producertemplatecachesize":
         case "ProducerTemplateCacheSize": target.setProducerTemplateCacheSize(property(camelContext, int.class, value)); return true;
+        case "reactiveexecutor":
+        case "ReactiveExecutor": target.setReactiveExecutor(property(camelContext, java.lang.String.class, value)); return true;
+        case "reactiveexecutorhandoffthreshold":
+        case "ReactiveExecutorHandOffThreshold": target.setReactiveExecutorHandOffThreshold(property(camelContext, int.class, value)); return true;
+        case "reactiveexecutorpoolsize":
+        case "ReactiveExecutorPoolSize": target.setReactiveExecutorPoolSize(property(camelContext, int.class, value)); return true;
         case "routecontrollerbackoffdelay":
         case "RouteControllerBackOffDelay": target.setRouteControllerBackOffDelay(property(camelContext, long.class, value)); return true;
         case "routecontrollerbackoffmaxattempts":
@@ -163,10 +177,16 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "StreamCachingBufferSize": target.setStreamCachingBufferSize(property(camelContext, int.class, value)); return true;
         case "streamcachingenabled":
         case "StreamCachingEnabled": target.setStreamCachingEnabled(property(camelContext, boolean.class, value)); return true;
+        case "streamcachingoffheapmaxmemory":
+        case "StreamCachingOffHeapMaxMemory": target.setStreamCachingOffHeapMaxMemory(property(camelContext, long.class, value)); return true;
+        case "streamcachingoffheapthreshold":
+        case "StreamCachingOffHeapThreshold": target.setStreamCachingOffHeapThreshold(property(camelContext, long.class, value)); return true;
         case "streamcachingremovespooldirectorywhenstopping":
         case "StreamCachingRemoveSpoolDirectoryWhenStopping": target.setStreamCachingRemoveSpoolDirectoryWhenStopping(property(camelContext, boolean.class, value)); return true;
         case "streamcachingspoolcipher":
         case "StreamCachingSpoolCipher": target.setStreamCachingSpoolCipher(property(camelContext, java.lang.String.class, value)); return true;
+        case "streamcachingspoolcompressed":
+        case "StreamCachingSpoolCompressed": target.setStreamCachingSpoolCompressed(property(camelContext, boolean.class, value)); return true;
         case "streamcachingspooldirectory":
         case "StreamCachingSpoolDirectory": target.setStreamCachingSpoolDirectory(property(camelContext, java.lang.String.class, value)); return true;
         case "streamcachingspoolthreshold":
@@ -175,6 +195,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "StreamCachingSpoolUsedHeapMemoryLimit": target.setStreamCachingSpoolUsedHeapMemoryLimit(property(camelContext, java.lang.String.class, value)); return true;
         case "streamcachingspoolusedheapmemorythreshold":
         case "StreamCachingSpoolUsedHeapMemoryThreshold": target.setStreamCachingSpoolUsedHeapMemoryThreshold(property(camelContext, int.class, value)); return true;
+        case "streamcachingspoolwritebehind":
+        case "StreamCachingSpoolWriteBehind": target.setStreamCachingSpoolWriteBehind(property(camelContext, boolean.class, value)); return true;
         case "streamcachingstatisticsenabled":
         case "StreamCachingStatisticsEnabled": target.setStreamCachingStatisticsEnabled(property(camelContext, boolean.class, value)); return true;
         case "threadnamepattern":
@@ -246,6 +268,14 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "EndpointLazyStartProducer": return boolean.class;
         case "endpointruntimestatisticsenabled":
         case "EndpointRuntimeStatisticsEnabled": return boolean.class;
+        case "exchangefactory":
+        case "ExchangeFactory": return java.lang.String.class;
+        case "exchangefactorycapacity":
+        case "ExchangeFactoryCapacity": return int.class;
+        case "exchangefactoryleakdetectionenabled":
+        case "ExchangeFactoryLeakDetectionEnabled": return boolean.class;
+        case "exchangefactorystatisticsenabled":
+        case "ExchangeFactoryStatisticsEnabled": return boolean.class;
         case "fileconfigurations":
         case "FileConfigurations": return java.lang.String.class;
         case "inflightrepositorybrowseenabled":
@@ -280,6 +310,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "PackageScanRouteBuilders": return java.lang.String.class;
         case "producertemplatecachesize":
         case "ProducerTemplateCacheSize": return int.class;
+        case "reactiveexecutor":
+        case "ReactiveExecutor": return java.lang.String.class;
+        case "reactiveexecutorhandoffthreshold":
+        case "ReactiveExecutorHandOffThreshold": return int.class;
+        case "reactiveexecutorpoolsize":
+        case "ReactiveExecutorPoolSize": return int.class;
         case "routecontrollerbackoffdelay":
         case "RouteControllerBackOffDelay": return long.class;
         case "routecontrollerbackoffmaxattempts":
@@ -344,10 +380,16 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "StreamCachingBufferSize": return int.class;
         case "streamcachingenabled":
         case "StreamCachingEnabled": return boolean.class;
+        case "streamcachingoffheapmaxmemory":
+        case "StreamCachingOffHeapMaxMemory": return long.class;
+        case "streamcachingoffheapthreshold":
+        case "StreamCachingOffHeapThreshold": return long.class;
         case "streamcachingremovespooldirectorywhenstopping":
         case "StreamCachingRemoveSpoolDirectoryWhenStopping": return boolean.class;
         case "streamcachingspoolcipher":
         case "StreamCachingSpoolCipher": return java.lang.String.class;
+        case "streamcachingspoolcompressed":
+        case "StreamCachingSpoolCompressed": return boolean.class;
         case "streamcachingspooldirectory":
         case "StreamCachingSpoolDirectory": return java.lang.String.class;
         case "streamcachingspoolthreshold":
@@ -356,6 +398,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "StreamCachingSpoolUsedHeapMemoryLimit": return java.lang.String.class;
         case "streamcachingspoolusedheapmemorythreshold":
         case "StreamCachingSpoolUsedHeapMemoryThreshold": return int.class;
+        case "streamcachingspoolwritebehind":
+        case "StreamCachingSpoolWriteBehind": return boolean.class;
         case "streamcachingstatisticsenabled":
         case "StreamCachingStatisticsEnabled": return boolean.class;
         case "threadnamepattern":
@@ -428,6 +472,14 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "EndpointLazyStartProducer": return target.isEndpointLazyStartProducer();
         case "endpointruntimestatisticsenabled":
         case "EndpointRuntimeStatisticsEnabled": return target.isEndpointRuntimeStatisticsEnabled();
+        case "exchangefactory":
+        case "ExchangeFactory": return target.getExchangeFactory();
+        case "exchangefactorycapacity":
+        case "ExchangeFactoryCapacity": return target.getExchangeFactoryCapacity();
+        case "exchangefactoryleakdetectionenabled":
+        case "ExchangeFactoryLeakDetectionEnabled": return target.isExchangeFactoryLeakDetectionEnabled();
+        case "exchangefactorystatisticsenabled":
+        case "ExchangeFactoryStatisticsEnabled": return target.isExchangeFactoryStatisticsEnabled();
         case "fileconfigurations":
         case "FileConfigurations": return target.getFileConfigurations();
         case "inflightrepositorybrowseenabled":
@@ -462,6 +514,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "PackageScanRouteBuilders": return target.getPackageScanRouteBuilders();
         case "producertemplatecachesize":
         case "ProducerTemplateCacheSize": return target.getProducerTemplateCacheSize();
+        case "reactiveexecutor":
+        case "ReactiveExecutor": return target.getReactiveExecutor();
+        case "reactiveexecutorhandoffthreshold":
+        case "ReactiveExecutorHandOffThreshold": return target.getReactiveExecutorHandOffThreshold();
+        case "reactiveexecutorpoolsize":
+        case "ReactiveExecutorPoolSize": return target.getReactiveExecutorPoolSize();
         case "routecontrollerbackoffdelay":
         case "RouteControllerBackOffDelay": return target.getRouteControllerBackOffDelay();
         case "routecontrollerbackoffmaxattempts":
@@ -526,10 +584,16 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "StreamCachingBufferSize": return target.getStreamCachingBufferSize();
         case "streamcachingenabled":
         case "StreamCachingEnabled": return target.isStreamCachingEnabled();
+        case "streamcachingoffheapmaxmemory":
+        case "StreamCachingOffHeapMaxMemory": return target.getStreamCachingOffHeapMaxMemory();
+        case "streamcachingoffheapthreshold":
+        case "StreamCachingOffHeapThreshold": return target.getStreamCachingOffHeapThreshold();
         case "streamcachingremovespooldirectorywhenstopping":
         case "StreamCachingRemoveSpoolDirectoryWhenStopping": return target.isStreamCachingRemoveSpoolDirectoryWhenStopping();
         case "streamcachingspoolcipher":
         case "StreamCachingSpoolCipher": return target.getStreamCachingSpoolCipher();
+        case "streamcachingspoolcompressed":
+        case "StreamCachingSpoolCompressed": return target.isStreamCachingSpoolCompressed();
         case "streamcachingspooldirectory":
         case "StreamCachingSpoolDirectory": return target.getStreamCachingSpoolDirectory();
         case "streamcachingspoolthreshold":
@@ -538,6 +602,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "StreamCachingSpoolUsedHeapMemoryLimit": return target.getStreamCachingSpoolUsedHeapMemoryLimit();
         case "streamcachingspoolusedheapmemorythreshold":
         case "StreamCachingSpoolUsedHeapMemoryThreshold": return target.getStreamCachingSpoolUsedHeapMemoryThreshold();
+        case "streamcachingspoolwritebehind":
+        case "StreamCachingSpoolWriteBehind": return target.isStreamCachingSpoolWriteBehind();
         case "streamcachingstatisticsenabled":
         case "StreamCachingStatisticsEnabled": return target.isStreamCachingStatisticsEnabled();
         case "threadnamepattern":
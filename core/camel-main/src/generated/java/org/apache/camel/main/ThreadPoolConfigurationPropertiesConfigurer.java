@@ -37,6 +37,8 @@ public class ThreadPoolConfigurationPropertiesConfigurer extends org.apache.came
         case "RejectedPolicy": target.setRejectedPolicy(property(camelContext, org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy.class, value)); return true;
         case "timeunit":
         case "TimeUnit": target.setTimeUnit(property(camelContext, java.util.concurrent.TimeUnit.class, value)); return true;
+        case "virtualthreads":
+        case "VirtualThreads": target.setVirtualThreads(property(camelContext, boolean.class, value)); return true;
         default: return false;
         }
     }
@@ -60,6 +62,8 @@ public class ThreadPoolConfigurationPropertiesConfigurer extends org.apache.came
         case "RejectedPolicy": return org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy.class;
         case "timeunit":
         case "TimeUnit": return java.util.concurrent.TimeUnit.class;
+        case "virtualthreads":
+        case "VirtualThreads": return boolean.class;
         default: return null;
         }
     }
@@ -84,6 +88,8 @@ public class ThreadPoolConfigurationPropertiesConfigurer extends org.apache.came
         case "RejectedPolicy": return target.getRejectedPolicy();
         case "timeunit":
         case "TimeUnit": return target.getTimeUnit();
+        case "virtualthreads":
+        case "VirtualThreads": return target.isVirtualThreads();
         default: return null;
         }
     }
@@ -31,6 +31,9 @@ import org.apache.camel.cluster.CamelClusterService;
 import org.apache.camel.health.HealthCheckRegistry;
 import org.apache.camel.health.HealthCheckRepository;
 import org.apache.camel.impl.debugger.BacklogTracer;
+import org.apache.camel.impl.engine.PooledExchangeFactory;
+import org.apache.camel.impl.engine.PrototypeExchangeFactory;
+import org.apache.camel.impl.engine.WorkStealingReactiveExecutor;
 import org.apache.camel.model.Model;
 import org.apache.camel.model.ModelCamelContext;
 import org.apache.camel.model.ModelLifecycleStrategy;
@@ -112,6 +115,33 @@ public final class DefaultConfigurationConfigurer {
         ecc.getStartupStepRecorder().setRecordingDir(config.getStartupRecorderDir());
         ecc.getStartupStepRecorder().setRecordingProfile(config.getStartupRecorderProfile());
 
+        if ("work-stealing".equals(config.getReactiveExecutor())) {
+            WorkStealingReactiveExecutor re = new WorkStealingReactiveExecutor();
+            re.setPoolSize(config.getReactiveExecutorPoolSize());
+            re.setHandOffThreshold(config.getReactiveExecutorHandOffThreshold());
+            ecc.setReactiveExecutor(re);
+        } else if (config.getReactiveExecutor() != null && !"default".equals(config.getReactiveExecutor())) {
+            throw new IllegalArgumentException(
+                    "Invalid option " + config.getReactiveExecutor() + " must either be default or work-stealing");
+        }
+
+        if ("pooled".equals(config.getExchangeFactory())) {
+            ecc.setExchangeFactory(new PooledExchangeFactory());
+            // pool the tasks of the routing engine as well
+            if (!camelContext.getGlobalOptions().containsKey(Exchange.MAXIMUM_TASK_POOL_SIZE)) {
+                camelContext.getGlobalOptions().put(Exchange.MAXIMUM_TASK_POOL_SIZE,
+                        String.valueOf(config.getExchangeFactoryCapacity()));
+            }
+        } else if ("prototype".equals(config.getExchangeFactory())) {
+            ecc.setExchangeFactory(new PrototypeExchangeFactory());
+        } else if (config.getExchangeFactory() != null && !"default".equals(config.getExchangeFactory())) {
+            throw new IllegalArgumentException(
+                    "Invalid option " + config.getExchangeFactory() + " must either be default, prototype or pooled");
+        }
+        ecc.getExchangeFactory().setCapacity(config.getExchangeFactoryCapacity());
+        ecc.getExchangeFactory().setStatisticsEnabled(config.isExchangeFactoryStatisticsEnabled());
+        ecc.getExchangeFactory().setLeakDetectionEnabled(config.isExchangeFactoryLeakDetectionEnabled());
+
         ecc.setLightweight(config.isLightweight());
         ecc.getBeanPostProcessor().setEnabled(config.isBeanPostProcessorEnabled());
         ecc.getBeanIntrospection().setExtendedStatistics(config.isBeanIntrospectionExtendedStatistics());
@@ -152,12 +182,20 @@ public final class DefaultConfigurationConfigurer {
         camelContext.getStreamCachingStrategy()
                 .setRemoveSpoolDirectoryWhenStopping(config.isStreamCachingRemoveSpoolDirectoryWhenStopping());
         camelContext.getStreamCachingStrategy().setSpoolCipher(config.getStreamCachingSpoolCipher());
+        camelContext.getStreamCachingStrategy().setSpoolCompressed(config.isStreamCachingSpoolCompressed());
+        camelContext.getStreamCachingStrategy().setSpoolWriteBehind(config.isStreamCachingSpoolWriteBehind());
         if (config.getStreamCachingSpoolDirectory() != null) {
             camelContext.getStreamCachingStrategy().setSpoolDirectory(config.getStreamCachingSpoolDirectory());
         }
         if (config.getStreamCachingSpoolThreshold() != 0) {
             camelContext.getStreamCachingStrategy().setSpoolThreshold(config.getStreamCachingSpoolThreshold());
         }
+        if (config.getStreamCachingOffHeapThreshold() != 0) {
+            camelContext.getStreamCachingStrategy().setOffHeapThreshold(config.getStreamCachingOffHeapThreshold());
+        }
+        if (config.getStreamCachingOffHeapMaxMemory() != 0) {
+            camelContext.getStreamCachingStrategy().setOffHeapMaxMemory(config.getStreamCachingOffHeapMaxMemory());
+        }
         if (config.getStreamCachingSpoolUsedHeapMemoryLimit() != null) {
             StreamCachingStrategy.SpoolUsedHeapMemoryLimit limit;
             if ("Committed".equalsIgnoreCase(config.getStreamCachingSpoolUsedHeapMemoryLimit())) {
@@ -50,8 +50,12 @@ public abstract class DefaultConfigurationProperties<T> {
     private boolean streamCachingEnabled;
     private String streamCachingSpoolDirectory;
     private String streamCachingSpoolCipher;
+    private boolean streamCachingSpoolCompressed;
+    private boolean streamCachingSpoolWriteBehind;
     private long streamCachingSpoolThreshold;
     private int streamCachingSpoolUsedHeapMemoryThreshold;
+    private long streamCachingOffHeapThreshold;
+    private long streamCachingOffHeapMaxMemory;
     private String streamCachingSpoolUsedHeapMemoryLimit;
     private boolean streamCachingAnySpoolRules;
     private int streamCachingBufferSize;
@@ -111,6 +115,13 @@ public abstract class DefaultConfigurationProperties<T> {
     private String startupRecorderProfile = "default";
     private long startupRecorderDuration;
     private String startupRecorderDir;
+    private String reactiveExecutor;
+    private int reactiveExecutorPoolSize;
+    private int reactiveExecutorHandOffThreshold = 16;
+    private String exchangeFactory = "default";
+    private int exchangeFactoryCapacity = 100;
+    private boolean exchangeFactoryStatisticsEnabled;
+    private boolean exchangeFactoryLeakDetectionEnabled;
 
     // getter and setters
     // --------------------------------------------------------------
@@ -365,6 +376,31 @@ public abstract class DefaultConfigurationProperties<T> {
         this.streamCachingSpoolCipher = streamCachingSpoolCipher;
     }
 
+    public boolean isStreamCachingSpoolCompressed() {
+        return streamCachingSpoolCompressed;
+    }
+
+    /**
+     * Sets whether to compress (using deflate) the data when stream caching spools to disk. By default the data is not
+     * compressed.
+     */
+    public void setStreamCachingSpoolCompressed(boolean streamCachingSpoolCompressed) {
+        this.streamCachingSpoolCompressed = streamCachingSpoolCompressed;
+    }
+
+    public boolean isStreamCachingSpoolWriteBehind() {
+        return streamCachingSpoolWriteBehind;
+    }
+
+    /**
+     * Sets whether stream caching writes to the spool files asynchronously (write-behind) using a background thread, so
+     * the thread creating the stream cache can continue while spooling completes. By default the data is written
+     * synchronously.
+     */
+    public void setStreamCachingSpoolWriteBehind(boolean streamCachingSpoolWriteBehind) {
+        this.streamCachingSpoolWriteBehind = streamCachingSpoolWriteBehind;
+    }
+
     public long getStreamCachingSpoolThreshold() {
         return streamCachingSpoolThreshold;
     }
@@ -377,6 +413,31 @@ public abstract class DefaultConfigurationProperties<T> {
         this.streamCachingSpoolThreshold = streamCachingSpoolThreshold;
     }
 
+    public long getStreamCachingOffHeapThreshold() {
+        return streamCachingOffHeapThreshold;
+    }
+
+    /**
+     * Stream caching threshold in bytes when in-memory stream caches are moved from heap memory to off-heap memory
+     * (direct byte buffers), until they are spooled to disk. The spool threshold should then be set higher than this
+     * threshold. The default threshold is 0 which means off-heap stream caching is disabled.
+     */
+    public void setStreamCachingOffHeapThreshold(long streamCachingOffHeapThreshold) {
+        this.streamCachingOffHeapThreshold = streamCachingOffHeapThreshold;
+    }
+
+    public long getStreamCachingOffHeapMaxMemory() {
+        return streamCachingOffHeapMaxMemory;
+    }
+
+    /**
+     * Sets the maximum total of off-heap memory in bytes which can be used by the off-heap stream caches. When this
+     * limit is reached, stream caches are spooled to disk instead. The default limit is 64mb.
+     */
+    public void setStreamCachingOffHeapMaxMemory(long streamCachingOffHeapMaxMemory) {
+        this.streamCachingOffHeapMaxMemory = streamCachingOffHeapMaxMemory;
+    }
+
     public int getStreamCachingSpoolUsedHeapMemoryThreshold() {
         return streamCachingSpoolUsedHeapMemoryThreshold;
     }
@@ -1208,6 +1269,101 @@ public abstract class DefaultConfigurationProperties<T> {
         this.startupRecorderDir = startupRecorderDir;
     }
 
+    public String getReactiveExecutor() {
+        return reactiveExecutor;
+    }
+
+    /**
+     * To use a specific reactive executor for the routing engine. The reactive executor can be one of: default,
+     * work-stealing
+     *
+     * The work-stealing reactive executor hands off tasks to a dedicated thread pool when a thread continuing exchanges
+     * asynchronously, such as the I/O thread of an asynchronous producer, has many queued tasks, and the threads of the
+     * pool steal tasks from the other threads.
+     *
+     * The default is default.
+     */
+    public void setReactiveExecutor(String reactiveExecutor) {
+        this.reactiveExecutor = reactiveExecutor;
+    }
+
+    public int getReactiveExecutorPoolSize() {
+        return reactiveExecutorPoolSize;
+    }
+
+    /**
+     * Number of threads in the pool the work-stealing reactive executor hands off tasks to. Is by default the number of
+     * available processors.
+     */
+    public void setReactiveExecutorPoolSize(int reactiveExecutorPoolSize) {
+        this.reactiveExecutorPoolSize = reactiveExecutorPoolSize;
+    }
+
+    public int getReactiveExecutorHandOffThreshold() {
+        return reactiveExecutorHandOffThreshold;
+    }
+
+    /**
+     * Number of queued tasks of a thread continuing exchanges asynchronously before the work-stealing reactive executor
+     * hands off new tasks to its thread pool. Use 0 or a negative value to never hand off tasks.
+     */
+    public void setReactiveExecutorHandOffThreshold(int reactiveExecutorHandOffThreshold) {
+        this.reactiveExecutorHandOffThreshold = reactiveExecutorHandOffThreshold;
+    }
+
+    public String getExchangeFactory() {
+        return exchangeFactory;
+    }
+
+    /**
+     * Controls whether to pool (reuse) exchanges or create new exchanges (prototype). Using pooled will reduce JVM
+     * garbage collection overhead by avoiding to re-create Exchange instances per message each consumer receives. The
+     * tasks of the routing engine are then pooled as well, unless the CamelMaximumTaskPoolSize global option is set.
+     *
+     * Pooled exchanges must not be kept after they have been routed, so they should only be used with routes which do
+     * not store the exchanges received from the consumer.
+     *
+     * The default is default, which is the same as prototype.
+     */
+    public void setExchangeFactory(String exchangeFactory) {
+        this.exchangeFactory = exchangeFactory;
+    }
+
+    public int getExchangeFactoryCapacity() {
+        return exchangeFactoryCapacity;
+    }
+
+    /**
+     * The capacity the pool (for each consumer) uses for storing exchanges. The default capacity is 100.
+     */
+    public void setExchangeFactoryCapacity(int exchangeFactoryCapacity) {
+        this.exchangeFactoryCapacity = exchangeFactoryCapacity;
+    }
+
+    public boolean isExchangeFactoryStatisticsEnabled() {
+        return exchangeFactoryStatisticsEnabled;
+    }
+
+    /**
+     * Configures whether statistics is enabled on exchange factory.
+     */
+    public void setExchangeFactoryStatisticsEnabled(boolean exchangeFactoryStatisticsEnabled) {
+        this.exchangeFactoryStatisticsEnabled = exchangeFactoryStatisticsEnabled;
+    }
+
+    public boolean isExchangeFactoryLeakDetectionEnabled() {
+        return exchangeFactoryLeakDetectionEnabled;
+    }
+
+    /**
+     * Configures whether the pooled exchange factory detects exchanges which has not been released when the consumer is
+     * stopped, which are logged as WARN with the stacktrace where the exchange was created. This should only be used
+     * during development.
+     */
+    public void setExchangeFactoryLeakDetectionEnabled(boolean exchangeFactoryLeakDetectionEnabled) {
+        this.exchangeFactoryLeakDetectionEnabled = exchangeFactoryLeakDetectionEnabled;
+    }
+
     // fluent builders
     // --------------------------------------------------------------
 
@@ -1393,6 +1549,25 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets whether to compress (using deflate) the data when stream caching spools to disk. By default the data is not
+     * compressed.
+     */
+    public T withStreamCachingSpoolCompressed(boolean streamCachingSpoolCompressed) {
+        this.streamCachingSpoolCompressed = streamCachingSpoolCompressed;
+        return (T) this;
+    }
+
+    /**
+     * Sets whether stream caching writes to the spool files asynchronously (write-behind) using a background thread, so
+     * the thread creating the stream cache can continue while spooling completes. By default the data is written
+     * synchronously.
+     */
+    public T withStreamCachingSpoolWriteBehind(boolean streamCachingSpoolWriteBehind) {
+        this.streamCachingSpoolWriteBehind = streamCachingSpoolWriteBehind;
+        return (T) this;
+    }
+
     /**
      * Stream caching threshold in bytes when overflow to disk is activated. The default threshold is 128kb. Use -1 to
      * disable overflow to disk.
@@ -1402,6 +1577,25 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Stream caching threshold in bytes when in-memory stream caches are moved from heap memory to off-heap memory
+     * (direct byte buffers), until they are spooled to disk. The spool threshold should then be set higher than this
+     * threshold. The default threshold is 0 which means off-heap stream caching is disabled.
+     */
+    public T withStreamCachingOffHeapThreshold(long streamCachingOffHeapThreshold) {
+        this.streamCachingOffHeapThreshold = streamCachingOffHeapThreshold;
+        return (T) this;
+    }
+
+    /**
+     * Sets the maximum total of off-heap memory in bytes which can be used by the off-heap stream caches. When this
+     * limit is reached, stream caches are spooled to disk instead. The default limit is 64mb.
+     */
+    public T withStreamCachingOffHeapMaxMemory(long streamCachingOffHeapMaxMemory) {
+        this.streamCachingOffHeapMaxMemory = streamCachingOffHeapMaxMemory;
+        return (T) this;
+    }
+
     /**
      * Sets a percentage (1-99) of used heap memory threshold to activate stream caching spooling to disk.
      */
@@ -2056,4 +2250,69 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * To use a specific reactive executor for the routing engine. The reactive executor can be one of: default,
+     * work-stealing
+     *
+     * The default is default.
+     */
+    public T withReactiveExecutor(String reactiveExecutor) {
+        this.reactiveExecutor = reactiveExecutor;
+        return (T) this;
+    }
+
+    /**
+     * Number of threads in the pool the work-stealing reactive executor hands off tasks to. Is by default the number of
+     * available processors.
+     */
+    public T withReactiveExecutorPoolSize(int reactiveExecutorPoolSize) {
+        this.reactiveExecutorPoolSize = reactiveExecutorPoolSize;
+        return (T) this;
+    }
+
+    /**
+     * Number of queued tasks of a thread continuing exchanges asynchronously before the work-stealing reactive executor
+     * hands off new tasks to its thread pool. Use 0 or a negative value to never hand off tasks.
+     */
+    public T withReactiveExecutorHandOffThreshold(int reactiveExecutorHandOffThreshold) {
+        this.reactiveExecutorHandOffThreshold = reactiveExecutorHandOffThreshold;
+        return (T) this;
+    }
+
+    /**
+     * Controls whether to pool (reuse) exchanges or create new exchanges (prototype). Using pooled will reduce JVM
+     * garbage collection overhead by avoiding to re-create Exchange instances per message each consumer receives.
+     *
+     * The default is default, which is the same as prototype.
+     */
+    public T withExchangeFactory(String exchangeFactory) {
+        this.exchangeFactory = exchangeFactory;
+        return (T) this;
+    }
+
+    /**
+     * The capacity the pool (for each consumer) uses for storing exchanges. The default capacity is 100.
+     */
+    public T withExchangeFactoryCapacity(int exchangeFactoryCapacity) {
+        this.exchangeFactoryCapacity = exchangeFactoryCapacity;
+        return (T) this;
+    }
+
+    /**
+     * Configures whether statistics is enabled on exchange factory.
+     */
+    public T withExchangeFactoryStatisticsEnabled(boolean exchangeFactoryStatisticsEnabled) {
+        this.exchangeFactoryStatisticsEnabled = exchangeFactoryStatisticsEnabled;
+        return (T) this;
+    }
+
+    /**
+     * Configures whether the pooled exchange factory detects exchanges which has not been released when the consumer is
+     * stopped. This should only be used during development.
+     */
+    public T withExchangeFactoryLeakDetectionEnabled(boolean exchangeFactoryLeakDetectionEnabled) {
+        this.exchangeFactoryLeakDetectionEnabled = exchangeFactoryLeakDetectionEnabled;
+        return (T) this;
+    }
+
 }
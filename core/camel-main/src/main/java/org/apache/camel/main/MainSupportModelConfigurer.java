@@ -26,6 +26,7 @@ import org.apache.camel.model.HystrixConfigurationDefinition;
 import org.apache.camel.model.ModelCamelContext;
 import org.apache.camel.model.Resilience4jConfigurationDefinition;
 import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.support.VirtualThreadPoolFactory;
 import org.apache.camel.util.PropertiesHelper;
 import org.apache.camel.util.StringHelper;
 import org.slf4j.Logger;
@@ -131,6 +132,15 @@ public final class MainSupportModelConfigurer {
         setPropertiesOnTarget(camelContext, tp, threadPoolProperties, "camel.threadpool.",
                 mainConfigurationProperties.isAutoConfigurationFailFast(), true, autoConfiguredProperties);
 
+        if (tp.isVirtualThreads()) {
+            VirtualThreadPoolFactory factory = new VirtualThreadPoolFactory();
+            factory.setCamelContext(camelContext);
+            camelContext.getExecutorServiceManager().setThreadPoolFactory(factory);
+            if (!factory.isVirtualThreads()) {
+                LOG.warn("Virtual threads are not supported on this JVM, using platform threads for thread pools");
+            }
+        }
+
         // okay we have all properties set so we should be able to create thread pool profiles and register them on camel
         final ThreadPoolProfile dp = new ThreadPoolProfileBuilder("default")
                 .poolSize(tp.getPoolSize())
@@ -19,11 +19,15 @@ package org.apache.camel.main;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.engine.WorkStealingReactiveExecutor;
 import org.apache.camel.spi.ManagementStrategy;
+import org.apache.camel.spi.ReactiveExecutor;
 import org.junit.jupiter.api.Test;
 
+import static org.apache.camel.test.junit5.TestSupport.assertIsInstanceOf;
 import static org.apache.camel.util.CollectionHelper.propertiesOf;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -56,6 +60,26 @@ public class MainTest {
         main.stop();
     }
 
+    @Test
+    public void testWorkStealingReactiveExecutor() throws Exception {
+        Main main = new Main();
+        main.configure().addRoutesBuilder(new MyRouteBuilder());
+        main.addProperty("camel.main.reactive-executor", "work-stealing");
+        main.addProperty("camel.main.reactive-executor-pool-size", "2");
+        main.addProperty("camel.main.reactive-executor-hand-off-threshold", "4");
+        main.start();
+
+        CamelContext camelContext = main.getCamelContext();
+        assertNotNull(camelContext);
+
+        ReactiveExecutor re = camelContext.adapt(ExtendedCamelContext.class).getReactiveExecutor();
+        WorkStealingReactiveExecutor wsre = assertIsInstanceOf(WorkStealingReactiveExecutor.class, re);
+        assertEquals(2, wsre.getPoolSize());
+        assertEquals(4, wsre.getHandOffThreshold());
+
+        main.stop();
+    }
+
     @Test
     public void testDisableHangupSupport() throws Exception {
         // lets make a simple route
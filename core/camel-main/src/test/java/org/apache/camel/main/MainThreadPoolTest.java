@@ -16,11 +16,19 @@
  */
 package org.apache.camel.main;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
 import org.apache.camel.CamelContext;
 import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.ThreadPoolFactory;
 import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.support.VirtualThreadPoolFactory;
+import org.apache.camel.util.concurrent.ThreadPerTaskExecutor;
+import org.apache.camel.util.concurrent.VirtualThreadFactory;
 import org.junit.jupiter.api.Test;
 
+import static org.apache.camel.test.junit5.TestSupport.assertIsInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -118,6 +126,27 @@ public class MainThreadPoolTest {
         main.stop();
     }
 
+    @Test
+    public void testVirtualThreads() throws Exception {
+        Main main = new Main();
+        main.configure().addRoutesBuilder(new MyRouteBuilder());
+        main.addProperty("camel.threadpool.virtual-threads", "true");
+        main.start();
+
+        CamelContext camelContext = main.getCamelContext();
+        assertNotNull(camelContext);
+
+        ThreadPoolFactory factory = camelContext.getExecutorServiceManager().getThreadPoolFactory();
+        assertIsInstanceOf(VirtualThreadPoolFactory.class, factory);
+
+        // falls back to pooled platform threads when virtual threads are not supported
+        ExecutorService executor = camelContext.getExecutorServiceManager().newDefaultThreadPool(this, "virtual");
+        assertEquals(VirtualThreadFactory.isSupported(), executor instanceof ThreadPerTaskExecutor);
+        assertEquals("Hello", executor.submit(() -> "Hello").get(5, TimeUnit.SECONDS));
+
+        main.stop();
+    }
+
     public static class MyRouteBuilder extends RouteBuilder {
         @Override
         public void configure() throws Exception {
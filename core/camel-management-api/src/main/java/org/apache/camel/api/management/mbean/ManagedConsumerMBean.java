@@ -17,6 +17,7 @@
 package org.apache.camel.api.management.mbean;
 
 import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
 
 public interface ManagedConsumerMBean extends ManagedServiceMBean {
 
@@ -26,4 +27,37 @@ public interface ManagedConsumerMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Current number of inflight Exchanges")
     Integer getInflightExchanges();
 
+    @ManagedAttribute(description = "Whether the exchange factory of the consumer is pooled")
+    Boolean isExchangeFactoryPooled();
+
+    @ManagedAttribute(description = "Max capacity of the exchange factory pool")
+    Integer getExchangeFactoryCapacity();
+
+    @ManagedAttribute(description = "Current number of exchanges in the exchange factory pool")
+    Integer getExchangeFactorySize();
+
+    @ManagedAttribute(description = "Whether statistics is enabled on the exchange factory")
+    Boolean isExchangeFactoryStatisticsEnabled();
+
+    @ManagedAttribute(description = "Whether statistics is enabled on the exchange factory")
+    void setExchangeFactoryStatisticsEnabled(Boolean statisticsEnabled);
+
+    @ManagedAttribute(description = "Number of new exchanges created by the exchange factory")
+    Long getExchangeFactoryCreatedCounter();
+
+    @ManagedAttribute(description = "Number of exchanges acquired (reused) from the exchange factory pool")
+    Long getExchangeFactoryAcquiredCounter();
+
+    @ManagedAttribute(description = "Number of exchanges released back to the exchange factory pool")
+    Long getExchangeFactoryReleasedCounter();
+
+    @ManagedAttribute(description = "Number of exchanges discarded (thrown away) by the exchange factory")
+    Long getExchangeFactoryDiscardedCounter();
+
+    @ManagedAttribute(description = "Number of exchanges that was not released when the exchange factory was stopped")
+    Long getExchangeFactoryLeakedCounter();
+
+    @ManagedOperation(description = "Reset the statistics of the exchange factory")
+    void resetExchangeFactoryStatistics();
+
 }
@@ -59,6 +59,18 @@ public interface ManagedPerformanceCounterMBean extends ManagedCounterMBean {
     @ManagedAttribute(description = "Delta Processing Time [milliseconds]")
     long getDeltaProcessingTime() throws Exception;
 
+    @ManagedAttribute(description = "50th percentile (median) Processing Time [milliseconds]")
+    long getP50ProcessingTime() throws Exception;
+
+    @ManagedAttribute(description = "90th percentile Processing Time [milliseconds]")
+    long getP90ProcessingTime() throws Exception;
+
+    @ManagedAttribute(description = "99th percentile Processing Time [milliseconds]")
+    long getP99ProcessingTime() throws Exception;
+
+    @ManagedAttribute(description = "99.9th percentile Processing Time [milliseconds]")
+    long getP999ProcessingTime() throws Exception;
+
     @ManagedAttribute(description = "Last Exchange Completed Timestamp")
     Date getLastExchangeCompletedTimestamp();
 
@@ -92,4 +104,7 @@ public interface ManagedPerformanceCounterMBean extends ManagedCounterMBean {
     @ManagedOperation(description = "Dumps the statistics as XML")
     String dumpStatsAsXml(boolean fullStats);
 
+    @ManagedOperation(description = "Dumps the statistics as JSON, including the processing time histogram when full stats")
+    String dumpStatsAsJson(boolean fullStats);
+
 }
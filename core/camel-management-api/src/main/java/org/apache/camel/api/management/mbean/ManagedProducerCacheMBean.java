@@ -36,4 +36,19 @@ public interface ManagedProducerCacheMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "EventNotifier enabled")
     Boolean isEventNotifierEnabled();
 
+    @ManagedAttribute(description = "Number of times a pooled producer was acquired from the cache")
+    Long getHits();
+
+    @ManagedAttribute(description = "Number of times a producer had to be created when acquired from the cache")
+    Long getMisses();
+
+    @ManagedAttribute(description = "Mean time in millis to create and start a producer")
+    Long getMeanCreationTime();
+
+    @ManagedAttribute(description = "Max time in millis to create and start a producer")
+    Long getMaxCreationTime();
+
+    @ManagedOperation(description = "Resets the statistics")
+    void resetStatistics();
+
 }
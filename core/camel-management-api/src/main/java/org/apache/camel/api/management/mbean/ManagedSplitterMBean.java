@@ -26,4 +26,10 @@ public interface ManagedSplitterMBean extends ManagedMulticastMBean {
     @ManagedAttribute(description = "Expression of how to split the message body, such as as-is, using a tokenizer, or using an xpath.")
     String getExpression();
 
+    @ManagedAttribute(description = "The maximum number of sub messages processed in parallel and not yet aggregated (0 if not bounded)")
+    Integer getMaxInflight();
+
+    @ManagedAttribute(description = "The current number of sub messages processed in parallel and not yet aggregated")
+    Integer getWindowOccupancy();
+
 }
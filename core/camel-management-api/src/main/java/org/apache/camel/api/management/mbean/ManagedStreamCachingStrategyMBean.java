@@ -38,6 +38,12 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Cipher used if writing with encryption")
     String getSpoolCipher();
 
+    @ManagedAttribute(description = "Whether writing compressed when spooling to disk")
+    boolean isSpoolCompressed();
+
+    @ManagedAttribute(description = "Whether writing asynchronously (write-behind) when spooling to disk")
+    boolean isSpoolWriteBehind();
+
     @ManagedAttribute(description = "Threshold in bytes when overflow and spooling to disk instead of keeping in memory")
     void setSpoolThreshold(long threshold);
 
@@ -56,6 +62,21 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Whether used heap memory limit is committed or maximum")
     SpoolUsedHeapMemoryLimit getSpoolUsedHeapMemoryLimit();
 
+    @ManagedAttribute(description = "Threshold in bytes when moving in-memory stream caches from heap to off-heap memory")
+    void setOffHeapThreshold(long threshold);
+
+    @ManagedAttribute(description = "Threshold in bytes when moving in-memory stream caches from heap to off-heap memory")
+    long getOffHeapThreshold();
+
+    @ManagedAttribute(description = "Maximum total of off-heap memory in bytes used by off-heap stream caches")
+    void setOffHeapMaxMemory(long maxMemory);
+
+    @ManagedAttribute(description = "Maximum total of off-heap memory in bytes used by off-heap stream caches")
+    long getOffHeapMaxMemory();
+
+    @ManagedAttribute(description = "Off-heap memory in bytes currently used by off-heap stream caches")
+    long getOffHeapUsedMemory();
+
     @ManagedAttribute(description = "Buffer size in bytes to use when coping between buffers")
     void setBufferSize(int bufferSize);
 
@@ -92,6 +113,24 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Average number of bytes per cached stream for spooled (not in-memory) stream caches.")
     long getCacheSpoolAverageSize();
 
+    @ManagedAttribute(description = "Total accumulated number of bytes which has been written to disk for spooled StreamCache")
+    long getCacheSpoolDiskSize();
+
+    @ManagedAttribute(description = "Compression ratio (cached size divided by size on disk) of spooled StreamCache")
+    double getCacheSpoolCompressionRatio();
+
+    @ManagedAttribute(description = "Average time in millis spent writing a spooled StreamCache to disk")
+    long getCacheSpoolAverageTime();
+
+    @ManagedAttribute(description = "Number of off-heap StreamCache created")
+    long getCacheOffHeapCounter();
+
+    @ManagedAttribute(description = "Total accumulated number of bytes which has been stream cached for off-heap StreamCache")
+    long getCacheOffHeapSize();
+
+    @ManagedAttribute(description = "Average number of bytes per cached stream for off-heap stream caches.")
+    long getCacheOffHeapAverageSize();
+
     @ManagedAttribute(description = "Whether utilization statistics is enabled")
     boolean isStatisticsEnabled();
 
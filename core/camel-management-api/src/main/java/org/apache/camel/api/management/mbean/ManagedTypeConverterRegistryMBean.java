@@ -36,6 +36,15 @@ public interface ManagedTypeConverterRegistryMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Number of type conversion failures (failed conversions)")
     long getFailedCounter();
 
+    @ManagedAttribute(description = "Number of type conversion attempts which used a cached conversion")
+    long getCacheHitCounter();
+
+    @ManagedAttribute(description = "Number of type conversion attempts which resolved the conversion (not cached)")
+    long getCacheMissCounter();
+
+    @ManagedAttribute(description = "Number of type conversion hits by fallback type converters")
+    long getFallbackCounter();
+
     @ManagedOperation(description = "Resets the type conversion counters")
     void resetTypeConversionCounters();
 
@@ -20,6 +20,8 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.Consumer;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.api.management.mbean.ManagedConsumerMBean;
+import org.apache.camel.spi.ExchangeFactory;
+import org.apache.camel.support.DefaultConsumer;
 
 @ManagedResource(description = "Managed Consumer")
 public class ManagedConsumer extends ManagedService implements ManagedConsumerMBean {
@@ -48,4 +50,78 @@ public class ManagedConsumer extends ManagedService implements ManagedConsumerMB
         }
     }
 
+    private ExchangeFactory getExchangeFactory() {
+        return consumer instanceof DefaultConsumer ? ((DefaultConsumer) consumer).getExchangeFactory() : null;
+    }
+
+    @Override
+    public Boolean isExchangeFactoryPooled() {
+        ExchangeFactory factory = getExchangeFactory();
+        return factory != null ? factory.isPooled() : null;
+    }
+
+    @Override
+    public Integer getExchangeFactoryCapacity() {
+        ExchangeFactory factory = getExchangeFactory();
+        return factory != null ? factory.getCapacity() : null;
+    }
+
+    @Override
+    public Integer getExchangeFactorySize() {
+        ExchangeFactory factory = getExchangeFactory();
+        return factory != null ? factory.getSize() : null;
+    }
+
+    @Override
+    public Boolean isExchangeFactoryStatisticsEnabled() {
+        ExchangeFactory factory = getExchangeFactory();
+        return factory != null ? factory.isStatisticsEnabled() : null;
+    }
+
+    @Override
+    public void setExchangeFactoryStatisticsEnabled(Boolean statisticsEnabled) {
+        ExchangeFactory factory = getExchangeFactory();
+        if (factory != null && statisticsEnabled != null) {
+            factory.setStatisticsEnabled(statisticsEnabled);
+        }
+    }
+
+    @Override
+    public Long getExchangeFactoryCreatedCounter() {
+        ExchangeFactory factory = getExchangeFactory();
+        return factory != null ? factory.getCreatedCounter() : null;
+    }
+
+    @Override
+    public Long getExchangeFactoryAcquiredCounter() {
+        ExchangeFactory factory = getExchangeFactory();
+        return factory != null ? factory.getAcquiredCounter() : null;
+    }
+
+    @Override
+    public Long getExchangeFactoryReleasedCounter() {
+        ExchangeFactory factory = getExchangeFactory();
+        return factory != null ? factory.getReleasedCounter() : null;
+    }
+
+    @Override
+    public Long getExchangeFactoryDiscardedCounter() {
+        ExchangeFactory factory = getExchangeFactory();
+        return factory != null ? factory.getDiscardedCounter() : null;
+    }
+
+    @Override
+    public Long getExchangeFactoryLeakedCounter() {
+        ExchangeFactory factory = getExchangeFactory();
+        return factory != null ? factory.getLeakedCounter() : null;
+    }
+
+    @Override
+    public void resetExchangeFactoryStatistics() {
+        ExchangeFactory factory = getExchangeFactory();
+        if (factory != null) {
+            factory.resetStatistics();
+        }
+    }
+
 }
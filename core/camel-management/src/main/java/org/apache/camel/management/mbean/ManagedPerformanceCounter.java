@@ -44,6 +44,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
     private Statistic lastProcessingTime;
     private Statistic deltaProcessingTime;
     private Statistic meanProcessingTime;
+    private StatisticHistogram processingTimeHistogram;
     private Statistic firstExchangeCompletedTimestamp;
     private String firstExchangeCompletedExchangeId;
     private Statistic firstExchangeFailureTimestamp;
@@ -71,6 +72,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         this.lastProcessingTime = new StatisticValue();
         this.deltaProcessingTime = new StatisticDelta();
         this.meanProcessingTime = new StatisticValue();
+        this.processingTimeHistogram = new StatisticHistogram();
 
         this.firstExchangeCompletedTimestamp = new StatisticValue();
         this.firstExchangeFailureTimestamp = new StatisticValue();
@@ -93,6 +95,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         lastProcessingTime.reset();
         deltaProcessingTime.reset();
         meanProcessingTime.reset();
+        processingTimeHistogram.reset();
         firstExchangeCompletedTimestamp.reset();
         firstExchangeCompletedExchangeId = null;
         firstExchangeFailureTimestamp.reset();
@@ -163,6 +166,26 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         return deltaProcessingTime.getValue();
     }
 
+    @Override
+    public long getP50ProcessingTime() throws Exception {
+        return processingTimeHistogram.getValueAtPercentile(50);
+    }
+
+    @Override
+    public long getP90ProcessingTime() throws Exception {
+        return processingTimeHistogram.getValueAtPercentile(90);
+    }
+
+    @Override
+    public long getP99ProcessingTime() throws Exception {
+        return processingTimeHistogram.getValueAtPercentile(99);
+    }
+
+    @Override
+    public long getP999ProcessingTime() throws Exception {
+        return processingTimeHistogram.getValueAtPercentile(99.9);
+    }
+
     @Override
     public Date getLastExchangeCompletedTimestamp() {
         long value = lastExchangeCompletedTimestamp.getValue();
@@ -240,6 +263,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         totalProcessingTime.updateValue(time);
         lastProcessingTime.updateValue(time);
         deltaProcessingTime.updateValue(time);
+        processingTimeHistogram.updateValue(time);
 
         long now = System.currentTimeMillis();
         if (!firstExchangeCompletedTimestamp.isUpdated()) {
@@ -322,6 +346,44 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         return sb.toString();
     }
 
+    @Override
+    public String dumpStatsAsJson(boolean fullStats) {
+        long[] percentiles = processingTimeHistogram.getValuesAtPercentiles(50, 90, 99, 99.9);
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("{");
+        sb.append(String.format("\"exchangesCompleted\": %s", exchangesCompleted.getValue()));
+        sb.append(String.format(", \"exchangesFailed\": %s", exchangesFailed.getValue()));
+        sb.append(String.format(", \"failuresHandled\": %s", failuresHandled.getValue()));
+        sb.append(String.format(", \"redeliveries\": %s", redeliveries.getValue()));
+        sb.append(String.format(", \"externalRedeliveries\": %s", externalRedeliveries.getValue()));
+        sb.append(String.format(", \"minProcessingTime\": %s", minProcessingTime.getValue()));
+        sb.append(String.format(", \"maxProcessingTime\": %s", maxProcessingTime.getValue()));
+        sb.append(String.format(", \"totalProcessingTime\": %s", totalProcessingTime.getValue()));
+        sb.append(String.format(", \"lastProcessingTime\": %s", lastProcessingTime.getValue()));
+        sb.append(String.format(", \"deltaProcessingTime\": %s", deltaProcessingTime.getValue()));
+        sb.append(String.format(", \"meanProcessingTime\": %s", meanProcessingTime.getValue()));
+        sb.append(String.format(", \"p50ProcessingTime\": %s", percentiles[0]));
+        sb.append(String.format(", \"p90ProcessingTime\": %s", percentiles[1]));
+        sb.append(String.format(", \"p99ProcessingTime\": %s", percentiles[2]));
+        sb.append(String.format(", \"p999ProcessingTime\": %s", percentiles[3]));
+
+        if (fullStats) {
+            // the buckets of the histogram with the highest processing time of the bucket and the number of exchanges
+            sb.append(", \"processingTimeHistogram\": [");
+            long[][] buckets = processingTimeHistogram.getBuckets();
+            for (int i = 0; i < buckets.length; i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                sb.append(String.format("{ \"value\": %s, \"count\": %s }", buckets[i][0], buckets[i][1]));
+            }
+            sb.append("]");
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+
     private static String dateAsString(long value) {
         if (value <= 0) {
             return "";
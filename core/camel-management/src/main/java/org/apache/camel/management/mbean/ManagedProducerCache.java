@@ -61,4 +61,29 @@ public class ManagedProducerCache extends ManagedService implements ManagedProdu
     public Boolean isEventNotifierEnabled() {
         return producerCache.isEventNotifierEnabled();
     }
+
+    @Override
+    public Long getHits() {
+        return producerCache.getHits();
+    }
+
+    @Override
+    public Long getMisses() {
+        return producerCache.getMisses();
+    }
+
+    @Override
+    public Long getMeanCreationTime() {
+        return producerCache.getMeanCreationTime();
+    }
+
+    @Override
+    public Long getMaxCreationTime() {
+        return producerCache.getMaxCreationTime();
+    }
+
+    @Override
+    public void resetStatistics() {
+        producerCache.resetStatistics();
+    }
 }
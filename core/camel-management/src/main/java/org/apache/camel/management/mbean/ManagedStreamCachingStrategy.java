@@ -56,6 +56,16 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.getSpoolCipher();
     }
 
+    @Override
+    public boolean isSpoolCompressed() {
+        return streamCachingStrategy.isSpoolCompressed();
+    }
+
+    @Override
+    public boolean isSpoolWriteBehind() {
+        return streamCachingStrategy.isSpoolWriteBehind();
+    }
+
     @Override
     public void setSpoolThreshold(long threshold) {
         streamCachingStrategy.setSpoolThreshold(threshold);
@@ -66,6 +76,31 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.getSpoolThreshold();
     }
 
+    @Override
+    public void setOffHeapThreshold(long threshold) {
+        streamCachingStrategy.setOffHeapThreshold(threshold);
+    }
+
+    @Override
+    public long getOffHeapThreshold() {
+        return streamCachingStrategy.getOffHeapThreshold();
+    }
+
+    @Override
+    public void setOffHeapMaxMemory(long maxMemory) {
+        streamCachingStrategy.setOffHeapMaxMemory(maxMemory);
+    }
+
+    @Override
+    public long getOffHeapMaxMemory() {
+        return streamCachingStrategy.getOffHeapMaxMemory();
+    }
+
+    @Override
+    public long getOffHeapUsedMemory() {
+        return streamCachingStrategy.getOffHeapUsedMemory();
+    }
+
     @Override
     public void setSpoolUsedHeapMemoryThreshold(int percentage) {
         streamCachingStrategy.setSpoolUsedHeapMemoryThreshold(percentage);
@@ -173,6 +208,36 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.getStatistics().getCacheSpoolAverageSize();
     }
 
+    @Override
+    public long getCacheSpoolDiskSize() {
+        return streamCachingStrategy.getStatistics().getCacheSpoolDiskSize();
+    }
+
+    @Override
+    public double getCacheSpoolCompressionRatio() {
+        return streamCachingStrategy.getStatistics().getCacheSpoolCompressionRatio();
+    }
+
+    @Override
+    public long getCacheSpoolAverageTime() {
+        return streamCachingStrategy.getStatistics().getCacheSpoolAverageTime();
+    }
+
+    @Override
+    public long getCacheOffHeapCounter() {
+        return streamCachingStrategy.getStatistics().getCacheOffHeapCounter();
+    }
+
+    @Override
+    public long getCacheOffHeapSize() {
+        return streamCachingStrategy.getStatistics().getCacheOffHeapSize();
+    }
+
+    @Override
+    public long getCacheOffHeapAverageSize() {
+        return streamCachingStrategy.getStatistics().getCacheOffHeapAverageSize();
+    }
+
     @Override
     public boolean isStatisticsEnabled() {
         return streamCachingStrategy.getStatistics().isStatisticsEnabled();
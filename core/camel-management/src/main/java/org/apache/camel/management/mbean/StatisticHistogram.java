@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A statistic which records the distribution of the updated values in a histogram, so percentiles such as the 99th
+ * percentile can be computed.
+ * <p/>
+ * The histogram uses fixed memory with log-linear buckets (in the style of HdrHistogram): values less than 32 have
+ * their own bucket, and each power of two above is split into 16 buckets, which gives a precision of at least 1/16
+ * (6.25%) of the value. Values higher than {@link #HIGHEST_TRACKABLE_VALUE} are recorded in the last bucket.
+ * <p/>
+ * Updating the histogram is lock-free (a single atomic increment) and does not allocate any objects. Reading the
+ * percentiles while the histogram is being updated is not atomic, so the values are a best effort snapshot.
+ */
+public class StatisticHistogram extends Statistic {
+
+    /**
+     * The highest value tracked with the histogram precision (a little more than one hour in millis)
+     */
+    public static final long HIGHEST_TRACKABLE_VALUE = (1L << 22) - 1;
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT >> 1;
+    private static final int BUCKET_COUNT = indexOf(HIGHEST_TRACKABLE_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    @Override
+    public void updateValue(long newValue) {
+        if (newValue < 0) {
+            return;
+        }
+        counts.incrementAndGet(indexOf(Math.min(newValue, HIGHEST_TRACKABLE_VALUE)));
+    }
+
+    /**
+     * The number of recorded values
+     */
+    @Override
+    public long getValue() {
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Gets the value at the given percentile, which is the highest value that is equivalent (within the histogram
+     * precision) to the values at the percentile.
+     *
+     * @param  percentile the percentile such as 99.9
+     * @return            the value, or <tt>0</tt> if no values has been recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        return getValuesAtPercentiles(percentile)[0];
+    }
+
+    /**
+     * Gets the values at the given percentiles in a single pass over the histogram.
+     *
+     * @param  percentiles the percentiles in ascending order
+     * @return             the values, which are <tt>0</tt> if no values has been recorded
+     * @see                #getValueAtPercentile(double)
+     */
+    public long[] getValuesAtPercentiles(double... percentiles) {
+        // take a snapshot so the percentiles are computed from the same counts
+        long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+
+        long[] answer = new long[percentiles.length];
+        if (total == 0) {
+            return answer;
+        }
+        int index = 0;
+        long cumulative = snapshot[0];
+        for (int p = 0; p < percentiles.length; p++) {
+            double percentile = Math.min(Math.max(percentiles[p], 0), 100);
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+            while (cumulative < rank && index < BUCKET_COUNT - 1) {
+                cumulative += snapshot[++index];
+            }
+            answer[p] = highestEquivalentValue(index);
+        }
+        return answer;
+    }
+
+    /**
+     * Gets the buckets which has recorded values, as pairs of the highest equivalent value of the bucket and the number
+     * of values recorded in the bucket.
+     */
+    public long[][] getBuckets() {
+        long[][] buckets = new long[BUCKET_COUNT][];
+        int size = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = counts.get(i);
+            if (count > 0) {
+                buckets[size++] = new long[] { highestEquivalentValue(i), count };
+            }
+        }
+        long[][] answer = new long[size][];
+        System.arraycopy(buckets, 0, answer, 0, size);
+        return answer;
+    }
+
+    @Override
+    public boolean isUpdated() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (counts.get(i) > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "" + getValue();
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        // the position of the highest bit decides the bucket, and the following bits the sub bucket
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_HALF_COUNT;
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF_COUNT + subBucket;
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF_COUNT + 1;
+        long subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import java.util.Set;
+
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.PooledExchangeFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ManagedConsumerExchangeFactoryTest extends ManagementTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        PooledExchangeFactory factory = new PooledExchangeFactory();
+        factory.setStatisticsEnabled(true);
+        context.adapt(ExtendedCamelContext.class).setExchangeFactory(factory);
+        return context;
+    }
+
+    @Test
+    public void testExchangeFactory() throws Exception {
+        // JMX tests dont work well on AIX CI servers (hangs them)
+        if (isPlatform("aix")) {
+            return;
+        }
+
+        getMockEndpoint("mock:result").expectedMessageCount(5);
+        assertMockEndpointsSatisfied();
+
+        MBeanServer mbeanServer = getMBeanServer();
+
+        Set<ObjectName> set = mbeanServer.queryNames(new ObjectName("*:type=consumers,*"), null);
+        assertEquals(1, set.size());
+        ObjectName on = set.iterator().next();
+
+        assertEquals(Boolean.TRUE, mbeanServer.getAttribute(on, "ExchangeFactoryPooled"));
+        assertEquals(100, mbeanServer.getAttribute(on, "ExchangeFactoryCapacity"));
+        assertEquals(Boolean.TRUE, mbeanServer.getAttribute(on, "ExchangeFactoryStatisticsEnabled"));
+
+        // the timer reuses the same exchange
+        Long created = (Long) mbeanServer.getAttribute(on, "ExchangeFactoryCreatedCounter");
+        Long acquired = (Long) mbeanServer.getAttribute(on, "ExchangeFactoryAcquiredCounter");
+        Long released = (Long) mbeanServer.getAttribute(on, "ExchangeFactoryReleasedCounter");
+        assertEquals(1, created.longValue());
+        assertEquals(4, acquired.longValue());
+        assertEquals(5, released.longValue());
+        assertEquals(0L, mbeanServer.getAttribute(on, "ExchangeFactoryDiscardedCounter"));
+        assertEquals(0L, mbeanServer.getAttribute(on, "ExchangeFactoryLeakedCounter"));
+        assertEquals(1, mbeanServer.getAttribute(on, "ExchangeFactorySize"));
+
+        mbeanServer.invoke(on, "resetExchangeFactoryStatistics", null, null);
+        assertEquals(0L, mbeanServer.getAttribute(on, "ExchangeFactoryCreatedCounter"));
+        assertEquals(0L, mbeanServer.getAttribute(on, "ExchangeFactoryReleasedCounter"));
+
+        mbeanServer.setAttribute(on, new Attribute("ExchangeFactoryStatisticsEnabled", Boolean.FALSE));
+        assertEquals(Boolean.FALSE, mbeanServer.getAttribute(on, "ExchangeFactoryStatisticsEnabled"));
+        assertTrue(mbeanServer.isRegistered(on));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("timer:foo?period=1&repeatCount=5")
+                        .to("mock:result");
+            }
+        };
+    }
+
+}
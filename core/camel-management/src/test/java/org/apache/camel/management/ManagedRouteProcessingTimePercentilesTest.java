@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ManagedRouteProcessingTimePercentilesTest extends ManagementTestSupport {
+
+    @Test
+    public void testPercentiles() throws Exception {
+        // JMX tests dont work well on AIX CI servers (hangs them)
+        if (isPlatform("aix")) {
+            return;
+        }
+
+        getMockEndpoint("mock:result").expectedMessageCount(10);
+
+        // 9 fast exchanges and 1 slow exchange
+        for (int i = 0; i < 9; i++) {
+            template.sendBodyAndHeader("direct:start", "Hello " + i, "delay", 0);
+        }
+        template.sendBodyAndHeader("direct:start", "Slow", "delay", 500);
+
+        assertMockEndpointsSatisfied();
+
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName route = ObjectName.getInstance("org.apache.camel:context=camel-1,type=routes,name=\"route1\"");
+        ObjectName processor = ObjectName.getInstance("org.apache.camel:context=camel-1,type=processors,name=\"mydelay\"");
+
+        for (ObjectName on : new ObjectName[] { route, processor }) {
+            Long p50 = (Long) mbeanServer.getAttribute(on, "P50ProcessingTime");
+            Long p90 = (Long) mbeanServer.getAttribute(on, "P90ProcessingTime");
+            Long p99 = (Long) mbeanServer.getAttribute(on, "P99ProcessingTime");
+            Long p999 = (Long) mbeanServer.getAttribute(on, "P999ProcessingTime");
+
+            assertTrue(p50 < 400, "Should be fast: was " + p50);
+            assertTrue(p90 < 400, "Should be fast: was " + p90);
+            assertTrue(p99 > 450, "Should take around 0.5 sec: was " + p99);
+            assertEquals(p99, p999);
+
+            String json = (String) mbeanServer.invoke(on, "dumpStatsAsJson", new Object[] { true },
+                    new String[] { "boolean" });
+            assertTrue(json.startsWith("{\"exchangesCompleted\": 10,"), json);
+            assertTrue(json.contains("\"p99ProcessingTime\": " + p99), json);
+            assertTrue(json.contains("\"processingTimeHistogram\": [{ \"value\": "), json);
+        }
+
+        // the histogram is reset with the other statistics
+        mbeanServer.invoke(route, "reset", null, null);
+        assertEquals(0L, mbeanServer.getAttribute(route, "P99ProcessingTime"));
+        String json = (String) mbeanServer.invoke(route, "dumpStatsAsJson", new Object[] { true },
+                new String[] { "boolean" });
+        assertTrue(json.contains("\"processingTimeHistogram\": []"), json);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").delay(header("delay")).id("mydelay").to("mock:result");
+            }
+        };
+    }
+
+}
@@ -71,6 +71,31 @@ public class ManagedSplitterTest extends ManagementTestSupport {
         assertTrue(xml.contains("<simple>${body}</simple>"));
     }
 
+    @Test
+    public void testManageSplitterMaxInflight() throws Exception {
+        // JMX tests dont work well on AIX CI servers (hangs them)
+        if (isPlatform("aix")) {
+            return;
+        }
+
+        MockEndpoint bar = getMockEndpoint("mock:bar");
+        bar.expectedBodiesReceivedInAnyOrder("A", "B", "C", "D");
+
+        template.sendBody("direct:parallel", "A,B,C,D");
+
+        assertMockEndpointsSatisfied();
+
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName on = ObjectName.getInstance("org.apache.camel:context=camel-1,type=processors,name=\"myparallel\"");
+
+        Integer max = (Integer) mbeanServer.getAttribute(on, "MaxInflight");
+        assertEquals(2, max.intValue());
+
+        // all the sub messages have been aggregated
+        Integer occupancy = (Integer) mbeanServer.getAttribute(on, "WindowOccupancy");
+        assertEquals(0, occupancy.intValue());
+    }
+
     @Override
     protected RouteBuilder createRouteBuilder() throws Exception {
         return new RouteBuilder() {
@@ -79,6 +104,10 @@ public class ManagedSplitterTest extends ManagementTestSupport {
                 from("direct:start")
                         .split(simple("${body}")).id("mysend")
                         .to("mock:foo");
+
+                from("direct:parallel")
+                        .split(body().tokenize(",")).parallelProcessing().maxInflight(2).id("myparallel")
+                        .to("mock:bar");
             }
         };
     }
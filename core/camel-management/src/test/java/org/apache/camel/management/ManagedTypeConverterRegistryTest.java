@@ -78,6 +78,13 @@ public class ManagedTypeConverterRegistryTest extends ManagementTestSupport {
         // should hit
         Long hit = (Long) mbeanServer.getAttribute(name, "HitCounter");
         assertEquals(1, hit.intValue());
+        // and the conversion was cached from before
+        Long cacheHit = (Long) mbeanServer.getAttribute(name, "CacheHitCounter");
+        assertEquals(1, cacheHit.intValue());
+        Long cacheMiss = (Long) mbeanServer.getAttribute(name, "CacheMissCounter");
+        assertEquals(0, cacheMiss.intValue());
+        Long fallback = (Long) mbeanServer.getAttribute(name, "FallbackCounter");
+        assertEquals(0, fallback.intValue());
         failed = (Long) mbeanServer.getAttribute(name, "FailedCounter");
         assertEquals(0, failed.intValue());
         miss = (Long) mbeanServer.getAttribute(name, "MissCounter");
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.WorkStealingReactiveExecutor;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ManagedWorkStealingReactiveExecutorTest extends ManagementTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        WorkStealingReactiveExecutor reactiveExecutor = new WorkStealingReactiveExecutor();
+        reactiveExecutor.setPoolSize(2);
+        context.adapt(ExtendedCamelContext.class).setReactiveExecutor(reactiveExecutor);
+        return context;
+    }
+
+    @Test
+    public void testReactiveExecutor() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        template.sendBody("seda:start", "Hello World");
+
+        assertMockEndpointsSatisfied();
+
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName on = ObjectName.getInstance(
+                "org.apache.camel:context=camel-1,type=services,name=WorkStealingReactiveExecutor");
+        assertTrue(mbeanServer.isRegistered(on), "Should be registered");
+
+        assertEquals(2, mbeanServer.getAttribute(on, "PoolSize"));
+        assertEquals(16, mbeanServer.getAttribute(on, "HandOffThreshold"));
+        assertEquals(0, mbeanServer.getAttribute(on, "PendingTasks"));
+        Long queued = (Long) mbeanServer.getAttribute(on, "QueuedTasks");
+        assertTrue(queued > 0);
+        Long executed = (Long) mbeanServer.getAttribute(on, "ExecutedTasks");
+        assertTrue(executed > 0);
+        assertEquals(0L, mbeanServer.getAttribute(on, "StolenTasks"));
+        assertEquals(0L, mbeanServer.getAttribute(on, "HandedOffTasks"));
+
+        // the thread pool the tasks are handed off to is managed
+        assertTrue(mbeanServer.queryNames(new ObjectName("org.apache.camel:context=camel-1,type=threadpools,*"), null)
+                .stream().anyMatch(n -> n.toString().contains("WorkStealingReactiveExecutor")));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:start")
+                        .to("log:foo")
+                        .to("mock:result");
+            }
+        };
+    }
+
+}
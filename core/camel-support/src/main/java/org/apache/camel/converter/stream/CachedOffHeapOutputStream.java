@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.util.BufferCaster;
+
+/**
+ * An {@link OutputStream} which stores the content in off-heap buffers taken from the pool of the
+ * {@link StreamCachingStrategy}, and is capable of returning a {@link OffHeapInputStreamCache} view of the buffers.
+ * <p/>
+ * The buffers must be reserved with {@link #reserve(long)} before writing to this stream, and are returned to the pool
+ * with {@link #release()} when the stream caches are no longer in use.
+ */
+public final class CachedOffHeapOutputStream extends OutputStream {
+
+    private final StreamCachingStrategy strategy;
+    private final List<ByteBuffer> buffers = new ArrayList<>();
+    private long capacity;
+    private long length;
+    private int index;
+    private ByteBuffer current;
+    private volatile boolean released;
+
+    public CachedOffHeapOutputStream(StreamCachingStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    /**
+     * Reserves the off-heap buffers needed to write the given number of bytes more.
+     *
+     * @return <tt>true</tt> if reserved, or <tt>false</tt> if the off-heap memory limit has been reached
+     */
+    public synchronized boolean reserve(long len) {
+        if (released) {
+            return false;
+        }
+        while (capacity - length < len) {
+            ByteBuffer buffer = strategy.acquireOffHeapBuffer();
+            if (buffer == null) {
+                return false;
+            }
+            buffers.add(buffer);
+            capacity += buffer.capacity();
+        }
+        return true;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        nextBuffer().put((byte) b);
+        length++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            ByteBuffer buffer = nextBuffer();
+            int n = Math.min(len, buffer.remaining());
+            buffer.put(b, off, n);
+            off += n;
+            len -= n;
+            length += n;
+        }
+    }
+
+    private ByteBuffer nextBuffer() throws IOException {
+        if (current == null || !current.hasRemaining()) {
+            if (released || index >= buffers.size()) {
+                throw new IOException("No off-heap buffer reserved to write to the stream cache");
+            }
+            current = buffers.get(index++);
+        }
+        return current;
+    }
+
+    /**
+     * The number of bytes written
+     */
+    public long size() {
+        return length;
+    }
+
+    /**
+     * Writes the content to the given stream, such as when spooling to disk.
+     */
+    public void writeTo(OutputStream os) throws IOException {
+        byte[] data = new byte[8192];
+        for (ByteBuffer buffer : views()) {
+            while (buffer.hasRemaining()) {
+                int n = Math.min(data.length, buffer.remaining());
+                buffer.get(data, 0, n);
+                os.write(data, 0, n);
+            }
+        }
+    }
+
+    /**
+     * Creates a new {@link OffHeapInputStreamCache} view of the buffers
+     */
+    OffHeapInputStreamCache newStreamCache(FileInputStreamCache.TempFileManager tempFileManager) {
+        return new OffHeapInputStreamCache(views(), length, this, tempFileManager);
+    }
+
+    private ByteBuffer[] views() {
+        ByteBuffer[] answer = new ByteBuffer[index];
+        for (int i = 0; i < index; i++) {
+            ByteBuffer view = buffers.get(i).duplicate();
+            BufferCaster.cast(view).flip();
+            answer[i] = view;
+        }
+        return answer;
+    }
+
+    /**
+     * Whether the off-heap buffers have been returned to the pool, so the stream caches created from this stream can no
+     * longer be read.
+     */
+    boolean isReleased() {
+        return released;
+    }
+
+    /**
+     * Returns the off-heap buffers to the pool. The stream caches created from this stream must no longer be used, and
+     * fail if they are read.
+     */
+    public synchronized void release() {
+        if (!released) {
+            released = true;
+            for (ByteBuffer buffer : buffers) {
+                strategy.releaseOffHeapBuffer(buffer);
+            }
+            buffers.clear();
+            current = null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CachedOffHeapOutputStream[size: " + length + "]";
+    }
+}
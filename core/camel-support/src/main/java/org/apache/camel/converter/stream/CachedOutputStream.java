@@ -36,6 +36,10 @@ import org.apache.camel.spi.StreamCachingStrategy;
  * You can get a cached input stream of this stream. The temp file which is created with this output stream will be
  * deleted when you close this output stream or the cached fileInputStream(s) is/are closed after all the exchanges
  * using the temp file are completed.
+ * <p/>
+ * If off-heap stream caching is enabled, then the content is moved from the heap to off-heap buffers when the stream
+ * context size exceeds the off-heap threshold, and until it is stored into a File. The off-heap buffers are returned to
+ * the pool in the same way as the temp file is deleted.
  */
 public class CachedOutputStream extends OutputStream {
 
@@ -45,6 +49,7 @@ public class CachedOutputStream extends OutputStream {
     private int totalLength;
     private final TempFileManager tempFileManager;
     private final boolean closedOnCompletion;
+    private long offHeapThreshold;
 
     public CachedOutputStream(Exchange exchange) {
         this(exchange, true);
@@ -56,6 +61,7 @@ public class CachedOutputStream extends OutputStream {
         tempFileManager.addExchange(exchange);
         this.strategy = exchange.getContext().getStreamCachingStrategy();
         currentStream = new CachedByteArrayOutputStream(strategy.getBufferSize());
+        offHeapThreshold = strategy.getOffHeapThreshold();
     }
 
     @Override
@@ -70,6 +76,7 @@ public class CachedOutputStream extends OutputStream {
         if (!closedOnCompletion) {
             tempFileManager.closeFileInputStreams();
             tempFileManager.cleanUpTempFile();
+            tempFileManager.cleanUpOffHeap();
         }
     }
 
@@ -95,8 +102,8 @@ public class CachedOutputStream extends OutputStream {
     @Override
     public void write(byte[] b, int off, int len) throws IOException {
         this.totalLength += len;
-        if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
-            pageToFileStream();
+        if (inMemory) {
+            checkThresholds(len);
         }
         currentStream.write(b, off, len);
     }
@@ -104,8 +111,8 @@ public class CachedOutputStream extends OutputStream {
     @Override
     public void write(byte[] b) throws IOException {
         this.totalLength += b.length;
-        if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
-            pageToFileStream();
+        if (inMemory) {
+            checkThresholds(b.length);
         }
         currentStream.write(b);
     }
@@ -113,8 +120,8 @@ public class CachedOutputStream extends OutputStream {
     @Override
     public void write(int b) throws IOException {
         this.totalLength++;
-        if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
-            pageToFileStream();
+        if (inMemory) {
+            checkThresholds(1);
         }
         currentStream.write(b);
     }
@@ -137,6 +144,8 @@ public class CachedOutputStream extends OutputStream {
         if (inMemory) {
             if (currentStream instanceof CachedByteArrayOutputStream) {
                 return ((CachedByteArrayOutputStream) currentStream).newInputStreamCache();
+            } else if (currentStream instanceof CachedOffHeapOutputStream) {
+                return ((CachedOffHeapOutputStream) currentStream).newStreamCache(tempFileManager);
             } else {
                 throw new IllegalStateException(
                         "CurrentStream should be an instance of CachedByteArrayOutputStream but is: "
@@ -147,13 +156,68 @@ public class CachedOutputStream extends OutputStream {
         }
     }
 
+    /**
+     * Checks whether the content should be moved off-heap or spooled to disk before writing the given number of bytes.
+     */
+    private void checkThresholds(int len) throws IOException {
+        if (strategy.shouldSpoolCache(totalLength)) {
+            pageToFileStream();
+        } else if (currentStream instanceof CachedOffHeapOutputStream) {
+            if (!((CachedOffHeapOutputStream) currentStream).reserve(len)) {
+                // the off-heap memory limit has been reached
+                pageFromOffHeapStream();
+            }
+        } else if (offHeapThreshold > 0 && totalLength > offHeapThreshold) {
+            pageToOffHeapStream();
+        }
+    }
+
+    private void pageToOffHeapStream() throws IOException {
+        // do not use off-heap when we cannot return the buffers to the pool afterwards
+        offHeapThreshold = 0;
+        if (tempFileManager.isDone()) {
+            return;
+        }
+        CachedOffHeapOutputStream offHeap = new CachedOffHeapOutputStream(strategy);
+        if (offHeap.reserve(totalLength)) {
+            ByteArrayOutputStream bout = (ByteArrayOutputStream) currentStream;
+            bout.writeTo(offHeap);
+            currentStream = offHeap;
+            tempFileManager.setOffHeapStream(offHeap);
+        } else {
+            // the off-heap memory limit has been reached
+            offHeap.release();
+            if (strategy.getSpoolDirectory() != null) {
+                pageToFileStream();
+            }
+        }
+    }
+
+    private void pageFromOffHeapStream() throws IOException {
+        if (strategy.getSpoolDirectory() != null) {
+            pageToFileStream();
+        } else {
+            // cannot spool to disk so keep the content on the heap
+            CachedOffHeapOutputStream offHeap = (CachedOffHeapOutputStream) currentStream;
+            CachedByteArrayOutputStream bout = new CachedByteArrayOutputStream((int) totalLength);
+            offHeap.writeTo(bout);
+            currentStream = bout;
+            tempFileManager.cleanUpOffHeap();
+        }
+    }
+
     private void pageToFileStream() throws IOException {
         flush();
-        ByteArrayOutputStream bout = (ByteArrayOutputStream) currentStream;
+        OutputStream previous = currentStream;
         try {
             // creates an tmp file and a file output stream
             currentStream = tempFileManager.createOutputStream(strategy);
-            bout.writeTo(currentStream);
+            if (previous instanceof CachedOffHeapOutputStream) {
+                ((CachedOffHeapOutputStream) previous).writeTo(currentStream);
+                tempFileManager.cleanUpOffHeap();
+            } else {
+                ((ByteArrayOutputStream) previous).writeTo(currentStream);
+            }
         } finally {
             // ensure flag is flipped to file based
             inMemory = false;
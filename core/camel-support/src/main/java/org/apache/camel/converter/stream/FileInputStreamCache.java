@@ -20,20 +20,29 @@ import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
 import java.security.GeneralSecurityException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 
 import javax.crypto.CipherInputStream;
 import javax.crypto.CipherOutputStream;
 
 import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.ExtendedExchange;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.StreamCache;
@@ -56,6 +65,9 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
     private final FileInputStreamCache.TempFileManager tempFileManager;
     private final File file;
     private final CipherPair ciphers;
+    private final boolean compressed;
+    private final long diskSize;
+    private final long spoolTime;
 
     /** Only for testing purposes. */
     public FileInputStreamCache(File file) throws FileNotFoundException {
@@ -66,7 +78,10 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         this.file = closer.getTempFile();
         this.stream = null;
         this.ciphers = closer.getCiphers();
-        this.length = file.length();
+        this.compressed = closer.isCompressed();
+        this.diskSize = file.length();
+        this.length = closer.getContentLength();
+        this.spoolTime = closer.getSpoolTime();
         this.tempFileManager = closer;
         this.tempFileManager.add(this);
     }
@@ -92,13 +107,27 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
 
     @Override
     public void writeTo(OutputStream os) throws IOException {
-        if (stream == null && ciphers == null) {
+        if (stream == null && ciphers == null && !compressed) {
             Files.copy(file.toPath(), os);
         } else {
             IOHelper.copy(getInputStream(), os);
         }
     }
 
+    /**
+     * Writes the stream to the given channel. If the stream has not been read and is not encrypted or compressed, then
+     * the spool file is transferred directly to the channel (zero-copy).
+     */
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        if (stream == null && ciphers == null && !compressed) {
+            try (FileChannel in = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                IOHelper.transferTo(in, 0, in.size(), channel);
+            }
+        } else {
+            IOHelper.copy(getInputStream(), Channels.newOutputStream(channel));
+        }
+    }
+
     @Override
     public StreamCache copy(Exchange exchange) throws IOException {
         tempFileManager.addExchange(exchange);
@@ -116,6 +145,21 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         return length;
     }
 
+    /**
+     * The number of bytes stored in the spool file, which is less than the length of the stream when the spool file is
+     * compressed.
+     */
+    public long getSpoolDiskSize() {
+        return diskSize;
+    }
+
+    /**
+     * The time in millis spent writing the spool file, when this stream cache was created.
+     */
+    public long getSpoolTime() {
+        return spoolTime;
+    }
+
     @Override
     public int available() throws IOException {
         return getInputStream().available();
@@ -147,9 +191,71 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
                 }
             };
         }
+        if (compressed) {
+            // the spool file may not be finished when it is still open for writing, so never read beyond the length
+            in = new BoundedInputStream(new InflaterInputStream(in), length);
+        }
         return in;
     }
 
+    /**
+     * Reads up to a number of bytes from the underlying stream, and closes the underlying stream when they have been
+     * read (the cipher is reset when closed).
+     */
+    private static final class BoundedInputStream extends FilterInputStream {
+        private long remaining;
+
+        BoundedInputStream(InputStream in, long remaining) {
+            super(in);
+            this.remaining = remaining;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = in.read();
+            if (b >= 0 && --remaining == 0) {
+                in.close();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int n = in.read(b, off, (int) Math.min(len, remaining));
+            if (n > 0) {
+                remaining -= n;
+                if (remaining == 0) {
+                    in.close();
+                }
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            if (remaining <= 0) {
+                return 0;
+            }
+            long skipped = in.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            if (remaining == 0) {
+                in.close();
+            }
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return remaining <= 0 ? 0 : (int) Math.min(in.available(), remaining);
+        }
+    }
+
     /**
      * Manages the temporary file for the file input stream caches.
      * 
@@ -169,6 +275,9 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         private File tempFile;
         private OutputStream outputStream; // file output stream
         private CipherPair ciphers;
+        private boolean compressed;
+        private SpoolOutputStream spoolStream;
+        private CachedOffHeapOutputStream offHeapStream;
 
         // there can be several input streams, for example in the multi-cast, or wiretap parallel processing
         private List<FileInputStreamCache> fileInputStreamCaches;
@@ -213,6 +322,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
                             } catch (Exception e) {
                                 LOG.warn("Error closing streams. This exception will be ignored.", e);
                             }
+                            cleanUpOffHeap();
                             try {
                                 cleanUpTempFile();
                             } catch (Exception e) {
@@ -227,7 +337,8 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
                         return "OnCompletion[CachedOutputStream]";
                     }
                 };
-                UnitOfWork streamCacheUnitOfWork = exchange.getProperty(Exchange.STREAM_CACHE_UNIT_OF_WORK, UnitOfWork.class);
+                UnitOfWork streamCacheUnitOfWork
+                        = exchange.getProperty(ExchangePropertyKey.STREAM_CACHE_UNIT_OF_WORK, UnitOfWork.class);
                 if (streamCacheUnitOfWork != null && streamCacheUnitOfWork.getRoute() != null) {
                     // The stream cache must sometimes not be closed when the exchange is deleted. This is for example the
                     // case in the splitter and multi-cast case with AggregationStrategy where the result of the sub-routes
@@ -286,8 +397,29 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
                     }
                 };
             }
-            outputStream = out;
-            return out;
+            if (strategy.isSpoolCompressed()) {
+                compressed = true;
+                // use sync flush so the data written so far can be read when the stream is flushed
+                out = new DeflaterOutputStream(out, new Deflater(), strategy.getBufferSize(), true) {
+                    boolean closed;
+
+                    public void close() throws IOException {
+                        if (!closed) {
+                            try {
+                                super.close();
+                            } finally {
+                                def.end();
+                                closed = true;
+                            }
+                        }
+                    }
+                };
+            }
+            spoolStream = new SpoolOutputStream(
+                    out, strategy.isSpoolWriteBehind() ? strategy.getSpoolWriteBehindExecutorService() : null,
+                    strategy.getBufferSize());
+            outputStream = spoolStream;
+            return spoolStream;
         }
 
         FileInputStreamCache newStreamCache() throws IOException {
@@ -307,6 +439,26 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             }
         }
 
+        /**
+         * Whether the exchanges are already done, and therefore resources such as temporary files or off-heap buffers
+         * would never be cleaned up.
+         */
+        boolean isDone() {
+            return closedOnCompletion && exchangeCounter.get() == 0;
+        }
+
+        void setOffHeapStream(CachedOffHeapOutputStream offHeapStream) {
+            this.offHeapStream = offHeapStream;
+        }
+
+        void cleanUpOffHeap() {
+            // return the off-heap buffers to the pool
+            if (offHeapStream != null) {
+                offHeapStream.release();
+                offHeapStream = null;
+            }
+        }
+
         void cleanUpTempFile() {
             // cleanup temporary file
             try {
@@ -327,6 +479,24 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             return ciphers;
         }
 
+        boolean isCompressed() {
+            return compressed;
+        }
+
+        /**
+         * The length of the cached stream, which is the length of the temporary file unless compressed
+         */
+        long getContentLength() {
+            return spoolStream != null ? spoolStream.size() : tempFile.length();
+        }
+
+        /**
+         * The time in millis spent writing to the temporary file
+         */
+        long getSpoolTime() {
+            return spoolStream != null ? TimeUnit.NANOSECONDS.toMillis(spoolStream.time()) : 0;
+        }
+
     }
 
 }
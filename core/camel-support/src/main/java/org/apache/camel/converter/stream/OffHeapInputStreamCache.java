@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.util.BufferCaster;
+
+/**
+ * A {@link StreamCache} for caching using off-heap buffers (direct {@link ByteBuffer}s).
+ * <p/>
+ * The buffers are shared with the copies of the stream cache, and are returned to the pool of the
+ * {@link org.apache.camel.spi.StreamCachingStrategy} when all the exchanges using them are completed. As the buffers
+ * are then reused for other messages, reading the stream cache after that fails, such as when the stream cache is still
+ * referenced from a message which outlives the exchanges.
+ */
+public final class OffHeapInputStreamCache extends InputStream implements StreamCache {
+
+    private final ByteBuffer[] buffers;
+    private final long length;
+    private final CachedOffHeapOutputStream owner;
+    private final FileInputStreamCache.TempFileManager tempFileManager;
+    private int index;
+    private long position;
+
+    OffHeapInputStreamCache(ByteBuffer[] buffers, long length, CachedOffHeapOutputStream owner,
+                            FileInputStreamCache.TempFileManager tempFileManager) {
+        this.buffers = buffers;
+        this.length = length;
+        this.owner = owner;
+        this.tempFileManager = tempFileManager;
+    }
+
+    /**
+     * Whether the off-heap buffers have been returned to the pool, so this stream cache can no longer be read.
+     */
+    public boolean isReleased() {
+        return owner.isReleased();
+    }
+
+    private void checkReleased() throws IOException {
+        if (owner.isReleased()) {
+            throw new IOException("Cannot read from " + this + " as its off-heap buffers have been released");
+        }
+    }
+
+    @Override
+    public synchronized void reset() {
+        if (owner.isReleased()) {
+            throw new IllegalStateException("Cannot reset " + this + " as its off-heap buffers have been released");
+        }
+        for (ByteBuffer buffer : buffers) {
+            BufferCaster.cast(buffer).rewind();
+        }
+        index = 0;
+        position = 0;
+    }
+
+    @Override
+    public int read() throws IOException {
+        checkReleased();
+        ByteBuffer buffer = current();
+        if (buffer == null) {
+            return -1;
+        }
+        int answer = buffer.get() & 0xff;
+        // the buffer may have been released while reading
+        checkReleased();
+        position++;
+        return answer;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        checkReleased();
+        ByteBuffer buffer = current();
+        if (buffer == null) {
+            return -1;
+        }
+        int n = Math.min(len, buffer.remaining());
+        buffer.get(b, off, n);
+        // the buffer may have been released while reading
+        checkReleased();
+        position += n;
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        checkReleased();
+        long skipped = 0;
+        ByteBuffer buffer;
+        while (skipped < n && (buffer = current()) != null) {
+            int s = (int) Math.min(n - skipped, buffer.remaining());
+            BufferCaster.cast(buffer).position(buffer.position() + s);
+            skipped += s;
+        }
+        position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return (int) Math.min(Integer.MAX_VALUE, length - position);
+    }
+
+    private ByteBuffer current() {
+        while (index < buffers.length) {
+            ByteBuffer buffer = buffers[index];
+            if (buffer.hasRemaining()) {
+                return buffer;
+            }
+            index++;
+        }
+        return null;
+    }
+
+    /**
+     * Writes the remainder of the stream to the given output, which consumes the stream. If the output is capable of
+     * writing to a channel (such as a {@link FileOutputStream}) then the off-heap buffers are written directly to the
+     * channel, without copying them to the heap.
+     */
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        if (os instanceof FileOutputStream) {
+            writeTo(((FileOutputStream) os).getChannel());
+        } else if (os instanceof WritableByteChannel) {
+            writeTo((WritableByteChannel) os);
+        } else {
+            checkReleased();
+            byte[] data = new byte[8192];
+            ByteBuffer buffer;
+            while ((buffer = current()) != null) {
+                int n = Math.min(data.length, buffer.remaining());
+                buffer.get(data, 0, n);
+                // the buffer may have been released while reading
+                checkReleased();
+                position += n;
+                os.write(data, 0, n);
+            }
+        }
+    }
+
+    /**
+     * Writes the remainder of the stream to the given channel, which consumes the stream, using a gathering write if
+     * supported by the channel.
+     */
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        checkReleased();
+        ByteBuffer[] remaining = remaining();
+        if (channel instanceof GatheringByteChannel) {
+            GatheringByteChannel gathering = (GatheringByteChannel) channel;
+            while (position < length) {
+                position += gathering.write(remaining);
+                checkReleased();
+            }
+        } else {
+            for (ByteBuffer buffer : remaining) {
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer);
+                    checkReleased();
+                }
+            }
+        }
+        index = buffers.length;
+    }
+
+    /**
+     * The buffers from the current position
+     */
+    private ByteBuffer[] remaining() {
+        ByteBuffer[] answer = new ByteBuffer[buffers.length - index];
+        System.arraycopy(buffers, index, answer, 0, answer.length);
+        return answer;
+    }
+
+    @Override
+    public StreamCache copy(Exchange exchange) throws IOException {
+        checkReleased();
+        tempFileManager.addExchange(exchange);
+        ByteBuffer[] copy = new ByteBuffer[buffers.length];
+        for (int i = 0; i < buffers.length; i++) {
+            copy[i] = buffers[i].duplicate();
+            BufferCaster.cast(copy[i]).rewind();
+        }
+        return new OffHeapInputStreamCache(copy, length, owner, tempFileManager);
+    }
+
+    @Override
+    public boolean inMemory() {
+        return true;
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapInputStreamCache[size: " + length + "]";
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The {@link OutputStream} for writing to a spool file, which keeps track of the number of bytes written and the time
+ * spent writing them (compressing, encrypting and storing to disk).
+ * <p/>
+ * If an {@link Executor} is given, then the data is written asynchronously (write-behind): the data is handed over in
+ * chunks to a task running on the executor, which writes the chunks to the spool file in order. The number of chunks
+ * pending to be written is bounded, so the writing thread blocks when the spool file cannot keep up. Flushing and
+ * closing wait until all the pending chunks have been written, and rethrow any error from writing them.
+ */
+final class SpoolOutputStream extends OutputStream {
+
+    private static final int MAX_PENDING_CHUNKS = 16;
+
+    private final OutputStream out;
+    private final Executor executor;
+    private final int chunkSize;
+    private final Semaphore pending;
+    private final Queue<Chunk> chunks;
+    private final Queue<byte[]> free;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private byte[] chunk;
+    private int count;
+    private long size;
+    private volatile long time;
+    private volatile IOException error;
+    private boolean closed;
+
+    SpoolOutputStream(OutputStream out, Executor executor, int chunkSize) {
+        this.out = out;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        if (executor != null) {
+            this.pending = new Semaphore(MAX_PENDING_CHUNKS);
+            this.chunks = new ConcurrentLinkedQueue<>();
+            this.free = new ConcurrentLinkedQueue<>();
+            this.chunk = new byte[chunkSize];
+        } else {
+            this.pending = null;
+            this.chunks = null;
+            this.free = null;
+        }
+    }
+
+    /**
+     * The number of bytes written to this stream
+     */
+    long size() {
+        return size;
+    }
+
+    /**
+     * The time in nanos spent writing to the spool file
+     */
+    long time() {
+        return time;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (executor == null) {
+            long start = System.nanoTime();
+            out.write(b);
+            time += System.nanoTime() - start;
+        } else {
+            if (count == chunk.length) {
+                submit();
+            }
+            chunk[count++] = (byte) b;
+        }
+        size++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (executor == null) {
+            long start = System.nanoTime();
+            out.write(b, off, len);
+            time += System.nanoTime() - start;
+        } else {
+            int remaining = len;
+            while (remaining > 0) {
+                if (count == chunk.length) {
+                    submit();
+                }
+                int n = Math.min(remaining, chunk.length - count);
+                System.arraycopy(b, off, chunk, count, n);
+                count += n;
+                off += n;
+                remaining -= n;
+            }
+        }
+        size += len;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (executor != null) {
+            if (count > 0) {
+                submit();
+            }
+            await();
+        }
+        long start = System.nanoTime();
+        out.flush();
+        time += System.nanoTime() - start;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            try {
+                flush();
+            } finally {
+                long start = System.nanoTime();
+                out.close();
+                time += System.nanoTime() - start;
+            }
+        }
+    }
+
+    /**
+     * Hands over the current chunk to be written by the executor
+     */
+    private void submit() throws IOException {
+        checkError();
+        try {
+            pending.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to write to the spool file");
+        }
+        chunks.add(new Chunk(chunk, count));
+        byte[] next = free.poll();
+        chunk = next != null ? next : new byte[chunkSize];
+        count = 0;
+
+        if (draining.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // the executor is shutting down so write the chunks ourselves
+                drain();
+            }
+        }
+    }
+
+    /**
+     * Writes the pending chunks in order. Only one drain is running at any time.
+     */
+    private void drain() {
+        do {
+            Chunk next;
+            while ((next = chunks.poll()) != null) {
+                if (error == null) {
+                    long start = System.nanoTime();
+                    try {
+                        out.write(next.data, 0, next.length);
+                    } catch (Exception e) {
+                        // keep draining so the writing thread is not blocked, and fails on its next call instead
+                        error = e instanceof IOException ? (IOException) e : new IOException(e.getMessage(), e);
+                    }
+                    time += System.nanoTime() - start;
+                }
+                free.offer(next.data);
+                pending.release();
+            }
+            draining.set(false);
+            // a chunk may have been added after the queue was found empty
+        } while (!chunks.isEmpty() && draining.compareAndSet(false, true));
+    }
+
+    /**
+     * Waits until all the pending chunks have been written
+     */
+    private void await() throws IOException {
+        try {
+            pending.acquire(MAX_PENDING_CHUNKS);
+            pending.release(MAX_PENDING_CHUNKS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to write to the spool file");
+        }
+        checkError();
+    }
+
+    private void checkError() throws IOException {
+        IOException e = error;
+        if (e != null) {
+            throw new IOException("Error writing to the spool file", e);
+        }
+    }
+
+    private static final class Chunk {
+        private final byte[] data;
+        private final int length;
+
+        private Chunk(byte[] data, int length) {
+            this.data = data;
+            this.length = length;
+        }
+    }
+
+}
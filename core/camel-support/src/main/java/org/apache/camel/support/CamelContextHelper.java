@@ -306,6 +306,105 @@ public final class CamelContextHelper {
         return 1000;
     }
 
+    /**
+     * Gets the maximum number of released tasks which processors such as the pipeline keeps in a pool for reuse.
+     * <p/>
+     * Will use the property set on CamelContext with the key {@link Exchange#MAXIMUM_TASK_POOL_SIZE}. If no property
+     * has been set, then it will fallback to return 0 which means tasks are not pooled.
+     *
+     * @param  camelContext             the camel context
+     * @return                          the maximum task pool size
+     * @throws IllegalArgumentException is thrown if the property is illegal
+     * @see                             PooledTaskFactory
+     */
+    public static int getMaximumTaskPoolSize(CamelContext camelContext) throws IllegalArgumentException {
+        if (camelContext != null) {
+            String s = camelContext.getGlobalOption(Exchange.MAXIMUM_TASK_POOL_SIZE);
+            if (s != null) {
+                try {
+                    // we cannot use Camel type converters as they may not be ready this early
+                    int size = Integer.parseInt(s);
+                    if (size < 0) {
+                        throw new IllegalArgumentException(
+                                "Property " + Exchange.MAXIMUM_TASK_POOL_SIZE + " must be zero or a positive number, was: "
+                                                           + s);
+                    }
+                    return size;
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException(
+                            "Property " + Exchange.MAXIMUM_TASK_POOL_SIZE + " must be zero or a positive number, was: " + s,
+                            e);
+                }
+            }
+        }
+
+        // 0 is the default fallback which means tasks are not pooled
+        return 0;
+    }
+
+    /**
+     * Gets the minimum number of idle producers the producer cache keeps per endpoint, which is also the number of
+     * producers created when warming up the cache for an endpoint.
+     * <p/>
+     * Will use the property set on CamelContext with the key {@link Exchange#PRODUCER_POOL_MIN_SIZE}. If no property
+     * has been set, then it will fallback to return 0.
+     *
+     * @param  camelContext             the camel context
+     * @return                          the minimum pool size per endpoint
+     * @throws IllegalArgumentException is thrown if the property is illegal
+     */
+    public static int getProducerPoolMinSize(CamelContext camelContext) throws IllegalArgumentException {
+        return (int) getZeroOrPositiveGlobalOption(camelContext, Exchange.PRODUCER_POOL_MIN_SIZE, 0);
+    }
+
+    /**
+     * Gets the maximum number of idle producers the producer cache keeps per endpoint.
+     * <p/>
+     * Will use the property set on CamelContext with the key {@link Exchange#PRODUCER_POOL_MAX_SIZE}. If no property
+     * has been set, then it will fallback to return 0 which means the capacity of the cache.
+     *
+     * @param  camelContext             the camel context
+     * @return                          the maximum pool size per endpoint
+     * @throws IllegalArgumentException is thrown if the property is illegal
+     */
+    public static int getProducerPoolMaxSize(CamelContext camelContext) throws IllegalArgumentException {
+        return (int) getZeroOrPositiveGlobalOption(camelContext, Exchange.PRODUCER_POOL_MAX_SIZE, 0);
+    }
+
+    /**
+     * Gets the time in millis before an idle producer in the producer cache is stopped.
+     * <p/>
+     * Will use the property set on CamelContext with the key {@link Exchange#PRODUCER_POOL_IDLE_TIME}. If no property
+     * has been set, then it will fallback to return 0 which means idle producers are kept.
+     *
+     * @param  camelContext             the camel context
+     * @return                          the idle time in millis
+     * @throws IllegalArgumentException is thrown if the property is illegal
+     */
+    public static long getProducerPoolIdleTime(CamelContext camelContext) throws IllegalArgumentException {
+        return getZeroOrPositiveGlobalOption(camelContext, Exchange.PRODUCER_POOL_IDLE_TIME, 0);
+    }
+
+    private static long getZeroOrPositiveGlobalOption(CamelContext camelContext, String key, long defaultValue) {
+        if (camelContext != null) {
+            String s = camelContext.getGlobalOption(key);
+            if (s != null) {
+                try {
+                    // we cannot use Camel type converters as they may not be ready this early
+                    long value = Long.parseLong(s);
+                    if (value < 0) {
+                        throw new IllegalArgumentException(
+                                "Property " + key + " must be zero or a positive number, was: " + s);
+                    }
+                    return value;
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Property " + key + " must be zero or a positive number, was: " + s, e);
+                }
+            }
+        }
+        return defaultValue;
+    }
+
     /**
      * Gets the maximum endpoint cache size.
      * <p/>
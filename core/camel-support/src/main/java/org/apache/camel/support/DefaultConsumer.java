@@ -26,6 +26,7 @@ import org.apache.camel.Processor;
 import org.apache.camel.Route;
 import org.apache.camel.RouteAware;
 import org.apache.camel.spi.ExceptionHandler;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.spi.UnitOfWork;
 import org.apache.camel.support.service.ServiceHelper;
@@ -45,6 +46,7 @@ public class DefaultConsumer extends ServiceSupport implements Consumer, RouteAw
     private final Endpoint endpoint;
     private final Processor processor;
     private final AsyncProcessor asyncProcessor;
+    private final ExchangeFactory exchangeFactory;
     private ExceptionHandler exceptionHandler;
     private Route route;
     private String routeId;
@@ -54,6 +56,11 @@ public class DefaultConsumer extends ServiceSupport implements Consumer, RouteAw
         this.processor = processor;
         this.asyncProcessor = AsyncProcessorConverterHelper.convert(processor);
         this.exceptionHandler = new LoggingExceptionHandler(endpoint.getCamelContext(), getClass());
+        // each consumer has its own exchange factory (which can be pooled)
+        ExtendedCamelContext ecc = endpoint.getCamelContext() != null
+                ? endpoint.getCamelContext().adapt(ExtendedCamelContext.class) : null;
+        ExchangeFactory factory = ecc != null ? ecc.getExchangeFactory() : null;
+        this.exchangeFactory = factory != null ? factory.newExchangeFactory(this) : null;
     }
 
     @Override
@@ -84,6 +91,40 @@ public class DefaultConsumer extends ServiceSupport implements Consumer, RouteAw
         this.routeId = routeId;
     }
 
+    /**
+     * The {@link ExchangeFactory} this consumer uses to create the exchanges.
+     */
+    public ExchangeFactory getExchangeFactory() {
+        return exchangeFactory;
+    }
+
+    /**
+     * Creates an {@link Exchange} which was received from this consumer.
+     *
+     * @param autoRelease whether the exchange is released automatically when its {@link UnitOfWork} is done, or whether
+     *                    the consumer releases the exchange using {@link #releaseExchange(Exchange, boolean)} when it
+     *                    is no longer in use (such as when the consumer still uses the exchange in the callback after
+     *                    the exchange has been routed).
+     */
+    public Exchange createExchange(boolean autoRelease) {
+        if (exchangeFactory == null) {
+            return endpoint.createExchange();
+        }
+        return exchangeFactory.create(endpoint, autoRelease);
+    }
+
+    /**
+     * Releases the {@link Exchange} when its no longer in use (only needed when it was not created to auto release).
+     *
+     * @param exchange    the exchange
+     * @param autoRelease whether the exchange was created to auto release
+     */
+    public void releaseExchange(Exchange exchange, boolean autoRelease) {
+        if (exchangeFactory != null && !autoRelease) {
+            exchangeFactory.release(exchange);
+        }
+    }
+
     /**
      * If the consumer needs to defer done the {@link org.apache.camel.spi.UnitOfWork} on the processed {@link Exchange}
      * then this method should be use to create and start the {@link UnitOfWork} on the exchange.
@@ -149,19 +190,19 @@ public class DefaultConsumer extends ServiceSupport implements Consumer, RouteAw
     @Override
     protected void doInit() throws Exception {
         LOG.debug("Init consumer: {}", this);
-        ServiceHelper.initService(processor);
+        ServiceHelper.initService(exchangeFactory, processor);
     }
 
     @Override
     protected void doStop() throws Exception {
         LOG.debug("Stopping consumer: {}", this);
-        ServiceHelper.stopService(processor);
+        ServiceHelper.stopService(processor, exchangeFactory);
     }
 
     @Override
     protected void doStart() throws Exception {
         LOG.debug("Starting consumer: {}", this);
-        ServiceHelper.startService(processor);
+        ServiceHelper.startService(exchangeFactory, processor);
     }
 
     /**
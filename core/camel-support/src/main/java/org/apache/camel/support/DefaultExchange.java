@@ -16,11 +16,16 @@
  */
 package org.apache.camel.support;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -30,10 +35,12 @@ import org.apache.camel.CamelExecutionException;
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePattern;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.ExtendedExchange;
 import org.apache.camel.Message;
 import org.apache.camel.MessageHistory;
+import org.apache.camel.PooledExchange;
 import org.apache.camel.spi.HeadersMapFactory;
 import org.apache.camel.spi.Synchronization;
 import org.apache.camel.spi.UnitOfWork;
@@ -41,13 +48,24 @@ import org.apache.camel.util.ObjectHelper;
 
 /**
  * The default and only implementation of {@link Exchange}.
+ * <p/>
+ * The exchange can be reused when it has been created by a pooled {@link org.apache.camel.spi.ExchangeFactory}, which
+ * registers an {@link org.apache.camel.PooledExchange.OnDoneTask} to release the exchange back to its pool when it is
+ * {@link #done()}.
  */
-public final class DefaultExchange implements ExtendedExchange {
+public final class DefaultExchange implements PooledExchange {
+
+    private static final ExchangePropertyKey[] INTERNAL_KEYS = ExchangePropertyKey.values();
+    private static final int INTERNAL_LENGTH = INTERNAL_KEYS.length;
 
     private final CamelContext context;
-    private final long created;
-    // optimize to create properties always and with a reasonable small size
-    private final Map<String, Object> properties = new ConcurrentHashMap<>(8);
+    private long created;
+    // internal properties used by Camel are stored in an array indexed by the ordinal of their key
+    private final Object[] internalProperties = new Object[INTERNAL_LENGTH];
+    // custom properties are created on-demand as Camel mostly uses internal properties
+    private Map<String, Object> properties;
+    // view of both the internal and custom properties (created on-demand)
+    private Map<String, Object> allProperties;
     private Message in;
     private Message out;
     private Exception exception;
@@ -69,6 +87,8 @@ public final class DefaultExchange implements ExtendedExchange {
     private boolean interruptable = true;
     private boolean redeliveryExhausted;
     private Boolean errorHandlerHandled;
+    private boolean autoRelease;
+    private OnDoneTask onDone;
 
     public DefaultExchange(CamelContext context) {
         this.context = context;
@@ -147,7 +167,7 @@ public final class DefaultExchange implements ExtendedExchange {
 
         // copy properties after body as body may trigger lazy init
         if (hasProperties()) {
-            safeCopyProperties(getProperties(), exchange.getProperties());
+            safeCopyProperties(exchange);
         }
 
         return exchange;
@@ -170,14 +190,18 @@ public final class DefaultExchange implements ExtendedExchange {
     }
 
     @SuppressWarnings("unchecked")
-    private void safeCopyProperties(Map<String, Object> source, Map<String, Object> target) {
-        target.putAll(source);
+    private void safeCopyProperties(DefaultExchange target) {
+        System.arraycopy(internalProperties, 0, target.internalProperties, 0, INTERNAL_LENGTH);
+        if (properties != null && !properties.isEmpty()) {
+            target.properties = new ConcurrentHashMap<>(properties);
+        }
         if (getContext().isMessageHistory()) {
             // safe copy message history using a defensive copy
-            List<MessageHistory> history = (List<MessageHistory>) target.remove(Exchange.MESSAGE_HISTORY);
+            int index = ExchangePropertyKey.MESSAGE_HISTORY.ordinal();
+            List<MessageHistory> history = (List<MessageHistory>) target.internalProperties[index];
             if (history != null) {
                 // use thread-safe list as message history may be accessed concurrently
-                target.put(Exchange.MESSAGE_HISTORY, new CopyOnWriteArrayList<>(history));
+                target.internalProperties[index] = new CopyOnWriteArrayList<>(history);
             }
         }
     }
@@ -187,9 +211,42 @@ public final class DefaultExchange implements ExtendedExchange {
         return context;
     }
 
+    @Override
+    public Object getProperty(ExchangePropertyKey key) {
+        return internalProperties[key.ordinal()];
+    }
+
+    @Override
+    public <T> T getProperty(ExchangePropertyKey key, Class<T> type) {
+        return convertProperty(getProperty(key), type);
+    }
+
+    @Override
+    public <T> T getProperty(ExchangePropertyKey key, Object defaultValue, Class<T> type) {
+        Object value = getProperty(key);
+        return convertProperty(value != null ? value : defaultValue, type);
+    }
+
+    @Override
+    public void setProperty(ExchangePropertyKey key, Object value) {
+        internalProperties[key.ordinal()] = value;
+    }
+
+    @Override
+    public Object removeProperty(ExchangePropertyKey key) {
+        int index = key.ordinal();
+        Object old = internalProperties[index];
+        internalProperties[index] = null;
+        return old;
+    }
+
     @Override
     public Object getProperty(String name) {
-        return properties.get(name);
+        ExchangePropertyKey key = ExchangePropertyKey.asExchangePropertyKey(name);
+        if (key != null) {
+            return internalProperties[key.ordinal()];
+        }
+        return properties != null ? properties.get(name) : null;
     }
 
     @Override
@@ -199,33 +256,18 @@ public final class DefaultExchange implements ExtendedExchange {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T> T getProperty(String name, Class<T> type) {
-        Object value = getProperty(name);
-        if (value == null) {
-            // lets avoid NullPointerException when converting to boolean for null values
-            if (boolean.class == type) {
-                return (T) Boolean.FALSE;
-            }
-            return null;
-        }
-
-        // eager same instance type test to avoid the overhead of invoking the type converter
-        // if already same type
-        if (type.isInstance(value)) {
-            return (T) value;
-        }
-
-        return ExchangeHelper.convertToType(this, type, value);
+        return convertProperty(getProperty(name), type);
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T> T getProperty(String name, Object defaultValue, Class<T> type) {
         Object value = getProperty(name);
-        if (value == null) {
-            value = defaultValue;
-        }
+        return convertProperty(value != null ? value : defaultValue, type);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T convertProperty(Object value, Class<T> type) {
         if (value == null) {
             // lets avoid NullPointerException when converting to boolean for null values
             if (boolean.class == type) {
@@ -245,12 +287,18 @@ public final class DefaultExchange implements ExtendedExchange {
 
     @Override
     public void setProperty(String name, Object value) {
-        if (value != null) {
+        ExchangePropertyKey key = ExchangePropertyKey.asExchangePropertyKey(name);
+        if (key != null) {
+            internalProperties[key.ordinal()] = value;
+        } else if (value != null) {
             // avoid the NullPointException
+            if (properties == null) {
+                properties = new ConcurrentHashMap<>(8);
+            }
             properties.put(name, value);
         } else {
             // if the value is null, we just remove the key from the map
-            if (name != null) {
+            if (name != null && properties != null) {
                 properties.remove(name);
             }
         }
@@ -258,13 +306,22 @@ public final class DefaultExchange implements ExtendedExchange {
 
     @Override
     public void setProperties(Map<String, Object> properties) {
-        this.properties.clear();
-        this.properties.putAll(properties);
+        Arrays.fill(internalProperties, null);
+        if (this.properties != null) {
+            this.properties.clear();
+        }
+        if (properties != null) {
+            properties.forEach(this::setProperty);
+        }
     }
 
     @Override
     public Object removeProperty(String name) {
-        if (!hasProperties()) {
+        ExchangePropertyKey key = ExchangePropertyKey.asExchangePropertyKey(name);
+        if (key != null) {
+            return removeProperty(key);
+        }
+        if (properties == null || name == null) {
             return null;
         }
         return properties.remove(name);
@@ -281,9 +338,26 @@ public final class DefaultExchange implements ExtendedExchange {
             return false;
         }
 
+        boolean matches = false;
+        for (int i = 0; i < INTERNAL_LENGTH; i++) {
+            if (internalProperties[i] != null) {
+                String key = INTERNAL_KEYS[i].getName();
+                if (PatternHelper.matchPattern(key, pattern)) {
+                    if (excludePatterns != null && PatternHelper.isExcludePatternMatch(key, excludePatterns)) {
+                        continue;
+                    }
+                    matches = true;
+                    internalProperties[i] = null;
+                }
+            }
+        }
+
+        if (properties == null || properties.isEmpty()) {
+            return matches;
+        }
+
         // store keys to be removed as we cannot loop and remove at the same time in implementations such as HashMap
         Set<String> toBeRemoved = new HashSet<>();
-        boolean matches = false;
         for (String key : properties.keySet()) {
             if (PatternHelper.matchPattern(key, pattern)) {
                 if (excludePatterns != null && PatternHelper.isExcludePatternMatch(key, excludePatterns)) {
@@ -308,12 +382,23 @@ public final class DefaultExchange implements ExtendedExchange {
 
     @Override
     public Map<String, Object> getProperties() {
-        return properties;
+        if (allProperties == null) {
+            allProperties = new PropertiesView();
+        }
+        return allProperties;
     }
 
     @Override
     public boolean hasProperties() {
-        return !properties.isEmpty();
+        if (properties != null && !properties.isEmpty()) {
+            return true;
+        }
+        for (Object value : internalProperties) {
+            if (value != null) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -689,6 +774,66 @@ public final class DefaultExchange implements ExtendedExchange {
         this.errorHandlerHandled = errorHandlerHandled;
     }
 
+    @Override
+    public void onDone(OnDoneTask task) {
+        this.onDone = task;
+    }
+
+    @Override
+    public void done() {
+        OnDoneTask task = onDone;
+        if (task == null) {
+            // not pooled or already done
+            return;
+        }
+        onDone = null;
+
+        // reset the exchange so it can be reused
+        created = System.currentTimeMillis();
+        Arrays.fill(internalProperties, null);
+        if (properties != null) {
+            properties.clear();
+        }
+        if (in != null && in.getClass() == DefaultMessage.class && ((DefaultMessage) in).getExchange() == this) {
+            // the message is not in use by another exchange so it can be reused
+            ((DefaultMessage) in).reset();
+        } else {
+            in = null;
+        }
+        out = null;
+        exception = null;
+        exchangeId = null;
+        unitOfWork = null;
+        pattern = ExchangePattern.InOnly;
+        fromRouteId = null;
+        onCompletions = null;
+        externalRedelivered = null;
+        historyNodeId = null;
+        historyNodeLabel = null;
+        transacted = false;
+        routeStop = false;
+        rollbackOnly = false;
+        rollbackOnlyLast = false;
+        notifyEvent = false;
+        interrupted = false;
+        interruptable = true;
+        redeliveryExhausted = false;
+        errorHandlerHandled = null;
+        autoRelease = false;
+
+        task.onDone(this);
+    }
+
+    @Override
+    public boolean isAutoRelease() {
+        return autoRelease;
+    }
+
+    @Override
+    public void setAutoRelease(boolean autoRelease) {
+        this.autoRelease = autoRelease;
+    }
+
     /**
      * Configures the message after it has been set on the exchange
      */
@@ -704,4 +849,187 @@ public final class DefaultExchange implements ExtendedExchange {
         return context.getUuidGenerator().generateUuid();
     }
 
+    /**
+     * A live {@link Map} view of the internal and custom properties of this exchange, so the properties can be accessed
+     * by their names regardless of how they are stored.
+     */
+    private final class PropertiesView extends AbstractMap<String, Object> {
+
+        private final Set<Entry<String, Object>> entrySet = new EntrySet();
+
+        @Override
+        public Object get(Object key) {
+            return key instanceof String ? getProperty((String) key) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            Object old = getProperty(key);
+            setProperty(key, value);
+            return old;
+        }
+
+        @Override
+        public Object remove(Object key) {
+            return key instanceof String ? removeProperty((String) key) : null;
+        }
+
+        @Override
+        public void clear() {
+            Arrays.fill(internalProperties, null);
+            if (properties != null) {
+                properties.clear();
+            }
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return !hasProperties();
+        }
+
+        @Override
+        public int size() {
+            int size = properties != null ? properties.size() : 0;
+            for (Object value : internalProperties) {
+                if (value != null) {
+                    size++;
+                }
+            }
+            return size;
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return entrySet;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return getProperties().size();
+        }
+
+        @Override
+        public void clear() {
+            getProperties().clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+
+        private int index = -1;
+        private int lastInternal = -1;
+        private Iterator<Map.Entry<String, Object>> custom;
+        private boolean lastCustom;
+
+        @Override
+        public boolean hasNext() {
+            if (nextInternal() < INTERNAL_LENGTH) {
+                return true;
+            }
+            if (custom == null) {
+                custom = properties != null ? properties.entrySet().iterator() : null;
+            }
+            return custom != null && custom.hasNext();
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            int next = nextInternal();
+            if (next < INTERNAL_LENGTH) {
+                index = next;
+                lastInternal = next;
+                lastCustom = false;
+                return new InternalEntry(next);
+            }
+            index = INTERNAL_LENGTH;
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastInternal = -1;
+            lastCustom = true;
+            return custom.next();
+        }
+
+        @Override
+        public void remove() {
+            if (lastCustom) {
+                custom.remove();
+                lastCustom = false;
+            } else if (lastInternal >= 0) {
+                internalProperties[lastInternal] = null;
+                lastInternal = -1;
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+
+        private int nextInternal() {
+            int i = index + 1;
+            while (i < INTERNAL_LENGTH && internalProperties[i] == null) {
+                i++;
+            }
+            return i;
+        }
+    }
+
+    private final class InternalEntry implements Map.Entry<String, Object> {
+
+        private final int index;
+        private final Object value;
+
+        private InternalEntry(int index) {
+            this.index = index;
+            this.value = internalProperties[index];
+        }
+
+        @Override
+        public String getKey() {
+            return INTERNAL_KEYS[index].getName();
+        }
+
+        @Override
+        public Object getValue() {
+            return value;
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            Object old = internalProperties[index];
+            internalProperties[index] = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            return getKey().equals(e.getKey()) && value.equals(e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ value.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + value;
+        }
+    }
+
 }
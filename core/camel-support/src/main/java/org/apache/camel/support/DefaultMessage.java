@@ -283,6 +283,15 @@ public class DefaultMessage extends MessageSupport {
         return !headers.isEmpty();
     }
 
+    /**
+     * Resets the message so it can be reused by a pooled exchange.
+     */
+    void reset() {
+        resetMessage();
+        // the headers may be shared with other messages so they are not reused
+        headers = null;
+    }
+
     @Override
     public DefaultMessage newInstance() {
         return new DefaultMessage(camelContext);
@@ -48,6 +48,11 @@ import static org.apache.camel.TimeoutMap.Listener.Type.Remove;
  * a background task which check for old entries to purge. This implementation will shutdown the scheduler if its being
  * stopped. You must also invoke {@link #start()} to startup the timeout map, before its ready to be used. And you must
  * invoke {@link #stop()} to stop the map when no longer in use.
+ * <p/>
+ * By default the background task scans every entry in the map to find the expired entries. When holding many entries,
+ * such as outstanding request/reply messages, then the timing wheel can be enabled which keeps the entries in buckets
+ * by their expire time (using the purge poll time as the tick), so adding and removing entries is O(1) and the
+ * background task only visits the entries which are due.
  */
 public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMap<K, V> {
 
@@ -58,6 +63,7 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
     private volatile ScheduledFuture<?> future;
     private final long purgePollTime;
     private final Lock lock;
+    private final TimeoutWheel<K, V> wheel;
 
     private final List<Listener<K, V>> listeners = new ArrayList<>(2);
 
@@ -74,10 +80,31 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
     }
 
     public DefaultTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis, Lock lock) {
+        this(executor, requestMapPollTimeMillis, lock, false);
+    }
+
+    public DefaultTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis, boolean useLock,
+                             boolean timingWheel) {
+        this(executor, requestMapPollTimeMillis, useLock ? new ReentrantLock() : NoLock.INSTANCE, timingWheel);
+    }
+
+    /**
+     * Creates the timeout map
+     *
+     * @param executor                 the scheduler to run the background purge task
+     * @param requestMapPollTimeMillis the interval of the background purge task
+     * @param lock                     the lock to guard the map, use {@link NoLock} if the callers are already
+     *                                 serialized
+     * @param timingWheel              whether to keep track of the expire time of the entries using a timing wheel
+     *                                 instead of scanning every entry on purge
+     */
+    public DefaultTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis, Lock lock,
+                             boolean timingWheel) {
         ObjectHelper.notNull(executor, "ScheduledExecutorService");
         this.executor = executor;
         this.purgePollTime = requestMapPollTimeMillis;
         this.lock = lock;
+        this.wheel = timingWheel ? new TimeoutWheel<>(TimeoutWheel.DEFAULT_WHEEL_SIZE, requestMapPollTimeMillis) : null;
     }
 
     @Override
@@ -90,6 +117,9 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
                 return null;
             }
             updateExpireTime(entry);
+            if (wheel != null) {
+                wheel.schedule(entry, currentTime());
+            }
         } finally {
             lock.unlock();
         }
@@ -103,6 +133,12 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         try {
             updateExpireTime(entry);
             TimeoutMapEntry<K, V> result = map.put(key, entry);
+            if (wheel != null) {
+                if (result != null) {
+                    wheel.cancel(result);
+                }
+                wheel.schedule(entry, currentTime());
+            }
             return unwrap(result);
         } finally {
             lock.unlock();
@@ -119,6 +155,9 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
             updateExpireTime(entry);
             //Just make sure we don't override the old entry
             result = map.putIfAbsent(key, entry);
+            if (wheel != null && result == null) {
+                wheel.schedule(entry, currentTime());
+            }
             return unwrap(result);
         } finally {
             lock.unlock();
@@ -133,7 +172,11 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         V value = null;
         lock.lock();
         try {
-            value = unwrap(map.remove(key));
+            TimeoutMapEntry<K, V> entry = map.remove(key);
+            if (wheel != null && entry != null) {
+                wheel.cancel(entry);
+            }
+            value = unwrap(entry);
             return value;
         } finally {
             lock.unlock();
@@ -175,15 +218,24 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
 
         long now = currentTime();
 
-        List<TimeoutMapEntry<K, V>> expired = new ArrayList<>(map.size());
+        List<TimeoutMapEntry<K, V>> expired = wheel != null ? new ArrayList<>() : new ArrayList<>(map.size());
         lock.lock();
         try {
             // need to find the expired entries and add to the expired list
-            for (Map.Entry<K, TimeoutMapEntry<K, V>> entry : map.entrySet()) {
-                if (entry.getValue().getExpireTime() < now) {
-                    if (isValidForEviction(entry.getValue())) {
-                        log.debug("Evicting inactive entry ID: {}", entry.getValue());
-                        expired.add(entry.getValue());
+            if (wheel != null) {
+                wheel.expire(now, this::isValidForEviction, expired);
+                if (log.isDebugEnabled()) {
+                    for (TimeoutMapEntry<K, V> entry : expired) {
+                        log.debug("Evicting inactive entry ID: {}", entry);
+                    }
+                }
+            } else {
+                for (Map.Entry<K, TimeoutMapEntry<K, V>> entry : map.entrySet()) {
+                    if (entry.getValue().getExpireTime() < now) {
+                        if (isValidForEviction(entry.getValue())) {
+                            log.debug("Evicting inactive entry ID: {}", entry.getValue());
+                            expired.add(entry.getValue());
+                        }
                     }
                 }
             }
@@ -217,6 +269,10 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         return executor;
     }
 
+    public boolean isTimingWheel() {
+        return wheel != null;
+    }
+
     // Implementation methods
     // -------------------------------------------------------------------------
 
@@ -277,7 +333,15 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
             future = null;
         }
         // clear map if we stop
-        map.clear();
+        lock.lock();
+        try {
+            map.clear();
+            if (wheel != null) {
+                wheel.clear();
+            }
+        } finally {
+            lock.unlock();
+        }
     }
 
 }
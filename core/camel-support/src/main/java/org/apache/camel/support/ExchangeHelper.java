@@ -36,6 +36,7 @@ import org.apache.camel.CamelExecutionException;
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePattern;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.ExtendedExchange;
 import org.apache.camel.Message;
 import org.apache.camel.MessageHistory;
@@ -51,6 +52,7 @@ import org.apache.camel.WrappedFile;
 import org.apache.camel.spi.NormalizedEndpointUri;
 import org.apache.camel.spi.Synchronization;
 import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.util.ByteScanner;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.Scanner;
@@ -315,7 +317,7 @@ public final class ExchangeHelper {
             uow.handoverSynchronization(copy, filter);
         }
         // set a correlation id so we can track back the original exchange
-        copy.setProperty(Exchange.CORRELATION_ID, id);
+        copy.setProperty(ExchangePropertyKey.CORRELATION_ID, id);
         return copy;
     }
 
@@ -624,7 +626,7 @@ public final class ExchangeHelper {
      * @return          <tt>true</tt> if failure handled, <tt>false</tt> otherwise
      */
     public static boolean isFailureHandled(Exchange exchange) {
-        return exchange.getProperty(Exchange.FAILURE_HANDLED, false, Boolean.class);
+        return exchange.getProperty(ExchangePropertyKey.FAILURE_HANDLED, false, Boolean.class);
     }
 
     /**
@@ -634,7 +636,7 @@ public final class ExchangeHelper {
      * @return          <tt>true</tt> if exhausted, <tt>false</tt> otherwise
      */
     public static boolean isUnitOfWorkExhausted(Exchange exchange) {
-        return exchange.getProperty(Exchange.UNIT_OF_WORK_EXHAUSTED, false, Boolean.class);
+        return exchange.getProperty(ExchangePropertyKey.UNIT_OF_WORK_EXHAUSTED, false, Boolean.class);
     }
 
     /**
@@ -643,7 +645,7 @@ public final class ExchangeHelper {
      * @param exchange the exchange
      */
     public static void setFailureHandled(Exchange exchange) {
-        exchange.setProperty(Exchange.FAILURE_HANDLED, Boolean.TRUE);
+        exchange.setProperty(ExchangePropertyKey.FAILURE_HANDLED, Boolean.TRUE);
         // clear exception since its failure handled
         exchange.setException(null);
     }
@@ -894,7 +896,7 @@ public final class ExchangeHelper {
         Message answer = null;
 
         // try parent first
-        UnitOfWork uow = exchange.getProperty(Exchange.PARENT_UNIT_OF_WORK, UnitOfWork.class);
+        UnitOfWork uow = exchange.getProperty(ExchangePropertyKey.PARENT_UNIT_OF_WORK, UnitOfWork.class);
         if (uow != null) {
             answer = uow.getOriginalInMessage();
         }
@@ -956,7 +958,7 @@ public final class ExchangeHelper {
             // header takes precedence
             String charsetName = exchange.getIn().getHeader(Exchange.CHARSET_NAME, String.class);
             if (charsetName == null) {
-                charsetName = exchange.getProperty(Exchange.CHARSET_NAME, String.class);
+                charsetName = exchange.getProperty(ExchangePropertyKey.CHARSET_NAME, String.class);
             }
             if (charsetName != null) {
                 return IOHelper.normalizeCharset(charsetName);
@@ -1000,7 +1002,7 @@ public final class ExchangeHelper {
         } else if (value instanceof String) {
             scanner = new Scanner((String) value, delimiter);
         } else {
-            String charset = exchange.getProperty(Exchange.CHARSET_NAME, String.class);
+            String charset = exchange.getProperty(ExchangePropertyKey.CHARSET_NAME, String.class);
             if (value instanceof File) {
                 try {
                     scanner = new Scanner((File) value, charset, delimiter);
@@ -1020,6 +1022,54 @@ public final class ExchangeHelper {
         return scanner;
     }
 
+    /**
+     * Creates a {@link ByteScanner} for scanning the given value, if the value is binary content (a file, stream,
+     * channel or byte array) which can be split at the byte level by the given delimiter, in the charset of the
+     * exchange.
+     *
+     * @param  exchange  the current exchange
+     * @param  value     the value, typically the message IN body
+     * @param  delimiter the delimiter pattern to use
+     * @return           the scanner, or <tt>null</tt> if the value should be scanned with
+     *                   {@link #getScanner(Exchange, Object, String)}
+     */
+    public static ByteScanner getByteScanner(Exchange exchange, Object value, String delimiter) {
+        if (value instanceof WrappedFile) {
+            WrappedFile<?> gf = (WrappedFile<?>) value;
+            Object body = gf.getBody();
+            if (body != null) {
+                // we have loaded the file content into the body so use that
+                value = body;
+            } else {
+                // generic file is just a wrapper for the real file so call again with the real file
+                return getByteScanner(exchange, gf.getFile(), delimiter);
+            }
+        }
+
+        if (!(value instanceof File || value instanceof InputStream || value instanceof ReadableByteChannel
+                || value instanceof byte[])) {
+            return null;
+        }
+        String charset = exchange.getProperty(ExchangePropertyKey.CHARSET_NAME, String.class);
+        if (!ByteScanner.isSupported(charset, delimiter)) {
+            return null;
+        }
+
+        if (value instanceof File) {
+            try {
+                return new ByteScanner((File) value, charset, delimiter);
+            } catch (IOException e) {
+                throw new RuntimeCamelException(e);
+            }
+        } else if (value instanceof InputStream) {
+            return new ByteScanner((InputStream) value, charset, delimiter);
+        } else if (value instanceof ReadableByteChannel) {
+            return new ByteScanner((ReadableByteChannel) value, charset, delimiter);
+        } else {
+            return new ByteScanner((byte[]) value, charset, delimiter);
+        }
+    }
+
     public static String getRouteId(Exchange exchange) {
         String answer = getAtRouteId(exchange);
         if (answer == null) {
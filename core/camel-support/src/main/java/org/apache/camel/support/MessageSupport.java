@@ -254,6 +254,15 @@ public abstract class MessageSupport implements Message, CamelContextAware, Data
         this.typeConverter = camelContext.getTypeConverter();
     }
 
+    /**
+     * Resets the body and message id so the message can be reused.
+     */
+    void resetMessage() {
+        body = null;
+        messageId = null;
+        dataType = null;
+    }
+
     /**
      * Returns a new instance
      */
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+
+/**
+ * A task used while routing an {@link Exchange} which can be reused for other exchanges, when it has been released to
+ * its {@link PooledTaskFactory}.
+ */
+public interface PooledExchangeTask {
+
+    /**
+     * Prepares the task for routing the given exchange.
+     *
+     * @param exchange the exchange
+     * @param callback the callback to invoke when the task is done
+     */
+    void prepare(Exchange exchange, AsyncCallback callback);
+
+    /**
+     * Resets the task after use, so it does not keep references to the exchange and callback when it is pooled.
+     */
+    void reset();
+
+}
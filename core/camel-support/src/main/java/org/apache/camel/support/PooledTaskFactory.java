@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.util.concurrent.BoundedRingQueue;
+
+/**
+ * Factory for {@link PooledExchangeTask}s which keeps released tasks in a bounded pool, so processors which create a
+ * task per exchange can reuse the tasks instead of creating new objects.
+ * <p/>
+ * A task must only be released when it is no longer in use, which is typically just before the task calls the callback
+ * of the exchange. When the pool is full then released tasks are discarded. When the capacity is zero then tasks are
+ * never pooled, and a new task is created for each exchange.
+ * <p/>
+ * The pool is a lock-free {@link BoundedRingQueue}, so acquiring and releasing tasks only contend on a compare-and-set
+ * of the head and tail counters of the ring buffer.
+ *
+ * @see CamelContextHelper#getMaximumTaskPoolSize(org.apache.camel.CamelContext)
+ */
+public abstract class PooledTaskFactory<T extends PooledExchangeTask> {
+
+    private final int capacity;
+    private final BoundedRingQueue<T> pool;
+    private final LongAdder created = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+
+    /**
+     * Creates a factory.
+     *
+     * @param capacity the max number of released tasks to keep in the pool, or zero to not pool tasks
+     */
+    public PooledTaskFactory(int capacity) {
+        this.capacity = Math.max(capacity, 0);
+        this.pool = capacity > 0 ? new BoundedRingQueue<>(capacity, false) : null;
+    }
+
+    /**
+     * Creates a new task.
+     */
+    protected abstract T createTask();
+
+    /**
+     * Acquires a task from the pool, or creates a new task if the pool is empty, and prepares it for the exchange.
+     *
+     * @param  exchange the exchange
+     * @param  callback the callback to invoke when the task is done
+     * @return          the prepared task
+     */
+    public T acquire(Exchange exchange, AsyncCallback callback) {
+        T task = pool != null ? pool.poll() : null;
+        if (task == null) {
+            task = createTask();
+            created.increment();
+        }
+        task.prepare(exchange, callback);
+        return task;
+    }
+
+    /**
+     * Releases the task so it can be reused.
+     *
+     * @param  task the task which is no longer in use
+     * @return      <tt>true</tt> if the task was added to the pool, <tt>false</tt> if it was discarded
+     */
+    public boolean release(T task) {
+        task.reset();
+        if (pool != null && pool.offer(task)) {
+            return true;
+        }
+        if (pool != null) {
+            discarded.increment();
+        }
+        return false;
+    }
+
+    /**
+     * Whether tasks are pooled.
+     */
+    public boolean isPooled() {
+        return pool != null;
+    }
+
+    /**
+     * The max number of released tasks kept in the pool.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * The number of released tasks currently in the pool.
+     */
+    public int getSize() {
+        return pool != null ? pool.size() : 0;
+    }
+
+    /**
+     * The number of tasks which has been created.
+     */
+    public long getCreatedCounter() {
+        return created.sum();
+    }
+
+    /**
+     * The number of released tasks which has been discarded because the pool was full.
+     */
+    public long getDiscardedCounter() {
+        return discarded.sum();
+    }
+
+}
@@ -28,6 +28,10 @@ public class TimeoutMapEntry<K, V> implements Comparable<Object>, Map.Entry<K, V
     private V value;
     private long timeout;
     private long expireTime;
+    // links used when the entry is scheduled in a timing wheel
+    TimeoutMapEntry<K, V> wheelPrev;
+    TimeoutMapEntry<K, V> wheelNext;
+    int wheelBucket = -1;
 
     public TimeoutMapEntry(K id, V handler, long timeout) {
         this.key = id;
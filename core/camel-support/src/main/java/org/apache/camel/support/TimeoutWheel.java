@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A hashed timing wheel which keeps track of the {@link TimeoutMapEntry} of a {@link DefaultTimeoutMap} by their expire
+ * time, so scheduling and cancelling an entry is O(1) and purging only visits the buckets which are due, instead of
+ * every entry in the map.
+ * <p/>
+ * Each bucket covers one tick of time, and holds a doubly linked list of the entries expiring in that tick (or in a
+ * later round of the wheel). This class is not thread safe, and must be guarded by the lock of the timeout map.
+ */
+final class TimeoutWheel<K, V> {
+
+    static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private final TimeoutMapEntry<K, V>[] buckets;
+    private final int mask;
+    private final long tickMillis;
+    // the tick of the oldest bucket which may still hold entries to expire, or -1 if not yet known
+    private long cursor = -1;
+
+    @SuppressWarnings("unchecked")
+    TimeoutWheel(int wheelSize, long tickMillis) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("The wheel size must be a power of two, was: " + wheelSize);
+        }
+        this.buckets = new TimeoutMapEntry[wheelSize];
+        this.mask = wheelSize - 1;
+        this.tickMillis = Math.max(1, tickMillis);
+    }
+
+    /**
+     * Schedules the entry according to its expire time
+     *
+     * @param entry the entry
+     * @param now   the current time, used when the wheel has not yet been started
+     */
+    void schedule(TimeoutMapEntry<K, V> entry, long now) {
+        if (cursor < 0) {
+            cursor = Math.floorDiv(now, tickMillis);
+        }
+        if (entry.wheelBucket >= 0) {
+            unlink(entry);
+        }
+        // entries which are already due goes into the current bucket which is visited on the next purge
+        long tick = Math.max(Math.floorDiv(entry.getExpireTime(), tickMillis), cursor);
+        int index = (int) (tick & mask);
+        TimeoutMapEntry<K, V> head = buckets[index];
+        entry.wheelBucket = index;
+        entry.wheelPrev = null;
+        entry.wheelNext = head;
+        if (head != null) {
+            head.wheelPrev = entry;
+        }
+        buckets[index] = entry;
+    }
+
+    /**
+     * Cancels the entry, if it was scheduled
+     */
+    void cancel(TimeoutMapEntry<K, V> entry) {
+        if (entry.wheelBucket >= 0) {
+            unlink(entry);
+        }
+    }
+
+    /**
+     * Removes the entries which have expired in the buckets which are due
+     *
+     * @param now     the current time
+     * @param evict   whether an expired entry is valid for eviction, if not then its retried on the next purge
+     * @param expired the list to add the expired entries to
+     */
+    void expire(long now, Predicate<TimeoutMapEntry<K, V>> evict, List<TimeoutMapEntry<K, V>> expired) {
+        long tick = Math.floorDiv(now, tickMillis);
+        if (cursor < 0) {
+            cursor = tick;
+            return;
+        }
+
+        // the current bucket is visited again on the next purge as it may still have entries expiring in this tick
+        long count = Math.min(Math.max(tick - cursor, 0) + 1, buckets.length);
+        List<TimeoutMapEntry<K, V>> retry = null;
+        for (long i = 0; i < count; i++) {
+            int index = (int) ((cursor + i) & mask);
+            TimeoutMapEntry<K, V> entry = buckets[index];
+            while (entry != null) {
+                TimeoutMapEntry<K, V> next = entry.wheelNext;
+                // entries from a later round of the wheel are left in the bucket
+                if (entry.getExpireTime() < now) {
+                    unlink(entry);
+                    if (evict.test(entry)) {
+                        expired.add(entry);
+                    } else {
+                        if (retry == null) {
+                            retry = new ArrayList<>();
+                        }
+                        retry.add(entry);
+                    }
+                }
+                entry = next;
+            }
+        }
+        cursor = Math.max(cursor, tick);
+
+        if (retry != null) {
+            for (TimeoutMapEntry<K, V> entry : retry) {
+                schedule(entry, now);
+            }
+        }
+    }
+
+    /**
+     * Removes all the entries
+     */
+    void clear() {
+        for (int i = 0; i < buckets.length; i++) {
+            TimeoutMapEntry<K, V> entry = buckets[i];
+            while (entry != null) {
+                TimeoutMapEntry<K, V> next = entry.wheelNext;
+                entry.wheelPrev = null;
+                entry.wheelNext = null;
+                entry.wheelBucket = -1;
+                entry = next;
+            }
+            buckets[i] = null;
+        }
+        cursor = -1;
+    }
+
+    private void unlink(TimeoutMapEntry<K, V> entry) {
+        TimeoutMapEntry<K, V> prev = entry.wheelPrev;
+        TimeoutMapEntry<K, V> next = entry.wheelNext;
+        if (prev != null) {
+            prev.wheelNext = next;
+        } else {
+            buckets[entry.wheelBucket] = next;
+        }
+        if (next != null) {
+            next.wheelPrev = prev;
+        }
+        entry.wheelPrev = null;
+        entry.wheelNext = null;
+        entry.wheelBucket = -1;
+    }
+
+}
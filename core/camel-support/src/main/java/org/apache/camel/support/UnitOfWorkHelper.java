@@ -22,6 +22,7 @@ import java.util.List;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedExchange;
+import org.apache.camel.PooledExchange;
 import org.apache.camel.Route;
 import org.apache.camel.spi.Synchronization;
 import org.apache.camel.spi.SynchronizationRouteAware;
@@ -66,6 +67,11 @@ public final class UnitOfWorkHelper {
         // MUST clear and set uow to null on exchange after done
         ExtendedExchange ee = (ExtendedExchange) exchange;
         ee.setUnitOfWork(null);
+
+        // the exchange is now done so it can be released back to its pool if it was created to auto release
+        if (exchange instanceof PooledExchange && ((PooledExchange) exchange).isAutoRelease()) {
+            ((PooledExchange) exchange).done();
+        }
     }
 
     public static void doneSynchronizations(Exchange exchange, List<Synchronization> synchronizations, Logger log) {
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
+import org.apache.camel.util.concurrent.ThreadPerTaskExecutor;
+import org.apache.camel.util.concurrent.VirtualThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Factory for thread pools that runs each task in a new virtual thread, when the JVM supports virtual threads. On older
+ * JVMs this factory falls back to create thread pools like {@link DefaultThreadPoolFactory}.
+ * <p/>
+ * Virtual threads are cheap to create and to block, so the tasks are not queued until a pooled thread is free, but all
+ * run at the same time. To respect the {@link ThreadPoolProfile} the number of tasks running at the same time is
+ * limited by a semaphore to the number of tasks the equivalent thread pool accepts, which is the max pool size plus the
+ * max queue size. When the limit is reached then the rejected policy of the profile is used.
+ * <p/>
+ * Scheduled thread pools are always created like {@link DefaultThreadPoolFactory}, as scheduled tasks are executed by a
+ * few long-lived threads.
+ */
+public class VirtualThreadPoolFactory extends DefaultThreadPoolFactory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadPoolFactory.class);
+
+    private final boolean virtualThreads = VirtualThreadFactory.isSupported();
+
+    /**
+     * Whether virtual threads are used, which depends on whether the JVM supports virtual threads.
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    @Override
+    public ExecutorService newCachedThreadPool(ThreadFactory threadFactory) {
+        if (!virtualThreads) {
+            return super.newCachedThreadPool(threadFactory);
+        }
+        return new ThreadPerTaskExecutor(0, asVirtualThreadFactory(threadFactory), null);
+    }
+
+    @Override
+    public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory factory) {
+        if (!virtualThreads) {
+            return super.newThreadPool(profile, factory);
+        }
+
+        int maxPoolSize = profile.getMaxPoolSize() != null ? profile.getMaxPoolSize() : 0;
+        int maxQueueSize = profile.getMaxQueueSize() != null ? profile.getMaxQueueSize() : 0;
+        if (maxPoolSize <= 0) {
+            throw new IllegalArgumentException("MaxPoolSize must be > 0, was " + maxPoolSize);
+        }
+        // tasks which would have been queued are running as well
+        long maxTasks = (long) maxPoolSize + Math.max(maxQueueSize, 0);
+
+        RejectedExecutionHandler rejectedExecutionHandler = profile.getRejectedExecutionHandler();
+        if (rejectedExecutionHandler == null) {
+            rejectedExecutionHandler = new ThreadPoolExecutor.CallerRunsPolicy();
+        }
+        return new ThreadPerTaskExecutor(
+                (int) Math.min(maxTasks, Integer.MAX_VALUE), asVirtualThreadFactory(factory), rejectedExecutionHandler);
+    }
+
+    private static ThreadFactory asVirtualThreadFactory(ThreadFactory factory) {
+        if (factory instanceof CamelThreadFactory) {
+            CamelThreadFactory ctf = (CamelThreadFactory) factory;
+            return new VirtualThreadFactory(ctf.getPattern(), ctf.getName());
+        }
+        // the naming of custom thread factories is unknown so use the default pattern
+        return new VirtualThreadFactory(null, "VirtualThread");
+    }
+
+    @Override
+    protected void doInit() throws Exception {
+        if (virtualThreads) {
+            LOG.debug("Using virtual threads for thread pools");
+        } else {
+            LOG.debug("Virtual threads are not supported on this JVM, using platform threads for thread pools");
+        }
+    }
+
+}
@@ -31,6 +31,7 @@ import java.util.regex.Pattern;
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelExecutionException;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.Expression;
 import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.Message;
@@ -49,6 +50,7 @@ import org.apache.camel.support.ExpressionAdapter;
 import org.apache.camel.support.GroupIterator;
 import org.apache.camel.support.GroupTokenIterator;
 import org.apache.camel.support.LanguageSupport;
+import org.apache.camel.util.ByteScanner;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.InetAddressUtil;
 import org.apache.camel.util.ObjectHelper;
@@ -225,7 +227,7 @@ public class ExpressionBuilder {
             public Object evaluate(Exchange exchange) {
                 Exception exception = exchange.getException();
                 if (exception == null) {
-                    exception = exchange.getProperty(Exchange.EXCEPTION_CAUGHT, Exception.class);
+                    exception = exchange.getProperty(ExchangePropertyKey.EXCEPTION_CAUGHT, Exception.class);
                 }
                 return exception;
             }
@@ -251,7 +253,7 @@ public class ExpressionBuilder {
             public Object evaluate(Exchange exchange) {
                 Exception exception = exchange.getException(type);
                 if (exception == null) {
-                    exception = exchange.getProperty(Exchange.EXCEPTION_CAUGHT, Exception.class);
+                    exception = exchange.getProperty(ExchangePropertyKey.EXCEPTION_CAUGHT, Exception.class);
                     return ObjectHelper.getException(type, exception);
                 }
                 return exception;
@@ -416,7 +418,7 @@ public class ExpressionBuilder {
             public Object evaluate(Exchange exchange) {
                 Exception exception = exchange.getException();
                 if (exception == null) {
-                    exception = exchange.getProperty(Exchange.EXCEPTION_CAUGHT, Exception.class);
+                    exception = exchange.getProperty(ExchangePropertyKey.EXCEPTION_CAUGHT, Exception.class);
                 }
                 return exception != null ? exception.getMessage() : null;
             }
@@ -438,7 +440,7 @@ public class ExpressionBuilder {
             public Object evaluate(Exchange exchange) {
                 Exception exception = exchange.getException();
                 if (exception == null) {
-                    exception = exchange.getProperty(Exchange.EXCEPTION_CAUGHT, Exception.class);
+                    exception = exchange.getProperty(ExchangePropertyKey.EXCEPTION_CAUGHT, Exception.class);
                 }
                 if (exception != null) {
                     StringWriter sw = new StringWriter();
@@ -985,7 +987,7 @@ public class ExpressionBuilder {
         return new ExpressionAdapter() {
             @Override
             public Object evaluate(Exchange exchange) {
-                return exchange.getProperty(Exchange.STEP_ID);
+                return exchange.getProperty(ExchangePropertyKey.STEP_ID);
             }
 
             @Override
@@ -1212,6 +1214,11 @@ public class ExpressionBuilder {
             public Object evaluate(Exchange exchange) {
                 String text = token.evaluate(exchange, String.class);
                 Object value = expression.evaluate(exchange, Object.class);
+                // split binary content at the byte level, so only the tokens are decoded
+                ByteScanner byteScanner = ExchangeHelper.getByteScanner(exchange, value, text);
+                if (byteScanner != null) {
+                    return byteScanner;
+                }
                 Scanner scanner = ExchangeHelper.getScanner(exchange, value, text);
                 return scanner;
             }
@@ -1337,7 +1344,11 @@ public class ExpressionBuilder {
                 } else if (parts <= 0) {
                     throw new RuntimeExchangeException("Group must be a positive number, was: " + parts, exchange);
                 }
-                if (token != null) {
+                if (it instanceof ByteScanner && token != null && token.equals(((ByteScanner) it).getDelimiter())) {
+                    // the byte scanner can group the tokens without decoding the individual tokens
+                    ((ByteScanner) it).setGroup(parts, skipFirst);
+                    return it;
+                } else if (token != null) {
                     return new GroupTokenIterator(exchange, it, token, parts, skipFirst);
                 } else {
                     return new GroupIterator(exchange, it, parts, skipFirst);
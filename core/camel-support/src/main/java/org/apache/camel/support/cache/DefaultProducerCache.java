@@ -16,7 +16,9 @@
  */
 package org.apache.camel.support.cache;
 
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.RejectedExecutionException;
 
 import org.apache.camel.AsyncCallback;
@@ -26,6 +28,7 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePattern;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.FailedToCreateProducerException;
 import org.apache.camel.Processor;
@@ -45,6 +48,11 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Default implementation of {@link ProducerCache}.
+ * <p/>
+ * The producers are pooled per endpoint, which can be configured with the global options
+ * {@link org.apache.camel.Exchange#PRODUCER_POOL_MIN_SIZE}, {@link org.apache.camel.Exchange#PRODUCER_POOL_MAX_SIZE}
+ * and {@link org.apache.camel.Exchange#PRODUCER_POOL_IDLE_TIME}. When a min size is configured then the endpoints which
+ * have been used are warmed up again when the cache is restarted, such as when its route is restarted.
  */
 public class DefaultProducerCache extends ServiceSupport implements ProducerCache {
 
@@ -55,6 +63,8 @@ public class DefaultProducerCache extends ServiceSupport implements ProducerCach
     private final ProducerServicePool producers;
     private final Object source;
     private final SharedInternalProcessor sharedInternalProcessor;
+    // the endpoints which have been used, to warm up when restarted
+    private final Set<Endpoint> knownEndpoints = ConcurrentHashMap.newKeySet();
 
     private EndpointUtilizationStatistics statistics;
     private boolean eventNotifierEnabled = true;
@@ -67,6 +77,9 @@ public class DefaultProducerCache extends ServiceSupport implements ProducerCach
         this.maxCacheSize = cacheSize <= 0 ? CamelContextHelper.getMaximumCachePoolSize(camelContext) : cacheSize;
         if (cacheSize >= 0) {
             this.producers = createServicePool(camelContext, maxCacheSize);
+            this.producers.setMinSize(CamelContextHelper.getProducerPoolMinSize(camelContext));
+            this.producers.setMaxSize(CamelContextHelper.getProducerPoolMaxSize(camelContext));
+            this.producers.setIdleTime(CamelContextHelper.getProducerPoolIdleTime(camelContext));
         } else {
             // no cache then empty
             this.producers = null;
@@ -114,6 +127,47 @@ public class DefaultProducerCache extends ServiceSupport implements ProducerCach
         return camelContext;
     }
 
+    public int getPoolMinSize() {
+        return producers != null ? producers.getMinSize() : 0;
+    }
+
+    /**
+     * The minimum number of idle non-singleton producers to keep per endpoint, which is also the number of producers
+     * created when warming up an endpoint.
+     */
+    public void setPoolMinSize(int poolMinSize) {
+        if (producers != null) {
+            producers.setMinSize(poolMinSize);
+        }
+    }
+
+    public int getPoolMaxSize() {
+        return producers != null ? producers.getMaxSize() : 0;
+    }
+
+    /**
+     * The maximum number of idle non-singleton producers to keep per endpoint. Is default the capacity of the cache.
+     */
+    public void setPoolMaxSize(int poolMaxSize) {
+        if (producers != null) {
+            producers.setMaxSize(poolMaxSize);
+        }
+    }
+
+    public long getPoolIdleTime() {
+        return producers != null ? producers.getIdleTime() : 0;
+    }
+
+    /**
+     * Time in millis before an idle non-singleton producer is stopped, until the min size is reached. Is default 0 to
+     * keep the idle producers.
+     */
+    public void setPoolIdleTime(long poolIdleTime) {
+        if (producers != null) {
+            producers.setIdleTime(poolIdleTime);
+        }
+    }
+
     @Override
     public Object getSource() {
         return source;
@@ -160,6 +214,18 @@ public class DefaultProducerCache extends ServiceSupport implements ProducerCach
         producers.release(endpoint, producer);
     }
 
+    @Override
+    public void warmUp(Endpoint endpoint) {
+        if (producers == null) {
+            return;
+        }
+        try {
+            producers.warmUp(endpoint);
+        } catch (Throwable e) {
+            throw new FailedToCreateProducerException(endpoint, e);
+        }
+    }
+
     @Override
     public Exchange send(Endpoint endpoint, Exchange exchange, Processor resultProcessor) {
         if (camelContext.isStopped()) {
@@ -173,7 +239,7 @@ public class DefaultProducerCache extends ServiceSupport implements ProducerCach
             LOG.debug(">>>> {} {}", endpoint, exchange);
 
             // set property which endpoint we send to
-            exchange.setProperty(Exchange.TO_ENDPOINT, endpoint.getEndpointUri());
+            exchange.setProperty(ExchangePropertyKey.TO_ENDPOINT, endpoint.getEndpointUri());
 
             // send the exchange using the processor
             StopWatch watch = null;
@@ -345,7 +411,7 @@ public class DefaultProducerCache extends ServiceSupport implements ProducerCach
         LOG.debug(">>>> {} {}", endpoint, exchange);
 
         // set property which endpoint we send to
-        exchange.setProperty(Exchange.TO_ENDPOINT, endpoint.getEndpointUri());
+        exchange.setProperty(ExchangePropertyKey.TO_ENDPOINT, endpoint.getEndpointUri());
 
         // send the exchange using the processor
         try {
@@ -378,15 +444,40 @@ public class DefaultProducerCache extends ServiceSupport implements ProducerCach
             statistics.clear();
         }
         ServiceHelper.startService(producers);
+
+        if (producers != null && producers.getMinSize() > 0) {
+            for (Endpoint endpoint : knownEndpoints) {
+                warmUpKnownEndpoint(endpoint);
+            }
+        }
+        knownEndpoints.clear();
+    }
+
+    private void warmUpKnownEndpoint(Endpoint endpoint) {
+        // the endpoint may have been removed and stopped in the mean time
+        if (endpoint instanceof StatefulService && !ServiceHelper.isStarted(endpoint)) {
+            return;
+        }
+        try {
+            LOG.debug("Warming up producer for endpoint: {}", endpoint);
+            producers.warmUp(endpoint);
+        } catch (Throwable e) {
+            // the producer is created when used instead
+            LOG.debug("Error warming up producer for endpoint: {}. This exception is ignored.", endpoint, e);
+        }
     }
 
     @Override
     protected void doStop() throws Exception {
+        if (producers != null && producers.getMinSize() > 0) {
+            knownEndpoints.addAll(producers.getEndpoints());
+        }
         ServiceHelper.stopService(producers);
     }
 
     @Override
     protected void doShutdown() throws Exception {
+        knownEndpoints.clear();
         ServiceHelper.stopAndShutdownServices(producers);
     }
 
@@ -430,6 +521,33 @@ public class DefaultProducerCache extends ServiceSupport implements ProducerCach
         return statistics;
     }
 
+    @Override
+    public long getHits() {
+        return producers != null ? producers.getHits() : 0;
+    }
+
+    @Override
+    public long getMisses() {
+        return producers != null ? producers.getMisses() : 0;
+    }
+
+    @Override
+    public long getMeanCreationTime() {
+        return producers != null ? producers.getMeanCreationTime() : 0;
+    }
+
+    @Override
+    public long getMaxCreationTime() {
+        return producers != null ? producers.getMaxCreationTime() : 0;
+    }
+
+    @Override
+    public void resetStatistics() {
+        if (producers != null) {
+            producers.resetStatistics();
+        }
+    }
+
     @Override
     public String toString() {
         return "ProducerCache for source: " + source + ", capacity: " + getCapacity();
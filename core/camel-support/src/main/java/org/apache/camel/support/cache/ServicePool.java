@@ -19,10 +19,13 @@ package org.apache.camel.support.cache;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
 import org.apache.camel.Endpoint;
@@ -38,6 +41,10 @@ import org.slf4j.LoggerFactory;
 /**
  * A base class for a pool for either producers or consumers used by {@link org.apache.camel.spi.ProducerCache} and
  * {@link org.apache.camel.spi.ConsumerCache}.
+ * <p/>
+ * Non-singleton producers or consumers are pooled per endpoint, where each pool keeps at most the given max size of
+ * idle instances. Instances which have been idle for longer than the idle time are stopped, but the pool keeps at least
+ * the given min size, which is also the number of instances created when warming up the pool for an endpoint.
  */
 abstract class ServicePool<S extends Service> extends ServiceSupport implements NonManagedService {
 
@@ -51,6 +58,15 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
     private final ConcurrentMap<Endpoint, Pool<S>> singlePoolEvicted = new ConcurrentHashMap<>();
     private int capacity;
     private Map<S, S> cache;
+    private int minSize;
+    private int maxSize;
+    private long idleTime;
+    private final AtomicLong nextIdleCheck = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder creations = new LongAdder();
+    private final LongAdder creationTime = new LongAdder();
+    private final AtomicLong maxCreationTime = new AtomicLong();
 
     private interface Pool<S> {
         S acquire() throws Exception;
@@ -64,6 +80,10 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         void evict(S s);
 
         void cleanUp();
+
+        void warmUp() throws Exception;
+
+        void evictIdle(long now);
     }
 
     public ServicePool(ThrowingFunction<Endpoint, S, Exception> creator, Function<S, Endpoint> getEndpoint, int capacity) {
@@ -106,6 +126,7 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         if (!isStarted()) {
             return null;
         }
+        evictIdle();
         S s = getOrCreatePool(endpoint).acquire();
         if (s != null && cache != null) {
             cache.putIfAbsent(s, s);
@@ -126,6 +147,25 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         }
     }
 
+    /**
+     * Warms up the pool for the given endpoint by creating the producer/consumer, or the min size of
+     * producers/consumers if they are not singletons, ahead of use.
+     *
+     * @param endpoint the endpoint
+     */
+    public void warmUp(Endpoint endpoint) throws Exception {
+        if (isStarted()) {
+            getOrCreatePool(endpoint).warmUp();
+        }
+    }
+
+    /**
+     * The endpoints which currently have a pool
+     */
+    public Set<Endpoint> getEndpoints() {
+        return pool.keySet();
+    }
+
     private Pool<S> getOrCreatePool(Endpoint endpoint) {
         return pool.computeIfAbsent(endpoint, this::createPool);
     }
@@ -154,6 +194,123 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
             ((LRUCache) cache).cleanUp();
         }
         pool.values().forEach(Pool::cleanUp);
+        evictIdle();
+    }
+
+    /**
+     * Stops the instances which have been idle for too long, which is checked at most every half of the idle time
+     */
+    private void evictIdle() {
+        if (idleTime <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long next = nextIdleCheck.get();
+        if (now >= next && nextIdleCheck.compareAndSet(next, now + Math.max(1, idleTime / 2))) {
+            pool.values().forEach(p -> p.evictIdle(now));
+        }
+    }
+
+    /**
+     * Creates the producer/consumer and keeps track of how long it took
+     */
+    private S create(Endpoint endpoint, boolean start) throws Exception {
+        long begin = System.nanoTime();
+        S s = creator.apply(endpoint);
+        if (start) {
+            s.start();
+        }
+        long taken = System.nanoTime() - begin;
+        creations.increment();
+        creationTime.add(taken);
+        maxCreationTime.accumulateAndGet(taken, Math::max);
+        return s;
+    }
+
+    // Properties
+    // -------------------------------------------------------------------------
+
+    public int getMinSize() {
+        return Math.min(minSize, getMaxSize());
+    }
+
+    /**
+     * The minimum number of idle non-singleton instances to keep in the pool per endpoint, which is also the number of
+     * instances created when warming up.
+     */
+    public void setMinSize(int minSize) {
+        this.minSize = minSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize > 0 ? Math.min(maxSize, capacity) : capacity;
+    }
+
+    /**
+     * The maximum number of idle non-singleton instances to keep in the pool per endpoint, which cannot be higher than
+     * the capacity of the pool. Is default the capacity of the pool.
+     */
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public long getIdleTime() {
+        return idleTime;
+    }
+
+    /**
+     * Time in millis before an idle non-singleton instance is stopped and removed from the pool, until the min size is
+     * reached. Is default 0 to keep the idle instances.
+     */
+    public void setIdleTime(long idleTime) {
+        this.idleTime = idleTime;
+    }
+
+    /**
+     * Number of times an existing instance was acquired from the pool
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of times an instance had to be created when acquiring from the pool
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Number of instances created, including when warming up
+     */
+    public long getCreations() {
+        return creations.sum();
+    }
+
+    /**
+     * Mean time in millis to create and start an instance
+     */
+    public long getMeanCreationTime() {
+        long count = creations.sum();
+        return count > 0 ? creationTime.sum() / count / 1000000 : 0;
+    }
+
+    /**
+     * Max time in millis to create and start an instance
+     */
+    public long getMaxCreationTime() {
+        return maxCreationTime.get() / 1000000;
+    }
+
+    /**
+     * Resets the statistics
+     */
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        creations.reset();
+        creationTime.reset();
+        maxCreationTime.set(0);
     }
 
     @Override
@@ -205,17 +362,41 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
             if (s == null) {
                 synchronized (this) {
                     if (s == null) {
-                        LOG.trace("Creating service from endpoint: {}", endpoint);
-                        S tempS = creator.apply(endpoint);
-                        endpoint.getCamelContext().addService(tempS, true, true);
-                        s = tempS;
+                        misses.increment();
+                        doCreate();
+                        LOG.trace("Acquired service: {}", s);
+                        return s;
                     }
                 }
             }
+            hits.increment();
             LOG.trace("Acquired service: {}", s);
             return s;
         }
 
+        @Override
+        public void warmUp() throws Exception {
+            if (s == null) {
+                synchronized (this) {
+                    if (s == null) {
+                        doCreate();
+                    }
+                }
+            }
+        }
+
+        private void doCreate() throws Exception {
+            LOG.trace("Creating service from endpoint: {}", endpoint);
+            S tempS = create(endpoint, false);
+            endpoint.getCamelContext().addService(tempS, true, true);
+            s = tempS;
+        }
+
+        @Override
+        public void evictIdle(long now) {
+            // the singleton is shared by all the worker threads so its never idle
+        }
+
         @Override
         public void release(S s) {
             cleanupEvicts();
@@ -276,12 +457,15 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
      */
     private class MultiplePool implements Pool<S> {
         private final Endpoint endpoint;
-        private final BlockingQueue<S> queue;
+        // used as a stack so the most recently released is acquired first, and the least recently used becomes idle
+        private final BlockingDeque<S> queue;
+        private final Map<S, Long> released;
         private final List<S> evicts;
 
         MultiplePool(Endpoint endpoint) {
             this.endpoint = endpoint;
-            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.queue = new LinkedBlockingDeque<>(getMaxSize());
+            this.released = new ConcurrentHashMap<>();
             this.evicts = new ArrayList<>();
         }
 
@@ -291,6 +475,7 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
                     if (!evicts.isEmpty()) {
                         evicts.forEach(this::doStop);
                         evicts.forEach(queue::remove);
+                        evicts.forEach(released::remove);
                         evicts.clear();
                         if (queue.isEmpty()) {
                             pool.remove(endpoint);
@@ -304,10 +489,13 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         public S acquire() throws Exception {
             cleanupEvicts();
 
-            S s = queue.poll();
+            S s = queue.pollFirst();
             if (s == null) {
-                s = creator.apply(endpoint);
-                s.start();
+                misses.increment();
+                s = create(endpoint, true);
+            } else {
+                hits.increment();
+                released.remove(s);
             }
             return s;
         }
@@ -316,12 +504,56 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         public void release(S s) {
             cleanupEvicts();
 
-            if (!queue.offer(s)) {
+            if (idleTime > 0) {
+                released.put(s, System.currentTimeMillis());
+            }
+            if (!queue.offerFirst(s)) {
                 // there is no room so lets just stop and discard this
+                released.remove(s);
                 doStop(s);
             }
         }
 
+        @Override
+        public void warmUp() throws Exception {
+            int size = Math.max(1, getMinSize());
+            while (queue.size() < size) {
+                S s = create(endpoint, true);
+                if (idleTime > 0) {
+                    released.put(s, System.currentTimeMillis());
+                }
+                if (!queue.offerLast(s)) {
+                    released.remove(s);
+                    doStop(s);
+                    break;
+                }
+            }
+        }
+
+        @Override
+        public void evictIdle(long now) {
+            // the least recently used are at the end of the queue
+            int min = getMinSize();
+            while (queue.size() > min) {
+                S s = queue.peekLast();
+                if (s == null) {
+                    break;
+                }
+                Long time = released.get(s);
+                if (time == null || now - time < idleTime) {
+                    break;
+                }
+                if (queue.removeLastOccurrence(s)) {
+                    LOG.debug("Stopping idle service: {}", s);
+                    released.remove(s);
+                    if (cache != null) {
+                        cache.remove(s);
+                    }
+                    doStop(s);
+                }
+            }
+        }
+
         @Override
         public int size() {
             return queue.size();
@@ -331,6 +563,7 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         public void stop() {
             queue.forEach(this::doStop);
             queue.clear();
+            released.clear();
             pool.remove(endpoint);
         }
 
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bloom filter of string keys, used by the {@link FileIdempotentRepository} to quickly tell that a key is not in the
+ * file store, without having to scan the file.
+ * <p/>
+ * The filter uses 10 bits per expected key and 7 hash functions, giving about 1% false positives when the expected
+ * number of keys is added. The false positives increase quickly when more keys are added, which is why the filter
+ * counts the keys added, see {@link #isFull()}. Adding and checking keys is thread-safe and lock-free.
+ */
+final class BloomFilter {
+
+    private static final int BITS_PER_KEY = 10;
+    private static final int HASHES = 7;
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final long expectedKeys;
+    private final AtomicLong keys = new AtomicLong();
+
+    /**
+     * @param expectedKeys the expected number of keys to add to the filter
+     */
+    BloomFilter(long expectedKeys) {
+        long size = Math.max(1, Math.min((expectedKeys * BITS_PER_KEY + 63) >>> 6, Integer.MAX_VALUE - 8));
+        this.words = new AtomicLongArray((int) size);
+        this.bits = size << 6;
+        this.expectedKeys = expectedKeys;
+    }
+
+    /**
+     * Adds the key to the filter
+     */
+    void put(String key) {
+        put(hash(key));
+    }
+
+    /**
+     * Adds the key with the given hash, see {@link #hash(String)}, to the filter
+     */
+    void put(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        boolean added = false;
+        for (int i = 1; i <= HASHES; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bits);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            while (true) {
+                long word = words.get(index);
+                if ((word & mask) != 0) {
+                    break;
+                }
+                if (words.compareAndSet(index, word, word | mask)) {
+                    added = true;
+                    break;
+                }
+            }
+        }
+        if (added) {
+            // only count the keys which were not in the filter already, such as keys added again
+            keys.incrementAndGet();
+        }
+    }
+
+    /**
+     * Whether the key may have been added to the filter
+     *
+     * @return <tt>false</tt> if the key has definitely not been added, <tt>true</tt> if it may have been added
+     */
+    boolean mightContain(String key) {
+        return mightContain(hash(key));
+    }
+
+    /**
+     * Whether the key with the given hash, see {@link #hash(String)}, may have been added to the filter
+     */
+    boolean mightContain(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= HASHES; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bits);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The number of keys the filter is sized for
+     */
+    long getExpectedKeys() {
+        return expectedKeys;
+    }
+
+    /**
+     * Whether more keys than expected have been added to the filter, so it should be replaced by a bigger filter to
+     * keep the false positives low
+     */
+    boolean isFull() {
+        return keys.get() > expectedKeys;
+    }
+
+    /**
+     * A 64-bit hash of the key, which is the FNV-1a hash of the UTF-16 bytes of the key, with the bits spread by the
+     * murmur3 finalizer as FNV-1a does not spread the last bytes to the high bits
+     */
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            h ^= c >>> 8;
+            h *= 0x100000001b3L;
+            h ^= c & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+}
@@ -0,0 +1,419 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.service.ServiceSupport;
+
+/**
+ * A memory based implementation of {@link org.apache.camel.spi.IdempotentRepository} for concurrent use.
+ * <p/>
+ * Unlike {@link MemoryIdempotentRepository} which synchronizes every operation on the whole cache, the keys are split
+ * into segments by their hash, where each segment is locked on its own, so concurrent consumers are seldom blocking
+ * each other. The repository is bounded by {@link #setMaximumSize(int)}, and when a segment is full then the least
+ * recently used keys of the segment are evicted first (using the clock algorithm). The keys can also be evicted after a
+ * period of time, see {@link #setExpireAfter(long)}.
+ * <p/>
+ * The keys are kept in arrays rather than map entries, and can be kept as a 64 or 128 bit hash of the key instead of
+ * the key itself, see {@link #setKeyHashBits(int)}, which cuts the memory used for repositories with millions of keys.
+ */
+@ManagedResource(description = "Concurrent memory based idempotent repository")
+public class ConcurrentMemoryIdempotentRepository extends ServiceSupport implements IdempotentRepository {
+
+    private int maximumSize = 1000;
+    private long expireAfter;
+    private int keyHashBits;
+    private volatile Segment[] segments;
+    private volatile boolean changed;
+
+    public ConcurrentMemoryIdempotentRepository() {
+        this.segments = createSegments();
+    }
+
+    public ConcurrentMemoryIdempotentRepository(int maximumSize) {
+        this.maximumSize = maximumSize;
+        this.segments = createSegments();
+    }
+
+    /**
+     * Creates a new concurrent memory based repository with a maximum of 1000 keys.
+     */
+    public static IdempotentRepository concurrentMemoryIdempotentRepository() {
+        return new ConcurrentMemoryIdempotentRepository();
+    }
+
+    /**
+     * Creates a new concurrent memory based repository.
+     *
+     * @param maximumSize the maximum number of keys
+     */
+    public static IdempotentRepository concurrentMemoryIdempotentRepository(int maximumSize) {
+        return new ConcurrentMemoryIdempotentRepository(maximumSize);
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public boolean add(String key) {
+        long h1 = hash(key);
+        long h2 = keyHashBits == 128 ? hash2(key, h1) : 0;
+        return segmentFor(h1).add(key, h1, h2);
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        long h1 = hash(key);
+        long h2 = keyHashBits == 128 ? hash2(key, h1) : 0;
+        return segmentFor(h1).contains(key, h1, h2);
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(String key) {
+        long h1 = hash(key);
+        long h2 = keyHashBits == 128 ? hash2(key, h1) : 0;
+        return segmentFor(h1).remove(key, h1, h2);
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        // noop
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store")
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    @ManagedAttribute(description = "The current cache size")
+    public int getCacheSize() {
+        int answer = 0;
+        for (Segment segment : segments) {
+            answer += segment.size();
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "The maximum number of keys")
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Sets the maximum number of keys in the repository, where the least recently used keys are evicted first when the
+     * repository is full. The keys are split into segments which are evicted on their own, so the keys are not strictly
+     * evicted in the order they were used.
+     * <p/>
+     * The default is 1000.
+     */
+    public void setMaximumSize(int maximumSize) {
+        this.maximumSize = maximumSize;
+        this.changed = true;
+    }
+
+    @ManagedAttribute(description = "The time in millis after which the keys are evicted")
+    public long getExpireAfter() {
+        return expireAfter;
+    }
+
+    /**
+     * Sets the time in millis after which a key is evicted from the repository, after the key was added. You can set
+     * the value to 0 or negative to turn this off, and only evict keys when the repository is full.
+     * <p/>
+     * The default is 0.
+     */
+    public void setExpireAfter(long expireAfter) {
+        this.expireAfter = expireAfter;
+        this.changed = true;
+    }
+
+    @ManagedAttribute(description = "The number of bits of the hash kept instead of the key")
+    public int getKeyHashBits() {
+        return keyHashBits;
+    }
+
+    /**
+     * Sets whether to keep a 64 or 128 bit hash of the key instead of the key itself, which takes up much less memory
+     * for long keys. There is a small chance of different keys having the same hash, where a new key would wrongly be
+     * regarded as a duplicate, which is about 1 in 2 trillion when holding 10 million keys using a 64 bit hash, and
+     * negligible using a 128 bit hash.
+     * <p/>
+     * The default is 0 which keeps the keys.
+     */
+    public void setKeyHashBits(int keyHashBits) {
+        if (keyHashBits != 0 && keyHashBits != 64 && keyHashBits != 128) {
+            throw new IllegalArgumentException("KeyHashBits must be 0, 64 or 128, was: " + keyHashBits);
+        }
+        this.keyHashBits = keyHashBits;
+        this.changed = true;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (changed) {
+            segments = createSegments();
+            changed = false;
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        clear();
+    }
+
+    private Segment[] createSegments() {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("MaximumSize must be positive, was: " + maximumSize);
+        }
+        // use a few segments per processor, but keep at least 64 keys per segment
+        int count = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 4 - 1)) << 1;
+        while (count > 1 && maximumSize / count < 64) {
+            count >>= 1;
+        }
+        int capacity = (maximumSize + count - 1) / count;
+        Segment[] answer = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            answer[i] = new Segment(capacity, keyHashBits, expireAfter);
+        }
+        return answer;
+    }
+
+    private Segment segmentFor(long hash) {
+        Segment[] segments = this.segments;
+        // use the high bits for the segment as the low bits are used for the slot within the segment
+        return segments[(int) (hash >>> 40) & (segments.length - 1)];
+    }
+
+    private long hash(String key) {
+        if (keyHashBits == 0) {
+            // the keys are compared so the hash code is good enough
+            return mix(key.hashCode());
+        }
+        long h = 0x9e3779b97f4a7c15L;
+        int len = key.length();
+        for (int i = 0; i < len; i++) {
+            h = (h ^ key.charAt(i)) * 0x100000001b3L;
+        }
+        return mix(h ^ len);
+    }
+
+    private static long hash2(String key, long h1) {
+        long h = h1 ^ 0xc2b2ae3d27d4eb4fL;
+        int len = key.length();
+        for (int i = len - 1; i >= 0; i--) {
+            h = (h ^ key.charAt(i)) * 0x9e3779b97f4a7c15L;
+            h ^= h >>> 29;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        // murmur3 finalizer
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * A segment of the keys, which is an open addressing hash table using linear probing, evicting the keys using the
+     * clock algorithm.
+     */
+    private static final class Segment {
+
+        private final int capacity;
+        private final int mask;
+        private final long expireAfter;
+        // the hash of the key where 0 marks an empty slot
+        private final long[] hashes;
+        // the 2nd part of 128 bit hashes
+        private final long[] hashes2;
+        // the keys when not kept as hashes
+        private final String[] keys;
+        // the time the keys were added when expiring keys
+        private final long[] times;
+        private final boolean[] used;
+        private int size;
+        private int hand;
+
+        Segment(int capacity, int keyHashBits, long expireAfter) {
+            this.capacity = capacity;
+            this.expireAfter = expireAfter;
+            // keep the load factor below 0.75
+            int slots = Integer.highestOneBit(Math.max(2, capacity + capacity / 3 + 1) - 1) << 1;
+            this.mask = slots - 1;
+            this.hashes = new long[slots];
+            this.hashes2 = keyHashBits == 128 ? new long[slots] : null;
+            this.keys = keyHashBits == 0 ? new String[slots] : null;
+            this.times = expireAfter > 0 ? new long[slots] : null;
+            this.used = new boolean[slots];
+        }
+
+        synchronized boolean add(String key, long h1, long h2) {
+            long hash = h1 == 0 ? 1 : h1;
+            long now = times != null ? System.currentTimeMillis() : 0;
+            int slot = find(key, hash, h2);
+            if (slot >= 0) {
+                if (!isExpired(slot, now)) {
+                    used[slot] = true;
+                    return false;
+                }
+                // expired so its added again
+                times[slot] = now;
+                used[slot] = true;
+                return true;
+            }
+
+            if (size >= capacity) {
+                evict(now);
+            }
+            slot = (int) hash & mask;
+            while (hashes[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            hashes[slot] = hash;
+            if (hashes2 != null) {
+                hashes2[slot] = h2;
+            }
+            if (keys != null) {
+                keys[slot] = key;
+            }
+            if (times != null) {
+                times[slot] = now;
+            }
+            // a new key is not regarded as used so it is evicted before keys which are used again
+            used[slot] = false;
+            size++;
+            return true;
+        }
+
+        synchronized boolean contains(String key, long h1, long h2) {
+            int slot = find(key, h1 == 0 ? 1 : h1, h2);
+            if (slot < 0) {
+                return false;
+            }
+            if (times != null && isExpired(slot, System.currentTimeMillis())) {
+                delete(slot);
+                return false;
+            }
+            used[slot] = true;
+            return true;
+        }
+
+        synchronized boolean remove(String key, long h1, long h2) {
+            int slot = find(key, h1 == 0 ? 1 : h1, h2);
+            if (slot < 0) {
+                return false;
+            }
+            boolean expired = times != null && isExpired(slot, System.currentTimeMillis());
+            delete(slot);
+            return !expired;
+        }
+
+        synchronized void clear() {
+            for (int i = 0; i <= mask; i++) {
+                hashes[i] = 0;
+                if (keys != null) {
+                    keys[i] = null;
+                }
+            }
+            size = 0;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        private int find(String key, long hash, long h2) {
+            for (int slot = (int) hash & mask;; slot = (slot + 1) & mask) {
+                long current = hashes[slot];
+                if (current == 0) {
+                    return -1;
+                }
+                if (current == hash && (hashes2 == null || hashes2[slot] == h2)
+                        && (keys == null || keys[slot].equals(key))) {
+                    return slot;
+                }
+            }
+        }
+
+        private boolean isExpired(int slot, long now) {
+            return times != null && now - times[slot] >= expireAfter;
+        }
+
+        /**
+         * Evicts a key using the clock algorithm, where the hand sweeps the slots and gives the used keys a second
+         * chance, and evicts the first key which is not used since the last sweep, or is expired.
+         */
+        private void evict(long now) {
+            while (true) {
+                int slot = hand;
+                hand = (hand + 1) & mask;
+                if (hashes[slot] == 0) {
+                    continue;
+                }
+                if (used[slot] && !isExpired(slot, now)) {
+                    used[slot] = false;
+                } else {
+                    delete(slot);
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Deletes the key in the slot, and shifts the following keys back so no key is placed after an empty slot
+         */
+        private void delete(int slot) {
+            int empty = slot;
+            for (int next = (slot + 1) & mask; hashes[next] != 0; next = (next + 1) & mask) {
+                int home = (int) hashes[next] & mask;
+                // the key can be moved to the empty slot if its home slot is not between the empty and next slot
+                boolean between = empty <= next ? empty < home && home <= next : empty < home || home <= next;
+                if (!between) {
+                    hashes[empty] = hashes[next];
+                    if (hashes2 != null) {
+                        hashes2[empty] = hashes2[next];
+                    }
+                    if (keys != null) {
+                        keys[empty] = keys[next];
+                    }
+                    if (times != null) {
+                        times[empty] = times[next];
+                    }
+                    used[empty] = used[next];
+                    empty = next;
+                }
+            }
+            hashes[empty] = 0;
+            if (keys != null) {
+                keys[empty] = null;
+            }
+            size--;
+        }
+    }
+
+}
@@ -16,14 +16,33 @@
  */
 package org.apache.camel.support.processor.idempotent;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ObjLongConsumer;
 
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.api.management.ManagedAttribute;
 import org.apache.camel.api.management.ManagedOperation;
@@ -35,7 +54,6 @@ import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
-import org.apache.camel.util.Scanner;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,31 +61,65 @@ import org.slf4j.LoggerFactory;
  * A file based implementation of {@link org.apache.camel.spi.IdempotentRepository}.
  * <p/>
  * This implementation provides a 1st-level in-memory {@link LRUCache} for fast check of the most frequently used keys.
- * When {@link #add(String)} or {@link #contains(String)} methods are being used then in case of 1st-level cache miss,
- * the underlying file is scanned which may cost additional performance. So try to find the right balance of the size of
- * the 1st-level cache, the default size is 1000. The file store has a maximum capacity of 32mb by default (you can turn
- * this off and have unlimited size). If the file store grows bigger than the maximum capacity, then the
- * {@link #getDropOldestFileStore()} (is default 1000) number of entries from the file store is dropped to reduce the
- * file store and make room for newer entries.
+ * When {@link #add(String)} or {@link #contains(String)} methods are being used then in case of 1st-level cache miss, a
+ * bloom filter is checked, and only if the key may be in the file store then an in-memory index of the positions of the
+ * keys in the file store is checked, and the entry of the key is read from the file. The index takes 32 to 64 bytes of
+ * memory per key in the file store. So try to find the right balance of the size of the 1st-level cache, the default
+ * size is 1000, and the size of the bloom filter, which is sized for 100000 keys by default. The file store has a
+ * maximum capacity of 32mb by default (you can turn this off and have unlimited size). If the file store grows bigger
+ * than the maximum capacity, then the {@link #getDropOldestFileStore()} (is default 1000) number of entries from the
+ * file store is dropped to reduce the file store and make room for newer entries.
+ * <p/>
+ * The file store is an append-only log with a key per line, where removing a key appends a tombstone for the key. The
+ * file store is compacted, by rewriting the file with only the keys in use, when the number of tombstones hits
+ * {@link #getCompactThreshold()}. The compaction runs in the background when the repository is added to a
+ * {@link CamelContext}, and the file is replaced atomically so the file store is always valid. Operations on different
+ * keys are not blocking each other, and the writes can be forced to disk, where the writes of concurrent operations are
+ * forced together, see {@link #setSync(boolean)}.
  */
 @ManagedResource(description = "File based idempotent repository")
-public class FileIdempotentRepository extends ServiceSupport implements IdempotentRepository {
+public class FileIdempotentRepository extends ServiceSupport implements IdempotentRepository, CamelContextAware {
 
     private static final Logger LOG = LoggerFactory.getLogger(FileIdempotentRepository.class);
 
     private static final String STORE_DELIMITER = "\n";
+    private static final char TOMBSTONE = '\u0000';
+    private static final int STRIPES = 64;
 
     private final AtomicBoolean init = new AtomicBoolean();
-
+    private final Object[] locks = new Object[STRIPES];
+    private final Object storeLock = new Object();
+    private final Object syncLock = new Object();
+    private final Object compactionLock = new Object();
+    private final AtomicBoolean compactionScheduled = new AtomicBoolean();
+    private final AtomicLong syncedSequence = new AtomicLong();
+
+    private CamelContext camelContext;
     private Map<String, Object> cache;
     private File fileStore;
     private long maxFileStoreSize = 32 * 1024 * 1000L; // 32mb store file
     private long dropOldestFileStore = 1000;
+    private long compactThreshold = 1000;
+    private long bloomFilterSize = 100000;
+    private boolean sync;
+
+    // the state of the file store which is guarded by the store lock
+    private FileChannel channel;
+    private long storeSize;
+    private long tombstones;
+    private long sequence;
+    private volatile BloomFilter bloomFilter;
+    private volatile KeyIndex index;
+    private ExecutorService compactionExecutor;
 
     public FileIdempotentRepository() {
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
     }
 
     public FileIdempotentRepository(File fileStore, Map<String, Object> set) {
+        this();
         this.fileStore = fileStore;
         this.cache = set;
     }
@@ -122,32 +174,33 @@ public class FileIdempotentRepository extends ServiceSupport implements Idempote
     @Override
     @ManagedOperation(description = "Adds the key to the store")
     public boolean add(String key) {
-        synchronized (cache) {
-            if (cache.containsKey(key)) {
-                return false;
-            } else {
-                // always register the most used keys in the LRUCache
-                cache.put(key, key);
-
-                // now check the file store
-                boolean containsInFile = containsStore(key);
-                if (containsInFile) {
+        synchronized (lockFor(key)) {
+            synchronized (cache) {
+                if (cache.containsKey(key)) {
                     return false;
                 }
+                // always register the most used keys in the LRUCache
+                cache.put(key, key);
+            }
 
-                // its a new key so append to file store
-                appendToStore(key);
+            // now check the file store
+            boolean containsInFile = containsStore(key);
+            if (containsInFile) {
+                return false;
+            }
 
-                // check if we hit maximum capacity (if enabled) and report a warning about this
-                if (maxFileStoreSize > 0 && fileStore.length() > maxFileStoreSize) {
-                    LOG.warn(
-                            "Maximum capacity of file store: {} hit at {} bytes. Dropping {} oldest entries from the file store",
-                            fileStore, maxFileStoreSize, dropOldestFileStore);
-                    trunkStore();
-                }
+            // its a new key so append to file store
+            appendToStore(key);
 
-                return true;
+            // check if we hit maximum capacity (if enabled) and report a warning about this
+            if (maxFileStoreSize > 0 && getStoreSize() > maxFileStoreSize) {
+                LOG.warn(
+                        "Maximum capacity of file store: {} hit at {} bytes. Dropping {} oldest entries from the file store",
+                        fileStore, maxFileStoreSize, dropOldestFileStore);
+                trunkStore();
             }
+
+            return true;
         }
     }
 
@@ -156,16 +209,21 @@ public class FileIdempotentRepository extends ServiceSupport implements Idempote
     public boolean contains(String key) {
         synchronized (cache) {
             // check 1st-level first and then fallback to check the actual file
-            return cache.containsKey(key) || containsStore(key);
+            if (cache.containsKey(key)) {
+                return true;
+            }
         }
+        return containsStore(key);
     }
 
     @Override
     @ManagedOperation(description = "Remove the key from the store")
     public boolean remove(String key) {
         boolean answer;
-        synchronized (cache) {
-            answer = cache.remove(key) != null;
+        synchronized (lockFor(key)) {
+            synchronized (cache) {
+                answer = cache.remove(key) != null;
+            }
             // remove from file cache also
             removeFromStore(key);
         }
@@ -186,9 +244,27 @@ public class FileIdempotentRepository extends ServiceSupport implements Idempote
             if (cache instanceof LRUCache) {
                 ((LRUCache) cache).cleanUp();
             }
-            // clear file store
-            clearStore();
         }
+        // clear file store
+        clearStore();
+    }
+
+    /**
+     * Compacts the file store, by rewriting the file with only the keys in use.
+     */
+    @ManagedOperation(description = "Compacts the file store by rewriting the file with only the keys in use")
+    public void compact() {
+        compactStore(0);
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
     }
 
     public File getFileStore() {
@@ -260,6 +336,63 @@ public class FileIdempotentRepository extends ServiceSupport implements Idempote
         cache = LRUCacheFactory.newLRUCache(size);
     }
 
+    @ManagedAttribute(description = "Number of removed keys in the file store which triggers compaction of the file store")
+    public long getCompactThreshold() {
+        return compactThreshold;
+    }
+
+    /**
+     * Sets the number of removed keys in the file store, which triggers compaction of the file store. A removed key is
+     * appended to the file store as a tombstone, and the compaction rewrites the file with only the keys in use. You
+     * can set the value to 0 or negative to turn this off, and only compact when the repository is stopped.
+     * <p/>
+     * The default is 1000.
+     */
+    @ManagedAttribute(description = "Number of removed keys in the file store which triggers compaction of the file store")
+    public void setCompactThreshold(long compactThreshold) {
+        this.compactThreshold = compactThreshold;
+    }
+
+    @ManagedAttribute(description = "The number of keys the bloom filter is sized for")
+    public long getBloomFilterSize() {
+        return bloomFilterSize;
+    }
+
+    /**
+     * Sets the number of keys the bloom filter in front of the file store is sized for. The bloom filter avoids
+     * scanning the file store for keys which are not in the file store, and uses 10 bits per key. The bloom filter is
+     * sized for at least twice the number of keys in the file store, when the file store is loaded or compacted. When
+     * more keys are added than the bloom filter is sized for, the file store is compacted to resize the bloom filter.
+     * You can set the value to 0 or negative to turn off the bloom filter.
+     * <p/>
+     * The default is 100000.
+     */
+    public void setBloomFilterSize(long bloomFilterSize) {
+        this.bloomFilterSize = bloomFilterSize;
+    }
+
+    @ManagedAttribute(description = "Whether the writes are forced to disk before returning")
+    public boolean isSync() {
+        return sync;
+    }
+
+    /**
+     * Sets whether the writes to the file store are forced to disk before adding or removing a key returns. When
+     * several keys are added or removed concurrently, then their writes are forced to disk together (group commit).
+     * <p/>
+     * The default is false, which leaves it to the operating system when to write to disk.
+     */
+    public void setSync(boolean sync) {
+        this.sync = sync;
+    }
+
+    @ManagedAttribute(description = "Number of removed keys in the file store, which are not yet compacted")
+    public long getTombstones() {
+        synchronized (storeLock) {
+            return tombstones;
+        }
+    }
+
     @ManagedAttribute(description = "The current 1st-level cache size")
     public int getCacheSize() {
         if (cache != null) {
@@ -290,21 +423,66 @@ public class FileIdempotentRepository extends ServiceSupport implements Idempote
      * @return     <tt>true</tt> if exists in the file, <tt>false</tt> otherwise
      */
     protected boolean containsStore(final String key) {
+        long hash = BloomFilter.hash(key);
+        BloomFilter filter = bloomFilter;
+        if (filter != null && !filter.mightContain(hash)) {
+            return false;
+        }
         if (fileStore == null || !fileStore.exists()) {
             return false;
         }
 
-        try (Scanner scanner = new Scanner(fileStore, null, STORE_DELIMITER)) {
-            while (scanner.hasNext()) {
-                String line = scanner.next();
-                if (line.equals(key)) {
-                    return true;
+        try {
+            KeyIndex current = index;
+            while (current != null) {
+                long position = current.get(hash);
+                if (position == -1) {
+                    return false;
+                } else if (position == KeyIndex.COLLISION) {
+                    break;
+                }
+                boolean found = isEntryAt(key, position);
+                if (current == index) {
+                    if (found) {
+                        return true;
+                    }
+                    // another key with the same hash
+                    break;
                 }
+                // compacted meanwhile so the position may be in the previous file store
+                current = index;
             }
+
+            // the last entry of the key tells whether it was added or removed
+            String tombstone = TOMBSTONE + key;
+            boolean[] found = new boolean[1];
+            readStore(fileStore, 0, getStoreSize(), (line, position) -> {
+                if (line.equals(key)) {
+                    found[0] = true;
+                } else if (line.equals(tombstone)) {
+                    found[0] = false;
+                }
+            });
+            return found[0];
         } catch (IOException e) {
             throw RuntimeCamelException.wrapRuntimeCamelException(e);
         }
-        return false;
+    }
+
+    /**
+     * Whether the entry at the given position in the file store is the given key
+     */
+    private boolean isEntryAt(String key, long position) throws IOException {
+        byte[] expected = (key + STORE_DELIMITER).getBytes();
+        ByteBuffer buffer = ByteBuffer.allocate(expected.length);
+        try (FileChannel ch = FileChannel.open(fileStore.toPath(), StandardOpenOption.READ)) {
+            while (buffer.hasRemaining()) {
+                if (ch.read(buffer, position + buffer.position()) < 0) {
+                    return false;
+                }
+            }
+        }
+        return Arrays.equals(expected, buffer.array());
     }
 
     /**
@@ -314,70 +492,131 @@ public class FileIdempotentRepository extends ServiceSupport implements Idempote
      */
     protected void appendToStore(final String key) {
         LOG.debug("Appending: {} to idempotent filestore: {}", key, fileStore);
-        FileOutputStream fos = null;
-        try {
-            // create store parent directory if missing
-            File storeParentDirectory = fileStore.getParentFile();
-            if (storeParentDirectory != null && !storeParentDirectory.exists()) {
-                LOG.info("Parent directory of file store {} doesn't exist. Creating.", fileStore);
-                if (fileStore.getParentFile().mkdirs()) {
-                    LOG.info("Parent directory of filestore: {} successfully created.", fileStore);
-                } else {
-                    LOG.warn("Parent directory of filestore: {} cannot be created.", fileStore);
-                }
-            }
-            // create store if missing
-            if (!fileStore.exists()) {
-                FileUtil.createNewFile(fileStore);
-            }
-            // append to store
-            fos = new FileOutputStream(fileStore, true);
-            fos.write(key.getBytes());
-            fos.write(STORE_DELIMITER.getBytes());
-        } catch (IOException e) {
-            throw RuntimeCamelException.wrapRuntimeCamelException(e);
-        } finally {
-            IOHelper.close(fos, "Appending to file idempotent repository", LOG);
-        }
+        appendRecord(key, false);
     }
 
-    protected synchronized void removeFromStore(String key) {
+    /**
+     * Removes the given key from the file store, by appending a tombstone for the key
+     *
+     * @param key the key
+     */
+    protected void removeFromStore(String key) {
+        long hash = BloomFilter.hash(key);
+        BloomFilter filter = bloomFilter;
+        KeyIndex current = index;
+        if (filter != null && !filter.mightContain(hash) || current != null && current.get(hash) == -1) {
+            // the key is not in the file store
+            return;
+        }
+
         LOG.debug("Removing: {} from idempotent filestore: {}", key, fileStore);
+        appendRecord(TOMBSTONE + key, true);
+    }
+
+    /**
+     * Compacts the file store in the background, unless a compaction is already scheduled
+     */
+    private void scheduleCompaction() {
+        if (compactionScheduled.compareAndSet(false, true)) {
+            if (compactionExecutor != null) {
+                compactionExecutor.submit(this::doCompact);
+            } else {
+                doCompact();
+            }
+        }
+    }
 
-        // we need to re-load the entire file and remove the key and then re-write the file
-        List<String> lines = new ArrayList<>();
+    private void doCompact() {
+        try {
+            compactStore(0);
+        } catch (Exception e) {
+            LOG.warn("Error compacting idempotent filestore: {}. This exception is ignored.", fileStore, e);
+        } finally {
+            compactionScheduled.set(false);
+        }
+    }
 
-        boolean found = false;
+    private void appendRecord(String record, boolean tombstone) {
+        byte[] data = (record + STORE_DELIMITER).getBytes();
+        long hash = BloomFilter.hash(tombstone ? record.substring(1) : record);
+        long seq;
+        boolean compact;
         try {
-            try (Scanner scanner = new Scanner(fileStore, null, STORE_DELIMITER)) {
-                while (scanner.hasNext()) {
-                    String line = scanner.next();
-                    if (key.equals(line)) {
-                        found = true;
+            synchronized (storeLock) {
+                FileChannel out = channel;
+                if (out == null) {
+                    // not started so append directly to the file
+                    createStore();
+                    out = FileChannel.open(fileStore.toPath(), StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                }
+                long position = out == channel ? storeSize : out.size();
+                try {
+                    ByteBuffer buffer = ByteBuffer.wrap(data);
+                    while (buffer.hasRemaining()) {
+                        out.write(buffer);
+                    }
+                } finally {
+                    if (out != channel) {
+                        IOHelper.close(out, "Appending to file idempotent repository", LOG);
+                    }
+                }
+                storeSize += data.length;
+                if (index != null) {
+                    // update the index together with the file so a compaction cannot miss the key
+                    if (tombstone) {
+                        index.remove(hash);
                     } else {
-                        lines.add(line);
+                        index.put(hash, position);
                     }
                 }
+                if (tombstone) {
+                    tombstones++;
+                    compact = compactThreshold > 0 && tombstones >= compactThreshold;
+                } else if (bloomFilter != null) {
+                    // add to the bloom filter together with the file so a compaction cannot miss the key
+                    bloomFilter.put(hash);
+                    // the compaction resizes the bloom filter to the number of keys in the file store
+                    compact = bloomFilter.isFull();
+                } else {
+                    compact = false;
+                }
+                seq = ++sequence;
+            }
+            if (sync) {
+                syncStore(seq);
             }
         } catch (IOException e) {
             throw RuntimeCamelException.wrapRuntimeCamelException(e);
         }
+        if (compact) {
+            scheduleCompaction();
+        }
+    }
 
-        if (found) {
-            // rewrite file
-            LOG.debug("Rewriting idempotent filestore: {} due to key: {} removed", fileStore, key);
-            FileOutputStream fos = null;
-            try {
-                fos = new FileOutputStream(fileStore);
-                for (String line : lines) {
-                    fos.write(line.getBytes());
-                    fos.write(STORE_DELIMITER.getBytes());
+    /**
+     * Forces the writes up to the given sequence to disk. The thread which gets to force the writes also forces the
+     * writes of the threads waiting for it, so they do not have to force the writes again.
+     */
+    private void syncStore(long seq) throws IOException {
+        synchronized (syncLock) {
+            if (syncedSequence.get() >= seq) {
+                // forced by another thread
+                return;
+            }
+            long target;
+            FileChannel out;
+            synchronized (storeLock) {
+                target = sequence;
+                out = channel;
+            }
+            if (out != null) {
+                try {
+                    out.force(false);
+                } catch (ClosedChannelException e) {
+                    // the file store was compacted which forced the writes
                 }
-            } catch (IOException e) {
-                throw RuntimeCamelException.wrapRuntimeCamelException(e);
-            } finally {
-                IOHelper.close(fos, "Rewriting file idempotent repository", LOG);
             }
+            syncedSequence.accumulateAndGet(target, Math::max);
         }
     }
 
@@ -385,61 +624,144 @@ public class FileIdempotentRepository extends ServiceSupport implements Idempote
      * Clears the file-store (danger this deletes all entries)
      */
     protected void clearStore() {
-        try {
-            FileUtil.deleteFile(fileStore);
-            FileUtil.createNewFile(fileStore);
-        } catch (IOException e) {
-            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        synchronized (compactionLock) {
+            synchronized (storeLock) {
+                try {
+                    boolean open = channel != null;
+                    closeStore();
+                    FileUtil.deleteFile(fileStore);
+                    FileUtil.createNewFile(fileStore);
+                    storeSize = 0;
+                    tombstones = 0;
+                    if (bloomFilter != null) {
+                        bloomFilter = new BloomFilter(bloomFilterSize);
+                    }
+                    if (index != null) {
+                        index = new KeyIndex();
+                    }
+                    if (open) {
+                        openStore();
+                    }
+                } catch (IOException e) {
+                    throw RuntimeCamelException.wrapRuntimeCamelException(e);
+                }
+            }
         }
     }
 
     /**
      * Trunks the file store when the max store size is hit by dropping the most oldest entries.
      */
-    protected synchronized void trunkStore() {
+    protected void trunkStore() {
         if (fileStore == null || !fileStore.exists()) {
             return;
         }
 
         LOG.debug("Trunking: {} oldest entries from idempotent filestore: {}", dropOldestFileStore, fileStore);
+        compactStore(dropOldestFileStore);
+    }
 
-        // we need to re-load the entire file and remove the key and then re-write the file
-        List<String> lines = new ArrayList<>();
-
-        int count = 0;
-        try {
-            try (Scanner scanner = new Scanner(fileStore, null, STORE_DELIMITER)) {
-                while (scanner.hasNext()) {
-                    String line = scanner.next();
-                    count++;
-                    if (count > dropOldestFileStore) {
-                        lines.add(line);
-                    }
-                }
+    /**
+     * Compacts the file store by rewriting the file with only the keys in use, in the order they were added.
+     * <p/>
+     * The keys are read and written to a temporary file without blocking the writes to the file store, and the entries
+     * appended meanwhile are copied to the temporary file, before the file store is atomically replaced.
+     *
+     * @param dropOldest the number of the oldest keys to drop
+     */
+    protected void compactStore(long dropOldest) {
+        synchronized (compactionLock) {
+            if (fileStore == null || !fileStore.exists()) {
+                return;
             }
-        } catch (IOException e) {
-            throw RuntimeCamelException.wrapRuntimeCamelException(e);
-        }
 
-        if (!lines.isEmpty()) {
-            // rewrite file
-            LOG.debug("Rewriting idempotent filestore: {} with {} entries:", fileStore, lines.size());
-            FileOutputStream fos = null;
+            File tmp = new File(fileStore.getPath() + ".tmp");
             try {
-                fos = new FileOutputStream(fileStore);
-                for (String line : lines) {
-                    fos.write(line.getBytes());
-                    fos.write(STORE_DELIMITER.getBytes());
+                // read the keys in use until the current end of the file store
+                long size = getStoreSize();
+                Set<String> keys = new LinkedHashSet<>();
+                readStore(fileStore, 0, size, (line, position) -> {
+                    if (!line.isEmpty() && line.charAt(0) == TOMBSTONE) {
+                        keys.remove(line.substring(1));
+                    } else {
+                        // a key added again is newer
+                        keys.remove(line);
+                        keys.add(line);
+                    }
+                });
+                LOG.debug("Compacting idempotent filestore: {} with {} entries", fileStore, keys.size());
+
+                long count = 0;
+                long written = 0;
+                BloomFilter filter = bloomFilterSize > 0 ? new BloomFilter(Math.max(bloomFilterSize, keys.size() * 2L)) : null;
+                KeyIndex newIndex = new KeyIndex();
+                try (FileChannel out = FileChannel.open(tmp.toPath(), StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                    OutputStream os = new BufferedOutputStream(Channels.newOutputStream(out));
+                    byte[] delimiter = STORE_DELIMITER.getBytes();
+                    for (Iterator<String> it = keys.iterator(); it.hasNext();) {
+                        String key = it.next();
+                        if (count++ < dropOldest) {
+                            continue;
+                        }
+                        byte[] data = key.getBytes();
+                        os.write(data);
+                        os.write(delimiter);
+                        long hash = BloomFilter.hash(key);
+                        newIndex.put(hash, written);
+                        written += data.length + delimiter.length;
+                        if (filter != null) {
+                            filter.put(hash);
+                        }
+                    }
+                    os.flush();
+
+                    synchronized (storeLock) {
+                        // copy the entries appended meanwhile
+                        long[] tail = new long[1];
+                        if (storeSize > size) {
+                            try (FileChannel in = FileChannel.open(fileStore.toPath(), StandardOpenOption.READ)) {
+                                IOHelper.transferTo(in, size, storeSize, out);
+                            }
+                            long shift = written - size;
+                            readStore(fileStore, size, storeSize, (line, position) -> {
+                                if (!line.isEmpty() && line.charAt(0) == TOMBSTONE) {
+                                    newIndex.remove(BloomFilter.hash(line.substring(1)));
+                                    tail[0]++;
+                                } else {
+                                    long hash = BloomFilter.hash(line);
+                                    newIndex.put(hash, position + shift);
+                                    if (filter != null) {
+                                        filter.put(hash);
+                                    }
+                                }
+                            });
+                        }
+                        out.force(false);
+
+                        boolean open = channel != null;
+                        closeStore();
+                        try {
+                            Files.move(tmp.toPath(), fileStore.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                                    StandardCopyOption.ATOMIC_MOVE);
+                        } catch (AtomicMoveNotSupportedException e) {
+                            Files.move(tmp.toPath(), fileStore.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                        }
+                        storeSize = out.size();
+                        tombstones = tail[0];
+                        bloomFilter = filter;
+                        index = newIndex;
+                        if (open) {
+                            openStore();
+                        }
+                        // all the writes are forced to disk as part of the compaction
+                        syncedSequence.accumulateAndGet(sequence, Math::max);
+                    }
                 }
             } catch (IOException e) {
+                FileUtil.deleteFile(tmp);
                 throw RuntimeCamelException.wrapRuntimeCamelException(e);
-            } finally {
-                IOHelper.close(fos, "Rewriting file idempotent repository", LOG);
             }
-        } else {
-            // its a small file so recreate the file
-            LOG.debug("Clearing idempotent filestore: {}", fileStore);
-            clearStore();
         }
     }
 
@@ -457,6 +779,64 @@ public class FileIdempotentRepository extends ServiceSupport implements Idempote
      * Loads the given file store into the 1st level cache
      */
     protected void loadStore() throws IOException {
+        synchronized (storeLock) {
+            createStore();
+
+            // a temporary file left over from a compaction which did not complete
+            File tmp = new File(fileStore.getPath() + ".tmp");
+            if (tmp.exists()) {
+                LOG.info("Deleting incomplete compaction of idempotent filestore: {}", tmp);
+                FileUtil.deleteFile(tmp);
+            }
+
+            // terminate the last entry if the file store was not written completely, so the next entry is not appended
+            // to it
+            long size = fileStore.length();
+            if (size > 0) {
+                try (FileChannel ch = FileChannel.open(fileStore.toPath(), StandardOpenOption.READ,
+                        StandardOpenOption.WRITE)) {
+                    ByteBuffer last = ByteBuffer.allocate(1);
+                    ch.read(last, size - 1);
+                    if (last.get(0) != '\n') {
+                        LOG.warn("Last entry in idempotent filestore: {} is not terminated. Recovering the file store.",
+                                fileStore);
+                        ch.write(ByteBuffer.wrap(STORE_DELIMITER.getBytes()), size);
+                        size++;
+                    }
+                }
+            }
+
+            LOG.trace("Loading to 1st level cache from idempotent filestore: {}", fileStore);
+
+            BloomFilter filter = bloomFilterSize > 0 ? new BloomFilter(Math.max(bloomFilterSize, size / 4)) : null;
+            KeyIndex newIndex = new KeyIndex();
+            long[] removed = new long[1];
+            cache.clear();
+            readStore(fileStore, 0, size, (line, position) -> {
+                if (!line.isEmpty() && line.charAt(0) == TOMBSTONE) {
+                    String key = line.substring(1);
+                    cache.remove(key);
+                    newIndex.remove(BloomFilter.hash(key));
+                    removed[0]++;
+                } else {
+                    cache.put(line, line);
+                    long hash = BloomFilter.hash(line);
+                    newIndex.put(hash, position);
+                    if (filter != null) {
+                        filter.put(hash);
+                    }
+                }
+            });
+            storeSize = size;
+            tombstones = removed[0];
+            bloomFilter = filter;
+            index = newIndex;
+        }
+
+        LOG.debug("Loaded {} to the 1st level cache from idempotent filestore: {}", cache.size(), fileStore);
+    }
+
+    private void createStore() throws IOException {
         // auto create starting directory if needed
         if (!fileStore.exists()) {
             LOG.debug("Creating filestore: {}", fileStore);
@@ -469,20 +849,68 @@ public class FileIdempotentRepository extends ServiceSupport implements Idempote
                 throw new IOException("Cannot create filestore: " + fileStore);
             }
         }
+    }
 
-        LOG.trace("Loading to 1st level cache from idempotent filestore: {}", fileStore);
+    private void openStore() throws IOException {
+        createStore();
+        channel = FileChannel.open(fileStore.toPath(), StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
 
-        cache.clear();
-        try (Scanner scanner = new Scanner(fileStore, null, STORE_DELIMITER)) {
-            while (scanner.hasNext()) {
-                String line = scanner.next();
-                cache.put(line, line);
-            }
-        } catch (IOException e) {
-            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+    private void closeStore() {
+        if (channel != null) {
+            IOHelper.close(channel, "Closing file idempotent repository", LOG);
+            channel = null;
         }
+    }
 
-        LOG.debug("Loaded {} to the 1st level cache from idempotent filestore: {}", cache.size(), fileStore);
+    BloomFilter getBloomFilter() {
+        return bloomFilter;
+    }
+
+    KeyIndex getIndex() {
+        return index;
+    }
+
+    private long getStoreSize() {
+        synchronized (storeLock) {
+            return channel != null ? storeSize : fileStore.length();
+        }
+    }
+
+    private Object lockFor(String key) {
+        int h = key.hashCode();
+        return locks[(h ^ (h >>> 16)) & (STRIPES - 1)];
+    }
+
+    /**
+     * Reads the entries of the file store between the given positions, which must be at the start of an entry, together
+     * with the position of each entry
+     */
+    private static void readStore(File file, long from, long to, ObjLongConsumer<String> consumer) throws IOException {
+        try (FileChannel ch = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ch.position(from);
+            InputStream is = new BufferedInputStream(Channels.newInputStream(ch), 64 * 1024);
+            ByteArrayOutputStream line = new ByteArrayOutputStream(128);
+            long position = from;
+            long start = from;
+            while (position < to) {
+                int b = is.read();
+                if (b == -1) {
+                    break;
+                }
+                position++;
+                if (b == '\n') {
+                    consumer.accept(line.toString(), start);
+                    line.reset();
+                    start = position;
+                } else {
+                    line.write(b);
+                }
+            }
+            if (line.size() > 0) {
+                consumer.accept(line.toString(), start);
+            }
+        }
     }
 
     @Override
@@ -499,10 +927,35 @@ public class FileIdempotentRepository extends ServiceSupport implements Idempote
         if (init.compareAndSet(false, true)) {
             loadStore();
         }
+
+        synchronized (storeLock) {
+            if (channel == null) {
+                openStore();
+            }
+        }
+
+        if (camelContext != null && compactionExecutor == null) {
+            compactionExecutor = camelContext.getExecutorServiceManager().newSingleThreadExecutor(this,
+                    "FileIdempotentRepositoryCompaction");
+        }
     }
 
     @Override
     protected void doStop() throws Exception {
+        if (compactionExecutor != null) {
+            camelContext.getExecutorServiceManager().shutdownGraceful(compactionExecutor);
+            compactionExecutor = null;
+        }
+
+        // leave the file store without any tombstones
+        if (getTombstones() > 0) {
+            compactStore(0);
+        }
+
+        synchronized (storeLock) {
+            closeStore();
+        }
+
         // run the cleanup task first
         if (cache instanceof LRUCache) {
             ((LRUCache) cache).cleanUp();
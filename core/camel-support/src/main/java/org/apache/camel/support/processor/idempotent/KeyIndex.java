@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+/**
+ * An in-memory index of the keys in the file store of the {@link FileIdempotentRepository}, which maps the 64-bit hash
+ * of a key, see {@link BloomFilter#hash(String)}, to the position of the key in the file. A key is then checked by
+ * reading only its own entry instead of scanning the file.
+ * <p/>
+ * The index is split in stripes by hash, where each stripe is an open addressing hash table guarded by its own lock, so
+ * operations on different keys rarely contend. An entry takes 16 bytes and the tables are kept at most half full.
+ * <p/>
+ * A hash which is added again while in the index, which only happens when two keys have the same hash, is marked as
+ * {@link #COLLISION} and is kept in the index, so the file has to be scanned for such keys.
+ */
+final class KeyIndex {
+
+    /**
+     * The position of a hash shared by several keys
+     */
+    static final long COLLISION = -2;
+
+    private static final int STRIPES = 64;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    KeyIndex() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * The position of the key with the given hash
+     *
+     * @return the position, {@link #COLLISION} if several keys have the hash, or -1 if no key has the hash
+     */
+    long get(long hash) {
+        Stripe stripe = stripeFor(hash);
+        synchronized (stripe) {
+            return stripe.get(hash);
+        }
+    }
+
+    /**
+     * Adds the key with the given hash at the given position
+     */
+    void put(long hash, long position) {
+        Stripe stripe = stripeFor(hash);
+        synchronized (stripe) {
+            stripe.put(hash, position);
+        }
+    }
+
+    /**
+     * Removes the key with the given hash, unless several keys have the hash
+     */
+    void remove(long hash) {
+        Stripe stripe = stripeFor(hash);
+        synchronized (stripe) {
+            stripe.remove(hash);
+        }
+    }
+
+    /**
+     * The number of hashes in the index
+     */
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size;
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripeFor(long hash) {
+        // the high bits select the stripe and the low bits the slot in the stripe
+        return stripes[(int) (hash >>> 58)];
+    }
+
+    /**
+     * A hash table with linear probing, where hash 0 marks an empty slot, so a hash of 0 is stored as 1
+     */
+    private static final class Stripe {
+
+        private long[] hashes = new long[INITIAL_CAPACITY];
+        private long[] positions = new long[INITIAL_CAPACITY];
+        private int size;
+
+        long get(long hash) {
+            hash = hash == 0 ? 1 : hash;
+            int mask = hashes.length - 1;
+            for (int i = (int) hash & mask;; i = (i + 1) & mask) {
+                long h = hashes[i];
+                if (h == hash) {
+                    return positions[i];
+                } else if (h == 0) {
+                    return -1;
+                }
+            }
+        }
+
+        void put(long hash, long position) {
+            hash = hash == 0 ? 1 : hash;
+            if ((size + 1) * 2 > hashes.length) {
+                resize();
+            }
+            int mask = hashes.length - 1;
+            for (int i = (int) hash & mask;; i = (i + 1) & mask) {
+                long h = hashes[i];
+                if (h == hash) {
+                    positions[i] = COLLISION;
+                    return;
+                } else if (h == 0) {
+                    hashes[i] = hash;
+                    positions[i] = position;
+                    size++;
+                    return;
+                }
+            }
+        }
+
+        void remove(long hash) {
+            hash = hash == 0 ? 1 : hash;
+            int mask = hashes.length - 1;
+            int i = (int) hash & mask;
+            while (hashes[i] != hash) {
+                if (hashes[i] == 0) {
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            if (positions[i] == COLLISION) {
+                // another key with the hash may still be in use
+                return;
+            }
+            // shift back the following entries which would no longer be found past the emptied slot
+            int empty = i;
+            for (int j = (i + 1) & mask; hashes[j] != 0; j = (j + 1) & mask) {
+                int home = (int) hashes[j] & mask;
+                if (((j - home) & mask) >= ((j - empty) & mask)) {
+                    hashes[empty] = hashes[j];
+                    positions[empty] = positions[j];
+                    empty = j;
+                }
+            }
+            hashes[empty] = 0;
+            positions[empty] = 0;
+            size--;
+        }
+
+        private void resize() {
+            long[] oldHashes = hashes;
+            long[] oldPositions = positions;
+            hashes = new long[oldHashes.length * 2];
+            positions = new long[oldHashes.length * 2];
+            int mask = hashes.length - 1;
+            for (int k = 0; k < oldHashes.length; k++) {
+                long h = oldHashes[k];
+                if (h != 0) {
+                    int i = (int) h & mask;
+                    while (hashes[i] != 0) {
+                        i = (i + 1) & mask;
+                    }
+                    hashes[i] = h;
+                    positions[i] = oldPositions[k];
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,529 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import static org.apache.camel.util.BufferCaster.cast;
+
+/**
+ * A {@link Scanner} alternative which splits binary content by a literal delimiter, by searching the delimiter in the
+ * bytes, so only the returned tokens are decoded to strings. Files are memory-mapped (in windows of
+ * {@link #MAPPED_WINDOW_SIZE} bytes) instead of being read. A window is unmapped when the next window is mapped and
+ * when the scanner is closed, so at most one window of a file is mapped at a time, and the scanner must be closed when
+ * done.
+ * <p/>
+ * The tokens are the same as the {@link Scanner} would return with the delimiter as pattern: a delimiter in front of a
+ * token is skipped, so the content may start or end with a delimiter.
+ * <p/>
+ * This can only be used with charsets where a delimiter cannot match part of another character, such as UTF-8 and
+ * single byte charsets, see {@link #isSupported(String, String)}.
+ */
+public final class ByteScanner implements Iterator<String>, Closeable {
+
+    /**
+     * The maximum size of the memory-mapped window of a file (unless a single token is larger)
+     */
+    public static final int MAPPED_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+    private static final String REGEX_META_CHARS = "\\^$.|?*+()[]{}";
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGHS = 0x8080808080808080L;
+    private static final Consumer<ByteBuffer> UNMAPPER = createUnmapper();
+
+    private final Charset charset;
+    private final String delimiter;
+    private final byte[] delim;
+    private final long firstPattern;
+    private final int windowSize;
+    private ReadableByteChannel channel;
+    private FileChannel fileChannel;
+    private long fileSize;
+    private long bufferOffset;
+    private ByteBuffer buf;
+    private ByteBuffer view;
+    private byte[] scratch;
+    private boolean exhausted;
+    // the start of the current token, and the position of the scanning
+    private int mark;
+    private int position;
+    private int group = 1;
+    private boolean skipFirst;
+    private String next;
+    private boolean closed;
+    private IOException lastIOException;
+
+    public ByteScanner(File source, String charsetName, String delimiter) throws IOException {
+        this(source, charsetName, delimiter, MAPPED_WINDOW_SIZE);
+    }
+
+    ByteScanner(File source, String charsetName, String delimiter, int windowSize) throws IOException {
+        this(charsetName, delimiter, windowSize);
+        fileChannel = FileChannel.open(Objects.requireNonNull(source, "source").toPath(), StandardOpenOption.READ);
+        channel = fileChannel;
+        fileSize = fileChannel.size();
+        map(0, (int) Math.min(fileSize, windowSize));
+    }
+
+    public ByteScanner(InputStream source, String charsetName, String delimiter) {
+        this(Objects.requireNonNull(source, "source") instanceof FileInputStream
+                ? ((FileInputStream) source).getChannel() : Channels.newChannel(source),
+             charsetName, delimiter);
+    }
+
+    public ByteScanner(ReadableByteChannel source, String charsetName, String delimiter) {
+        this(source, charsetName, delimiter, BUFFER_SIZE);
+    }
+
+    ByteScanner(ReadableByteChannel source, String charsetName, String delimiter, int bufferSize) {
+        this(charsetName, delimiter, bufferSize);
+        channel = Objects.requireNonNull(source, "source");
+        setBuffer(ByteBuffer.allocate(windowSize));
+        cast(buf).limit(0);
+    }
+
+    public ByteScanner(byte[] source, String charsetName, String delimiter) {
+        this(charsetName, delimiter, 0);
+        setBuffer(ByteBuffer.wrap(Objects.requireNonNull(source, "source")));
+        exhausted = true;
+    }
+
+    private ByteScanner(String charsetName, String delimiter, int windowSize) {
+        this.windowSize = windowSize;
+        this.charset = toCharset(charsetName);
+        this.delimiter = toLiteral(delimiter);
+        if (this.delimiter == null || this.delimiter.isEmpty()) {
+            throw new IllegalArgumentException("Delimiter must be a non empty literal, was: " + delimiter);
+        }
+        this.delim = this.delimiter.getBytes(charset);
+        this.firstPattern = (delim[0] & 0xFFL) * ONES;
+    }
+
+    /**
+     * Whether the content in the given charset can be split by the given delimiter with a {@link ByteScanner}, which is
+     * when the delimiter is a literal (or a pattern which only escapes characters) and the charset is UTF-8 or a single
+     * byte charset.
+     *
+     * @param  charsetName the charset, or <tt>null</tt> for the default charset
+     * @param  delimiter   the delimiter pattern as given to the {@link Scanner}
+     * @return             <tt>true</tt> if supported
+     */
+    public static boolean isSupported(String charsetName, String delimiter) {
+        String literal = toLiteral(delimiter);
+        if (literal == null || literal.isEmpty()) {
+            return false;
+        }
+        Charset cs;
+        try {
+            cs = toCharset(charsetName);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return StandardCharsets.UTF_8.equals(cs) || (cs.canEncode() && cs.newEncoder().maxBytesPerChar() == 1);
+    }
+
+    /**
+     * The literal delimiter used to split the content
+     */
+    public String getDelimiter() {
+        return delimiter;
+    }
+
+    /**
+     * Groups the tokens, so each returned string is the given number of tokens including the delimiters in between
+     * them, which is the same as {@code GroupTokenIterator} grouping the tokens using the delimiter as token.
+     *
+     * @param group     the number of tokens to group together
+     * @param skipFirst whether to skip the first token (such as a header line)
+     */
+    public void setGroup(int group, boolean skipFirst) {
+        if (group <= 0) {
+            throw new IllegalArgumentException("Group must be a positive number, was: " + group);
+        }
+        this.group = group;
+        this.skipFirst = skipFirst;
+    }
+
+    @Override
+    public boolean hasNext() {
+        checkClosed();
+        if (next == null) {
+            try {
+                next = readNext();
+            } catch (IOException e) {
+                lastIOException = e;
+                exhausted = true;
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String answer = next;
+        next = null;
+        return answer;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            ByteBuffer mapped = fileChannel != null ? buf : null;
+            buf = null;
+            view = null;
+            unmap(mapped);
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    lastIOException = e;
+                }
+            }
+        }
+        if (lastIOException != null) {
+            throw lastIOException;
+        }
+    }
+
+    private void checkClosed() {
+        if (closed) {
+            throw new IllegalStateException();
+        }
+    }
+
+    private String readNext() throws IOException {
+        if (skipFirst) {
+            skipFirst = false;
+            if (!findTokens(1)) {
+                return null;
+            }
+            if (!findTokens(group)) {
+                // content with header only
+                return "";
+            }
+        } else if (!findTokens(group)) {
+            return null;
+        }
+        return decode(mark, position);
+    }
+
+    /**
+     * Finds the given number of tokens, which are then from the mark to the position.
+     */
+    private boolean findTokens(int count) throws IOException {
+        // skip the delimiter in front of the token
+        while (buf.limit() - position < delim.length && !exhausted) {
+            mark = position;
+            readMore();
+        }
+        if (buf.limit() - position >= delim.length && matches(position)) {
+            position += delim.length;
+        }
+        while (position == buf.limit()) {
+            if (exhausted) {
+                return false;
+            }
+            mark = position;
+            readMore();
+        }
+
+        mark = position;
+        int from = position;
+        int last = -1;
+        int found = 0;
+        while (true) {
+            int index = indexOf(from);
+            if (index >= 0) {
+                last = index;
+                if (++found == count) {
+                    position = index;
+                    return true;
+                }
+                from = index + delim.length;
+            } else if (exhausted) {
+                // the content may end with a delimiter, which is not part of the last token
+                position = from == buf.limit() && last >= 0 ? last : buf.limit();
+                return true;
+            } else {
+                // the delimiter may be partially at the end of the buffer
+                from = Math.max(from, buf.limit() - delim.length + 1);
+                int shift = readMore();
+                from -= shift;
+                if (last >= 0) {
+                    last -= shift;
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the next delimiter from the given index, by comparing 8 bytes at a time with the first byte of the
+     * delimiter (SWAR).
+     *
+     * @return the index of the delimiter, or <tt>-1</tt> if there is no complete delimiter in the buffer
+     */
+    private int indexOf(int from) {
+        int limit = buf.limit();
+        int last = limit - delim.length;
+        int i = from;
+        while (i + 8 <= limit) {
+            long word = buf.getLong(i) ^ firstPattern;
+            // the lowest high bit is set for the first zero byte, which is where the first byte of the delimiter is
+            long found = (word - ONES) & ~word & HIGHS;
+            if (found == 0) {
+                i += 8;
+            } else {
+                int index = i + (Long.numberOfTrailingZeros(found) >>> 3);
+                if (index > last) {
+                    return -1;
+                }
+                if (matches(index)) {
+                    return index;
+                }
+                i = index + 1;
+            }
+        }
+        for (; i <= last; i++) {
+            if (buf.get(i) == delim[0] && matches(i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean matches(int index) {
+        for (int i = 0; i < delim.length; i++) {
+            if (buf.get(index + i) != delim[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String decode(int start, int end) throws IOException {
+        int length = end - start;
+        byte[] bytes;
+        int offset;
+        if (buf.hasArray()) {
+            bytes = buf.array();
+            offset = buf.arrayOffset() + start;
+        } else {
+            if (scratch == null || scratch.length < length) {
+                scratch = new byte[Math.max(length, 1024)];
+            }
+            cast(view).limit(end);
+            cast(view).position(start);
+            view.get(scratch, 0, length);
+            bytes = scratch;
+            offset = 0;
+        }
+        String answer = new String(bytes, offset, length, charset);
+        if (answer.indexOf('\uFFFD') >= 0) {
+            // the content may not be valid in the charset, which should fail as the Scanner does
+            charset.newDecoder().decode(ByteBuffer.wrap(bytes, offset, length));
+        }
+        return answer;
+    }
+
+    /**
+     * Reads more content, keeping the content from the mark which is moved to the start of the buffer.
+     *
+     * @return the number of bytes the indexes has been shifted by
+     */
+    private int readMore() throws IOException {
+        int shift = mark;
+        int remaining = buf.limit() - mark;
+        if (fileChannel != null) {
+            long offset = bufferOffset + mark;
+            long size = Math.min(fileSize - offset, Math.max(windowSize, (long) remaining * 2));
+            if (size > MAX_BUFFER_SIZE) {
+                throw new IOException("Token is too large to be memory-mapped: " + remaining + " bytes");
+            }
+            map(offset, (int) size);
+        } else {
+            cast(buf).position(mark);
+            if (mark == 0 && buf.limit() == buf.capacity()) {
+                if (buf.capacity() >= MAX_BUFFER_SIZE) {
+                    throw new IOException("Token is too large to be buffered: " + remaining + " bytes");
+                }
+                ByteBuffer larger = ByteBuffer.allocate((int) Math.min(MAX_BUFFER_SIZE, (long) buf.capacity() * 2));
+                larger.put(buf);
+                setBuffer(larger);
+            } else {
+                buf.compact();
+            }
+            int n;
+            do {
+                n = channel.read(buf);
+            } while (n == 0 && buf.hasRemaining());
+            if (n < 0) {
+                exhausted = true;
+            }
+            cast(buf).flip();
+        }
+        mark -= shift;
+        position -= shift;
+        return shift;
+    }
+
+    private void map(long offset, int size) throws IOException {
+        ByteBuffer previous = buf;
+        if (size == 0) {
+            setBuffer(ByteBuffer.allocate(0));
+        } else {
+            setBuffer(fileChannel.map(FileChannel.MapMode.READ_ONLY, offset, size));
+        }
+        bufferOffset = offset;
+        exhausted = offset + size >= fileSize;
+        // the tokens are decoded to strings, so nothing refers to the previous window anymore
+        unmap(previous);
+    }
+
+    /**
+     * Unmaps the memory-mapped buffer right away, as otherwise it stays mapped until garbage collected, which may hold
+     * on to a lot of address space and prevents deleting the file on Windows. The buffer must not be used afterwards.
+     */
+    private static void unmap(ByteBuffer buffer) {
+        if (buffer != null && buffer.isDirect() && UNMAPPER != null) {
+            UNMAPPER.accept(buffer);
+        }
+    }
+
+    /**
+     * Creates the function which unmaps a memory-mapped buffer, using sun.misc.Unsafe#invokeCleaner on Java 9+ and the
+     * cleaner of the buffer on Java 8, or <tt>null</tt> if neither is accessible, so the buffers are unmapped when
+     * garbage collected.
+     */
+    private static Consumer<ByteBuffer> createUnmapper() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            Object unsafe = field.get(null);
+            return buffer -> invokeQuietly(invokeCleaner, unsafe, buffer);
+        } catch (Exception | LinkageError e) {
+            // not Java 9+
+        }
+        try {
+            Method cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+            Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+            return buffer -> {
+                try {
+                    Object c = cleaner.invoke(buffer);
+                    if (c != null) {
+                        clean.invoke(c);
+                    }
+                } catch (Exception e) {
+                    // unmapped when garbage collected
+                }
+            };
+        } catch (Exception | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static void invokeQuietly(Method method, Object target, Object arg) {
+        try {
+            method.invoke(target, arg);
+        } catch (Exception e) {
+            // unmapped when garbage collected
+        }
+    }
+
+    private void setBuffer(ByteBuffer buffer) {
+        buf = buffer;
+        // read the bytes of the delimiter search in little endian, so the first byte is the lowest byte
+        buf.order(ByteOrder.LITTLE_ENDIAN);
+        view = buf.hasArray() ? null : buf.duplicate();
+    }
+
+    private static Charset toCharset(String charsetName) {
+        try {
+            return charsetName != null ? Charset.forName(charsetName) : Charset.defaultCharset();
+        } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * Turns the delimiter pattern into a literal, if the pattern only has escaped characters.
+     *
+     * @return the literal, or <tt>null</tt> if the pattern is a regular expression
+     */
+    private static String toLiteral(String pattern) {
+        if (pattern == null) {
+            return null;
+        }
+        StringBuilder sb = null;
+        for (int i = 0; i < pattern.length(); i++) {
+            char ch = pattern.charAt(i);
+            if (ch == '\\') {
+                if (i + 1 == pattern.length()) {
+                    return null;
+                }
+                char escaped = pattern.charAt(++i);
+                if (escaped == 'n') {
+                    escaped = '\n';
+                } else if (escaped == 'r') {
+                    escaped = '\r';
+                } else if (escaped == 't') {
+                    escaped = '\t';
+                } else if (Character.isLetterOrDigit(escaped)) {
+                    // a character class such as \s or \d, or a back reference
+                    return null;
+                }
+                if (sb == null) {
+                    sb = new StringBuilder(pattern.substring(0, i - 1));
+                }
+                sb.append(escaped);
+            } else if (REGEX_META_CHARS.indexOf(ch) >= 0) {
+                return null;
+            } else if (sb != null) {
+                sb.append(ch);
+            }
+        }
+        return sb != null ? sb.toString() : pattern;
+    }
+
+}
@@ -22,6 +22,7 @@ import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.ByteArrayInputStream;
 import java.io.Closeable;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -241,6 +242,43 @@ public final class IOHelper {
         }
     }
 
+    /**
+     * Transfers the bytes of the source channel from the given position up to the given size to the target channel, as
+     * a single transfer may transfer fewer bytes than requested (such as for files larger than 2gb).
+     *
+     * @param  source       the source channel
+     * @param  position     the position to transfer from
+     * @param  size         the position to transfer up to, usually the size of the source channel
+     * @param  target       the target channel
+     * @throws EOFException if the source ends before the given size, such as when the file has been truncated
+     */
+    public static void transferTo(FileChannel source, long position, long size, WritableByteChannel target)
+            throws IOException {
+        ByteBuffer buffer = null;
+        while (position < size) {
+            long count = source.transferTo(position, size - position, target);
+            if (count == 0) {
+                // nothing is transferred at the end of the source, or when the target does not accept more bytes,
+                // so read the next bytes to tell them apart, as otherwise this would never end
+                if (buffer == null) {
+                    buffer = ByteBuffer.allocate(DEFAULT_BUFFER_SIZE);
+                }
+                BufferCaster.cast(buffer).clear();
+                int n = source.read(buffer, position);
+                if (n < 0) {
+                    throw new EOFException(
+                            "Expected " + size + " bytes but the source ended after " + position + " bytes");
+                }
+                BufferCaster.cast(buffer).flip();
+                while (buffer.hasRemaining()) {
+                    target.write(buffer);
+                }
+                count = n;
+            }
+            position += count;
+        }
+    }
+
     /**
      * Forces any updates to this channel's file to be written to the storage device that contains it.
      *
@@ -28,7 +28,8 @@ public class AsyncCompletionService<V> {
 
     private final Executor executor;
     private final boolean ordered;
-    private final PriorityQueue<Task> queue = new PriorityQueue<>();
+    private final PriorityQueue<Task> queue;
+    private final Task[] ring;
     private final AtomicLong nextId = new AtomicLong();
     private final AtomicLong index = new AtomicLong();
     private final ReentrantLock lock;
@@ -39,10 +40,27 @@ public class AsyncCompletionService<V> {
     }
 
     public AsyncCompletionService(Executor executor, boolean ordered, ReentrantLock lock) {
+        this(executor, ordered, lock, 0);
+    }
+
+    /**
+     * Creates a completion service, which when given a capacity, keeps the completed tasks in a ring buffer of this
+     * capacity instead of a priority queue. The tasks are then always ordered, and the caller must ensure that no more
+     * than capacity tasks are submitted but not yet polled.
+     */
+    @SuppressWarnings("unchecked")
+    public AsyncCompletionService(Executor executor, boolean ordered, ReentrantLock lock, int capacity) {
         this.executor = executor;
-        this.ordered = ordered;
+        this.ordered = ordered || capacity > 0;
         this.lock = lock != null ? lock : new ReentrantLock();
         this.available = this.lock.newCondition();
+        if (capacity > 0) {
+            this.queue = null;
+            this.ring = (Task[]) new AsyncCompletionService.Task[capacity];
+        } else {
+            this.queue = new PriorityQueue<>();
+            this.ring = null;
+        }
     }
 
     public ReentrantLock getLock() {
@@ -54,6 +72,15 @@ public class AsyncCompletionService<V> {
         this.executor.execute(f);
     }
 
+    /**
+     * Submits a task with the given id, which is used to order the tasks instead of the order they are submitted. The
+     * ids must be unique and start from 0 without gaps.
+     */
+    public void submit(long id, Consumer<Consumer<V>> runner) {
+        Task f = new Task(id, runner);
+        this.executor.execute(f);
+    }
+
     public void skip() {
         index.incrementAndGet();
     }
@@ -62,7 +89,19 @@ public class AsyncCompletionService<V> {
         final ReentrantLock lock = this.lock;
         lock.lock();
         try {
-            Task t = queue.poll();
+            Task t;
+            if (ring != null) {
+                t = null;
+                long id = index.get();
+                for (int i = 0; i < ring.length && t == null; i++) {
+                    t = ring[slot(id + i)];
+                }
+                if (t != null) {
+                    ring[slot(t.id)] = null;
+                }
+            } else {
+                t = queue.poll();
+            }
             return t != null ? t.result : null;
         } finally {
             lock.unlock();
@@ -73,13 +112,8 @@ public class AsyncCompletionService<V> {
         final ReentrantLock lock = this.lock;
         lock.lock();
         try {
-            Task t = queue.peek();
-            if (t != null && (!ordered || index.compareAndSet(t.id, t.id + 1))) {
-                queue.poll();
-                return t.result;
-            } else {
-                return null;
-            }
+            Task t = pollTask();
+            return t != null ? t.result : null;
         } finally {
             lock.unlock();
         }
@@ -91,9 +125,8 @@ public class AsyncCompletionService<V> {
         lock.lockInterruptibly();
         try {
             for (;;) {
-                Task t = queue.peek();
-                if (t != null && (!ordered || index.compareAndSet(t.id, t.id + 1))) {
-                    queue.poll();
+                Task t = pollTask();
+                if (t != null) {
                     return t.result;
                 }
                 if (nanos <= 0) {
@@ -112,9 +145,8 @@ public class AsyncCompletionService<V> {
         lock.lockInterruptibly();
         try {
             for (;;) {
-                Task t = queue.peek();
-                if (t != null && (!ordered || index.compareAndSet(t.id, t.id + 1))) {
-                    queue.poll();
+                Task t = pollTask();
+                if (t != null) {
                     return t.result;
                 }
                 available.await();
@@ -124,11 +156,40 @@ public class AsyncCompletionService<V> {
         }
     }
 
+    private Task pollTask() {
+        if (ring != null) {
+            // the next task in order is in the slot of the index
+            long id = index.get();
+            int slot = slot(id);
+            Task t = ring[slot];
+            if (t != null && t.id == id) {
+                ring[slot] = null;
+                index.set(id + 1);
+                return t;
+            }
+            return null;
+        }
+        Task t = queue.peek();
+        if (t != null && (!ordered || index.compareAndSet(t.id, t.id + 1))) {
+            queue.poll();
+            return t;
+        }
+        return null;
+    }
+
+    private int slot(long id) {
+        return (int) (id % ring.length);
+    }
+
     private void complete(Task task) {
         final ReentrantLock lock = this.lock;
         lock.lock();
         try {
-            queue.add(task);
+            if (ring != null) {
+                ring[slot(task.id)] = task;
+            } else {
+                queue.add(task);
+            }
             available.signalAll();
         } finally {
             lock.unlock();
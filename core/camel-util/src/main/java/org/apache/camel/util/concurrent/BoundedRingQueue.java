@@ -0,0 +1,275 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * A bounded lock-free non-blocking queue backed by a ring buffer, which supports multiple producers and either a single
+ * or multiple consumers.
+ * <p/>
+ * Each slot of the ring buffer has a sequence number which tells producers and consumers whether the slot is free or
+ * holds an element, so producers and consumers only contend on a compare-and-set of the tail and head counters, instead
+ * of a shared lock. When the queue is created for a single consumer, the consumer does not need the compare-and-set.
+ * <p/>
+ * Removing an arbitrary element only marks its slot as removed, and the slot is skipped and reclaimed when consumers
+ * reach it. Until then the slot is included in the size of the queue. When the queue is used by a single consumer,
+ * clearing the queue marks all the slots as removed the same way, as only the consumer may move the head of the queue,
+ * which allows clearing the queue from any thread.
+ */
+public class BoundedRingQueue<E> extends AbstractQueue<E> {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final Object REMOVED = new Object();
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<Object> buffer;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final boolean singleConsumer;
+
+    /**
+     * Creates a new queue.
+     *
+     * @param capacity       the capacity of the queue, the ring buffer is rounded up to a power of two
+     * @param singleConsumer whether only a single thread polls the queue
+     */
+    public BoundedRingQueue(int capacity, boolean singleConsumer) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException(
+                    "Capacity must be a positive number up to " + MAX_CAPACITY + ", was: " + capacity);
+        }
+        this.capacity = capacity;
+        int size = 1;
+        while (size < capacity) {
+            size <<= 1;
+        }
+        this.mask = size - 1;
+        this.buffer = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.singleConsumer = singleConsumer;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public boolean isSingleConsumer() {
+        return singleConsumer;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        ObjectHelper.notNull(e, "element");
+        long pos = tail.get();
+        while (true) {
+            int index = (int) pos & mask;
+            long dif = sequences.get(index) - pos;
+            if (dif == 0) {
+                if (pos - head.get() >= capacity) {
+                    return false;
+                }
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    buffer.lazySet(index, e);
+                    // publish the element to the consumers
+                    sequences.set(index, pos + 1);
+                    return true;
+                }
+                pos = tail.get();
+            } else if (dif < 0) {
+                // the slot has not been consumed yet so we are full
+                return false;
+            } else {
+                pos = tail.get();
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        while (true) {
+            Object answer = doPoll();
+            if (answer != REMOVED) {
+                return (E) answer;
+            }
+            // the element was removed so skip to the next slot
+        }
+    }
+
+    private Object doPoll() {
+        long pos = head.get();
+        while (true) {
+            int index = (int) pos & mask;
+            long dif = sequences.get(index) - (pos + 1);
+            if (dif == 0) {
+                boolean claimed;
+                if (singleConsumer) {
+                    head.lazySet(pos + 1);
+                    claimed = true;
+                } else {
+                    claimed = head.compareAndSet(pos, pos + 1);
+                }
+                if (claimed) {
+                    // take the element atomically as it may be removed concurrently
+                    Object answer = buffer.getAndSet(index, null);
+                    // release the slot to the producers for the next lap
+                    sequences.set(index, pos + mask + 1);
+                    return answer;
+                }
+                pos = head.get();
+            } else if (dif < 0) {
+                // the slot has not been published yet so we are empty
+                return null;
+            } else {
+                pos = head.get();
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        long pos = head.get();
+        long end = tail.get();
+        for (; pos < end; pos++) {
+            Object answer = buffer.get((int) pos & mask);
+            if (answer != null && answer != REMOVED) {
+                return (E) answer;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The remaining capacity of the queue
+     */
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    @Override
+    public int size() {
+        // read head first as it may be updated while we read the tail
+        long h = head.get();
+        long t = tail.get();
+        long size = t - h;
+        if (size < 0) {
+            return 0;
+        }
+        return (int) Math.min(size, capacity);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return tail.get() - head.get() <= 0;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        long pos = head.get();
+        long end = tail.get();
+        for (; pos < end; pos++) {
+            int index = (int) pos & mask;
+            Object element = buffer.get(index);
+            if (element != null && element != REMOVED && o.equals(element)
+                    && buffer.compareAndSet(index, element, REMOVED)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        if (!singleConsumer) {
+            super.clear();
+            return;
+        }
+        long pos = head.get();
+        long end = tail.get();
+        for (; pos < end; pos++) {
+            int index = (int) pos & mask;
+            Object element = buffer.get(index);
+            if (element != null && element != REMOVED) {
+                buffer.compareAndSet(index, element, REMOVED);
+            }
+        }
+    }
+
+    /**
+     * Returns a weakly consistent iterator, which is a snapshot of the elements in the queue.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterator<E> iterator() {
+        List<E> answer = new ArrayList<>();
+        long pos = head.get();
+        long end = tail.get();
+        for (; pos < end; pos++) {
+            Object element = buffer.get((int) pos & mask);
+            if (element != null && element != REMOVED) {
+                answer.add((E) element);
+            }
+        }
+        Iterator<E> it = answer.iterator();
+        return new Iterator<E>() {
+            private E last;
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public E next() {
+                last = it.next();
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) {
+                    throw new IllegalStateException();
+                }
+                BoundedRingQueue.this.remove(last);
+                last = null;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "BoundedRingQueue[capacity=" + capacity + ", size=" + size() + ", singleConsumer=" + singleConsumer + "]";
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An executor which starts a new thread for each task, such as a virtual thread, instead of keeping a pool of threads.
+ * <p/>
+ * The number of tasks which are executing at the same time can be limited, which is enforced by a {@link Semaphore}.
+ * When the limit is reached, the task is handed to the {@link RejectedExecutionHandler}. As there is no work queue, the
+ * {@link ThreadPoolRejectedPolicy#DiscardOldest} policy discards the new task instead.
+ * <p/>
+ * This class extends {@link ThreadPoolExecutor} so it can be used and managed (such as in JMX) like the other thread
+ * pools created by Camel, where the pool size is the number of threads currently running a task. The core pool size,
+ * keep alive time and work queue of the {@link ThreadPoolExecutor} are not used, and changing the core or max pool size
+ * is ignored.
+ */
+public class ThreadPerTaskExecutor extends ThreadPoolExecutor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ThreadPerTaskExecutor.class);
+
+    private final ThreadFactory taskThreadFactory;
+    private final int maxTasks;
+    private final Semaphore permits;
+    private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger largest = new AtomicInteger();
+    private final LongAdder taskCount = new LongAdder();
+    private final LongAdder completedTaskCount = new LongAdder();
+    private final ThreadLocal<Boolean> rejecting = new ThreadLocal<>();
+    private final Object termination = new Object();
+    private volatile boolean shutdown;
+
+    /**
+     * Creates a new executor.
+     *
+     * @param maxTasks          the max number of tasks executing at the same time, or 0 or negative for no limit
+     * @param taskThreadFactory the factory creating a new thread for each task
+     * @param handler           the handler for tasks which cannot be executed, or <tt>null</tt> to use
+     *                          {@link ThreadPoolExecutor.AbortPolicy}
+     */
+    public ThreadPerTaskExecutor(int maxTasks, ThreadFactory taskThreadFactory, RejectedExecutionHandler handler) {
+        super(0, 1, 0, TimeUnit.SECONDS, new SynchronousQueue<>(), taskThreadFactory,
+              handler != null ? handler : new ThreadPoolExecutor.AbortPolicy());
+        this.taskThreadFactory = taskThreadFactory;
+        this.maxTasks = maxTasks > 0 ? maxTasks : Integer.MAX_VALUE;
+        this.permits = maxTasks > 0 ? new Semaphore(maxTasks) : null;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (command == null) {
+            throw new NullPointerException();
+        }
+        if (shutdown || permits != null && !permits.tryAcquire()) {
+            reject(command);
+            return;
+        }
+
+        Thread thread;
+        try {
+            thread = taskThreadFactory.newThread(() -> runTask(command));
+            if (thread == null) {
+                throw new RejectedExecutionException("Thread factory did not create a thread for task " + command);
+            }
+        } catch (RuntimeException | Error e) {
+            release();
+            throw e;
+        }
+
+        int count = running.incrementAndGet();
+        largest.accumulateAndGet(count, Math::max);
+        taskCount.increment();
+        try {
+            thread.start();
+        } catch (RuntimeException | Error e) {
+            taskCount.decrement();
+            running.decrementAndGet();
+            release();
+            throw e;
+        }
+    }
+
+    private void runTask(Runnable command) {
+        Thread thread = Thread.currentThread();
+        threads.add(thread);
+        Throwable thrown = null;
+        try {
+            beforeExecute(thread, command);
+            try {
+                command.run();
+            } catch (RuntimeException | Error e) {
+                thrown = e;
+                throw e;
+            } finally {
+                afterExecute(command, thrown);
+            }
+        } finally {
+            threads.remove(thread);
+            completedTaskCount.increment();
+            running.decrementAndGet();
+            release();
+            if (shutdown) {
+                signalTermination();
+            }
+        }
+    }
+
+    private void release() {
+        if (permits != null) {
+            permits.release();
+        }
+    }
+
+    private void reject(Runnable command) {
+        if (Boolean.TRUE.equals(rejecting.get())) {
+            // the rejection handler tried to execute the task again (such as discard oldest) but there are no queued
+            // tasks to discard, so discard the new task instead
+            if (command instanceof Rejectable) {
+                ((Rejectable) command).reject();
+            }
+            return;
+        }
+        rejecting.set(Boolean.TRUE);
+        try {
+            getRejectedExecutionHandler().rejectedExecution(command, this);
+        } finally {
+            rejecting.remove();
+        }
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        if (runnable instanceof Rejectable) {
+            return new RejectableFutureTask<>(runnable, value);
+        } else {
+            return super.newTaskFor(runnable, value);
+        }
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        if (callable instanceof Rejectable) {
+            return new RejectableFutureTask<>(callable);
+        } else {
+            return super.newTaskFor(callable);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        super.shutdown();
+        signalTermination();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        for (Thread thread : threads) {
+            thread.interrupt();
+        }
+        // there is no work queue so there are never any tasks awaiting execution
+        return new ArrayList<>();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminating() {
+        return shutdown && running.get() > 0;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && running.get() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (termination) {
+            while (!isTerminated()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(termination, remaining);
+            }
+        }
+        return true;
+    }
+
+    private void signalTermination() {
+        if (isTerminated()) {
+            synchronized (termination) {
+                termination.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * The max number of tasks executing at the same time, or {@link Integer#MAX_VALUE} if there is no limit.
+     */
+    public int getMaxTasks() {
+        return maxTasks;
+    }
+
+    @Override
+    public int getMaximumPoolSize() {
+        return maxTasks;
+    }
+
+    @Override
+    public void setMaximumPoolSize(int maximumPoolSize) {
+        LOG.debug("Ignoring max pool size {} as the max number of tasks of {} cannot be changed", maximumPoolSize, this);
+    }
+
+    @Override
+    public void setCorePoolSize(int corePoolSize) {
+        LOG.debug("Ignoring core pool size {} as there are no core threads in {}", corePoolSize, this);
+    }
+
+    @Override
+    public int getPoolSize() {
+        return running.get();
+    }
+
+    @Override
+    public int getActiveCount() {
+        return running.get();
+    }
+
+    @Override
+    public int getLargestPoolSize() {
+        return largest.get();
+    }
+
+    @Override
+    public long getTaskCount() {
+        return taskCount.sum();
+    }
+
+    @Override
+    public long getCompletedTaskCount() {
+        return completedTaskCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        String name = "";
+        if (taskThreadFactory instanceof CamelThreadFactory) {
+            name = "[" + ((CamelThreadFactory) taskThreadFactory).getName() + "]";
+        } else if (taskThreadFactory instanceof VirtualThreadFactory) {
+            name = "[" + ((VirtualThreadFactory) taskThreadFactory).getName() + "]";
+        }
+        return getClass().getSimpleName() + "@" + Integer.toHexString(hashCode()) + "[" + (shutdown ? "Shutdown" : "Running")
+               + ", running tasks = " + running.get() + ", max tasks = " + maxTasks + ", completed tasks = "
+               + completedTaskCount.sum() + "]" + name;
+    }
+
+}
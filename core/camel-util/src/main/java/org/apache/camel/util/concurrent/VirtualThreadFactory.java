@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.concurrent.ThreadFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Thread factory which creates virtual threads supporting a naming pattern.
+ * <p/>
+ * Virtual threads are only available when running on a JVM which supports them (Java 21 or newer, or Java 19 and 20
+ * with preview features enabled), which can be checked using {@link #isSupported()}. The JDK API is accessed using
+ * reflection as Camel is compiled for older Java versions.
+ */
+public final class VirtualThreadFactory implements ThreadFactory {
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadFactory.class);
+
+    private static final ThreadFactory FACTORY = createVirtualThreadFactory();
+
+    private final String pattern;
+    private final String name;
+
+    public VirtualThreadFactory(String pattern, String name) {
+        if (FACTORY == null) {
+            throw new UnsupportedOperationException("Virtual threads are not supported on this JVM");
+        }
+        this.pattern = pattern;
+        this.name = name;
+    }
+
+    /**
+     * Whether virtual threads are supported on this JVM
+     */
+    public static boolean isSupported() {
+        return FACTORY != null;
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+        String threadName = ThreadHelper.resolveThreadName(pattern, name);
+        Thread answer = FACTORY.newThread(runnable);
+        answer.setName(threadName);
+
+        LOG.trace("Created virtual thread[{}] -> {}", threadName, answer);
+        return answer;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private static ThreadFactory createVirtualThreadFactory() {
+        try {
+            // Thread.ofVirtual().factory()
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Object factory = Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+            return (ThreadFactory) factory;
+        } catch (Exception | LinkageError e) {
+            // not supported on this JVM, or preview features are not enabled
+            LOG.trace("Virtual threads are not supported on this JVM due to: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "VirtualThreadFactory[" + name + "]";
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class ByteScannerTest {
+
+    @Test
+    public void testIsSupported() {
+        assertTrue(ByteScanner.isSupported("UTF-8", "\n"));
+        assertTrue(ByteScanner.isSupported("ISO-8859-1", ","));
+        assertTrue(ByteScanner.isSupported("UTF-8", "\\|"));
+        assertTrue(ByteScanner.isSupported(null, "@@"));
+        assertFalse(ByteScanner.isSupported("UTF-16", "\n"));
+        assertFalse(ByteScanner.isSupported("UTF-8", "\\s+"));
+        assertFalse(ByteScanner.isSupported("UTF-8", "a|b"));
+        assertFalse(ByteScanner.isSupported("UTF-8", ""));
+        assertFalse(ByteScanner.isSupported("UTF-8", null));
+    }
+
+    @Test
+    public void testSameTokensAsScanner() throws Exception {
+        String[] delimiters = { "\n", ",", "\r\n", "@@", "é" };
+        String[] texts = {
+                "", "a", "a,b,c", ",a,b", "a,b,", ",,a,,b,,", "\n", "\n\n", "a\nb\n\nc\n", "a\r\nb\r\n", "\r\n\r\na",
+                "a@@@b@@@@c@", "éaéébé", "café,thé\n" };
+        for (String delimiter : delimiters) {
+            for (String text : texts) {
+                assertSameTokens(text, delimiter);
+            }
+        }
+    }
+
+    @Test
+    public void testRandomContent() throws Exception {
+        Random random = new Random(42);
+        char[] chars = { 'a', 'b', '\n', '\r', ',', 'é', '€' };
+        for (int i = 0; i < 200; i++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(200);
+            for (int j = 0; j < length; j++) {
+                sb.append(chars[random.nextInt(chars.length)]);
+            }
+            assertSameTokens(sb.toString(), "\n");
+            assertSameTokens(sb.toString(), "\r\n");
+            assertSameTokens(sb.toString(), "€");
+        }
+    }
+
+    @Test
+    public void testEscapedDelimiter() throws Exception {
+        assertEquals(Arrays.asList("a", "b", "c"), tokens(new ByteScanner("a|b|c".getBytes(), "UTF-8", "\\|")));
+        assertEquals(Arrays.asList("a", "b"), tokens(new ByteScanner("a\nb".getBytes(), "UTF-8", "\\n")));
+    }
+
+    @Test
+    public void testMalformedInput() throws Exception {
+        byte[] bytes = { 'a', '\n', (byte) 0xC3, (byte) 0x28, '\n', 'b' };
+        ByteScanner scanner = new ByteScanner(bytes, "UTF-8", "\n");
+        assertEquals("a", scanner.next());
+        assertFalse(scanner.hasNext());
+        assertThrows(IOException.class, scanner::close);
+    }
+
+    @Test
+    public void testGroup() throws Exception {
+        String text = "header\n1\n2\n3\n4\n5\n";
+
+        ByteScanner scanner = new ByteScanner(text.getBytes(), "UTF-8", "\n");
+        scanner.setGroup(2, false);
+        assertEquals(Arrays.asList("header\n1", "2\n3", "4\n5"), tokens(scanner));
+
+        scanner = new ByteScanner(text.getBytes(), "UTF-8", "\n");
+        scanner.setGroup(2, true);
+        assertEquals(Arrays.asList("1\n2", "3\n4", "5"), tokens(scanner));
+
+        scanner = new ByteScanner("header\n".getBytes(), "UTF-8", "\n");
+        scanner.setGroup(2, true);
+        assertEquals(Arrays.asList(""), tokens(scanner));
+
+        scanner = new ByteScanner("a\n\nb\nc".getBytes(), "UTF-8", "\n");
+        scanner.setGroup(2, false);
+        assertEquals(Arrays.asList("a\n", "b\nc"), tokens(scanner));
+    }
+
+    @Test
+    public void testLargeTokensAcrossBuffers() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            for (int j = 0; j <= i * 7; j++) {
+                sb.append((char) ('a' + j % 26));
+            }
+            sb.append("\r\n");
+        }
+        assertSameTokens(sb.toString(), "\r\n");
+
+        ByteScanner scanner = new ByteScanner(new ByteArrayInputStream(sb.toString().getBytes()), "UTF-8", "\r\n");
+        scanner.setGroup(10, false);
+        List<String> groups = tokens(scanner);
+        assertEquals(10, groups.size());
+        assertEquals(sb.toString(), String.join("\r\n", groups) + "\r\n");
+    }
+
+    @Test
+    public void testUnmapWindows() throws Exception {
+        File maps = new File("/proc/self/maps");
+        assumeTrue(maps.exists(), "Requires the memory mappings of the process");
+
+        File file = File.createTempFile("bytescanner", ".txt", new File("target"));
+        try {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < 10000; i++) {
+                sb.append("line").append(i).append('\n');
+            }
+            Files.write(file.toPath(), sb.toString().getBytes());
+
+            try (ByteScanner scanner = new ByteScanner(file, "UTF-8", "\n", 4096)) {
+                for (int i = 0; i < 5000; i++) {
+                    scanner.next();
+                }
+                // the previous windows are unmapped
+                assertEquals(1, countMappings(maps, file));
+            }
+            assertEquals(0, countMappings(maps, file));
+        } finally {
+            file.delete();
+        }
+    }
+
+    private static long countMappings(File maps, File file) throws IOException {
+        String path = file.getCanonicalPath();
+        try (Stream<String> lines = Files.lines(maps.toPath())) {
+            return lines.filter(line -> line.endsWith(path)).count();
+        }
+    }
+
+    private static void assertSameTokens(String text, String delimiter) throws Exception {
+        List<String> expected = tokens(new Scanner(text, delimiter));
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        String message = "Splitting [" + text + "] by [" + delimiter + "]";
+
+        assertEquals(expected, tokens(new ByteScanner(bytes, "UTF-8", delimiter)), message);
+        // read the stream in small buffers so tokens and delimiters are split between reads
+        for (int size : new int[] { 1, 3, 8, 17 }) {
+            assertEquals(expected, tokens(new ByteScanner(
+                    Channels.newChannel(new ByteArrayInputStream(bytes)), "UTF-8", delimiter, size)), message);
+        }
+
+        File file = File.createTempFile("bytescanner", ".txt");
+        try {
+            Files.write(file.toPath(), bytes);
+            assertEquals(expected, tokens(new ByteScanner(file, "UTF-8", delimiter)), message);
+            // map the file in small windows
+            for (int size : new int[] { 1, 5, 16 }) {
+                assertEquals(expected, tokens(new ByteScanner(file, "UTF-8", delimiter, size)), message);
+            }
+        } finally {
+            file.delete();
+        }
+    }
+
+    private static List<String> tokens(Iterator<String> it) throws Exception {
+        List<String> answer = new ArrayList<>();
+        while (it.hasNext()) {
+            answer.add(it.next());
+        }
+        IOHelper.close((java.io.Closeable) it);
+        return answer;
+    }
+
+}
@@ -16,9 +16,18 @@
  */
 package org.apache.camel.util;
 
+import java.io.EOFException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class IOHelperTest {
     @Test
@@ -28,4 +37,29 @@ public class IOHelperTest {
         assertEquals("8081", IOHelper.lookupEnvironmentVariable("foo-service-port"));
         assertEquals("8081", IOHelper.lookupEnvironmentVariable("foo.service.port"));
     }
+
+    @Test
+    public void testTransferTo(@TempDir Path dir) throws Exception {
+        Path source = Files.write(dir.resolve("source"), "Hello World".getBytes());
+        Path target = dir.resolve("target");
+        try (FileChannel in = FileChannel.open(source);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            IOHelper.transferTo(in, 6, in.size(), out);
+        }
+        assertArrayEquals("World".getBytes(), Files.readAllBytes(target));
+    }
+
+    @Test
+    public void testTransferToTruncatedSource(@TempDir Path dir) throws Exception {
+        Path source = Files.write(dir.resolve("source"), "Hello World".getBytes());
+        Path target = dir.resolve("target");
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ, StandardOpenOption.WRITE);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            long size = in.size();
+            // the source is truncated after its size was taken
+            in.truncate(5);
+            assertThrows(EOFException.class, () -> IOHelper.transferTo(in, 0, size, out));
+        }
+        assertArrayEquals("Hello".getBytes(), Files.readAllBytes(target));
+    }
 }
@@ -90,6 +90,22 @@ public class AsyncCompletionServiceTest {
         assertEquals("B", b);
     }
 
+    @Test
+    public void testSubmitWithIdUsingCapacity() throws Exception {
+        service = new AsyncCompletionService<>(executor, false, null, 2);
+
+        // submitted out of order, but taken in the order of the ids
+        service.submit(1, result("B"));
+        service.submit(0, result("A", 100));
+        assertEquals("A", service.take());
+        service.submit(2, result("C"));
+        assertEquals("B", service.take());
+        service.submit(3, result("D"));
+        assertEquals("C", service.take());
+        assertEquals("D", service.take());
+        assertNull(service.poll());
+    }
+
     @Test
     public void testSubmitOrderedFirstTaskIsSlowUsingPoll() throws Exception {
 
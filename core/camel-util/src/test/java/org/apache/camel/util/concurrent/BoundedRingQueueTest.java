@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BoundedRingQueueTest {
+
+    @Test
+    public void testOfferPoll() {
+        // the ring buffer is rounded up to 4 slots but only holds 3 elements
+        BoundedRingQueue<Integer> queue = new BoundedRingQueue<>(3, true);
+        for (int lap = 0; lap < 10; lap++) {
+            assertTrue(queue.offer(1));
+            assertTrue(queue.offer(2));
+            assertTrue(queue.offer(3));
+            assertFalse(queue.offer(4));
+            assertEquals(3, queue.size());
+            assertEquals(1, queue.poll());
+            assertEquals(2, queue.poll());
+            assertEquals(3, queue.poll());
+            assertNull(queue.poll());
+            assertTrue(queue.isEmpty());
+        }
+    }
+
+    @Test
+    public void testRemove() {
+        BoundedRingQueue<String> queue = new BoundedRingQueue<>(4, false);
+        queue.offer("A");
+        queue.offer("B");
+        queue.offer("C");
+
+        assertTrue(queue.remove("B"));
+        assertFalse(queue.contains("B"));
+        assertEquals("A", queue.poll());
+        assertEquals("C", queue.poll());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new BoundedRingQueue<>(0, false));
+    }
+
+    @Test
+    public void testMultipleProducersAndConsumers() throws Exception {
+        BoundedRingQueue<Integer> queue = new BoundedRingQueue<>(16, false);
+        int threads = 4;
+        int count = 10000;
+        Set<Integer> received = ConcurrentHashMap.newKeySet();
+        AtomicInteger polled = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(threads * 2);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads * 2);
+        try {
+            for (int t = 0; t < threads; t++) {
+                int base = t * count;
+                executor.submit(() -> {
+                    for (int i = 0; i < count; i++) {
+                        while (!queue.offer(base + i)) {
+                            Thread.yield();
+                        }
+                    }
+                    latch.countDown();
+                });
+                executor.submit(() -> {
+                    while (polled.get() < threads * count) {
+                        Integer e = queue.poll();
+                        if (e != null) {
+                            received.add(e);
+                            polled.incrementAndGet();
+                        } else {
+                            Thread.yield();
+                        }
+                    }
+                    latch.countDown();
+                });
+            }
+            assertTrue(latch.await(30, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(threads * count, received.size());
+        assertTrue(queue.isEmpty());
+    }
+}
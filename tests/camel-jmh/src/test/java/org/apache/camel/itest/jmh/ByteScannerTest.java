@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.util.ByteScanner;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.Scanner;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Tests splitting a file of CSV lines with the regular expression based {@link Scanner} vs the byte level
+ * {@link ByteScanner}
+ */
+public class ByteScannerTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+                // Specify which benchmarks to run.
+                // You can be more specific if you'd like to run only one benchmark per test.
+                .include(this.getClass().getName() + ".*")
+                // Set the following options as needed
+                .mode(Mode.AverageTime)
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .warmupIterations(1)
+                .measurementIterations(5)
+                .forks(1)
+                .shouldFailOnError(true)
+                .shouldDoGC(true)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+        @Param({ "1", "100" })
+        int group;
+
+        File file;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            // a file of about 50mb
+            file = File.createTempFile("scanner", ".csv");
+            try (OutputStream os = new FileOutputStream(file)) {
+                byte[] line = "1234567890,Hello World,Some description which is a bit longer,42.0\n"
+                        .getBytes(StandardCharsets.UTF_8);
+                for (int i = 0; i < 750000; i++) {
+                    os.write(line);
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            file.delete();
+        }
+    }
+
+    @Benchmark
+    public void scanner(BenchmarkState state, Blackhole bh) throws Exception {
+        Scanner scanner = new Scanner(state.file, "UTF-8", "\n");
+        // group the lines as GroupTokenIterator does
+        StringBuilder sb = new StringBuilder();
+        while (scanner.hasNext()) {
+            if (state.group == 1) {
+                bh.consume(scanner.next());
+            } else {
+                sb.setLength(0);
+                for (int i = 0; i < state.group && scanner.hasNext(); i++) {
+                    if (i > 0) {
+                        sb.append('\n');
+                    }
+                    sb.append(scanner.next());
+                }
+                bh.consume(sb.toString());
+            }
+        }
+        IOHelper.close(scanner);
+    }
+
+    @Benchmark
+    public void byteScanner(BenchmarkState state, Blackhole bh) throws Exception {
+        ByteScanner scanner = new ByteScanner(state.file, "UTF-8", "\n");
+        scanner.setGroup(state.group, false);
+        consume(scanner, bh);
+        IOHelper.close(scanner);
+    }
+
+    private static void consume(Iterator<String> it, Blackhole bh) {
+        while (it.hasNext()) {
+            bh.consume(it.next());
+        }
+    }
+
+}
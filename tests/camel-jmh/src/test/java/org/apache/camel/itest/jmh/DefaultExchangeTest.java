@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests the cost of creating and copying {@link DefaultExchange} with internal and custom exchange properties.
+ * <p/>
+ * Run with <tt>-prof gc</tt> to see the allocation rate.
+ */
+public class DefaultExchangeTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+                // Specify which benchmarks to run.
+                // You can be more specific if you'd like to run only one benchmark per test.
+                .include(this.getClass().getName() + ".*")
+                // Set the following options as needed
+                .mode(Mode.AverageTime)
+                .timeUnit(TimeUnit.NANOSECONDS)
+                .warmupTime(TimeValue.seconds(1))
+                .warmupIterations(2)
+                .measurementTime(TimeValue.seconds(1))
+                .measurementIterations(2)
+                .threads(2)
+                .forks(1)
+                .shouldFailOnError(true)
+                .shouldDoGC(true)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+        CamelContext camel;
+        Exchange exchange;
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            camel = new DefaultCamelContext();
+            camel.start();
+
+            exchange = new DefaultExchange(camel);
+            exchange.getIn().setBody("Hello World");
+            exchange.setProperty(ExchangePropertyKey.SPLIT_INDEX, 1);
+            exchange.setProperty(ExchangePropertyKey.SPLIT_SIZE, 10);
+            exchange.setProperty(ExchangePropertyKey.TO_ENDPOINT, "mock://result");
+            exchange.setProperty("foo", "bar");
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            camel.stop();
+        }
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 1000000)
+    public void createExchange(BenchmarkState state, Blackhole bh) {
+        Exchange exchange = new DefaultExchange(state.camel);
+        bh.consume(exchange);
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 1000000)
+    public void createExchangeInternalProperties(BenchmarkState state, Blackhole bh) {
+        Exchange exchange = new DefaultExchange(state.camel);
+        exchange.setProperty(ExchangePropertyKey.SPLIT_INDEX, 1);
+        exchange.setProperty(ExchangePropertyKey.SPLIT_SIZE, 10);
+        exchange.setProperty(ExchangePropertyKey.SPLIT_COMPLETE, Boolean.FALSE);
+        bh.consume(exchange.getProperty(ExchangePropertyKey.SPLIT_INDEX));
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 1000000)
+    public void createExchangeInternalPropertiesByName(BenchmarkState state, Blackhole bh) {
+        Exchange exchange = new DefaultExchange(state.camel);
+        exchange.setProperty(Exchange.SPLIT_INDEX, 1);
+        exchange.setProperty(Exchange.SPLIT_SIZE, 10);
+        exchange.setProperty(Exchange.SPLIT_COMPLETE, Boolean.FALSE);
+        bh.consume(exchange.getProperty(Exchange.SPLIT_INDEX));
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 1000000)
+    public void createExchangeCustomProperties(BenchmarkState state, Blackhole bh) {
+        Exchange exchange = new DefaultExchange(state.camel);
+        exchange.setProperty("foo", 1);
+        exchange.setProperty("bar", 10);
+        exchange.setProperty("baz", Boolean.FALSE);
+        bh.consume(exchange.getProperty("foo"));
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 1000000)
+    public void copyExchange(BenchmarkState state, Blackhole bh) {
+        Exchange copy = state.exchange.copy();
+        bh.consume(copy);
+    }
+
+}
@@ -71,6 +71,7 @@ public class FastTypeConverterTest {
     public static class BenchmarkCamelContextState {
         ByteBuf buffer;
         byte[] bytes = "Hello World this is some text".getBytes();
+        MyOrder order = new MyOrder("123");
 
         CamelContext camel;
 
@@ -105,4 +106,31 @@ public class FastTypeConverterTest {
         bh.consume(arr);
     }
 
+    @Benchmark
+    public void typeConvertFallbackToString(BenchmarkCamelContextState state, Blackhole bh) {
+        // converted by the to string fallback type converter
+        String s = state.camel.getTypeConverter().convertTo(String.class, state.order);
+        bh.consume(s);
+    }
+
+    @Benchmark
+    public void typeConvertMiss(BenchmarkCamelContextState state, Blackhole bh) {
+        // no type converter exists
+        Integer i = state.camel.getTypeConverter().convertTo(Integer.class, state.order);
+        bh.consume(i);
+    }
+
+    public static class MyOrder {
+        private final String id;
+
+        public MyOrder(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public String toString() {
+            return "Order " + id;
+        }
+    }
+
 }
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.component.seda.ArrayBlockingQueueFactory;
+import org.apache.camel.component.seda.BlockingQueueFactory;
+import org.apache.camel.component.seda.LinkedBlockingQueueFactory;
+import org.apache.camel.component.seda.PriorityBlockingQueueFactory;
+import org.apache.camel.component.seda.RingBufferBlockingQueue;
+import org.apache.camel.component.seda.RingBufferBlockingQueueFactory;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Control;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests the throughput of the queues created by the SEDA {@link BlockingQueueFactory} implementations, with 4 producer
+ * threads and 1 consumer thread, which is the typical usage of a SEDA endpoint.
+ */
+public class SedaQueueFactoryTest {
+
+    private static final int CAPACITY = 1024;
+    private static final Integer ELEMENT = 1;
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+                // Specify which benchmarks to run.
+                // You can be more specific if you'd like to run only one benchmark per test.
+                .include(this.getClass().getName() + ".*")
+                // Set the following options as needed
+                .mode(Mode.Throughput)
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .warmupTime(TimeValue.seconds(1))
+                .warmupIterations(2)
+                .measurementTime(TimeValue.seconds(2))
+                .measurementIterations(3)
+                .forks(1)
+                .shouldFailOnError(true)
+                .shouldDoGC(true)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Group)
+    public static class BenchmarkState {
+        @Param({ "linked", "array", "priority", "ringBuffer", "ringBufferSingleConsumer" })
+        String factory;
+
+        BlockingQueue<Integer> queue;
+        boolean unbounded;
+
+        @Setup(Level.Iteration)
+        public void initialize() {
+            BlockingQueueFactory<Integer> queueFactory;
+            switch (factory) {
+                case "linked":
+                    queueFactory = new LinkedBlockingQueueFactory<>();
+                    break;
+                case "array":
+                    queueFactory = new ArrayBlockingQueueFactory<>();
+                    break;
+                case "priority":
+                    queueFactory = new PriorityBlockingQueueFactory<>();
+                    // the priority queue is unbounded so the producers must check the size
+                    unbounded = true;
+                    break;
+                case "ringBuffer":
+                    queueFactory = new RingBufferBlockingQueueFactory<>();
+                    break;
+                case "ringBufferSingleConsumer":
+                    RingBufferBlockingQueueFactory<Integer> ringBufferFactory = new RingBufferBlockingQueueFactory<>();
+                    ringBufferFactory.setSingleConsumer(true);
+                    ringBufferFactory.setWaitStrategy(RingBufferBlockingQueue.WaitStrategy.YIELD);
+                    queueFactory = ringBufferFactory;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown factory: " + factory);
+            }
+            queue = queueFactory.create(CAPACITY);
+        }
+    }
+
+    @Benchmark
+    @Group("queue")
+    @GroupThreads(4)
+    public void offer(BenchmarkState state, Control control) {
+        BlockingQueue<Integer> queue = state.queue;
+        while ((state.unbounded && queue.size() >= CAPACITY) || !queue.offer(ELEMENT)) {
+            if (control.stopMeasurement) {
+                return;
+            }
+            Thread.yield();
+        }
+    }
+
+    @Benchmark
+    @Group("queue")
+    @GroupThreads(1)
+    public Integer poll(BenchmarkState state, Control control) {
+        BlockingQueue<Integer> queue = state.queue;
+        Integer answer;
+        while ((answer = queue.poll()) == null) {
+            if (control.stopMeasurement) {
+                return null;
+            }
+            Thread.yield();
+        }
+        return answer;
+    }
+
+}
@@ -21,6 +21,7 @@ import java.util.concurrent.TimeUnit;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.language.simple.SimpleLanguage;
 import org.apache.camel.spi.Language;
 import org.apache.camel.support.DefaultExchange;
 import org.junit.jupiter.api.Test;
@@ -41,7 +42,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Tests a Simple operator expression
+ * Tests a Simple operator expression, both interpreted and with optimized predicates
  */
 public class SimpleOperatorTest {
 
@@ -77,8 +78,12 @@ public class SimpleOperatorTest {
         String expression = "${header.gold} == 123";
         String expression2 = "${header.gold} > 123";
         String expression3 = "${header.gold} < 123";
+        String expression4 = "${header.gold} range '100..200'";
+        String expression5 = "${header.gold} in '123,456'";
+        String expression6 = "${body} regex '^W.*'";
         Exchange exchange;
         Language simple;
+        SimpleLanguage simpleOptimized;
 
         @Setup(Level.Trial)
         public void initialize() {
@@ -91,6 +96,11 @@ public class SimpleOperatorTest {
                 exchange.getIn().setHeader("gold", "123");
                 simple = camel.resolveLanguage("simple");
 
+                simpleOptimized = new SimpleLanguage();
+                simpleOptimized.setCamelContext(camel);
+                simpleOptimized.setOptimizePredicates(true);
+                simpleOptimized.init();
+
             } catch (Exception e) {
                 // ignore
             }
@@ -128,4 +138,54 @@ public class SimpleOperatorTest {
         bh.consume(out3);
     }
 
+    @Benchmark
+    @Measurement(batchSize = 1000)
+    public void simplePredicateOptimized(BenchmarkState state, Blackhole bh) {
+        boolean out = state.simpleOptimized.createPredicate(state.expression).matches(state.exchange);
+        if (!out) {
+            throw new IllegalArgumentException("Evaluation failed");
+        }
+        bh.consume(out);
+        boolean out2 = state.simpleOptimized.createPredicate(state.expression2).matches(state.exchange);
+        if (out2) {
+            throw new IllegalArgumentException("Evaluation failed");
+        }
+        bh.consume(out2);
+        boolean out3 = state.simpleOptimized.createPredicate(state.expression3).matches(state.exchange);
+        if (out3) {
+            throw new IllegalArgumentException("Evaluation failed");
+        }
+        bh.consume(out3);
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 1000)
+    public void simplePredicateOperators(BenchmarkState state, Blackhole bh) {
+        operators(state, state.simple, bh);
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 1000)
+    public void simplePredicateOperatorsOptimized(BenchmarkState state, Blackhole bh) {
+        operators(state, state.simpleOptimized, bh);
+    }
+
+    private static void operators(BenchmarkState state, Language simple, Blackhole bh) {
+        boolean out = simple.createPredicate(state.expression4).matches(state.exchange);
+        if (!out) {
+            throw new IllegalArgumentException("Evaluation failed");
+        }
+        bh.consume(out);
+        boolean out2 = simple.createPredicate(state.expression5).matches(state.exchange);
+        if (!out2) {
+            throw new IllegalArgumentException("Evaluation failed");
+        }
+        bh.consume(out2);
+        boolean out3 = simple.createPredicate(state.expression6).matches(state.exchange);
+        if (!out3) {
+            throw new IllegalArgumentException("Evaluation failed");
+        }
+        bh.consume(out3);
+    }
+
 }
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.support.DefaultTimeoutMap;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests the timeout map scanning every entry vs using the timing wheel, when tracking an increasing number of
+ * outstanding request/reply messages.
+ */
+public class TimeoutMapTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        for (int threads : new int[] { 1, 2, 4, 8 }) {
+            Options opt = new OptionsBuilder()
+                    // Specify which benchmarks to run.
+                    // You can be more specific if you'd like to run only one benchmark per test.
+                    .include(this.getClass().getName() + ".*")
+                    // Set the following options as needed
+                    .mode(Mode.Throughput)
+                    .timeUnit(TimeUnit.SECONDS)
+                    .warmupTime(TimeValue.seconds(1))
+                    .warmupIterations(2)
+                    .measurementTime(TimeValue.seconds(2))
+                    .measurementIterations(3)
+                    .threads(threads)
+                    .forks(1)
+                    .shouldFailOnError(true)
+                    .shouldDoGC(true)
+                    .build();
+
+            new Runner(opt).run();
+        }
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({ "false", "true" })
+        boolean timingWheel;
+
+        @Param({ "1000", "100000" })
+        int outstanding;
+
+        ScheduledExecutorService executor;
+        PurgeableTimeoutMap map;
+        AtomicLong counter = new AtomicLong();
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            executor = new ScheduledThreadPoolExecutor(1);
+            map = new PurgeableTimeoutMap(executor, timingWheel);
+            // do not start the map so the benchmark controls when to purge
+            for (int i = 0; i < outstanding; i++) {
+                map.put("ID-myhost-1234567890-0-" + counter.getAndIncrement(), "reply", 60000);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            map.stop();
+            executor.shutdownNow();
+        }
+    }
+
+    private static final class PurgeableTimeoutMap extends DefaultTimeoutMap<String, String> {
+
+        private PurgeableTimeoutMap(ScheduledExecutorService executor, boolean timingWheel) {
+            super(executor, 1000, true, timingWheel);
+        }
+
+        @Override
+        public void purge() {
+            super.purge();
+        }
+    }
+
+    @Benchmark
+    public String requestReply(BenchmarkState state) {
+        // send a new request and receive the reply of the oldest outstanding request
+        long id = state.counter.getAndIncrement();
+        state.map.put("ID-myhost-1234567890-0-" + id, "reply", 60000);
+        return state.map.remove("ID-myhost-1234567890-0-" + (id - state.outstanding));
+    }
+
+    @Benchmark
+    public int purge(BenchmarkState state) {
+        // none of the outstanding requests have timed out
+        state.map.purge();
+        return state.map.size();
+    }
+
+}